@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the full validation with the validity-only check on a schema heavy
+ * in {@code anyOf} and {@code oneOf}, where every branch buffers its problems
+ * during the full validation.
+ *
+ * @author leadpony
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BranchingSchemaBenchmark {
+
+    static final String SCHEMA = "{"
+            + "\"type\":\"array\","
+            + "\"items\":{"
+            + "\"oneOf\":["
+            + "{\"type\":\"object\",\"required\":[\"kind\",\"radius\"],"
+            + "\"properties\":{\"kind\":{\"const\":\"circle\"},\"radius\":{\"type\":\"number\",\"minimum\":0}}},"
+            + "{\"type\":\"object\",\"required\":[\"kind\",\"width\",\"height\"],"
+            + "\"properties\":{\"kind\":{\"const\":\"rect\"},"
+            + "\"width\":{\"type\":\"number\",\"minimum\":0},\"height\":{\"type\":\"number\",\"minimum\":0}}},"
+            + "{\"type\":\"object\",\"required\":[\"kind\",\"points\"],"
+            + "\"properties\":{\"kind\":{\"const\":\"polygon\"},"
+            + "\"points\":{\"type\":\"array\",\"minItems\":3,\"items\":{"
+            + "\"anyOf\":["
+            + "{\"type\":\"array\",\"items\":{\"type\":\"number\"},\"minItems\":2,\"maxItems\":2},"
+            + "{\"type\":\"object\",\"required\":[\"x\",\"y\"]}"
+            + "]}}}}"
+            + "]"
+            + "}"
+            + "}";
+
+    static final String VALID = "["
+            + "{\"kind\":\"circle\",\"radius\":1.5},"
+            + "{\"kind\":\"rect\",\"width\":2,\"height\":3},"
+            + "{\"kind\":\"polygon\",\"points\":[[0,0],{\"x\":1,\"y\":0},[1,1]]},"
+            + "{\"kind\":\"circle\",\"radius\":4}"
+            + "]";
+
+    static final String INVALID = "["
+            + "{\"kind\":\"circle\",\"radius\":-1.5},"
+            + "{\"kind\":\"rect\",\"width\":2},"
+            + "{\"kind\":\"polygon\",\"points\":[[0,0],{\"x\":1},[1]]},"
+            + "{\"kind\":\"star\",\"radius\":4}"
+            + "]";
+
+    @Param({"valid", "invalid"})
+    public String instance;
+
+    private JsonValidationService service;
+    private JsonParserFactory parserFactory;
+    private JsonSchema schema;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        service = JsonValidationService.newInstance();
+        parserFactory = Json.createParserFactory(null);
+        schema = service.readSchema(new StringReader(SCHEMA));
+        payload = "valid".equals(instance) ? VALID : INVALID;
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        try (JsonParser parser = service.createParser(new StringReader(payload), schema, blackhole::consume)) {
+            SchemaEvaluationBenchmark.consume(parser, blackhole);
+        }
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        try (JsonParser parser = parserFactory.createParser(new StringReader(payload))) {
+            return service.isValid(schema, parser);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.stream.JsonParser;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of messages carrying JSON attachments encoded in
+ * base64.
+ *
+ * @author leadpony
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentBenchmark {
+
+    private static final int ATTACHMENTS = 4;
+
+    private static final String SCHEMA = "{"
+            + "\"properties\":{"
+            + "\"attachments\":{"
+            + "\"items\":{"
+            + "\"contentEncoding\":\"base64\","
+            + "\"contentMediaType\":\"application/json\""
+            + "}"
+            + "}"
+            + "}"
+            + "}";
+
+    /**
+     * The number of the records in each attachment.
+     */
+    @Param({"1000", "20000"})
+    public int records;
+
+    private JsonValidationService service;
+    private JsonSchema schema;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        service = JsonValidationService.newInstance();
+        schema = service.readSchema(new StringReader(SCHEMA));
+        payload = buildDocument(records);
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        try (JsonParser parser = service.createParser(new StringReader(payload), schema, blackhole::consume)) {
+            SchemaEvaluationBenchmark.consume(parser, blackhole);
+        }
+    }
+
+    private static String buildDocument(int records) {
+        StringBuilder attachment = new StringBuilder("[");
+        for (int i = 0; i < records; i++) {
+            if (i > 0) {
+                attachment.append(',');
+            }
+            attachment.append("{\"id\":").append(i)
+                .append(",\"name\":\"record").append(i)
+                .append("\",\"tags\":[\"alpha\",\"beta\"],\"score\":").append(i * 0.5).append('}');
+        }
+        attachment.append(']');
+        String encoded = Base64.getEncoder().encodeToString(
+                attachment.toString().getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder builder = new StringBuilder("{\"attachments\":[");
+        for (int i = 0; i < ATTACHMENTS; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('"').append(encoded).append('"');
+        }
+        return builder.append("]}").toString();
+    }
+}
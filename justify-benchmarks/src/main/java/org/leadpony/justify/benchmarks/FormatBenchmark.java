@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.stream.JsonParser;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of contact lists, which are arrays of objects whose
+ * properties are ASCII hostnames and email addresses checked by "hostname",
+ * "idn-hostname", "email" and "idn-email" formats.
+ *
+ * @author leadpony
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    private static final int CONTACTS = 20_000;
+
+    private static final String SCHEMA = "{"
+            + "\"items\":{"
+            + "\"properties\":{"
+            + "\"host\":{\"format\":\"hostname\"},"
+            + "\"mirror\":{\"format\":\"idn-hostname\"},"
+            + "\"email\":{\"format\":\"email\"},"
+            + "\"contact\":{\"format\":\"idn-email\"}"
+            + "}"
+            + "}"
+            + "}";
+
+    private JsonValidationService service;
+    private JsonSchema schema;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        service = JsonValidationService.newInstance();
+        schema = service.readSchema(new StringReader(SCHEMA));
+        payload = buildDocument();
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        try (JsonParser parser = service.createParser(new StringReader(payload), schema, blackhole::consume)) {
+            SchemaEvaluationBenchmark.consume(parser, blackhole);
+        }
+    }
+
+    private static String buildDocument() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < CONTACTS; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"host\":\"www").append(i).append(".example.com\",")
+                .append("\"mirror\":\"mirror-").append(i % 10).append(".example.org\",")
+                .append("\"email\":\"user.").append(i).append("@mail.example.com\",")
+                .append("\"contact\":\"support+").append(i % 100).append("@example.net\"}");
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.stream.JsonParser;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaReaderFactoryBuilder;
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of webhook registrations, whose callback URLs,
+ * tenant domains, contact addresses and filters are repeated across the
+ * registrations, with and without the cache of the format results.
+ *
+ * @author leadpony
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatCacheBenchmark {
+
+    private static final int REGISTRATIONS = 20_000;
+    private static final int TENANTS = 200;
+
+    private static final String SCHEMA = "{"
+            + "\"items\":{"
+            + "\"properties\":{"
+            + "\"callback\":{\"format\":\"uri\"},"
+            + "\"domain\":{\"format\":\"hostname\"},"
+            + "\"contact\":{\"format\":\"email\"},"
+            + "\"filter\":{\"format\":\"regex\"}"
+            + "}"
+            + "}"
+            + "}";
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private JsonValidationService service;
+    private JsonSchema schema;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        service = JsonValidationService.newInstance();
+        JsonSchemaReaderFactoryBuilder builder = service.createSchemaReaderFactoryBuilder();
+        if (cached) {
+            builder.withFormatCache(service.createFormatCache(1000));
+        }
+        try (JsonSchemaReader reader = builder.build().createSchemaReader(new StringReader(SCHEMA))) {
+            schema = reader.read();
+        }
+        payload = buildDocument();
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        try (JsonParser parser = service.createParser(new StringReader(payload), schema, blackhole::consume)) {
+            SchemaEvaluationBenchmark.consume(parser, blackhole);
+        }
+    }
+
+    private static String buildDocument() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < REGISTRATIONS; i++) {
+            int tenant = i % TENANTS;
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"callback\":\"https://hooks.tenant").append(tenant)
+                .append(".example.com/v1/events?source=justify&retry=3\",")
+                .append("\"domain\":\"api.tenant").append(tenant).append(".example.com\",")
+                .append("\"contact\":\"ops.team@tenant").append(tenant).append(".example.com\",")
+                .append("\"filter\":\"^(order|invoice)\\\\.(created|updated)\\\\.v[0-9]+$\"}");
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.stream.JsonParser;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of deeply nested documents, where every level of the
+ * document is validated by a recursive schema with both shallow and deep
+ * keywords.
+ *
+ * @author leadpony
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NestedDocumentBenchmark {
+
+    static final String SCHEMA = "{"
+            + "\"$ref\":\"#/definitions/node\","
+            + "\"definitions\":{"
+            + "\"node\":{"
+            + "\"type\":\"object\","
+            + "\"required\":[\"name\",\"tags\"],"
+            + "\"minProperties\":2,"
+            + "\"maxProperties\":4,"
+            + "\"properties\":{"
+            + "\"name\":{\"type\":\"string\"},"
+            + "\"tags\":{\"type\":\"array\",\"minItems\":1,\"maxItems\":4,\"items\":{\"type\":\"string\"}},"
+            + "\"children\":{\"type\":\"array\",\"minItems\":1,\"items\":{\"$ref\":\"#/definitions/node\"}}"
+            + "},"
+            + "\"additionalProperties\":false"
+            + "}"
+            + "}"
+            + "}";
+
+    @Param({"20", "40"})
+    public int depth;
+
+    private JsonValidationService service;
+    private JsonSchema schema;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        service = JsonValidationService.newInstance();
+        schema = service.readSchema(new StringReader(SCHEMA));
+        payload = buildDocument(depth);
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        try (JsonParser parser = service.createParser(new StringReader(payload), schema, blackhole::consume)) {
+            SchemaEvaluationBenchmark.consume(parser, blackhole);
+        }
+    }
+
+    /**
+     * Builds a document whose nodes are nested to the specified depth.
+     *
+     * @param depth the number of the nested nodes.
+     * @return the document built.
+     */
+    static String buildDocument(int depth) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            builder.append("{\"name\":\"node").append(i).append("\",")
+                    .append("\"tags\":[\"a\",\"b\",\"c\"],")
+                    .append("\"children\":[");
+        }
+        builder.append("{\"name\":\"leaf\",\"tags\":[\"z\"]}");
+        for (int i = 0; i < depth; i++) {
+            builder.append("]}");
+        }
+        return builder.toString();
+    }
+}
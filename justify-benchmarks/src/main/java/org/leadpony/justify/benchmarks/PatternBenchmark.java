@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.stream.JsonParser;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaReaderFactory;
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of strings against {@code pattern} of various
+ * shapes, with and without the linear-time regular expression engine.
+ *
+ * @author leadpony
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatternBenchmark {
+
+    private static final int SIZE = 1000;
+
+    @Param({"literal", "classes", "general", "vulnerable"})
+    public String shape;
+
+    @Param({"false", "true"})
+    public boolean linearTime;
+
+    private JsonValidationService service;
+    private JsonSchema schema;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        String pattern;
+        String instance;
+        switch (shape) {
+        case "literal":
+            pattern = "^item-";
+            instance = "item-000123";
+            break;
+        case "classes":
+            pattern = "^[A-Z]{3}-\\\\d{4}$";
+            instance = "ABC-1234";
+            break;
+        case "general":
+            pattern = "^[a-z]+(?:\\\\.[a-z]+)*@[a-z]+\\\\.(?:com|org)$";
+            instance = "john.doe@example.com";
+            break;
+        default:
+            pattern = "^(.*?,){11}P";
+            instance = "1,2,3,4,5,6,7,8,9,10,11,12,13,";
+            break;
+        }
+        service = JsonValidationService.newInstance();
+        JsonSchemaReaderFactory factory = service.createSchemaReaderFactoryBuilder()
+                .withLinearTimeRegex(linearTime)
+                .build();
+        String source = "{\"items\":{\"pattern\":\"" + pattern + "\"}}";
+        try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(source))) {
+            schema = reader.read();
+        }
+        payload = buildDocument(instance);
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        try (JsonParser parser = service.createParser(new StringReader(payload), schema, blackhole::consume)) {
+            SchemaEvaluationBenchmark.consume(parser, blackhole);
+        }
+    }
+
+    private static String buildDocument(String instance) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('"').append(instance).append('"');
+        }
+        return builder.append(']').toString();
+    }
+}
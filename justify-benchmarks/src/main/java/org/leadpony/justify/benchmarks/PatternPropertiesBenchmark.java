@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.stream.JsonParser;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of objects against {@code patternProperties} with
+ * a dozen patterns, for key names either repeated across the objects or
+ * unique to each object.
+ *
+ * @author leadpony
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatternPropertiesBenchmark {
+
+    private static final int OBJECTS = 500;
+    private static final int PROPERTIES = 20;
+
+    private static final String[] PATTERNS = {
+        "^x-",
+        "^[a-z]+$",
+        "^[A-Z][a-z]*$",
+        "_id$",
+        "^\\\\d+$",
+        "^(get|set)[A-Z]",
+        "^[a-z]+(_[a-z]+)+$",
+        "^key\\\\d+$",
+        "^.{40,}$",
+        "(?:foo|bar)baz",
+        "^[a-f0-9]{8}-[a-f0-9]{4}$",
+        "\\\\.json$",
+    };
+
+    @Param({"repeated", "unique"})
+    public String keys;
+
+    private JsonValidationService service;
+    private JsonSchema schema;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        service = JsonValidationService.newInstance();
+        StringBuilder builder = new StringBuilder("{\"items\":{\"patternProperties\":{");
+        for (int i = 0; i < PATTERNS.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('"').append(PATTERNS[i]).append("\":{\"type\":\"integer\"}");
+        }
+        builder.append("}}}");
+        schema = service.readSchema(new StringReader(builder.toString()));
+        payload = buildDocument("unique".equals(keys));
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        try (JsonParser parser = service.createParser(new StringReader(payload), schema, blackhole::consume)) {
+            SchemaEvaluationBenchmark.consume(parser, blackhole);
+        }
+    }
+
+    private static String buildDocument(boolean unique) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < OBJECTS; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('{');
+            for (int j = 0; j < PROPERTIES; j++) {
+                if (j > 0) {
+                    builder.append(',');
+                }
+                int suffix = unique ? i * PROPERTIES + j : j;
+                builder.append("\"key").append(suffix).append("\":").append(j);
+            }
+            builder.append('}');
+        }
+        return builder.append(']').toString();
+    }
+}
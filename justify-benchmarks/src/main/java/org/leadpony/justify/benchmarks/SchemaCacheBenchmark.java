@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaReaderFactory;
+import org.leadpony.justify.api.JsonSchemaReaderFactoryBuilder;
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading the same schema repeatedly, with and without the cache of
+ * the compiled schemas.
+ *
+ * @author leadpony
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaCacheBenchmark {
+
+    private static final int DEFINITIONS = 50;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private JsonSchemaReaderFactory factory;
+    private String schema;
+
+    @Setup
+    public void setUp() {
+        JsonValidationService service = JsonValidationService.newInstance();
+        JsonSchemaReaderFactoryBuilder builder = service.createSchemaReaderFactoryBuilder();
+        if (cached) {
+            builder.withSchemaCache(service.createSchemaCache(100));
+        }
+        factory = builder.build();
+        schema = buildSchema();
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(schema))) {
+            blackhole.consume(reader.read());
+        }
+    }
+
+    private static String buildSchema() {
+        StringBuilder builder = new StringBuilder("{");
+        builder.append("\"$schema\":\"http://json-schema.org/draft-07/schema#\",");
+        builder.append("\"definitions\":{");
+        for (int i = 0; i < DEFINITIONS; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("\"entity").append(i).append("\":{")
+                .append("\"type\":\"object\",")
+                .append("\"properties\":{")
+                .append("\"id\":{\"type\":\"integer\",\"minimum\":1},")
+                .append("\"name\":{\"type\":\"string\",\"maxLength\":64,\"pattern\":\"^[a-z]+$\"},")
+                .append("\"tags\":{\"type\":\"array\",\"items\":{\"type\":\"string\"},\"uniqueItems\":true}")
+                .append("},")
+                .append("\"required\":[\"id\",\"name\"]")
+                .append('}');
+        }
+        builder.append("},");
+        builder.append("\"properties\":{");
+        for (int i = 0; i < DEFINITIONS; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("\"field").append(i).append("\":{\"$ref\":\"#/definitions/entity").append(i).append("\"}");
+        }
+        return builder.append("}}").toString();
+    }
+}
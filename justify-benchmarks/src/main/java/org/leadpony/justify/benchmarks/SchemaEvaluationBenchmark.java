@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.ProblemHandler;
+import org.leadpony.justify.api.SchemaValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per-document cost of validating small DTO-like payloads.
+ *
+ * <p>
+ * The {@code parseOnly} benchmark reads the same payload without validation
+ * and serves as the baseline. Run with {@code -prof gc} to see the
+ * allocation rate per validated document. The {@code validateReused}
+ * benchmark resets a single {@link SchemaValidator} for each document.
+ * </p>
+ *
+ * @author leadpony
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaEvaluationBenchmark {
+
+    static final String SCHEMA = "{"
+            + "\"type\":\"object\","
+            + "\"required\":[\"id\",\"name\",\"email\",\"tags\"],"
+            + "\"properties\":{"
+            + "\"id\":{\"type\":\"integer\",\"minimum\":1},"
+            + "\"name\":{\"type\":\"string\",\"minLength\":1,\"maxLength\":64},"
+            + "\"email\":{\"type\":\"string\",\"maxLength\":254},"
+            + "\"active\":{\"type\":\"boolean\"},"
+            + "\"score\":{\"type\":\"number\",\"minimum\":0,\"maximum\":100},"
+            + "\"tags\":{\"type\":\"array\",\"maxItems\":8,"
+            + "\"items\":{\"type\":\"string\",\"maxLength\":16}}"
+            + "},"
+            + "\"additionalProperties\":false"
+            + "}";
+
+    static final String PAYLOAD = "{"
+            + "\"id\":42,"
+            + "\"name\":\"Jane Doe\","
+            + "\"email\":\"jane@example.org\","
+            + "\"active\":true,"
+            + "\"score\":87.5,"
+            + "\"tags\":[\"alpha\",\"beta\",\"gamma\"]"
+            + "}";
+
+    private JsonValidationService service;
+    private JsonParserFactory parserFactory;
+    private JsonSchema schema;
+    private ProblemHandler handler;
+    private SchemaValidator validator;
+
+    @Setup
+    public void setUp() {
+        service = JsonValidationService.newInstance();
+        parserFactory = Json.createParserFactory(null);
+        schema = service.readSchema(new StringReader(SCHEMA));
+        handler = problems -> {
+            throw new IllegalStateException(problems.toString());
+        };
+        validator = service.createSchemaValidator(schema, handler);
+    }
+
+    @Benchmark
+    public void parseOnly(Blackhole blackhole) {
+        try (JsonParser parser = parserFactory.createParser(new StringReader(PAYLOAD))) {
+            consume(parser, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        try (JsonParser parser = service.createParser(new StringReader(PAYLOAD), schema, handler)) {
+            consume(parser, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void validateReused(Blackhole blackhole) {
+        try (JsonParser parser = validator.reset(parserFactory.createParser(new StringReader(PAYLOAD)))) {
+            consume(parser, blackhole);
+        }
+    }
+
+    static void consume(JsonParser parser, Blackhole blackhole) {
+        while (parser.hasNext()) {
+            blackhole.consume(parser.next());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.stream.JsonParser;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of event logs, which are arrays of objects whose
+ * properties are dates, times and date-times restricted by "formatMinimum",
+ * "formatMaximum" and their exclusive variants.
+ *
+ * @author leadpony
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemporalBenchmark {
+
+    private static final int EVENTS = 20_000;
+
+    private static final String SCHEMA = "{"
+            + "\"items\":{"
+            + "\"properties\":{"
+            + "\"date\":{\"formatMinimum\":\"2019-01-01\",\"formatMaximum\":\"2019-12-31\"},"
+            + "\"time\":{\"exclusiveFormatMaximum\":\"23:00:00\"},"
+            + "\"received\":{\"exclusiveFormatMinimum\":\"2018-12-31T23:59:59.999Z\","
+            + "\"formatMaximum\":\"2020-01-01T00:00:00+09:00\"}"
+            + "}"
+            + "}"
+            + "}";
+
+    private JsonValidationService service;
+    private JsonSchema schema;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        service = JsonValidationService.newInstance();
+        schema = service.readSchema(new StringReader(SCHEMA));
+        payload = buildDocument();
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        try (JsonParser parser = service.createParser(new StringReader(payload), schema, blackhole::consume)) {
+            SchemaEvaluationBenchmark.consume(parser, blackhole);
+        }
+    }
+
+    private static String buildDocument() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < EVENTS; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            int month = i % 12 + 1;
+            int day = i % 28 + 1;
+            int hour = i % 23;
+            int minute = i % 60;
+            builder.append(String.format("{\"date\":\"2019-%02d-%02d\",", month, day))
+                .append(String.format("\"time\":\"%02d:%02d:00\",", hour, minute))
+                .append(String.format("\"received\":\"2019-%02d-%02dT%02d:%02d:%02d.%03d+09:00\"}",
+                        month, day, hour, minute, i % 60, i % 1000));
+        }
+        return builder.append(']').toString();
+    }
+}
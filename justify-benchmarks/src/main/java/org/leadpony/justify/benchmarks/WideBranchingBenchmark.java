@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.stream.JsonParser;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of valid documents against a wide {@code anyOf},
+ * where most of the subschemas are not satisfied by each item.
+ *
+ * @author leadpony
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WideBranchingBenchmark {
+
+    private static final int ITEMS = 20;
+
+    @Param({"4", "16"})
+    public int width;
+
+    private JsonValidationService service;
+    private JsonSchema schema;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        service = JsonValidationService.newInstance();
+        schema = service.readSchema(new StringReader(buildSchema(width)));
+        payload = buildDocument(width);
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        try (JsonParser parser = service.createParser(new StringReader(payload), schema, blackhole::consume)) {
+            SchemaEvaluationBenchmark.consume(parser, blackhole);
+        }
+    }
+
+    /**
+     * Builds a schema whose items must be in any of the ranges.
+     *
+     * @param width the number of the subschemas in {@code anyOf}.
+     * @return the schema built.
+     */
+    static String buildSchema(int width) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{\"type\":\"array\",\"items\":{\"anyOf\":[");
+        for (int i = 0; i < width; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"type\":\"object\",\"required\":[\"id\",\"value\"],\"properties\":{")
+                    .append("\"id\":{\"type\":\"string\"},")
+                    .append("\"value\":{\"type\":\"integer\",")
+                    .append("\"minimum\":").append(i * 10).append(',')
+                    .append("\"maximum\":").append(i * 10 + 9)
+                    .append("}}}");
+        }
+        builder.append("]}}");
+        return builder.toString();
+    }
+
+    /**
+     * Builds a document whose items are spread over the ranges.
+     *
+     * @param width the number of the subschemas in {@code anyOf}.
+     * @return the document built.
+     */
+    static String buildDocument(int width) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < ITEMS; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":\"item").append(i).append("\",")
+                    .append("\"value\":").append((i % width) * 10 + 5)
+                    .append('}');
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+}
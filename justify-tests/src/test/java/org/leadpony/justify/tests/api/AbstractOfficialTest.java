@@ -219,6 +219,18 @@ public abstract class AbstractOfficialTest {
         printProblems(fixture, problems);
     }
 
+    /**
+     * Tests only the validity with a fixture.
+     *
+     * @param fixture
+     */
+    public void testValidity(Fixture fixture) {
+        JsonSchema schema = getSchema(fixture.getSchema());
+        JsonValue data = fixture.getData();
+
+        assertThat(service.isValid(schema, data)).isEqualTo(fixture.getResult());
+    }
+
     private JsonSchema getSchema(JsonValue value) {
         if (value == lastValue) {
             return lastSchema;
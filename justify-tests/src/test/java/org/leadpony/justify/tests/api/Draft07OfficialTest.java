@@ -107,6 +107,12 @@ public class Draft07OfficialTest extends AbstractOfficialTest {
         test(fixture);
     }
 
+    @ParameterizedTest
+    @MethodSource("mandatory")
+    public void testMandatoryValidity(Fixture fixture) {
+        testValidity(fixture);
+    }
+
     @ParameterizedTest
     @MethodSource("optional")
     public void testOptional(Fixture fixture) {
@@ -30,8 +30,17 @@ public class Draft07UnofficialTest extends AbstractOfficialTest {
 
     private static final String[] MANDATORY = {
             "/org/leadpony/justify/tests/api/instance/additionalProperties.json",
+            "/org/leadpony/justify/tests/api/instance/content.json",
+            "/org/leadpony/justify/tests/api/instance/dependencies.json",
+            "/org/leadpony/justify/tests/api/instance/discriminator.json",
+            "/org/leadpony/justify/tests/api/instance/enum.json",
+            "/org/leadpony/justify/tests/api/instance/formatMaximum.json",
             "/org/leadpony/justify/tests/api/instance/if-then-else.json",
+            "/org/leadpony/justify/tests/api/instance/numeric.json",
+            "/org/leadpony/justify/tests/api/instance/patternProperties.json",
             "/org/leadpony/justify/tests/api/instance/propertyNames.json",
+            "/org/leadpony/justify/tests/api/instance/scalar.json",
+            "/org/leadpony/justify/tests/api/instance/uniqueItems.json",
     };
 
     public static Stream<Fixture> mandatory() {
@@ -43,4 +52,10 @@ public class Draft07UnofficialTest extends AbstractOfficialTest {
     public void testMandatory(Fixture fixture) {
         test(fixture);
     }
+
+    @ParameterizedTest
+    @MethodSource("mandatory")
+    public void testMandatoryValidity(Fixture fixture) {
+        testValidity(fixture);
+    }
 }
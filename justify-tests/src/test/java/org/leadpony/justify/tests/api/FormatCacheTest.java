@@ -0,0 +1,175 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.tests.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+
+import javax.json.Json;
+import javax.json.JsonValue;
+
+import org.junit.jupiter.api.Test;
+import org.leadpony.justify.api.FormatCache;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaReaderFactory;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.tests.helper.ApiTest;
+
+/**
+ * A test class for {@link FormatCache}.
+ *
+ * @author leadpony
+ */
+@ApiTest
+public class FormatCacheTest {
+
+    private static JsonValidationService service;
+
+    @Test
+    public void createFormatCacheShouldUseLeastRecentlyUsedByDefault() {
+        FormatCache cache = service.createFormatCache(100);
+
+        assertThat(cache.getMaximumSize()).isEqualTo(100);
+        assertThat(cache.getEviction()).isEqualTo(FormatCache.Eviction.LEAST_RECENTLY_USED);
+        assertThat(cache.getHitCount()).isEqualTo(0);
+        assertThat(cache.getMissCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void createFormatCacheShouldThrowExceptionIfSizeIsNotPositive() {
+        Throwable thrown = catchThrowable(() -> service.createFormatCache(0));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void withFormatCacheShouldThrowExceptionIfCacheIsForeign() {
+        FormatCache cache = (FormatCache) Proxy.newProxyInstance(
+                FormatCache.class.getClassLoader(),
+                new Class<?>[] {FormatCache.class},
+                (proxy, method, args) -> null);
+
+        Throwable thrown = catchThrowable(() -> service.createSchemaReaderFactoryBuilder().withFormatCache(cache));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void validationShouldCountHitsAndMisses() {
+        FormatCache cache = service.createFormatCache(100);
+        JsonSchema schema = readSchema("{\"format\":\"email\"}", cache);
+
+        assertThat(isValid(schema, "\"john@example.org\"")).isTrue();
+        assertThat(isValid(schema, "\"john@example.org\"")).isTrue();
+        assertThat(isValid(schema, "\"john@@example.org\"")).isFalse();
+        assertThat(isValid(schema, "\"john@@example.org\"")).isFalse();
+        assertThat(isValid(schema, "\"john@example.org\"")).isTrue();
+
+        assertThat(cache.getHitCount("email")).isEqualTo(3);
+        assertThat(cache.getMissCount("email")).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(3);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void validationShouldNotCacheNonCacheableFormats() {
+        FormatCache cache = service.createFormatCache(100);
+        JsonSchema schema = readSchema("{\"format\":\"date\"}", cache);
+
+        assertThat(isValid(schema, "\"2019-12-01\"")).isTrue();
+        assertThat(isValid(schema, "\"2019-12-01\"")).isTrue();
+
+        assertThat(cache.getHitCount("date")).isEqualTo(0);
+        assertThat(cache.getMissCount("date")).isEqualTo(0);
+    }
+
+    @Test
+    public void validationShouldCacheCustomFormatsOptingIn() {
+        FormatCache cache = service.createFormatCache(100);
+        JsonSchema schema = readSchema("{\"format\":\"palindrome\"}", cache);
+
+        assertThat(isValid(schema, "\"level\"")).isTrue();
+        assertThat(isValid(schema, "\"level\"")).isTrue();
+        assertThat(isValid(schema, "\"levels\"")).isFalse();
+
+        assertThat(cache.getHitCount("palindrome")).isEqualTo(1);
+        assertThat(cache.getMissCount("palindrome")).isEqualTo(2);
+    }
+
+    @Test
+    public void cacheShouldEvictLeastRecentlyUsedValue() {
+        FormatCache cache = service.createFormatCache(2, FormatCache.Eviction.LEAST_RECENTLY_USED);
+        JsonSchema schema = readSchema("{\"format\":\"hostname\"}", cache);
+
+        isValid(schema, "\"a.example.org\"");
+        isValid(schema, "\"b.example.org\"");
+        isValid(schema, "\"a.example.org\"");
+        isValid(schema, "\"c.example.org\"");
+        isValid(schema, "\"a.example.org\"");
+        isValid(schema, "\"b.example.org\"");
+
+        assertThat(cache.getHitCount("hostname")).isEqualTo(2);
+        assertThat(cache.getMissCount("hostname")).isEqualTo(4);
+    }
+
+    @Test
+    public void cacheShouldEvictFirstAddedValue() {
+        FormatCache cache = service.createFormatCache(2, FormatCache.Eviction.FIRST_IN_FIRST_OUT);
+        JsonSchema schema = readSchema("{\"format\":\"hostname\"}", cache);
+
+        isValid(schema, "\"a.example.org\"");
+        isValid(schema, "\"b.example.org\"");
+        isValid(schema, "\"a.example.org\"");
+        isValid(schema, "\"c.example.org\"");
+        isValid(schema, "\"a.example.org\"");
+        isValid(schema, "\"b.example.org\"");
+
+        assertThat(cache.getHitCount("hostname")).isEqualTo(1);
+        assertThat(cache.getMissCount("hostname")).isEqualTo(5);
+    }
+
+    @Test
+    public void clearShouldDiscardValues() {
+        FormatCache cache = service.createFormatCache(100);
+        JsonSchema schema = readSchema("{\"format\":\"uri\"}", cache);
+
+        isValid(schema, "\"https://example.org/\"");
+        cache.clear();
+        isValid(schema, "\"https://example.org/\"");
+
+        assertThat(cache.getHitCount("uri")).isEqualTo(0);
+        assertThat(cache.getMissCount("uri")).isEqualTo(2);
+    }
+
+    private static JsonSchema readSchema(String schema, FormatCache cache) {
+        JsonSchemaReaderFactory factory = service.createSchemaReaderFactoryBuilder()
+                .withFormatCache(cache)
+                .build();
+        try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(schema))) {
+            return reader.read();
+        }
+    }
+
+    private static boolean isValid(JsonSchema schema, String instance) {
+        JsonValue value = Json.createReader(new StringReader(instance)).readValue();
+        return service.isValid(schema, value);
+    }
+}
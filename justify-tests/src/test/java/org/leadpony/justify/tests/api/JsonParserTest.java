@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.json.Json;
@@ -40,6 +41,7 @@ import javax.json.stream.JsonParsingException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonValidatingException;
@@ -703,4 +705,111 @@ public class JsonParserTest {
 
         log.info(thrown.getMessage());
     }
+
+    @Test
+    public void createParserShouldReportAllProblemsByDefault() {
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = service.readSchema(new StringReader(INTEGER_ARRAY_SCHEMA));
+        JsonParser sut = service.createParser(new StringReader("[1,\"a\",2,\"b\"]"), schema,
+                problems::addAll, service.createValidationConfig().getAsMap());
+        while (sut.hasNext()) {
+            sut.next();
+        }
+        sut.close();
+
+        assertThat(problems).extracting(Problem::getPointer).containsExactly("/1", "/3");
+    }
+
+    @Test
+    public void createParserShouldStopAtFirstProblemIfFailFast() {
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = service.readSchema(new StringReader(INTEGER_ARRAY_SCHEMA));
+        JsonParser sut = service.createParser(new StringReader("[1,\"a\",2,\"b\"]"), schema,
+                problems::addAll, service.createValidationConfig().withFailFast(true).getAsMap());
+        List<JsonParser.Event> events = new ArrayList<>();
+        while (sut.hasNext()) {
+            events.add(sut.next());
+        }
+        sut.close();
+
+        assertThat(events).hasSize(6);
+        assertThat(problems).extracting(Problem::getPointer).containsExactly("/1");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{\"const\":{\"a\":1}}|{\"a\":1,\"a\":1}|0",
+        "{\"const\":{\"a\":1}}|{\"a\":2,\"a\":1}|0",
+        "{\"const\":{\"a\":1}}|{\"a\":1,\"a\":2}|1",
+        "{\"enum\":[{\"a\":1},{\"a\":[2]}]}|{\"a\":1,\"a\":[2]}|0",
+    })
+    public void createParserShouldLetLastDuplicatePropertyWinForConst(String schema, String instance, int problems) {
+        List<Problem> actual = new ArrayList<>();
+        JsonSchema jsonSchema = service.readSchema(new StringReader(schema));
+        JsonParser sut = service.createParser(new StringReader(instance), jsonSchema, actual::addAll);
+        while (sut.hasNext()) {
+            sut.next();
+        }
+        sut.close();
+
+        assertThat(actual).hasSize(problems);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{\"oneOf\":[{\"items\":{\"type\":\"integer\"}},{\"items\":{\"type\":\"boolean\"}}]}|false|/1500,/0",
+        "{\"oneOf\":[{\"items\":{\"type\":\"integer\"}},{\"items\":{\"type\":\"boolean\"}}]}|true|/0,/1500",
+        "{\"oneOf\":[{\"type\":\"array\"},{\"minItems\":1}]}|false|,",
+        "{\"anyOf\":[{\"items\":{\"type\":\"integer\"}},{\"items\":{\"type\":\"boolean\"}}]}|false|/1500,/0",
+        "{\"anyOf\":[{\"items\":{\"type\":\"integer\"}},{\"items\":{\"type\":\"boolean\"}}]}|true|/0,/1500",
+    })
+    public void createParserShouldReportBranchesOfLargeInstance(String schema, boolean failFast, String pointers) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(i == 1500 ? "\"x\"" : String.valueOf(i));
+        }
+        builder.append(']');
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema jsonSchema = service.readSchema(new StringReader(schema));
+        JsonParser sut = service.createParser(new StringReader(builder.toString()), jsonSchema,
+                problems::addAll, service.createValidationConfig().withFailFast(failFast).getAsMap());
+        while (sut.hasNext()) {
+            sut.next();
+        }
+        sut.close();
+
+        assertThat(problems).hasSize(1);
+        Problem problem = problems.get(0);
+        String actual = IntStream.range(0, problem.countBranches())
+                .mapToObj(i -> problem.getBranch(i).get(0).getPointer())
+                .collect(Collectors.joining(","));
+        assertThat(actual).isEqualTo(pointers);
+    }
+
+    @Test
+    public void createParserShouldNotOverflowWithDeeplyNestedInstance() {
+        final int depth = 100000;
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            builder.append('[');
+        }
+        for (int i = 0; i < depth; i++) {
+            builder.append(']');
+        }
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = service.readSchema(new StringReader("{\"items\":{\"$ref\":\"#\"}}"));
+        JsonParser sut = service.createParser(new StringReader(builder.toString()), schema, problems::addAll);
+        int events = 0;
+        while (sut.hasNext()) {
+            sut.next();
+            events++;
+        }
+        sut.close();
+
+        assertThat(events).isEqualTo(depth * 2);
+        assertThat(problems).hasSize(1);
+    }
 }
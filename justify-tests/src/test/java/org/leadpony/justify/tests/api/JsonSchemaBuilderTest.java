@@ -1350,6 +1350,24 @@ public class JsonSchemaBuilderTest {
         assertThat(schema.toJson()).isEqualTo(expected);
     }
 
+    @Test
+    public void withOneOfShouldRejectInstanceSatisfyingSameSchemaTwice() {
+        JsonSchema subschema = createSchemaBuilder()
+                .withProperty("type", createSchemaBuilder().withConst(Json.createValue("a")).build())
+                .withRequired("type")
+                .build();
+
+        JsonSchema schema = createSchemaBuilder()
+                .withOneOf(subschema, subschema)
+                .build();
+
+        JsonObject first = createObjectBuilder().add("type", "a").build();
+        JsonObject last = createObjectBuilder().add("x", 1).add("type", "a").build();
+
+        assertThat(service.isValid(schema, first)).isFalse();
+        assertThat(service.isValid(schema, last)).isFalse();
+    }
+
     @Test
     public void withOneOfShouldThrowIfEmptyList() {
         JsonSchemaBuilder sut = createSchemaBuilder();
@@ -18,12 +18,17 @@ package org.leadpony.justify.tests.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 import java.io.StringReader;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
+import javax.json.JsonReader;
 import javax.json.JsonValue;
 import javax.json.stream.JsonParsingException;
 
@@ -36,6 +41,7 @@ import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.JsonSchemaReaderFactory;
 import org.leadpony.justify.api.JsonValidatingException;
 import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.tests.helper.ApiTest;
 import org.leadpony.justify.tests.helper.JsonAssertions;
 import org.leadpony.justify.tests.helper.JsonSource;
@@ -167,6 +173,35 @@ public class JsonSchemaReaderTest {
         assertThat(thrown).isNull();
     }
 
+    @Test
+    public void readShouldMatchPatternsInLinearTimeIfEnabled() {
+        String source = "{ \"pattern\": \"^(a|aa)+$\" }";
+        JsonSchemaReaderFactory factory = service.createSchemaReaderFactoryBuilder()
+                .withLinearTimeRegex(true)
+                .build();
+        JsonSchema schema;
+        try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(source))) {
+            schema = reader.read();
+        }
+
+        StringBuilder builder = new StringBuilder("\"");
+        for (int i = 0; i < 1000; i++) {
+            builder.append('a');
+        }
+        String instance = builder.append("!\"").toString();
+
+        List<Problem> problems = new ArrayList<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try (JsonReader reader = service.createReader(
+                    new StringReader(instance), schema, problems::addAll)) {
+                reader.readValue();
+            }
+        });
+
+        assertThat(problems).hasSize(1);
+        assertThat(problems.get(0).getKeyword()).isEqualTo("pattern");
+    }
+
     /**
      * @author leadpony
      */
@@ -19,15 +19,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.ValidationConfig;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 
+import javax.json.Json;
 import javax.json.JsonException;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
 
 /**
  * A test class for testing the {@link JsonValidationService} implementation.
@@ -101,4 +108,103 @@ public class JsonValidationServiceTest {
     public void getJsonProviderShouldReturnValidJsonProvider() {
         assertThat(service.getJsonProvider()).isNotNull();
     }
+
+    private static final String BRANCHING_SCHEMA = "{"
+            + "\"type\":\"array\","
+            + "\"items\":{"
+            + "\"oneOf\":["
+            + "{\"type\":\"integer\",\"minimum\":0},"
+            + "{\"type\":\"string\",\"maxLength\":3},"
+            + "{\"anyOf\":[{\"type\":\"boolean\"},{\"type\":\"null\"}]}"
+            + "]"
+            + "}"
+            + "}";
+
+    private JsonSchema readSchema(String schema) {
+        return service.readSchema(new StringReader(schema));
+    }
+
+    private static JsonValue readValue(String value) {
+        return Json.createReader(new StringReader(value)).readValue();
+    }
+
+    @Test
+    public void isValidShouldReturnTrueIfValueIsValid() {
+        JsonSchema schema = readSchema(BRANCHING_SCHEMA);
+
+        assertThat(service.isValid(schema, readValue("[1,\"abc\",true,null]"))).isTrue();
+    }
+
+    @Test
+    public void isValidShouldReturnFalseIfValueIsInvalid() {
+        JsonSchema schema = readSchema(BRANCHING_SCHEMA);
+
+        assertThat(service.isValid(schema, readValue("[1,\"abcd\",true]"))).isFalse();
+        assertThat(service.isValid(schema, readValue("[-1]"))).isFalse();
+        assertThat(service.isValid(schema, readValue("{}"))).isFalse();
+    }
+
+    @Test
+    public void isValidShouldAcceptScalarValue() {
+        JsonSchema schema = readSchema("{\"type\":\"integer\",\"maximum\":10}");
+
+        assertThat(service.isValid(schema, readValue("10"))).isTrue();
+        assertThat(service.isValid(schema, readValue("11"))).isFalse();
+        assertThat(service.isValid(schema, JsonValue.TRUE)).isFalse();
+    }
+
+    @Test
+    public void isValidShouldReturnFalseIfNoItemIsContained() {
+        JsonSchema schema = readSchema("{\"contains\":{\"type\":\"string\"},\"minItems\":1}");
+
+        assertThat(service.isValid(schema, readValue("[1,\"a\"]"))).isTrue();
+        assertThat(service.isValid(schema, readValue("[1,2,3]"))).isFalse();
+        assertThat(service.isValid(schema, readValue("[]"))).isFalse();
+    }
+
+    @Test
+    public void isValidShouldApplyMaxDepth() {
+        JsonSchema schema = readSchema("{\"items\":{\"$ref\":\"#\"}}");
+        JsonValue value = readValue("[[[1]]]");
+
+        assertThat(service.isValid(schema, value,
+                service.createValidationConfig().withMaxDepth(3).getAsMap())).isTrue();
+        assertThat(service.isValid(schema, value,
+                service.createValidationConfig().withMaxDepth(2).getAsMap())).isFalse();
+    }
+
+    @Test
+    public void isValidShouldThrowIfMaxDepthIsNotInteger() {
+        JsonSchema schema = readSchema("{\"type\":\"array\"}");
+        Map<String, Object> config = new HashMap<>();
+        config.put(ValidationConfig.MAX_DEPTH, "2");
+
+        Throwable thrown = catchThrowable(() -> service.isValid(schema, readValue("[]"), config));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void isValidShouldStopReadingAtFirstProblem() {
+        JsonSchema schema = readSchema(BRANCHING_SCHEMA);
+        JsonParser parser = Json.createParser(new StringReader("[1,\"abcd\",2,3]"));
+
+        boolean actual = service.isValid(schema, parser);
+
+        assertThat(actual).isFalse();
+        assertThat(parser.hasNext()).isTrue();
+        parser.close();
+    }
+
+    @Test
+    public void isValidShouldReadWholeDocumentIfValid() {
+        JsonSchema schema = readSchema(BRANCHING_SCHEMA);
+        JsonParser parser = Json.createParser(new StringReader("[1,\"abc\",2,3]"));
+
+        boolean actual = service.isValid(schema, parser);
+
+        assertThat(actual).isTrue();
+        assertThat(parser.hasNext()).isFalse();
+        parser.close();
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.tests.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.json.JsonReader;
+
+import org.junit.jupiter.api.Test;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaReaderFactory;
+import org.leadpony.justify.api.JsonSchemaReaderFactoryBuilder;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.tests.helper.ApiTest;
+
+/**
+ * A test class for {@link JsonSchemaReaderFactoryBuilder#withMaxContentSize(long)}.
+ *
+ * @author leadpony
+ */
+@ApiTest
+public class MaxContentSizeTest {
+
+    private static final String ENCODED_SCHEMA = "{"
+            + "\"contentEncoding\":\"base64\","
+            + "\"contentMediaType\":\"application/json\""
+            + "}";
+
+    private static final String PLAIN_SCHEMA = "{"
+            + "\"contentMediaType\":\"application/json\""
+            + "}";
+
+    // {"id": 1, "name": "foo"} which has 24 bytes.
+    private static final String ENCODED_INSTANCE = "\"eyJpZCI6IDEsICJuYW1lIjogImZvbyJ9\"";
+
+    private static JsonValidationService service;
+
+    @Test
+    public void withMaxContentSizeShouldThrowExceptionIfSizeIsNotPositive() {
+        Throwable thrown = catchThrowable(() -> service.createSchemaReaderFactoryBuilder().withMaxContentSize(0));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void validationShouldAcceptDecodedContentWithinLimit() {
+        JsonSchema schema = readSchema(ENCODED_SCHEMA, 24);
+
+        List<Problem> problems = validate(schema, ENCODED_INSTANCE);
+
+        assertThat(problems).isEmpty();
+    }
+
+    @Test
+    public void validationShouldReportDecodedContentExceedingLimit() {
+        JsonSchema schema = readSchema(ENCODED_SCHEMA, 23);
+
+        List<Problem> problems = validate(schema, ENCODED_INSTANCE);
+
+        assertThat(problems).hasSize(1);
+        Problem problem = problems.get(0);
+        assertThat(problem.getKeyword()).isEqualTo("contentMediaType");
+        assertThat(problem.getMessage(Locale.ROOT)).isEqualTo("The size of the content must be at most 23.");
+    }
+
+    @Test
+    public void validationShouldReportPlainContentExceedingLimit() {
+        JsonSchema schema = readSchema(PLAIN_SCHEMA, 5);
+
+        assertThat(validate(schema, "\"[1,2]\"")).isEmpty();
+        assertThat(validate(schema, "\"[1, 2]\"")).hasSize(1);
+    }
+
+    @Test
+    public void validationShouldMeasurePlainContentInUtf8Bytes() {
+        JsonSchema schema = readSchema(PLAIN_SCHEMA, 6);
+
+        // The string has 4 characters and 6 bytes in UTF-8.
+        assertThat(validate(schema, "\"\\\"\u00e9\u00e9\\\"\"")).isEmpty();
+        // The string has 4 characters and 7 bytes in UTF-8.
+        assertThat(validate(schema, "\"\\\"\u00e9\u3042\\\"\"")).hasSize(1);
+    }
+
+    private static JsonSchema readSchema(String schema, long maxContentSize) {
+        JsonSchemaReaderFactory factory = service.createSchemaReaderFactoryBuilder()
+                .withMaxContentSize(maxContentSize)
+                .build();
+        try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(schema))) {
+            return reader.read();
+        }
+    }
+
+    private static List<Problem> validate(JsonSchema schema, String instance) {
+        List<Problem> problems = new ArrayList<>();
+        try (JsonReader reader = service.createReader(new StringReader(instance), schema, problems::addAll)) {
+            reader.readValue();
+        }
+        return problems;
+    }
+}
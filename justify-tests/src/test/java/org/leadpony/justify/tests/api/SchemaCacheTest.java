@@ -0,0 +1,317 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.tests.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.json.Json;
+import javax.json.JsonValue;
+
+import org.junit.jupiter.api.Test;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaReaderFactory;
+import org.leadpony.justify.api.JsonSchemaResolver;
+import org.leadpony.justify.api.JsonValidatingException;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.SchemaCache;
+import org.leadpony.justify.tests.helper.ApiTest;
+
+/**
+ * A test class for {@link SchemaCache}.
+ *
+ * @author leadpony
+ */
+@ApiTest
+public class SchemaCacheTest {
+
+    private static final String SCHEMA = "{\"type\":\"integer\",\"minimum\":0}";
+
+    private static JsonValidationService service;
+
+    @Test
+    public void createSchemaCacheShouldCountSchemasByDefault() {
+        SchemaCache cache = service.createSchemaCache(100);
+
+        assertThat(cache.getMaximumWeight()).isEqualTo(100);
+        assertThat(cache.getWeigher()).isEqualTo(SchemaCache.Weigher.COUNT);
+        assertThat(cache.usesSoftReferences()).isFalse();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.getHitCount()).isEqualTo(0);
+        assertThat(cache.getMissCount()).isEqualTo(0);
+        assertThat(cache.getLoadCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void createSchemaCacheShouldThrowExceptionIfWeightIsNotPositive() {
+        Throwable thrown = catchThrowable(() -> service.createSchemaCache(0));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void withSchemaCacheShouldThrowExceptionIfCacheIsForeign() {
+        SchemaCache cache = (SchemaCache) Proxy.newProxyInstance(
+                SchemaCache.class.getClassLoader(),
+                new Class<?>[] {SchemaCache.class},
+                (proxy, method, args) -> null);
+
+        Throwable thrown = catchThrowable(() -> service.createSchemaReaderFactoryBuilder().withSchemaCache(cache));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void readShouldReturnCachedSchemaForSameSource() {
+        SchemaCache cache = service.createSchemaCache(100);
+        JsonSchemaReaderFactory factory = createFactory(cache);
+
+        JsonSchema first = readSchema(factory, SCHEMA);
+        JsonSchema second = readSchema(factory, SCHEMA);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getLoadCount()).isEqualTo(1);
+        assertThat(cache.getTotalLoadTime()).isPositive();
+    }
+
+    @Test
+    public void readShouldReturnCachedSchemaForSameBytes() {
+        SchemaCache cache = service.createSchemaCache(100);
+        JsonSchemaReaderFactory factory = createFactory(cache);
+        byte[] bytes = SCHEMA.getBytes(StandardCharsets.UTF_8);
+
+        JsonSchema first = readSchema(factory, bytes);
+        JsonSchema second = readSchema(factory, bytes);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void readShouldNotShareSchemasDifferingInUnpairedSurrogates() {
+        SchemaCache cache = service.createSchemaCache(100);
+        JsonSchemaReaderFactory factory = createFactory(cache);
+
+        JsonSchema first = readSchema(factory, "{\"description\":\"\uD800\"}");
+        JsonSchema second = readSchema(factory, "{\"description\":\"\uD801\"}");
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void readShouldNotShareSchemasBetweenDifferentConfigurations() {
+        SchemaCache cache = service.createSchemaCache(100);
+        JsonSchemaReaderFactory lenient = createFactory(cache);
+        JsonSchemaReaderFactory strict = service.createSchemaReaderFactoryBuilder()
+                .withSchemaCache(cache)
+                .withStrictKeywords(true)
+                .build();
+        JsonSchemaReaderFactory another = createFactory(cache);
+
+        JsonSchema first = readSchema(lenient, SCHEMA);
+        JsonSchema second = readSchema(strict, SCHEMA);
+        JsonSchema third = readSchema(another, SCHEMA);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(third).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void readShouldShareSchemasOnlyWithSameResolvers() {
+        SchemaCache cache = service.createSchemaCache(100);
+        JsonSchemaResolver resolver = id -> null;
+        JsonSchemaReaderFactory first = service.createSchemaReaderFactoryBuilder()
+                .withSchemaCache(cache)
+                .withSchemaResolver(resolver)
+                .build();
+        JsonSchemaReaderFactory second = service.createSchemaReaderFactoryBuilder()
+                .withSchemaCache(cache)
+                .withSchemaResolver(resolver)
+                .build();
+        JsonSchemaReaderFactory third = service.createSchemaReaderFactoryBuilder()
+                .withSchemaCache(cache)
+                .withSchemaResolver(id -> null)
+                .build();
+
+        JsonSchema schema = readSchema(first, SCHEMA);
+
+        assertThat(readSchema(second, SCHEMA)).isSameAs(schema);
+        assertThat(readSchema(third, SCHEMA)).isNotSameAs(schema);
+    }
+
+    @Test
+    public void readShouldNotCacheInvalidSchema() {
+        SchemaCache cache = service.createSchemaCache(100);
+        JsonSchemaReaderFactory factory = createFactory(cache);
+
+        for (int i = 0; i < 2; i++) {
+            Throwable thrown = catchThrowable(() -> readSchema(factory, "{\"type\":\"foo\"}"));
+            assertThat(thrown).isInstanceOf(JsonValidatingException.class);
+        }
+
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getLoadCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void readShouldResolveReferenceOnceWithResolver() {
+        SchemaCache cache = service.createSchemaCache(100);
+        AtomicInteger calls = new AtomicInteger();
+        JsonSchema common = service.readSchema(new StringReader("{\"type\":\"string\"}"));
+        JsonSchemaResolver resolver = id -> {
+            if (id.equals(URI.create("https://example.com/common#"))) {
+                calls.incrementAndGet();
+                return common;
+            }
+            return null;
+        };
+        JsonSchemaReaderFactory factory = service.createSchemaReaderFactoryBuilder()
+                .withSchemaCache(cache)
+                .withSchemaResolver(resolver)
+                .build();
+
+        JsonSchema first = readSchema(factory, "{\"items\":{\"$ref\":\"https://example.com/common\"}}");
+        JsonSchema second = readSchema(factory, "{\"properties\":{\"a\":{\"$ref\":\"https://example.com/common\"}}}");
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(isValid(first, "[\"foo\"]")).isTrue();
+        assertThat(isValid(first, "[42]")).isFalse();
+        assertThat(isValid(second, "{\"a\":42}")).isFalse();
+    }
+
+    @Test
+    public void readShouldResolveReferenceToSchemaReadWithId() {
+        SchemaCache cache = service.createSchemaCache(100);
+        JsonSchemaReaderFactory factory = createFactory(cache);
+
+        readSchema(factory, "{\"$id\":\"https://example.com/common\",\"type\":\"string\"}");
+        JsonSchema schema = readSchema(factory, "{\"items\":{\"$ref\":\"https://example.com/common\"}}");
+
+        assertThat(isValid(schema, "[\"foo\"]")).isTrue();
+        assertThat(isValid(schema, "[42]")).isFalse();
+    }
+
+    @Test
+    public void cacheShouldEvictLeastRecentlyUsedSchema() {
+        SchemaCache cache = service.createSchemaCache(2);
+        JsonSchemaReaderFactory factory = createFactory(cache);
+
+        readSchema(factory, "{\"type\":\"string\"}");
+        readSchema(factory, "{\"type\":\"number\"}");
+        readSchema(factory, "{\"type\":\"string\"}");
+        readSchema(factory, "{\"type\":\"object\"}");
+        readSchema(factory, "{\"type\":\"string\"}");
+        readSchema(factory, "{\"type\":\"number\"}");
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(4);
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void cacheShouldWeighSchemasBySourceLength() {
+        SchemaCache cache = service.createSchemaCache(50, SchemaCache.Weigher.SOURCE_LENGTH, false);
+        JsonSchemaReaderFactory factory = createFactory(cache);
+
+        readSchema(factory, SCHEMA);
+        assertThat(cache.getWeight()).isEqualTo(SCHEMA.length());
+
+        readSchema(factory, "{\"type\":\"string\",\"maxLength\":10}");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void cacheShouldWeighResolvedSchemasAsOne() {
+        SchemaCache cache = service.createSchemaCache(100, SchemaCache.Weigher.SOURCE_LENGTH, false);
+        JsonSchema common = service.readSchema(new StringReader("{\"type\":\"string\"}"));
+        JsonSchemaReaderFactory factory = service.createSchemaReaderFactoryBuilder()
+                .withSchemaCache(cache)
+                .withSchemaResolver(id -> common)
+                .build();
+        String source = "{\"$ref\":\"https://example.com/common\"}";
+
+        readSchema(factory, source);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getWeight()).isEqualTo(source.length() + 1);
+    }
+
+    @Test
+    public void cacheShouldHoldSchemasBySoftReferences() {
+        SchemaCache cache = service.createSchemaCache(100, SchemaCache.Weigher.COUNT, true);
+        JsonSchemaReaderFactory factory = createFactory(cache);
+
+        JsonSchema first = readSchema(factory, SCHEMA);
+        JsonSchema second = readSchema(factory, SCHEMA);
+
+        assertThat(cache.usesSoftReferences()).isTrue();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void clearShouldDiscardSchemas() {
+        SchemaCache cache = service.createSchemaCache(100);
+        JsonSchemaReaderFactory factory = createFactory(cache);
+
+        JsonSchema first = readSchema(factory, SCHEMA);
+        cache.clear();
+        JsonSchema second = readSchema(factory, SCHEMA);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(cache.getHitCount()).isEqualTo(0);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    private static JsonSchemaReaderFactory createFactory(SchemaCache cache) {
+        return service.createSchemaReaderFactoryBuilder()
+                .withSchemaCache(cache)
+                .build();
+    }
+
+    private static JsonSchema readSchema(JsonSchemaReaderFactory factory, String schema) {
+        try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(schema))) {
+            return reader.read();
+        }
+    }
+
+    private static JsonSchema readSchema(JsonSchemaReaderFactory factory, byte[] schema) {
+        try (JsonSchemaReader reader = factory.createSchemaReader(new ByteArrayInputStream(schema))) {
+            return reader.read();
+        }
+    }
+
+    private static boolean isValid(JsonSchema schema, String instance) {
+        JsonValue value = Json.createReader(new StringReader(instance)).readValue();
+        return service.isValid(schema, value);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.tests.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+
+import org.junit.jupiter.api.Test;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.ProblemHandler;
+import org.leadpony.justify.api.SchemaValidator;
+import org.leadpony.justify.api.SchemaValidatorPool;
+import org.leadpony.justify.tests.helper.ApiTest;
+
+/**
+ * A test class for testing {@link SchemaValidator} and
+ * {@link SchemaValidatorPool}.
+ *
+ * @author leadpony
+ */
+@ApiTest
+public class SchemaValidatorTest {
+
+    private static JsonValidationService service;
+
+    private static final String SCHEMA = "{"
+            + "\"type\":\"array\","
+            + "\"items\":{"
+            + "\"type\":\"array\","
+            + "\"items\":{\"type\":\"integer\"}"
+            + "}"
+            + "}";
+
+    private static JsonSchema readSchema(String schema) {
+        return service.readSchema(new StringReader(schema));
+    }
+
+    private static JsonParser newParser(String instance) {
+        return Json.createParser(new StringReader(instance));
+    }
+
+    private static void parseAll(JsonParser parser) {
+        while (parser.hasNext()) {
+            parser.next();
+        }
+        parser.close();
+    }
+
+    private static List<String> pointersOf(List<Problem> problems) {
+        return problems.stream().map(Problem::getPointer).collect(Collectors.toList());
+    }
+
+    @Test
+    public void getSchemaShouldReturnSchema() {
+        JsonSchema schema = readSchema(SCHEMA);
+        SchemaValidator sut = service.createSchemaValidator(schema, ProblemHandler.throwing());
+
+        assertThat(sut.getSchema()).isSameAs(schema);
+    }
+
+    @Test
+    public void resetShouldValidateDocumentsIndependently() {
+        JsonSchema schema = readSchema(SCHEMA);
+        List<Problem> problems = new ArrayList<>();
+        SchemaValidator sut = service.createSchemaValidator(schema, problems::addAll);
+
+        parseAll(sut.reset(newParser("[[1,\"a\"],[2,\"b\"]]")));
+        assertThat(pointersOf(problems)).containsExactly("/0/1", "/1/1");
+
+        problems.clear();
+        parseAll(sut.reset(newParser("[[1,2],[3,4]]")));
+        assertThat(problems).isEmpty();
+
+        problems.clear();
+        parseAll(sut.reset(newParser("[[1,2,3],[\"c\"]]")));
+        assertThat(pointersOf(problems)).containsExactly("/1/0");
+    }
+
+    @Test
+    public void resetShouldDiscardUnfinishedDocument() {
+        JsonSchema schema = readSchema(SCHEMA);
+        List<Problem> problems = new ArrayList<>();
+        SchemaValidator sut = service.createSchemaValidator(schema, problems::addAll);
+
+        sut.reset(newParser("[[1,2],[3,4]]"));
+        sut.next();
+        sut.next();
+        sut.close();
+
+        parseAll(sut.reset(newParser("[[\"x\"]]")));
+        assertThat(pointersOf(problems)).containsExactly("/0/0");
+    }
+
+    @Test
+    public void resetShouldThrowExceptionIfParserIsNull() {
+        JsonSchema schema = readSchema(SCHEMA);
+        SchemaValidator sut = service.createSchemaValidator(schema, ProblemHandler.throwing());
+
+        Throwable thrown = catchThrowable(() -> sut.reset(null));
+
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void createSchemaValidatorShouldApplyMaxDepth() {
+        JsonSchema schema = readSchema(SCHEMA);
+        List<Problem> problems = new ArrayList<>();
+        SchemaValidator sut = service.createSchemaValidator(schema, problems::addAll,
+                service.createValidationConfig().withMaxDepth(1).getAsMap());
+
+        parseAll(sut.reset(newParser("[[1],[2]]")));
+
+        assertThat(pointersOf(problems)).containsExactly("/0");
+    }
+
+    @Test
+    public void acquireShouldReturnValidatorWithMaxDepth() {
+        JsonSchema schema = readSchema(SCHEMA);
+        List<Problem> problems = new ArrayList<>();
+        SchemaValidatorPool sut = service.createSchemaValidatorPool(schema, 1, parser -> problems::addAll,
+                service.createValidationConfig().withMaxDepth(1).getAsMap());
+
+        SchemaValidator validator = sut.acquire(newParser("[[1]]"));
+        parseAll(validator);
+        sut.release(validator);
+
+        assertThat(pointersOf(problems)).containsExactly("/0");
+    }
+
+    @Test
+    public void acquireShouldReturnFailFastValidator() {
+        JsonSchema schema = readSchema(SCHEMA);
+        List<Problem> problems = new ArrayList<>();
+        SchemaValidatorPool sut = service.createSchemaValidatorPool(schema, 1, parser -> problems::addAll,
+                service.createValidationConfig().withFailFast(true).getAsMap());
+
+        SchemaValidator validator = sut.acquire(newParser("[[\"a\",\"b\"],[\"c\"]]"));
+        parseAll(validator);
+        sut.release(validator);
+
+        assertThat(pointersOf(problems)).containsExactly("/0/0");
+    }
+
+    @Test
+    public void acquireShouldReturnValidityOnlyValidator() {
+        JsonSchema schema = readSchema(SCHEMA);
+        List<Problem> problems = new ArrayList<>();
+        SchemaValidatorPool sut = service.createSchemaValidatorPool(schema, 1, parser -> problems::addAll,
+                service.createValidationConfig().withFailFast(true).withValidityOnly(true).getAsMap());
+
+        SchemaValidator first = sut.acquire(newParser("[[1,\"a\"],[2]]"));
+        boolean firstValidity = first.readValidity();
+        assertThat(first.hasNext()).isTrue();
+        first.close();
+        sut.release(first);
+
+        SchemaValidator second = sut.acquire(newParser("[[1],[2]]"));
+        boolean secondValidity = second.readValidity();
+        second.close();
+        sut.release(second);
+
+        assertThat(firstValidity).isFalse();
+        assertThat(secondValidity).isTrue();
+        assertThat(problems).isEmpty();
+    }
+
+    @Test
+    public void acquireShouldReuseReleasedValidator() {
+        JsonSchema schema = readSchema(SCHEMA);
+        List<Problem> problems = new ArrayList<>();
+        SchemaValidatorPool sut = service.createSchemaValidatorPool(schema, 2, parser -> problems::addAll);
+
+        SchemaValidator first = sut.acquire(newParser("[[1],[\"a\"]]"));
+        parseAll(first);
+        sut.release(first);
+
+        SchemaValidator second = sut.acquire(newParser("[[\"b\"]]"));
+        parseAll(second);
+        sut.release(second);
+
+        assertThat(second).isSameAs(first);
+        assertThat(pointersOf(problems)).containsExactly("/1/0", "/0/0");
+    }
+
+    @Test
+    public void acquireShouldCreateNewValidatorIfPoolIsEmpty() {
+        JsonSchema schema = readSchema(SCHEMA);
+        SchemaValidatorPool sut = service.createSchemaValidatorPool(schema, 1, parser -> ProblemHandler.throwing());
+
+        SchemaValidator first = sut.acquire(newParser("[]"));
+        SchemaValidator second = sut.acquire(newParser("[]"));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getSchema()).isSameAs(schema);
+    }
+
+    @Test
+    public void releaseShouldThrowExceptionIfValidatorIsForeign() {
+        JsonSchema schema = readSchema(SCHEMA);
+        SchemaValidatorPool sut = service.createSchemaValidatorPool(schema, 1, parser -> ProblemHandler.throwing());
+        SchemaValidator foreign = service.createSchemaValidator(readSchema(SCHEMA), ProblemHandler.throwing());
+
+        Throwable thrown = catchThrowable(() -> sut.release(foreign));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void createSchemaValidatorPoolShouldThrowExceptionIfCapacityIsZero() {
+        JsonSchema schema = readSchema(SCHEMA);
+
+        Throwable thrown = catchThrowable(() -> service.createSchemaValidatorPool(schema, 0,
+                parser -> ProblemHandler.throwing()));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+}
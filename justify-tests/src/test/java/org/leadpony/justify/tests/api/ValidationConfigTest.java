@@ -16,6 +16,7 @@
 package org.leadpony.justify.tests.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.io.StringReader;
 import java.util.ArrayList;
@@ -136,6 +137,107 @@ public class ValidationConfigTest {
         assertThat(handlerFactory.problems).hasSize(1);
     }
 
+    @Test
+    public void withFailFastShouldStopAtFirstProblem() {
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = service.readSchema(new StringReader("{"
+                + "\"type\":\"object\","
+                + "\"additionalProperties\":{\"type\":\"integer\"}"
+                + "}"));
+
+        sut.withSchema(schema);
+        sut.withProblemHandler(problems::addAll);
+        sut.withFailFast(true);
+
+        JsonParserFactory factory = service.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader("{\"a\":\"x\",\"b\":\"y\",\"c\":\"z\"}"));
+        int events = 0;
+        while (parser.hasNext()) {
+            parser.next();
+            events++;
+        }
+
+        assertThat(events).isEqualTo(8);
+        assertThat(problems).hasSize(1);
+        assertThat(problems.get(0).getPointer()).isEqualTo("/a");
+    }
+
+    @Test
+    public void withMaxDepthShouldStopAtTooDeepValue() {
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = service.readSchema(new StringReader("{"
+                + "\"items\":{\"$ref\":\"#\"}"
+                + "}"));
+
+        sut.withSchema(schema);
+        sut.withProblemHandler(problems::addAll);
+        sut.withMaxDepth(3);
+
+        JsonParserFactory factory = service.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader("[[[[[]]]],[[]]]"));
+        int events = 0;
+        while (parser.hasNext()) {
+            parser.next();
+            events++;
+        }
+
+        assertThat(events).isEqualTo(14);
+        assertThat(problems).hasSize(1);
+        assertThat(problems.get(0).getPointer()).isEqualTo("/0/0/0");
+    }
+
+    @Test
+    public void validationShouldLimitDepthTo1000ByDefault() {
+        JsonSchema schema = service.readSchema(new StringReader("{"
+                + "\"items\":{\"$ref\":\"#\"}"
+                + "}"));
+
+        sut.withSchema(schema);
+
+        assertThat(countProblems(nest(1000))).isEqualTo(0);
+        assertThat(countProblems(nest(1001))).isEqualTo(1);
+    }
+
+    @Test
+    public void createParserFactoryShouldThrowIfMaxDepthIsNotInteger() {
+        Map<String, Object> config = new HashMap<>(sut.getAsMap());
+        config.put(ValidationConfig.SCHEMA, JsonSchema.TRUE);
+        config.put(ValidationConfig.MAX_DEPTH, 10L);
+
+        Throwable thrown = catchThrowable(() -> service.createParserFactory(config));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int countProblems(String instance) {
+        List<Problem> problems = new ArrayList<>();
+        sut.withProblemHandler(problems::addAll);
+        JsonParserFactory factory = service.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader(instance));
+        while (parser.hasNext()) {
+            parser.next();
+        }
+        return problems.size();
+    }
+
+    private static String nest(int depth) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            builder.append('[');
+        }
+        for (int i = 0; i < depth; i++) {
+            builder.append(']');
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void withMaxDepthShouldThrowIfNotPositive() {
+        Throwable thrown = catchThrowable(() -> sut.withMaxDepth(0));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
     /**
      * A mock class of {@link ProblemHandlerFactory}.
      *
@@ -50,4 +50,9 @@ public class PalindromeFormatAttribute implements FormatAttribute {
         }
         return true;
     }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
 }
@@ -15,10 +15,12 @@
  */
 package org.leadpony.justify.api;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 
 import javax.json.JsonBuilderFactory;
+import javax.json.JsonNumber;
 import javax.json.JsonValue;
 import javax.json.spi.JsonProvider;
 import javax.json.stream.JsonParser;
@@ -63,6 +65,111 @@ public interface EvaluatorContext {
      */
     JsonBuilderFactory getJsonBuilderFactory();
 
+    /**
+     * Returns the string at the current event of the parser, which is either a
+     * property name or a string value.
+     *
+     * <p>
+     * The values returned by this method and the similar ones are decoded at
+     * most once for each event and shared by all evaluators receiving the event.
+     * The default implementation obtains the value from the parser every time.
+     * </p>
+     *
+     * @return the string at the current event.
+     * @see JsonParser#getString()
+     */
+    default String getStringValue() {
+        return getParser().getString();
+    }
+
+    /**
+     * Returns the length of the string at the current event of the parser,
+     * which is counted in Unicode code points.
+     *
+     * @return the length of the string at the current event.
+     * @see #getStringValue()
+     */
+    default int getStringLength() {
+        String value = getStringValue();
+        return value.codePointCount(0, value.length());
+    }
+
+    /**
+     * Returns the number at the current event of the parser as a
+     * {@link BigDecimal}.
+     *
+     * @return the number at the current event.
+     * @see JsonParser#getBigDecimal()
+     */
+    default BigDecimal getDecimalValue() {
+        return getParser().getBigDecimal();
+    }
+
+    /**
+     * Checks if the number at the current event of the parser is integral and
+     * fits in {@code long}. If this method returns {@code true}, the number can
+     * be obtained exactly by {@link #getLongValue()}.
+     *
+     * @return {@code true} if the number is integral and fits in {@code long},
+     *         {@code false} otherwise.
+     */
+    default boolean isLongValue() {
+        if (!getParser().isIntegralNumber()) {
+            return false;
+        }
+        // Any number approximated strictly between -2^63 and 2^63 fits in long.
+        double approximation = ((JsonNumber) getScalarValue()).doubleValue();
+        return approximation > -0x1p63 && approximation < 0x1p63;
+    }
+
+    /**
+     * Returns the number at the current event of the parser as a {@code long}.
+     * This method should be called only if {@link #isLongValue()} returns
+     * {@code true}.
+     *
+     * @return the number at the current event.
+     * @see JsonParser#getLong()
+     */
+    default long getLongValue() {
+        return getParser().getLong();
+    }
+
+    /**
+     * Returns the scalar value at the current event of the parser, which is a
+     * string, a number, or a literal. Unlike {@link JsonParser#getValue()},
+     * this method must not be called at the start of arrays or objects.
+     *
+     * @return the scalar value at the current event.
+     * @see JsonParser#getValue()
+     */
+    default JsonValue getScalarValue() {
+        return getParser().getValue();
+    }
+
+    /**
+     * Checks if the current validation stops at the first problem found.
+     * Evaluators may return {@link Evaluator.Result#FALSE} as soon as the result
+     * is known to be false, without waiting for the end of the instance.
+     *
+     * @return {@code true} if the validation is in fail-fast mode, {@code false}
+     *         otherwise.
+     */
+    default boolean isFailFast() {
+        return false;
+    }
+
+    /**
+     * Checks if the current validation needs only the validity of the instance.
+     * If this method returns {@code true}, the problems found by evaluators will
+     * be discarded, so evaluators need not build them in detail.
+     *
+     * @return {@code true} if only the validity is needed, {@code false}
+     *         otherwise.
+     */
+    default boolean isValidityOnly() {
+        return false;
+    }
+
     /**
      * Checks if the current validator accepts default values or not.
      *
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.api;
+
+/**
+ * A cache which holds the results of the format attributes checked against the
+ * values of the instances.
+ *
+ * <p>
+ * The cache keeps a separate region for each format attribute, and each region
+ * holds at most {@link #getMaximumSize()} values. The limit is the number of
+ * the values regardless of their lengths, so it does not bound the memory
+ * used by the cache. When a region is full, the value to be discarded is
+ * chosen by the {@link Eviction} policy of the cache. The region of a format
+ * attribute is dropped once the attribute is no longer used by any schema.
+ * Only the format attributes declaring themselves as cacheable by
+ * {@link org.leadpony.justify.spi.FormatAttribute#isCacheable()} use the
+ * cache.
+ * </p>
+ *
+ * <p>
+ * The cache can be attached to the schema readers with
+ * {@link JsonSchemaReaderFactoryBuilder#withFormatCache(FormatCache)}, and the
+ * schemas read by the readers share the cache. Instances of this type can be
+ * created by {@link JsonValidationService#createFormatCache(int, Eviction)},
+ * and this type is not intended to be implemented by applications.
+ * </p>
+ *
+ * <p>
+ * Each instance of this type is safe for use by multiple concurrent threads.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface FormatCache {
+
+    /**
+     * The policies choosing the value to be discarded when the cache is full.
+     *
+     * @author leadpony
+     */
+    enum Eviction {
+        /**
+         * Discards the value which was least recently used.
+         */
+        LEAST_RECENTLY_USED,
+        /**
+         * Discards the value which was added first.
+         */
+        FIRST_IN_FIRST_OUT
+    }
+
+    /**
+     * Returns the maximum number of the values held for each format attribute.
+     *
+     * @return the maximum number of the values.
+     */
+    int getMaximumSize();
+
+    /**
+     * Returns the eviction policy of this cache.
+     *
+     * @return the eviction policy, never be {@code null}.
+     */
+    Eviction getEviction();
+
+    /**
+     * Returns the number of the checks answered by this cache.
+     *
+     * @return the number of the hits for all format attributes.
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of the checks not answered by this cache.
+     *
+     * @return the number of the misses for all format attributes.
+     */
+    long getMissCount();
+
+    /**
+     * Returns the number of the checks answered by this cache for the specified
+     * format attribute. The checks of the regions already dropped are not
+     * counted.
+     *
+     * @param attribute the name of the format attribute.
+     * @return the number of the hits for the format attribute.
+     * @throws NullPointerException if the specified {@code attribute} is
+     *                              {@code null}.
+     */
+    long getHitCount(String attribute);
+
+    /**
+     * Returns the number of the checks not answered by this cache for the
+     * specified format attribute. The checks of the regions already dropped are
+     * not counted.
+     *
+     * @param attribute the name of the format attribute.
+     * @return the number of the misses for the format attribute.
+     * @throws NullPointerException if the specified {@code attribute} is
+     *                              {@code null}.
+     */
+    long getMissCount(String attribute);
+
+    /**
+     * Discards all values held by this cache. The hit and miss counts are
+     * retained.
+     */
+    void clear();
+}
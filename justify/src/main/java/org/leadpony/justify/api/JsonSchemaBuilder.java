@@ -853,6 +853,20 @@ public interface JsonSchemaBuilder {
      */
     JsonSchemaBuilder withContentMediaType(String value);
 
+    /**
+     * Adds a "contentSchema" keyword to the schema.
+     * <p>
+     * This keyword has no effect when "contentMediaType" is absent or is not
+     * "application/json".
+     * </p>
+     *
+     * @param subschema the value of the keyword.
+     * @return this builder.
+     * @throws NullPointerException if the specified {@code subschema} is
+     *                              {@code null}.
+     */
+    JsonSchemaBuilder withContentSchema(JsonSchema subschema);
+
     /**
      * Adds an entry of "definitions" keyword to the schema.
      *
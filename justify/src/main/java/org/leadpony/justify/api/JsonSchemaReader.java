@@ -93,6 +93,29 @@ public interface JsonSchemaReader extends Closeable {
      */
     String METASCHEMA = "org.leadpony.justify.api.JsonSchemaReader.METASCHEMA";
 
+    /**
+     * The property used to specify whether the regular expressions are matched in
+     * linear time or not.
+     */
+    String LINEAR_TIME_REGEX = "org.leadpony.justify.api.JsonSchemaReader.LINEAR_TIME_REGEX";
+
+    /**
+     * The property used to specify the cache for the results of the format
+     * attributes.
+     */
+    String FORMAT_CACHE = "org.leadpony.justify.api.JsonSchemaReader.FORMAT_CACHE";
+
+    /**
+     * The property used to specify the maximum size of the content examined by
+     * the content keywords.
+     */
+    String MAX_CONTENT_SIZE = "org.leadpony.justify.api.JsonSchemaReader.MAX_CONTENT_SIZE";
+
+    /**
+     * The property used to specify the cache for the compiled schemas.
+     */
+    String SCHEMA_CACHE = "org.leadpony.justify.api.JsonSchemaReader.SCHEMA_CACHE";
+
     /**
      * Returns a JSON schema that is represented in the input source. This method
      * needs to be called only once for a reader instance.
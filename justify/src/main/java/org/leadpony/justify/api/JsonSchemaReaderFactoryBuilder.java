@@ -143,4 +143,88 @@ public interface JsonSchemaReaderFactoryBuilder {
      *                              {@code null}.
      */
     JsonSchemaReaderFactoryBuilder withMetaschema(JsonSchema metaschema);
+
+    /**
+     * Specifies whether the regular expressions in the schema are matched in
+     * linear time or not.
+     *
+     * <p>
+     * If this option is enabled, the regular expressions given by
+     * {@code pattern} keyword are matched by the engine which simulates the
+     * finite automaton. The time to match is proportional to the length of the
+     * instance, and is never exhausted by the patterns vulnerable to
+     * catastrophic backtracking. The expressions which the engine does not
+     * support, such as the ones containing back references or lookarounds, are
+     * matched by {@link java.util.regex.Pattern} as before. This option is
+     * disabled by default.
+     * </p>
+     *
+     * @param enabled {@code true} to match the regular expressions in linear
+     *                time, {@code false} otherwise.
+     * @return this builder.
+     */
+    JsonSchemaReaderFactoryBuilder withLinearTimeRegex(boolean enabled);
+
+    /**
+     * Specifies the cache for the results of the format attributes.
+     *
+     * <p>
+     * The {@code format} keywords in the schemas read by the readers test the
+     * values with the cache, if the format attributes are cacheable. The same
+     * cache can be shared by multiple factories. No cache is used by default.
+     * The cache must be created by
+     * {@link JsonValidationService#createFormatCache(int, FormatCache.Eviction)}.
+     * </p>
+     *
+     * @param cache the cache to be used by the {@code format} keywords.
+     * @return this builder.
+     * @throws NullPointerException     if the specified {@code cache} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code cache} was not
+     *                                  created by the service.
+     * @see FormatCache
+     */
+    JsonSchemaReaderFactoryBuilder withFormatCache(FormatCache cache);
+
+    /**
+     * Specifies the maximum size of the content examined by
+     * {@code contentMediaType} keyword.
+     *
+     * <p>
+     * The size is always measured in bytes. It is the number of the bytes
+     * decoded from the content if the content is encoded as given by
+     * {@code contentEncoding} keyword, or the number of the bytes of the content
+     * encoded in UTF-8 otherwise. The encoded content is decoded only until the
+     * limit is exceeded, and the content exceeding the limit is reported as a
+     * problem. By default the size of the content is not limited.
+     * </p>
+     *
+     * @param size the maximum size of the content, must be positive.
+     * @return this builder.
+     * @throws IllegalArgumentException if the specified {@code size} is not
+     *                                  positive.
+     */
+    JsonSchemaReaderFactoryBuilder withMaxContentSize(long size);
+
+    /**
+     * Specifies the cache for the compiled schemas.
+     *
+     * <p>
+     * The readers created by the factory look up the schema in the cache by the
+     * digest of the input source before compiling it, and the external schemas
+     * referenced by {@code $ref} keyword by their identifiers before resolving
+     * them with the resolvers. The same cache can be shared by multiple
+     * factories. No cache is used by default. The cache must be created by
+     * {@link JsonValidationService#createSchemaCache(long, SchemaCache.Weigher, boolean)}.
+     * </p>
+     *
+     * @param cache the cache to be used by the schema readers.
+     * @return this builder.
+     * @throws NullPointerException     if the specified {@code cache} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code cache} was not
+     *                                  created by the service.
+     * @see SchemaCache
+     */
+    JsonSchemaReaderFactoryBuilder withSchemaCache(SchemaCache cache);
 }
@@ -27,6 +27,7 @@ import java.util.function.Consumer;
 import javax.json.JsonException;
 import javax.json.JsonReader;
 import javax.json.JsonReaderFactory;
+import javax.json.JsonValue;
 import javax.json.spi.JsonProvider;
 import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParserFactory;
@@ -193,6 +194,72 @@ public interface JsonValidationService extends JsonSchemaReaderFactory {
      */
     ValidationConfig createValidationConfig();
 
+    /**
+     * Creates a cache for the results of the format attributes, which discards
+     * the least recently used values when it is full. The cache can be attached
+     * to schema readers by
+     * {@link JsonSchemaReaderFactoryBuilder#withFormatCache(FormatCache)}.
+     *
+     * @param maximumSize the maximum number of the values held for each format
+     *                    attribute.
+     * @return newly created cache, never be {@code null}.
+     * @throws IllegalArgumentException if the specified {@code maximumSize} is
+     *                                  not positive.
+     */
+    default FormatCache createFormatCache(int maximumSize) {
+        return createFormatCache(maximumSize, FormatCache.Eviction.LEAST_RECENTLY_USED);
+    }
+
+    /**
+     * Creates a cache for the results of the format attributes. The cache can be
+     * attached to schema readers by
+     * {@link JsonSchemaReaderFactoryBuilder#withFormatCache(FormatCache)}.
+     *
+     * @param maximumSize the maximum number of the values held for each format
+     *                    attribute.
+     * @param eviction    the policy choosing the value to be discarded when the
+     *                    cache is full.
+     * @return newly created cache, never be {@code null}.
+     * @throws IllegalArgumentException if the specified {@code maximumSize} is
+     *                                  not positive.
+     * @throws NullPointerException     if the specified {@code eviction} is
+     *                                  {@code null}.
+     */
+    FormatCache createFormatCache(int maximumSize, FormatCache.Eviction eviction);
+
+    /**
+     * Creates a cache for the compiled schemas, which holds at most the
+     * specified number of the schemas by strong references. The cache can be
+     * attached to schema readers by
+     * {@link JsonSchemaReaderFactoryBuilder#withSchemaCache(SchemaCache)}.
+     *
+     * @param maximumSize the maximum number of the schemas held by the cache.
+     * @return newly created cache, never be {@code null}.
+     * @throws IllegalArgumentException if the specified {@code maximumSize} is
+     *                                  not positive.
+     */
+    default SchemaCache createSchemaCache(long maximumSize) {
+        return createSchemaCache(maximumSize, SchemaCache.Weigher.COUNT, false);
+    }
+
+    /**
+     * Creates a cache for the compiled schemas. The cache can be attached to
+     * schema readers by
+     * {@link JsonSchemaReaderFactoryBuilder#withSchemaCache(SchemaCache)}.
+     *
+     * @param maximumWeight  the maximum total weight of the schemas held by the
+     *                       cache.
+     * @param weigher        the way to weigh the schemas.
+     * @param softReferences {@code true} to hold the schemas by soft references,
+     *                       {@code false} to hold them by strong references.
+     * @return newly created cache, never be {@code null}.
+     * @throws IllegalArgumentException if the specified {@code maximumWeight} is
+     *                                  not positive.
+     * @throws NullPointerException     if the specified {@code weigher} is
+     *                                  {@code null}.
+     */
+    SchemaCache createSchemaCache(long maximumWeight, SchemaCache.Weigher weigher, boolean softReferences);
+
     /**
      * Creates a parser factory for creating {@code JsonParser} instances. Parsers
      * created by the factory can validate JSON documents while parsing.
@@ -301,6 +368,187 @@ public interface JsonValidationService extends JsonSchemaReaderFactory {
      */
     JsonParser createParser(Path path, JsonSchema schema, ProblemHandler handler);
 
+    /**
+     * Creates a JSON parser from a byte stream, which validates the JSON document
+     * while parsing. The parser is configured with the specified map of
+     * configuration properties such as {@link ValidationConfig#FAIL_FAST} and
+     * {@link ValidationConfig#DEFAULT_VALUES}.
+     *
+     * @param in      a byte stream from which JSON is to be read.
+     * @param schema  the JSON schema to apply when validating JSON document.
+     * @param handler the object which handles problems found during the validation,
+     *                cannot be {@code null}.
+     * @param config  the map of provider specific properties to configure the JSON
+     *                parser. The map may be empty or {@code null}.
+     * @return newly created instance of {@code JsonParser}, which is defined in the
+     *         JSON Processing API. It must be closed by the method caller after
+     *         use.
+     * @throws NullPointerException if any of specified parameters except
+     *                              {@code config} is {@code null}.
+     * @see ValidationConfig#getAsMap()
+     */
+    JsonParser createParser(InputStream in, JsonSchema schema, ProblemHandler handler, Map<String, ?> config);
+
+    /**
+     * Creates a JSON parser from a character stream, which validates the JSON
+     * document while parsing. The parser is configured with the specified map of
+     * configuration properties such as {@link ValidationConfig#FAIL_FAST} and
+     * {@link ValidationConfig#DEFAULT_VALUES}.
+     *
+     * @param reader  a character stream from which JSON is to be read.
+     * @param schema  the JSON schema to apply when validating JSON document.
+     * @param handler the object which handles problems found during the validation,
+     *                cannot be {@code null}.
+     * @param config  the map of provider specific properties to configure the JSON
+     *                parser. The map may be empty or {@code null}.
+     * @return newly created instance of {@code JsonParser}, which is defined in the
+     *         JSON Processing API. It must be closed by the method caller after
+     *         use.
+     * @throws NullPointerException if any of specified parameters except
+     *                              {@code config} is {@code null}.
+     * @see ValidationConfig#getAsMap()
+     */
+    JsonParser createParser(Reader reader, JsonSchema schema, ProblemHandler handler, Map<String, ?> config);
+
+    /**
+     * Checks if the JSON document provided by the specified parser is valid
+     * against the specified JSON schema.
+     *
+     * <p>
+     * This method is faster than validating with a parser created by
+     * {@code createParser()} methods, because no problems are built and the
+     * validation stops as soon as the document turns out to be invalid. The
+     * parser is read until the validity of the document is determined, so it may
+     * not reach the end of an invalid document. The parser is not closed by this
+     * method.
+     * </p>
+     *
+     * @param schema the JSON schema to apply when validating JSON document.
+     * @param parser the JSON parser which provides the JSON document.
+     * @return {@code true} if the document is valid, {@code false} otherwise.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     */
+    boolean isValid(JsonSchema schema, JsonParser parser);
+
+    /**
+     * Checks if the JSON document provided by the specified parser is valid
+     * against the specified JSON schema, with the specified map of configuration
+     * properties. Only {@link ValidationConfig#MAX_DEPTH} is used by this method.
+     *
+     * @param schema the JSON schema to apply when validating JSON document.
+     * @param parser the JSON parser which provides the JSON document.
+     * @param config the map of provider specific properties to configure the
+     *               validation. The map may be empty or {@code null}.
+     * @return {@code true} if the document is valid, {@code false} otherwise.
+     * @throws NullPointerException     if any of specified parameters except
+     *                                  {@code config} is {@code null}.
+     * @throws IllegalArgumentException if any of the properties is invalid.
+     * @see #isValid(JsonSchema, JsonParser)
+     */
+    boolean isValid(JsonSchema schema, JsonParser parser, Map<String, ?> config);
+
+    /**
+     * Checks if the specified JSON value is valid against the specified JSON
+     * schema. No problems are built while validating the value.
+     *
+     * @param schema the JSON schema to apply when validating JSON value.
+     * @param value  the JSON value to validate.
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     */
+    boolean isValid(JsonSchema schema, JsonValue value);
+
+    /**
+     * Checks if the specified JSON value is valid against the specified JSON
+     * schema, with the specified map of configuration properties. Only
+     * {@link ValidationConfig#MAX_DEPTH} is used by this method.
+     *
+     * @param schema the JSON schema to apply when validating JSON value.
+     * @param value  the JSON value to validate.
+     * @param config the map of provider specific properties to configure the
+     *               validation. The map may be empty or {@code null}.
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     * @throws NullPointerException     if any of specified parameters except
+     *                                  {@code config} is {@code null}.
+     * @throws IllegalArgumentException if any of the properties is invalid.
+     */
+    boolean isValid(JsonSchema schema, JsonValue value, Map<String, ?> config);
+
+    /**
+     * Creates a reusable validator for the specified JSON schema. The returned
+     * validator is not attached to any JSON parser until
+     * {@link SchemaValidator#reset(JsonParser)} is called.
+     *
+     * @param schema  the JSON schema to apply when validating JSON documents.
+     * @param handler the object which handles problems found during the validation,
+     *                cannot be {@code null}.
+     * @return newly created instance of {@link SchemaValidator}.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     */
+    SchemaValidator createSchemaValidator(JsonSchema schema, ProblemHandler handler);
+
+    /**
+     * Creates a reusable validator for the specified JSON schema, configured with
+     * the specified map of configuration properties such as
+     * {@link ValidationConfig#FAIL_FAST}, {@link ValidationConfig#MAX_DEPTH} and
+     * {@link ValidationConfig#VALIDITY_ONLY}.
+     *
+     * @param schema  the JSON schema to apply when validating JSON documents.
+     * @param handler the object which handles problems found during the validation,
+     *                cannot be {@code null}.
+     * @param config  the map of provider specific properties to configure the
+     *                validator. The map may be empty or {@code null}.
+     * @return newly created instance of {@link SchemaValidator}.
+     * @throws NullPointerException     if any of specified parameters except
+     *                                  {@code config} is {@code null}.
+     * @throws IllegalArgumentException if any of the properties is invalid.
+     * @see ValidationConfig#getAsMap()
+     */
+    SchemaValidator createSchemaValidator(JsonSchema schema, ProblemHandler handler, Map<String, ?> config);
+
+    /**
+     * Creates a thread-safe pool of reusable validators for the specified JSON
+     * schema.
+     *
+     * @param schema         the JSON schema to apply when validating JSON documents.
+     * @param capacity       the maximum number of idle validators kept in the pool.
+     * @param handlerFactory the factory to supply problem handlers, cannot be
+     *                       {@code null}. The factory is called once for each
+     *                       validator created by the pool.
+     * @return newly created instance of {@link SchemaValidatorPool}.
+     * @throws NullPointerException     if any of specified parameters is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code capacity} is not
+     *                                  positive.
+     */
+    SchemaValidatorPool createSchemaValidatorPool(JsonSchema schema, int capacity,
+            ProblemHandlerFactory handlerFactory);
+
+    /**
+     * Creates a thread-safe pool of reusable validators for the specified JSON
+     * schema. All the validators created by the pool are configured with the
+     * specified map of configuration properties such as
+     * {@link ValidationConfig#FAIL_FAST}, {@link ValidationConfig#MAX_DEPTH} and
+     * {@link ValidationConfig#VALIDITY_ONLY}.
+     *
+     * @param schema         the JSON schema to apply when validating JSON documents.
+     * @param capacity       the maximum number of idle validators kept in the pool.
+     * @param handlerFactory the factory to supply problem handlers, cannot be
+     *                       {@code null}. The factory is called once for each
+     *                       validator created by the pool.
+     * @param config         the map of provider specific properties to configure
+     *                       the validators. The map may be empty or {@code null}.
+     * @return newly created instance of {@link SchemaValidatorPool}.
+     * @throws NullPointerException     if any of specified parameters except
+     *                                  {@code config} is {@code null}.
+     * @throws IllegalArgumentException if the specified {@code capacity} is not
+     *                                  positive, or if any of the properties is
+     *                                  invalid.
+     * @see ValidationConfig#getAsMap()
+     */
+    SchemaValidatorPool createSchemaValidatorPool(JsonSchema schema, int capacity,
+            ProblemHandlerFactory handlerFactory, Map<String, ?> config);
+
     /**
      * Creates a reader factory for creating {@code JsonReader} instances. Readers
      * created by the factory can validate JSON documents while reading.
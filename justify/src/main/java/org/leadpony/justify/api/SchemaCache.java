@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.api;
+
+/**
+ * A cache which holds the JSON schemas compiled by the schema readers.
+ *
+ * <p>
+ * The schemas read from the input sources are held by the digest of their
+ * contents, and also by their identifiers given by {@code $id} keyword. The
+ * external schemas referenced by {@code $ref} keyword are looked up in the
+ * cache by their identifiers before the {@link JsonSchemaResolver}s are asked
+ * for them, and the schemas found by the resolvers are held by the cache.
+ * The schemas are held separately for each configuration of the schema
+ * readers, so the readers configured differently never share the schemas.
+ * The readers share the schemas only when they have the same resolvers, the
+ * same metaschema and the same format cache, all of which are compared by
+ * identity.
+ * </p>
+ *
+ * <p>
+ * The cache holds the schemas up to {@link #getMaximumWeight()}, where each
+ * schema is weighed by the {@link Weigher} of the cache, and discards the
+ * least recently used schemas when it is full. The schemas may also be held by
+ * soft references, which are cleared by the garbage collector in response to
+ * memory demand.
+ * </p>
+ *
+ * <p>
+ * The cache can be attached to the schema readers with
+ * {@link JsonSchemaReaderFactoryBuilder#withSchemaCache(SchemaCache)}.
+ * Instances of this type can be created by
+ * {@link JsonValidationService#createSchemaCache(long, Weigher, boolean)},
+ * and this type is not intended to be implemented by applications.
+ * </p>
+ *
+ * <p>
+ * Each instance of this type is safe for use by multiple concurrent threads.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface SchemaCache {
+
+    /**
+     * The ways to weigh the schemas held by the cache.
+     *
+     * @author leadpony
+     */
+    enum Weigher {
+        /**
+         * Weighs every schema as one, that is, limits the number of the schemas.
+         */
+        COUNT,
+        /**
+         * Weighs a schema as the length of its source, which is the number of
+         * the bytes or the characters read from the input source. The schemas
+         * found by the resolvers are weighed as one, since their sources are
+         * unknown.
+         */
+        SOURCE_LENGTH
+    }
+
+    /**
+     * Returns the maximum total weight of the schemas held by this cache.
+     *
+     * @return the maximum total weight.
+     */
+    long getMaximumWeight();
+
+    /**
+     * Returns the way to weigh the schemas.
+     *
+     * @return the way to weigh the schemas, never be {@code null}.
+     */
+    Weigher getWeigher();
+
+    /**
+     * Checks if this cache holds the schemas by soft references.
+     *
+     * @return {@code true} if the schemas are held by soft references,
+     *         {@code false} otherwise.
+     */
+    boolean usesSoftReferences();
+
+    /**
+     * Returns the number of the schemas currently held by this cache.
+     *
+     * @return the number of the schemas.
+     */
+    int size();
+
+    /**
+     * Returns the total weight of the schemas currently held by this cache.
+     *
+     * @return the total weight of the schemas.
+     */
+    long getWeight();
+
+    /**
+     * Returns the number of the lookups answered by this cache.
+     *
+     * @return the number of the hits.
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of the lookups not answered by this cache.
+     *
+     * @return the number of the misses.
+     */
+    long getMissCount();
+
+    /**
+     * Returns the number of the schemas loaded successfully on the misses.
+     *
+     * @return the number of the loads.
+     */
+    long getLoadCount();
+
+    /**
+     * Returns the total time spent for loading the schemas successfully.
+     *
+     * @return the total time in nanoseconds.
+     */
+    long getTotalLoadTime();
+
+    /**
+     * Returns the number of the schemas discarded because this cache was full.
+     *
+     * @return the number of the evictions.
+     */
+    long getEvictionCount();
+
+    /**
+     * Discards all schemas held by this cache. The statistics are retained.
+     */
+    void clear();
+}
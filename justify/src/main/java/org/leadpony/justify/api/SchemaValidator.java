@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.api;
+
+import javax.json.stream.JsonParser;
+
+/**
+ * A JSON parser which validates JSON documents against a fixed JSON schema and
+ * which can be reused for any number of documents.
+ *
+ * <p>
+ * The validator does not read anything until it is attached to an underlying
+ * parser with {@link #reset(JsonParser)}. Resetting the validator discards the
+ * state of the previous document, keeping the internal buffers for the next
+ * one. The following example shows how to validate many documents with a
+ * single validator:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * SchemaValidator validator = service.createSchemaValidator(schema, handler);
+ * for (String document : documents) {
+ *     validator.reset(parserFactory.createParser(new StringReader(document)));
+ *     while (validator.hasNext()) {
+ *         validator.next();
+ *     }
+ *     validator.close();
+ * }
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * Each instance of this type is NOT safe for use by multiple concurrent
+ * threads. Use {@link SchemaValidatorPool} to share validators between
+ * threads.
+ * </p>
+ *
+ * @author leadpony
+ * @see JsonValidationService#createSchemaValidator(JsonSchema, ProblemHandler)
+ */
+public interface SchemaValidator extends JsonParser {
+
+    /**
+     * Returns the JSON schema against which documents are validated.
+     *
+     * @return the JSON schema, never be {@code null}.
+     */
+    JsonSchema getSchema();
+
+    /**
+     * Attaches this validator to the specified parser and resets the state of
+     * the validation. The previously attached parser will not be closed by this
+     * method.
+     *
+     * @param parser the underlying JSON parser which provides the next JSON
+     *               document, cannot be {@code null}.
+     * @return this validator.
+     * @throws NullPointerException if the specified {@code parser} is
+     *                              {@code null}.
+     */
+    SchemaValidator reset(JsonParser parser);
+
+    /**
+     * Reads the JSON document from the current position until its validity is
+     * determined. The rest of the document may be left unread when the
+     * document turns out to be invalid. This method is useful for the
+     * validators configured by {@link ValidationConfig#withValidityOnly(boolean)}.
+     *
+     * @return {@code true} if the document is valid, {@code false} otherwise.
+     */
+    boolean readValidity();
+}
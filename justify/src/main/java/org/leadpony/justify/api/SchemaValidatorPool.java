@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.api;
+
+import javax.json.stream.JsonParser;
+
+/**
+ * A bounded pool of {@link SchemaValidator} instances sharing the same JSON
+ * schema.
+ *
+ * <p>
+ * The pool is intended for request-scoped validation, where each request
+ * acquires a validator, parses the request body and then releases the validator
+ * back to the pool.
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * SchemaValidator validator = pool.acquire(parser);
+ * try {
+ *     while (validator.hasNext()) {
+ *         validator.next();
+ *     }
+ * } finally {
+ *     validator.close();
+ *     pool.release(validator);
+ * }
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * The validators can be configured when the pool is created, for example to
+ * stop at the first problem or to check only the validity of the documents:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * ValidationConfig config = service.createValidationConfig()
+ *         .withFailFast(true)
+ *         .withValidityOnly(true);
+ * SchemaValidatorPool pool = service.createSchemaValidatorPool(
+ *         schema, capacity, handlerFactory, config.getAsMap());
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * Any instance of this type is safe for use by multiple concurrent threads.
+ * </p>
+ *
+ * @author leadpony
+ * @see JsonValidationService#createSchemaValidatorPool(JsonSchema, int,
+ *      ProblemHandlerFactory, java.util.Map)
+ */
+public interface SchemaValidatorPool {
+
+    /**
+     * Acquires a validator from this pool and attaches it to the specified
+     * parser. A new validator will be created if this pool is empty.
+     *
+     * @param parser the underlying JSON parser which provides the JSON document,
+     *               cannot be {@code null}.
+     * @return the validator attached to the specified parser, never be
+     *         {@code null}.
+     * @throws NullPointerException if the specified {@code parser} is
+     *                              {@code null}.
+     */
+    SchemaValidator acquire(JsonParser parser);
+
+    /**
+     * Returns the validator to this pool. The validator will be discarded if this
+     * pool is already full. The validator must not be used by the caller after
+     * this method.
+     *
+     * @param validator the validator acquired from this pool, cannot be
+     *                  {@code null}.
+     * @throws NullPointerException     if the specified {@code validator} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code validator} was not
+     *                                  acquired from this pool.
+     */
+    void release(SchemaValidator validator);
+}
@@ -40,6 +40,18 @@ public interface ValidationConfig {
      */
     String DEFAULT_VALUES = "org.leadpony.justify.api.ValidationConfig.DEFAULT_VALUES";
 
+    /**
+     * The property used to specify whether the validation stops at the first
+     * problem found or not.
+     */
+    String FAIL_FAST = "org.leadpony.justify.api.ValidationConfig.FAIL_FAST";
+
+    /**
+     * The property used to specify the maximum depth of nesting of JSON instances
+     * to be validated.
+     */
+    String MAX_DEPTH = "org.leadpony.justify.api.ValidationConfig.MAX_DEPTH";
+
     /**
      * The property used to specify the factory of problem handlers.
      */
@@ -50,6 +62,12 @@ public interface ValidationConfig {
      */
     String SCHEMA = "org.leadpony.justify.api.ValidationConfig.SCHEMA";
 
+    /**
+     * The property used to specify whether the validation checks only the
+     * validity of JSON instances or not.
+     */
+    String VALIDITY_ONLY = "org.leadpony.justify.api.ValidationConfig.VALIDITY_ONLY";
+
     /**
      * Returns all configuration properties as an unmodifiable map.
      *
@@ -129,4 +147,46 @@ public interface ValidationConfig {
      * @return this builder.
      */
     ValidationConfig withDefaultValues(boolean usingDefaultValues);
+
+    /**
+     * Specifies whether the validation stops at the first problem found or not.
+     * In fail-fast mode, the rest of the JSON instance is still parsed but no
+     * longer validated once the instance is known to be invalid, and only the
+     * problems found until then are reported. By default, the whole instance is
+     * validated and all problems are reported.
+     *
+     * @param failFast {@code true} to stop validating at the first problem.
+     *                 {@code false} to report all problems.
+     * @return this builder.
+     */
+    ValidationConfig withFailFast(boolean failFast);
+
+    /**
+     * Specifies the maximum depth of nesting of arrays and objects in JSON
+     * instances. When the validation reaches an array or an object nested more
+     * deeply than this limit, a problem is reported and the rest of the instance
+     * is still parsed but no longer validated. This protects the validation from
+     * exhausting the call stack with pathologically nested instances. By default,
+     * the limit is 1000.
+     *
+     * @param maxDepth the maximum number of arrays and objects enclosing one
+     *                 another, including the outermost one.
+     * @return this builder.
+     * @throws IllegalArgumentException if the specified {@code maxDepth} is less
+     *                                  than 1.
+     */
+    ValidationConfig withMaxDepth(int maxDepth);
+
+    /**
+     * Specifies whether the validation checks only the validity of JSON instances
+     * or not. In validity-only mode, no problems are built nor passed to the
+     * problem handlers, and the validity of the instance is obtained by
+     * {@link SchemaValidator#readValidity()}. This mode is usually combined with
+     * fail-fast mode. By default, the problems found are reported.
+     *
+     * @param validityOnly {@code true} to check only the validity,
+     *                     {@code false} to report the problems found.
+     * @return this builder.
+     */
+    ValidationConfig withValidityOnly(boolean validityOnly);
 }
@@ -116,9 +116,13 @@ public enum Message implements BaseMessage {
     INSTANCE_PROBLEM_NOT_CONTENTENCODING,
     INSTANCE_PROBLEM_CONTENTMEDIATYPE,
     INSTANCE_PROBLEM_NOT_CONTENTMEDIATYPE,
+    INSTANCE_PROBLEM_CONTENTSCHEMA,
+    INSTANCE_PROBLEM_NOT_CONTENTSCHEMA,
+    INSTANCE_PROBLEM_MAXCONTENTSIZE,
 
     INSTANCE_PROBLEM_NOT_FOUND,
     INSTANCE_PROBLEM_UNKNOWN,
+    INSTANCE_PROBLEM_MAXDEPTH,
 
     /* Problem messages for schema validation */
 
@@ -33,7 +33,7 @@ import javax.json.stream.JsonParser;
 abstract class AbstractStreamJsonParser extends AbstractJsonParser {
 
     private final JsonProvider jsonProvider;
-    private final JsonBuilderFactory builderFactory;
+    private JsonBuilderFactory builderFactory;
 
     /**
      * Constructs this parser.
@@ -42,7 +42,6 @@ abstract class AbstractStreamJsonParser extends AbstractJsonParser {
      */
     protected AbstractStreamJsonParser(JsonProvider jsonProvider) {
         this.jsonProvider = jsonProvider;
-        this.builderFactory = jsonProvider.createBuilderFactory(null);
     }
 
     /* As a JsonParser */
@@ -120,6 +119,10 @@ abstract class AbstractStreamJsonParser extends AbstractJsonParser {
     }
 
     public final JsonBuilderFactory getJsonBuilderFactory() {
+        // Most of the documents are parsed without building values.
+        if (builderFactory == null) {
+            builderFactory = jsonProvider.createBuilderFactory(null);
+        }
         return builderFactory;
     }
 
@@ -25,9 +25,9 @@ import javax.json.stream.JsonParser;
  */
 public class DefaultPointerAwareJsonParser extends JsonParserDecorator implements PointerAwareJsonParser {
 
-    private static final PointerBuilder INITIAL_BUILDER = new InitialPointerBuilder();
     private static final PointerBuilder ROOT_BUILDER = new RootPointerBuilder();
 
+    private final PointerBuilder initialBuilder = new InitialPointerBuilder();
     private PointerBuilder pointerBuilder;
     private String cachedPointer;
 
@@ -39,7 +39,7 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
      */
     public DefaultPointerAwareJsonParser(JsonParser parser, JsonProvider jsonProvider) {
         super(parser, jsonProvider);
-        this.pointerBuilder = INITIAL_BUILDER;
+        this.pointerBuilder = initialBuilder;
         setCurrentParser(parser);
     }
 
@@ -68,6 +68,19 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
         return pointerBuilder.isScoped();
     }
 
+    /**
+     * Attaches this parser to another underlying parser and moves back to the
+     * starting point. The pointer builders allocated so far will be reused.
+     *
+     * @param parser the new underlying JSON parser.
+     */
+    protected void attach(JsonParser parser) {
+        setCurrentParser(parser);
+        setCurrentEvent(null);
+        this.pointerBuilder = initialBuilder;
+        this.cachedPointer = null;
+    }
+
     /**
      * A builder of a JSON pointer.
      *
@@ -81,13 +94,75 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
 
         PointerBuilder withEvent(Event event, JsonParser parser);
 
+        /**
+         * Returns the builder of the parent container.
+         *
+         * @return the builder of the parent, or {@code null} if this is the root.
+         */
+        default PointerBuilder getParent() {
+            return null;
+        }
+
+        /**
+         * Builds the JSON pointer. The chain of the builders is traversed without
+         * recursion so that deeply nested documents do not exhaust the stack.
+         *
+         * @return the JSON pointer built.
+         */
         default String toPointer() {
+            int length = 0;
+            for (PointerBuilder current = this; current != null; current = current.getParent()) {
+                length++;
+            }
+            PointerBuilder[] chain = new PointerBuilder[length];
+            PointerBuilder current = this;
+            for (int i = length - 1; i >= 0; i--) {
+                chain[i] = current;
+                current = current.getParent();
+            }
             StringBuilder builder = new StringBuilder();
-            build(builder);
+            for (PointerBuilder item : chain) {
+                item.appendToken(builder);
+            }
             return builder.toString();
         }
 
-        default void build(StringBuilder builder) {
+        /**
+         * Appends the reference token of this builder.
+         *
+         * @param builder the builder of the JSON pointer.
+         */
+        default void appendToken(StringBuilder builder) {
+        }
+    }
+
+    /**
+     * A pointer builder which can start child containers. The builders for the
+     * child containers are allocated only once and reused afterwards.
+     *
+     * @author leadpony
+     */
+    private abstract static class ParentPointerBuilder implements PointerBuilder {
+
+        private ArrayPointerBuilder arrayBuilder;
+        private ObjectPointerBuilder objectBuilder;
+
+        protected final PointerBuilder startArray(PointerBuilder parent) {
+            if (arrayBuilder == null) {
+                arrayBuilder = new ArrayPointerBuilder(parent);
+            } else {
+                arrayBuilder.clear();
+            }
+            return arrayBuilder;
+        }
+
+        protected final PointerBuilder startObject(PointerBuilder parent) {
+            if (objectBuilder == null) {
+                objectBuilder = new ObjectPointerBuilder(parent);
+            } else {
+                objectBuilder.clear();
+            }
+            return objectBuilder;
         }
     }
 
@@ -96,15 +171,15 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
      *
      * @author leadpony
      */
-    private static class InitialPointerBuilder implements PointerBuilder {
+    private static class InitialPointerBuilder extends ParentPointerBuilder {
 
         @Override
         public PointerBuilder withEvent(Event event, JsonParser parser) {
             switch (event) {
             case START_ARRAY:
-                return new ArrayPointerBuilder(ROOT_BUILDER);
+                return startArray(ROOT_BUILDER);
             case START_OBJECT:
-                return new ObjectPointerBuilder(ROOT_BUILDER);
+                return startObject(ROOT_BUILDER);
             case END_ARRAY:
             case END_OBJECT:
                 throw new IllegalStateException();
@@ -137,7 +212,7 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
      *
      * @author leadpony
      */
-    private static class ArrayPointerBuilder implements PointerBuilder {
+    private static class ArrayPointerBuilder extends ParentPointerBuilder {
 
         private final PointerBuilder parent;
         private int index = -1;
@@ -146,6 +221,10 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
             this.parent = parent;
         }
 
+        void clear() {
+            this.index = -1;
+        }
+
         @Override
         public boolean isScoped() {
             return true;
@@ -156,10 +235,10 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
             switch (event) {
             case START_ARRAY:
                 this.index++;
-                return new ArrayPointerBuilder(this);
+                return startArray(this);
             case START_OBJECT:
                 this.index++;
-                return new ObjectPointerBuilder(this);
+                return startObject(this);
             case END_ARRAY:
                 return this.parent;
             case END_OBJECT:
@@ -171,8 +250,12 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
         }
 
         @Override
-        public void build(StringBuilder builder) {
-            parent.build(builder);
+        public PointerBuilder getParent() {
+            return parent;
+        }
+
+        @Override
+        public void appendToken(StringBuilder builder) {
             if (index >= 0) {
                 builder.append("/").append(index);
             }
@@ -184,7 +267,7 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
      *
      * @author leadpony
      */
-    private static class ObjectPointerBuilder implements PointerBuilder {
+    private static class ObjectPointerBuilder extends ParentPointerBuilder {
 
         private final PointerBuilder parent;
         private String keyName;
@@ -194,6 +277,11 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
             this.parent = parent;
         }
 
+        void clear() {
+            this.keyName = null;
+            this.lastEvent = null;
+        }
+
         @Override
         public boolean isScoped() {
             return true;
@@ -204,9 +292,9 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
             this.lastEvent = event;
             switch (event) {
             case START_ARRAY:
-                return new ArrayPointerBuilder(this);
+                return startArray(this);
             case START_OBJECT:
-                return new ObjectPointerBuilder(this);
+                return startObject(this);
             case END_ARRAY:
                 throw new IllegalStateException();
             case END_OBJECT:
@@ -219,8 +307,12 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
         }
 
         @Override
-        public void build(StringBuilder builder) {
-            parent.build(builder);
+        public PointerBuilder getParent() {
+            return parent;
+        }
+
+        @Override
+        public void appendToken(StringBuilder builder) {
             if (keyName != null && lastEvent != Event.KEY_NAME) {
                 builder.append('/');
                 int lastIndex = 0;
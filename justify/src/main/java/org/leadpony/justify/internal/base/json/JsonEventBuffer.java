@@ -0,0 +1,214 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+/**
+ * A buffer of parser events which can be replayed later as a new
+ * {@link JsonParser}.
+ *
+ * <p>
+ * The buffer records only what evaluators read from the parser, that is, the
+ * event, the string of a property name or a scalar value, and the location of
+ * each event.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class JsonEventBuffer {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Event[] events = new Event[INITIAL_CAPACITY];
+    private String[] strings = new String[INITIAL_CAPACITY];
+    private boolean[] integral = new boolean[INITIAL_CAPACITY];
+    private long[] locations = new long[INITIAL_CAPACITY * 3];
+    private int size;
+
+    /**
+     * Appends the current event of the specified parser to this buffer.
+     *
+     * @param event  the current event of the parser.
+     * @param parser the parser which produced the event.
+     */
+    public void add(Event event, JsonParser parser) {
+        if (size == events.length) {
+            grow();
+        }
+        events[size] = event;
+        switch (event) {
+        case KEY_NAME:
+        case VALUE_STRING:
+            strings[size] = parser.getString();
+            break;
+        case VALUE_NUMBER:
+            strings[size] = parser.getString();
+            integral[size] = parser.isIntegralNumber();
+            break;
+        default:
+            break;
+        }
+        JsonLocation location = parser.getLocation();
+        int offset = size * 3;
+        locations[offset] = location.getLineNumber();
+        locations[offset + 1] = location.getColumnNumber();
+        locations[offset + 2] = location.getStreamOffset();
+        ++size;
+    }
+
+    /**
+     * Returns the number of events in this buffer.
+     *
+     * @return the number of events.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates a new parser which replays the events in this buffer from the
+     * beginning.
+     *
+     * @param jsonProvider the JSON provider.
+     * @return newly created parser.
+     */
+    public JsonParser createParser(JsonProvider jsonProvider) {
+        return new ReplayingParser(jsonProvider);
+    }
+
+    private void grow() {
+        int capacity = events.length * 2;
+        events = Arrays.copyOf(events, capacity);
+        strings = Arrays.copyOf(strings, capacity);
+        integral = Arrays.copyOf(integral, capacity);
+        locations = Arrays.copyOf(locations, capacity * 3);
+    }
+
+    /**
+     * A parser which replays the buffered events.
+     *
+     * @author leadpony
+     */
+    private class ReplayingParser extends AbstractStreamJsonParser {
+
+        private int index = -1;
+        private int depth;
+
+        ReplayingParser(JsonProvider jsonProvider) {
+            super(jsonProvider);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index + 1 < size;
+        }
+
+        @Override
+        public String getString() {
+            Event event = getCurrentEvent();
+            if (event == Event.KEY_NAME || event == Event.VALUE_STRING || event == Event.VALUE_NUMBER) {
+                return strings[index];
+            }
+            throw newIllegalStateException("getString");
+        }
+
+        @Override
+        public boolean isIntegralNumber() {
+            requireNumber("isIntegralNumber");
+            return integral[index];
+        }
+
+        @Override
+        public int getInt() {
+            requireNumber("getInt");
+            return toBigDecimal().intValue();
+        }
+
+        @Override
+        public long getLong() {
+            requireNumber("getLong");
+            return toBigDecimal().longValue();
+        }
+
+        @Override
+        public BigDecimal getBigDecimal() {
+            requireNumber("getBigDecimal");
+            return toBigDecimal();
+        }
+
+        @Override
+        public JsonLocation getLocation() {
+            if (index < 0) {
+                return SimpleJsonLocation.UNKNOWN;
+            }
+            int offset = index * 3;
+            return new SimpleJsonLocation(locations[offset], locations[offset + 1], locations[offset + 2]);
+        }
+
+        @Override
+        public void close() {
+            // Nothing to do
+        }
+
+        @Override
+        public JsonValue getJsonNumber() {
+            return getJsonProvider().createValue(toBigDecimal());
+        }
+
+        @Override
+        protected Event fetchNextEvent() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return events[++index];
+        }
+
+        @Override
+        protected void postprocess() {
+            Event event = getCurrentEvent();
+            if (ParserEvents.isStartOfContainer(event)) {
+                ++depth;
+            } else if (ParserEvents.isEndOfContainer(event)) {
+                --depth;
+            }
+        }
+
+        @Override
+        protected boolean isInCollection() {
+            return depth > 0;
+        }
+
+        private void requireNumber(String method) {
+            if (getCurrentEvent() != Event.VALUE_NUMBER) {
+                throw newIllegalStateException(method);
+            }
+        }
+
+        private BigDecimal toBigDecimal() {
+            return new BigDecimal(strings[index]);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+/**
+ * Event-driven digester of JSON instance, which computes a 128-bit structural
+ * hash of the instance without building it.
+ *
+ * <p>
+ * Two instances equal according to the JSON Schema specification have the same
+ * digest. The numbers are normalized so that the numbers having the same value,
+ * such as {@code 1} and {@code 1.0}, produce the same digest, and the order of
+ * the properties in objects does not affect the digest. This digester can be
+ * reused for multiple instances.
+ * </p>
+ *
+ * <p>
+ * Both halves of the digest are seeded with keys chosen randomly for each
+ * run, so that the instances colliding with each other cannot be prepared in
+ * advance. The digest is not cryptographic, however, and the instances having
+ * the same digest need to be compared with each other to confirm they are
+ * equal.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class JsonInstanceDigester {
+
+    private static final long FIRST_KEY;
+    private static final long SECOND_KEY;
+
+    static {
+        SecureRandom random = new SecureRandom();
+        FIRST_KEY = random.nextLong();
+        SECOND_KEY = random.nextLong();
+    }
+
+    private static final int INITIAL_DEPTH = 8;
+
+    private static final long NULL_SEED = 0x6a09e667f3bcc908L;
+    private static final long TRUE_SEED = 0xbb67ae8584caa73bL;
+    private static final long FALSE_SEED = 0x3c6ef372fe94f82bL;
+    private static final long STRING_SEED = 0xa54ff53a5f1d36f1L;
+    private static final long KEY_SEED = 0x510e527fade682d1L;
+    private static final long NUMBER_SEED = 0x9b05688c2b3e6c1fL;
+    private static final long ARRAY_SEED = 0x1f83d9abfb41bd6bL;
+    private static final long OBJECT_SEED = 0x5be0cd19137e2179L;
+
+    private static final long FIRST_MULTIPLIER = 0x9e3779b97f4a7c15L;
+    private static final long SECOND_MULTIPLIER = 0xc2b2ae3d27d4eb4fL;
+
+    // The stack of the containers being digested.
+    private boolean[] objects = new boolean[INITIAL_DEPTH];
+    private long[] firstHashes = new long[INITIAL_DEPTH];
+    private long[] secondHashes = new long[INITIAL_DEPTH];
+    private long[] firstKeyHashes = new long[INITIAL_DEPTH];
+    private long[] secondKeyHashes = new long[INITIAL_DEPTH];
+    private int[] counts = new int[INITIAL_DEPTH];
+    private int depth;
+
+    private final LongBinaryOperator mixer;
+
+    private long firstHash;
+    private long secondHash;
+
+    /**
+     * Constructs this digester.
+     */
+    public JsonInstanceDigester() {
+        this(JsonInstanceDigester::mix);
+    }
+
+    /**
+     * Constructs this digester with the specified function mixing a value with
+     * a seed.
+     *
+     * @param mixer the function mixing a value with a seed.
+     */
+    JsonInstanceDigester(LongBinaryOperator mixer) {
+        this.mixer = mixer;
+    }
+
+    /**
+     * Appends a new parser event.
+     *
+     * @param event  the event to append.
+     * @param parser the JSON parser.
+     * @return {@code true} if this digester should be continued, or {@code false}
+     *         if the digest of the instance is completed.
+     */
+    public boolean append(Event event, JsonParser parser) {
+        switch (event) {
+        case START_ARRAY:
+            push(false);
+            return true;
+        case START_OBJECT:
+            push(true);
+            return true;
+        case KEY_NAME:
+            digestString(parser.getString(), KEY_SEED);
+            firstKeyHashes[depth - 1] = firstHash;
+            secondKeyHashes[depth - 1] = secondHash;
+            return true;
+        case VALUE_STRING:
+            digestString(parser.getString(), STRING_SEED);
+            break;
+        case VALUE_NUMBER:
+            digestNumber(parser);
+            break;
+        case VALUE_TRUE:
+            digestConstant(TRUE_SEED);
+            break;
+        case VALUE_FALSE:
+            digestConstant(FALSE_SEED);
+            break;
+        case VALUE_NULL:
+            digestConstant(NULL_SEED);
+            break;
+        case END_ARRAY:
+        case END_OBJECT:
+            pop();
+            break;
+        default:
+            assert false;
+            return true;
+        }
+        return appendToContainer();
+    }
+
+    /**
+     * Returns the first half of the completed digest.
+     *
+     * @return the first 64 bits of the digest.
+     */
+    public long getFirstHash() {
+        return firstHash;
+    }
+
+    /**
+     * Returns the second half of the completed digest.
+     *
+     * @return the second 64 bits of the digest.
+     */
+    public long getSecondHash() {
+        return secondHash;
+    }
+
+    private void push(boolean object) {
+        if (depth == objects.length) {
+            int capacity = depth * 2;
+            objects = Arrays.copyOf(objects, capacity);
+            firstHashes = Arrays.copyOf(firstHashes, capacity);
+            secondHashes = Arrays.copyOf(secondHashes, capacity);
+            firstKeyHashes = Arrays.copyOf(firstKeyHashes, capacity);
+            secondKeyHashes = Arrays.copyOf(secondKeyHashes, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+        objects[depth] = object;
+        firstHashes[depth] = 0;
+        secondHashes[depth] = 0;
+        counts[depth] = 0;
+        ++depth;
+    }
+
+    private void pop() {
+        int top = --depth;
+        long count = counts[top];
+        if (objects[top]) {
+            firstHash = mixer.applyAsLong(firstHashes[top] + count * FIRST_MULTIPLIER, OBJECT_SEED);
+            secondHash = mixer.applyAsLong(secondHashes[top] + count * SECOND_MULTIPLIER, ~OBJECT_SEED);
+        } else {
+            firstHash = mixer.applyAsLong(firstHashes[top] ^ count, ARRAY_SEED);
+            secondHash = mixer.applyAsLong(secondHashes[top] ^ count, ~ARRAY_SEED);
+        }
+    }
+
+    /**
+     * Adds the completed value to the current container.
+     *
+     * @return {@code true} if the outermost instance is not completed yet.
+     */
+    private boolean appendToContainer() {
+        if (depth == 0) {
+            return false;
+        }
+        int top = depth - 1;
+        if (objects[top]) {
+            // The properties are summed up regardless of their order.
+            firstHashes[top] += mixer.applyAsLong(
+                    firstKeyHashes[top] ^ Long.rotateLeft(firstHash, 29), FIRST_MULTIPLIER);
+            secondHashes[top] += mixer.applyAsLong(
+                    secondKeyHashes[top] ^ Long.rotateLeft(secondHash, 31), SECOND_MULTIPLIER);
+        } else {
+            firstHashes[top] = (firstHashes[top] + firstHash) * FIRST_MULTIPLIER;
+            secondHashes[top] = (secondHashes[top] + secondHash) * SECOND_MULTIPLIER;
+        }
+        counts[top]++;
+        return true;
+    }
+
+    private void digestConstant(long seed) {
+        firstHash = seed;
+        secondHash = ~seed;
+    }
+
+    private void digestString(String string, long seed) {
+        long first = FIRST_KEY;
+        long second = SECOND_KEY + string.length();
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            first = (first ^ c) * 0x100000001b3L;
+            second = Long.rotateLeft(second ^ c, 23) * SECOND_MULTIPLIER;
+        }
+        firstHash = mixer.applyAsLong(first, seed);
+        secondHash = mixer.applyAsLong(second, ~seed);
+    }
+
+    private void digestNumber(JsonParser parser) {
+        BigDecimal value = parser.getBigDecimal();
+        if (value.signum() == 0) {
+            digestNumber(0, 0);
+            return;
+        }
+        if (parser.isIntegralNumber() && value.precision() < 19) {
+            long unscaled = value.longValue();
+            int scale = 0;
+            while (unscaled % 10 == 0) {
+                unscaled /= 10;
+                --scale;
+            }
+            digestNumber(unscaled, scale);
+            return;
+        }
+        value = value.stripTrailingZeros();
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < 64) {
+            digestNumber(unscaled.longValue(), value.scale());
+        } else {
+            long first = FIRST_KEY + value.scale();
+            long second = SECOND_KEY + value.scale();
+            for (byte b : unscaled.toByteArray()) {
+                first = (first ^ b) * 0x100000001b3L;
+                second = Long.rotateLeft(second ^ b, 23) * SECOND_MULTIPLIER;
+            }
+            firstHash = mixer.applyAsLong(first, NUMBER_SEED);
+            secondHash = mixer.applyAsLong(second, ~NUMBER_SEED);
+        }
+    }
+
+    private void digestNumber(long unscaled, int scale) {
+        firstHash = mixer.applyAsLong(unscaled * FIRST_MULTIPLIER + scale, NUMBER_SEED);
+        secondHash = mixer.applyAsLong(unscaled * SECOND_MULTIPLIER + scale, ~NUMBER_SEED);
+    }
+
+    /**
+     * Mixes the specified value with the seed, using the finalizer of MurmurHash3.
+     *
+     * @param value the value to mix.
+     * @param seed  the seed to mix with.
+     * @return the mixed value.
+     */
+    private static long mix(long value, long seed) {
+        long h = value ^ seed;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53a87c5L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+/**
+ * A set of JSON instances given as parser events, which finds the instance
+ * equal to the one added before.
+ *
+ * <p>
+ * The instances are not built when they are added. Each instance is reduced to
+ * the digest computed by {@link JsonInstanceDigester}, and its events are
+ * recorded in a compact form sharing the property names. Only when the digest
+ * of an instance matches the digest of another instance, both instances are
+ * built from their records and compared with each other, so that the instances
+ * which are different but happen to have the same digest are never regarded as
+ * equal.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class JsonItemSet {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Event[] EVENTS = Event.values();
+
+    private final JsonProvider jsonProvider;
+    private final JsonInstanceDigester digester;
+    private final Recorder recorder = new Recorder();
+
+    // Each digest occupies two consecutive elements.
+    private long[] digests = new long[INITIAL_CAPACITY * 2];
+    // The index of the instance plus one, or zero if the slot is empty.
+    private int[] slots = new int[INITIAL_CAPACITY];
+    // The records of the instances in the order added.
+    private Record[] records = new Record[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Constructs this set.
+     *
+     * @param jsonProvider the JSON provider used to build the instances.
+     */
+    public JsonItemSet(JsonProvider jsonProvider) {
+        this(jsonProvider, new JsonInstanceDigester());
+    }
+
+    /**
+     * Constructs this set with the specified digester.
+     *
+     * @param jsonProvider the JSON provider used to build the instances.
+     * @param digester     the digester of the instances.
+     */
+    JsonItemSet(JsonProvider jsonProvider, JsonInstanceDigester digester) {
+        this.jsonProvider = jsonProvider;
+        this.digester = digester;
+    }
+
+    /**
+     * Appends a new parser event of the instance to be added.
+     *
+     * @param event  the event to append.
+     * @param parser the JSON parser.
+     * @return {@code true} if the instance is continued, or {@code false} if the
+     *         instance is completed and can be added by {@link #add()}.
+     */
+    public boolean append(Event event, JsonParser parser) {
+        recorder.record(event, parser);
+        return digester.append(event, parser);
+    }
+
+    /**
+     * Adds the instance completed.
+     *
+     * @return the index of the instance added before which is equal to the
+     *         completed instance, or -1 if there is no such instance.
+     */
+    public int add() {
+        final long firstHash = digester.getFirstHash();
+        final long secondHash = digester.getSecondHash();
+        final Record record = recorder.complete();
+        if ((size + 1) * 4 > slots.length * 3) {
+            rehash();
+        }
+        final int mask = slots.length - 1;
+        int slot = (int) firstHash & mask;
+        JsonValue value = null;
+        while (slots[slot] != 0) {
+            if (digests[slot * 2] == firstHash && digests[slot * 2 + 1] == secondHash) {
+                int found = slots[slot] - 1;
+                if (value == null) {
+                    value = record.build(jsonProvider);
+                }
+                if (value.equals(records[found].build(jsonProvider))) {
+                    return found;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        digests[slot * 2] = firstHash;
+        digests[slot * 2 + 1] = secondHash;
+        if (size == records.length) {
+            records = Arrays.copyOf(records, size * 2);
+        }
+        records[size] = record;
+        slots[slot] = ++size;
+        return -1;
+    }
+
+    private void rehash() {
+        long[] oldDigests = this.digests;
+        int[] oldSlots = this.slots;
+        this.digests = new long[oldDigests.length * 2];
+        this.slots = new int[oldSlots.length * 2];
+        final int mask = slots.length - 1;
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] != 0) {
+                long firstHash = oldDigests[i * 2];
+                int slot = (int) firstHash & mask;
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                digests[slot * 2] = firstHash;
+                digests[slot * 2 + 1] = oldDigests[i * 2 + 1];
+                slots[slot] = oldSlots[i];
+            }
+        }
+    }
+
+    /**
+     * A recorder of the events of the instance being added.
+     *
+     * @author leadpony
+     */
+    private static final class Recorder {
+
+        // The property names shared by the records.
+        private final Map<String, String> names = new HashMap<>();
+        private byte[] events = new byte[INITIAL_CAPACITY];
+        private String[] strings = new String[INITIAL_CAPACITY];
+        private int eventCount;
+        private int stringCount;
+
+        void record(Event event, JsonParser parser) {
+            if (eventCount == events.length) {
+                events = Arrays.copyOf(events, eventCount * 2);
+            }
+            events[eventCount++] = (byte) event.ordinal();
+            switch (event) {
+            case KEY_NAME:
+                String name = parser.getString();
+                addString(names.computeIfAbsent(name, Function.identity()));
+                break;
+            case VALUE_STRING:
+            case VALUE_NUMBER:
+                addString(parser.getString());
+                break;
+            default:
+                break;
+            }
+        }
+
+        private void addString(String string) {
+            if (stringCount == strings.length) {
+                strings = Arrays.copyOf(strings, stringCount * 2);
+            }
+            strings[stringCount++] = string;
+        }
+
+        Record complete() {
+            Record record = new Record(
+                    Arrays.copyOf(events, eventCount),
+                    Arrays.copyOf(strings, stringCount));
+            Arrays.fill(strings, 0, stringCount, null);
+            eventCount = 0;
+            stringCount = 0;
+            return record;
+        }
+    }
+
+    /**
+     * A record of the events of an instance.
+     *
+     * @author leadpony
+     */
+    private static final class Record {
+
+        private final byte[] events;
+        private final String[] strings;
+
+        Record(byte[] events, String[] strings) {
+            this.events = events;
+            this.strings = strings;
+        }
+
+        /**
+         * Builds the instance from this record. The numbers are built so that
+         * they are compared by their values.
+         *
+         * @param jsonProvider the JSON provider.
+         * @return the built instance.
+         */
+        JsonValue build(JsonProvider jsonProvider) {
+            Object[] builders = new Object[4];
+            String[] names = new String[4];
+            int depth = 0;
+            int stringIndex = 0;
+            String name = null;
+            JsonValue value = null;
+            for (byte ordinal : events) {
+                Event event = EVENTS[ordinal];
+                switch (event) {
+                case START_ARRAY:
+                case START_OBJECT:
+                    if (depth == builders.length) {
+                        builders = Arrays.copyOf(builders, depth * 2);
+                        names = Arrays.copyOf(names, depth * 2);
+                    }
+                    builders[depth] = (event == Event.START_ARRAY)
+                            ? jsonProvider.createArrayBuilder()
+                            : jsonProvider.createObjectBuilder();
+                    names[depth++] = name;
+                    continue;
+                case KEY_NAME:
+                    name = strings[stringIndex++];
+                    continue;
+                case END_ARRAY:
+                    value = ((JsonArrayBuilder) builders[--depth]).build();
+                    name = names[depth];
+                    break;
+                case END_OBJECT:
+                    value = ((JsonObjectBuilder) builders[--depth]).build();
+                    name = names[depth];
+                    break;
+                case VALUE_STRING:
+                    value = jsonProvider.createValue(strings[stringIndex++]);
+                    break;
+                case VALUE_NUMBER:
+                    value = new BigDecimalJsonNumber(new BigDecimal(strings[stringIndex++]));
+                    break;
+                case VALUE_TRUE:
+                    value = JsonValue.TRUE;
+                    break;
+                case VALUE_FALSE:
+                    value = JsonValue.FALSE;
+                    break;
+                default:
+                    value = JsonValue.NULL;
+                    break;
+                }
+                if (depth > 0) {
+                    Object builder = builders[depth - 1];
+                    if (builder instanceof JsonArrayBuilder) {
+                        ((JsonArrayBuilder) builder).add(value);
+                    } else {
+                        ((JsonObjectBuilder) builder).add(name, value);
+                    }
+                }
+            }
+            return value;
+        }
+    }
+}
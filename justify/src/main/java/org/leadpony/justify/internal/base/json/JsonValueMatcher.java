@@ -0,0 +1,281 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.json;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.JsonValue.ValueType;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+/**
+ * Event-driven matcher which compares a JSON instance with an expected JSON
+ * value without building the instance.
+ *
+ * <p>
+ * The expected value is walked in step with the parser events, and the matcher
+ * completes as soon as the instance diverges from the expected value. The
+ * properties of objects may appear in any order, and the numbers are compared
+ * by their values.
+ * </p>
+ *
+ * <p>
+ * When a property appears more than once in an object, the last one wins as
+ * in building a {@link JsonObject}. The value of a property diverging from the
+ * expected value is therefore skipped and remembered as unmatched, and the
+ * object is judged only at its end.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class JsonValueMatcher {
+
+    private static final int INITIAL_DEPTH = 8;
+
+    private final JsonValue expected;
+
+    // The stack of the expected containers being matched.
+    private JsonValue[] containers = new JsonValue[INITIAL_DEPTH];
+    private JsonValue[] nextValues = new JsonValue[INITIAL_DEPTH];
+    private String[] nextKeys = new String[INITIAL_DEPTH];
+    private int[] counts = new int[INITIAL_DEPTH];
+    // Whether the last value of each property matched or not.
+    @SuppressWarnings("unchecked")
+    private Map<String, Boolean>[] keys = new Map[INITIAL_DEPTH];
+    private int depth;
+
+    // The number of the containers to be skipped in the instance.
+    private int skippedDepth;
+
+    private boolean matched;
+
+    /**
+     * Constructs this matcher.
+     *
+     * @param expected the expected value.
+     */
+    public JsonValueMatcher(JsonValue expected) {
+        this.expected = expected;
+    }
+
+    /**
+     * Appends a new parser event.
+     *
+     * @param event  the event to append.
+     * @param parser the JSON parser.
+     * @return {@code true} if this matcher should be continued, or {@code false}
+     *         if the match is completed either successfully or not.
+     */
+    public boolean append(Event event, JsonParser parser) {
+        if (skippedDepth > 0) {
+            skip(event);
+            return true;
+        }
+        switch (event) {
+        case KEY_NAME:
+            return matchKey(parser.getString());
+        case END_ARRAY:
+        case END_OBJECT:
+            return matchEnd();
+        default:
+            return matchValue(event, parser);
+        }
+    }
+
+    /**
+     * Checks if the instance matched the expected value. This method should be
+     * called after the match is completed.
+     *
+     * @return {@code true} if the instance matched the expected value.
+     */
+    public boolean matches() {
+        return matched;
+    }
+
+    private void skip(Event event) {
+        if (event == Event.START_ARRAY || event == Event.START_OBJECT) {
+            ++skippedDepth;
+        } else if (event == Event.END_ARRAY || event == Event.END_OBJECT) {
+            --skippedDepth;
+        }
+    }
+
+    private boolean matchKey(String key) {
+        int top = depth - 1;
+        JsonValue value = ((JsonObject) containers[top]).get(key);
+        if (value == null) {
+            // The unknown property never disappears from the object.
+            pop();
+            return diverge(true);
+        }
+        nextValues[top] = value;
+        nextKeys[top] = key;
+        return true;
+    }
+
+    private boolean matchEnd() {
+        int top = depth - 1;
+        JsonValue container = containers[top];
+        boolean completed;
+        if (container.getValueType() == ValueType.ARRAY) {
+            completed = counts[top] == ((JsonArray) container).size();
+        } else {
+            Map<String, Boolean> found = keys[top];
+            completed = found.size() == ((JsonObject) container).size()
+                    && !found.containsValue(Boolean.FALSE);
+        }
+        pop();
+        if (!completed) {
+            return diverge(false);
+        }
+        return completeValue();
+    }
+
+    private boolean matchValue(Event event, JsonParser parser) {
+        JsonValue value = nextExpectedValue();
+        switch (event) {
+        case START_ARRAY:
+            if (value == null || value.getValueType() != ValueType.ARRAY) {
+                return diverge(true);
+            }
+            push(value, null);
+            return true;
+        case START_OBJECT:
+            if (value == null || value.getValueType() != ValueType.OBJECT) {
+                return diverge(true);
+            }
+            push(value, new HashMap<>());
+            return true;
+        default:
+            if (value == null || !matchScalar(value, event, parser)) {
+                return diverge(false);
+            }
+            return completeValue();
+        }
+    }
+
+    private JsonValue nextExpectedValue() {
+        if (depth == 0) {
+            return expected;
+        }
+        int top = depth - 1;
+        JsonValue container = containers[top];
+        if (container.getValueType() == ValueType.ARRAY) {
+            JsonArray array = (JsonArray) container;
+            int index = counts[top];
+            if (index >= array.size()) {
+                return null;
+            }
+            counts[top]++;
+            return array.get(index);
+        } else {
+            return nextValues[top];
+        }
+    }
+
+    private static boolean matchScalar(JsonValue value, Event event, JsonParser parser) {
+        switch (event) {
+        case VALUE_STRING:
+            return value.getValueType() == ValueType.STRING
+                    && ((JsonString) value).getString().equals(parser.getString());
+        case VALUE_NUMBER:
+            return value.getValueType() == ValueType.NUMBER
+                    && ((JsonNumber) value).bigDecimalValue().compareTo(parser.getBigDecimal()) == 0;
+        case VALUE_TRUE:
+            return value.getValueType() == ValueType.TRUE;
+        case VALUE_FALSE:
+            return value.getValueType() == ValueType.FALSE;
+        case VALUE_NULL:
+            return value.getValueType() == ValueType.NULL;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Completes the value matched.
+     *
+     * @return {@code true} if the outermost instance is not completed yet.
+     */
+    private boolean completeValue() {
+        if (depth == 0) {
+            matched = true;
+            return false;
+        }
+        int top = depth - 1;
+        if (keys[top] != null) {
+            keys[top].put(nextKeys[top], Boolean.TRUE);
+        }
+        return true;
+    }
+
+    /**
+     * Handles the value diverging from the expected value. The value of the
+     * innermost property enclosing the current value is skipped, because the
+     * property may appear again in the same object.
+     *
+     * @param started {@code true} if the current event started a container.
+     * @return {@code true} if the outermost instance is not completed yet.
+     */
+    private boolean diverge(boolean started) {
+        int level = depth - 1;
+        while (level >= 0 && keys[level] == null) {
+            level--;
+        }
+        if (level < 0) {
+            return false;
+        }
+        int skipped = started ? 1 : 0;
+        while (depth > level + 1) {
+            pop();
+            ++skipped;
+        }
+        keys[level].put(nextKeys[level], Boolean.FALSE);
+        skippedDepth = skipped;
+        return true;
+    }
+
+    private void push(JsonValue container, Map<String, Boolean> keys) {
+        if (depth == containers.length) {
+            int capacity = depth * 2;
+            containers = Arrays.copyOf(containers, capacity);
+            nextValues = Arrays.copyOf(nextValues, capacity);
+            nextKeys = Arrays.copyOf(nextKeys, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            this.keys = Arrays.copyOf(this.keys, capacity);
+        }
+        containers[depth] = container;
+        nextValues[depth] = null;
+        nextKeys[depth] = null;
+        counts[depth] = 0;
+        this.keys[depth] = keys;
+        ++depth;
+    }
+
+    private void pop() {
+        --depth;
+        containers[depth] = null;
+        keys[depth] = null;
+    }
+}
@@ -29,6 +29,7 @@ import javax.json.JsonObject;
 import javax.json.JsonString;
 import javax.json.JsonValue;
 import javax.json.JsonValue.ValueType;
+import javax.json.spi.JsonProvider;
 import javax.json.stream.JsonLocation;
 
 /**
@@ -157,6 +158,8 @@ public final class JsonValueParser extends AbstractJsonParser {
                 || event == Event.END_OBJECT
                 || event == null) {
             throw newIllegalStateException("getValue");
+        } else if (event == Event.KEY_NAME) {
+            return new KeyName(scope.getKey());
         }
         return scope.getValue();
     }
@@ -194,6 +197,56 @@ public final class JsonValueParser extends AbstractJsonParser {
         return VALUE_EVENTS[value.getValueType().ordinal()];
     }
 
+    /**
+     * A key name returned as a JSON string.
+     *
+     * @author leadpony
+     */
+    private static final class KeyName implements JsonString {
+
+        private final String value;
+
+        KeyName(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return ValueType.STRING;
+        }
+
+        @Override
+        public String getString() {
+            return value;
+        }
+
+        @Override
+        public CharSequence getChars() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof JsonString)) {
+                return false;
+            }
+            return value.equals(((JsonString) obj).getString());
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return JsonProvider.provider().createValue(value).toString();
+        }
+    }
+
     /**
      * A scope in the JSON value.
      *
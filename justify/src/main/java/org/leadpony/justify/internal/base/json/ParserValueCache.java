@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+
+import javax.json.JsonNumber;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+/**
+ * Cache of the values decoded from the current event of a parser.
+ *
+ * <p>
+ * Each value is obtained from the parser at most once until the cache is
+ * cleared for the next event, so that all evaluators receiving the same event
+ * share the single decoded value. The values are derived from each other where
+ * possible, e.g. the string of a property name is taken from the
+ * {@link JsonString} already obtained.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class ParserValueCache {
+
+    // 2^63, which is exactly representable as double.
+    private static final double LONG_RANGE = 0x1p63;
+
+    private static final int STRING_LENGTH = 0x1;
+    private static final int LONG_VALUE = 0x2;
+
+    private JsonParser parser;
+    private int decoded;
+    private String string;
+    private int stringLength;
+    private BigDecimal decimal;
+    private boolean longValue;
+    private JsonValue value;
+
+    /**
+     * Clears all the cached values. This method should be called for each
+     * event.
+     *
+     * @param parser the parser positioned at the new event.
+     */
+    public void clear(JsonParser parser) {
+        this.parser = parser;
+        this.decoded = 0;
+        this.string = null;
+        this.decimal = null;
+        this.value = null;
+    }
+
+    /**
+     * Returns the string at the current event.
+     *
+     * @return the string at the current event.
+     */
+    public String getString() {
+        if (string == null) {
+            if (value instanceof JsonString) {
+                string = ((JsonString) value).getString();
+            } else {
+                string = parser.getString();
+            }
+        }
+        return string;
+    }
+
+    /**
+     * Returns the length of the string at the current event in code points.
+     *
+     * @return the length of the string.
+     */
+    public int getStringLength() {
+        if ((decoded & STRING_LENGTH) == 0) {
+            String s = getString();
+            stringLength = s.codePointCount(0, s.length());
+            decoded |= STRING_LENGTH;
+        }
+        return stringLength;
+    }
+
+    /**
+     * Returns the number at the current event as a {@link BigDecimal}.
+     *
+     * @return the number at the current event.
+     */
+    public BigDecimal getBigDecimal() {
+        if (decimal == null) {
+            if (value instanceof JsonNumber) {
+                decimal = ((JsonNumber) value).bigDecimalValue();
+            } else {
+                decimal = parser.getBigDecimal();
+            }
+        }
+        return decimal;
+    }
+
+    /**
+     * Checks if the number at the current event is integral and fits in
+     * {@code long}.
+     *
+     * <p>
+     * The JSON number is obtained from the parser only for integral numbers,
+     * because the providers can supply the numbers fitting in {@code long}
+     * without parsing them as {@link BigDecimal}. Any number whose
+     * approximation is strictly between -2^63 and 2^63 fits in {@code long}.
+     * </p>
+     *
+     * @return {@code true} if the number fits in {@code long}.
+     */
+    public boolean isLong() {
+        if ((decoded & LONG_VALUE) == 0) {
+            if (parser.isIntegralNumber()) {
+                double approximation = ((JsonNumber) getValue()).doubleValue();
+                longValue = approximation > -LONG_RANGE && approximation < LONG_RANGE;
+            } else {
+                longValue = false;
+            }
+            decoded |= LONG_VALUE;
+        }
+        return longValue;
+    }
+
+    /**
+     * Returns the number at the current event as a {@code long}.
+     *
+     * @return the number at the current event.
+     */
+    public long getLong() {
+        if (value instanceof JsonNumber) {
+            return ((JsonNumber) value).longValue();
+        }
+        return parser.getLong();
+    }
+
+    /**
+     * Returns the scalar value at the current event.
+     *
+     * @return the scalar value at the current event.
+     */
+    public JsonValue getValue() {
+        if (value == null) {
+            value = parser.getValue();
+        }
+        return value;
+    }
+}
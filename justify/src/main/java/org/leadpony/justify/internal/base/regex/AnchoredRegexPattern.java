@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.List;
+
+import org.leadpony.justify.internal.base.regex.RegexNode.Assertion;
+import org.leadpony.justify.internal.base.regex.RegexNode.CharNode;
+import org.leadpony.justify.internal.base.regex.RegexNode.RepeatNode;
+
+/**
+ * A regular expression pattern anchored at the beginning of the input, which
+ * consists of characters or character classes optionally repeated, such as
+ * {@code ^[A-Z]{3}$} or {@code ^\d+$}.
+ *
+ * <p>
+ * Only the last term can be repeated variable times, which allows the input to
+ * be scanned once without backtracking.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class AnchoredRegexPattern implements RegexPattern {
+
+    private final String regex;
+    private final CharSet[] sets;
+    private final int[] minCounts;
+    // The maximum count of the last term, or RepeatNode.UNBOUNDED.
+    private final int lastMaxCount;
+    private final boolean end;
+
+    /**
+     * Creates a pattern if the terms are of the supported form.
+     *
+     * @param regex the original regular expression.
+     * @param terms the top-level terms of the expression.
+     * @return the created pattern, or {@code null} if the terms are not
+     *         supported.
+     */
+    static RegexPattern of(String regex, List<RegexNode> terms) {
+        if (!LiteralRegexPattern.hasAssertion(terms, 0, Assertion.BEGIN)) {
+            return null;
+        }
+        int last = terms.size();
+        boolean end = LiteralRegexPattern.hasAssertion(terms, last - 1, Assertion.END_OF_INPUT);
+        if (end) {
+            last--;
+        }
+        int size = last - 1;
+        if (size <= 0) {
+            return null;
+        }
+        CharSet[] sets = new CharSet[size];
+        int[] minCounts = new int[size];
+        int lastMaxCount = 0;
+        for (int i = 0; i < size; i++) {
+            RegexNode term = terms.get(i + 1);
+            int max = 1;
+            if (term instanceof RepeatNode) {
+                RepeatNode repeat = (RepeatNode) term;
+                minCounts[i] = repeat.min;
+                max = repeat.max;
+                term = repeat.node;
+            } else {
+                minCounts[i] = 1;
+            }
+            if (!(term instanceof CharNode)) {
+                return null;
+            }
+            sets[i] = ((CharNode) term).set;
+            if (i < size - 1 && max != minCounts[i]) {
+                return null;
+            }
+            lastMaxCount = max;
+        }
+        return new AnchoredRegexPattern(regex, sets, minCounts, lastMaxCount, end);
+    }
+
+    private AnchoredRegexPattern(String regex, CharSet[] sets, int[] minCounts,
+            int lastMaxCount, boolean end) {
+        this.regex = regex;
+        this.sets = sets;
+        this.minCounts = minCounts;
+        this.lastMaxCount = lastMaxCount;
+        this.end = end;
+    }
+
+    @Override
+    public boolean find(String input) {
+        final int length = input.length();
+        final int last = sets.length - 1;
+        int index = 0;
+        for (int i = 0; i < last; i++) {
+            index = skip(input, index, sets[i], minCounts[i]);
+            if (index < 0) {
+                return false;
+            }
+        }
+        if (!end) {
+            return skip(input, index, sets[last], minCounts[last]) >= 0;
+        }
+        CharSet set = sets[last];
+        int count = 0;
+        while (index < length) {
+            int c = input.codePointAt(index);
+            if (!set.contains(c) || count == lastMaxCount) {
+                return false;
+            }
+            index += Character.charCount(c);
+            count++;
+        }
+        return count >= minCounts[last];
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+
+    /**
+     * Skips the characters in the specified set.
+     *
+     * @param input the input string.
+     * @param index the index of the first character to skip.
+     * @param set   the set of the characters.
+     * @param count the number of the characters to skip.
+     * @return the index after the characters skipped, or -1 if failed.
+     */
+    private static int skip(String input, int index, CharSet set, int count) {
+        final int length = input.length();
+        for (int i = 0; i < count; i++) {
+            if (index >= length) {
+                return -1;
+            }
+            int c = input.codePointAt(index);
+            if (!set.contains(c)) {
+                return -1;
+            }
+            index += Character.charCount(c);
+        }
+        return index;
+    }
+}
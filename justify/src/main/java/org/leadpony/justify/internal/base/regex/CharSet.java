@@ -0,0 +1,252 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of Unicode code points, which is matched by a single
+ * character in regular expressions.
+ *
+ * <p>
+ * The code points in the ASCII range are tested with bit masks, and the others
+ * are searched in the sorted ranges.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class CharSet {
+
+    static final int MAX_CODE_POINT = Character.MAX_CODE_POINT;
+
+    /**
+     * The set matched by ".", which excludes the line terminators.
+     */
+    static final CharSet DOT = new Builder()
+            .add(0, MAX_CODE_POINT)
+            .remove('\n').remove('\r')
+            .remove(0x85).remove(0x2028).remove(0x2029)
+            .build();
+
+    static final CharSet DIGIT = new Builder().add('0', '9').build();
+
+    static final CharSet WORD = new Builder()
+            .add('a', 'z').add('A', 'Z').add('0', '9').add('_')
+            .build();
+
+    static final CharSet SPACE = new Builder()
+            .add(' ').add('\t').add('\n').add(0x0B).add('\f').add('\r')
+            .build();
+
+    private final long lowBits;
+    private final long highBits;
+    // pairs of the first and the last code points, excluding ASCII.
+    private final int[] ranges;
+
+    private CharSet(long lowBits, long highBits, int[] ranges) {
+        this.lowBits = lowBits;
+        this.highBits = highBits;
+        this.ranges = ranges;
+    }
+
+    /**
+     * Checks if this set contains the specified code point.
+     *
+     * @param codePoint the code point to test.
+     * @return {@code true} if this set contains the code point.
+     */
+    boolean contains(int codePoint) {
+        if (codePoint < 64) {
+            return (lowBits & (1L << codePoint)) != 0;
+        } else if (codePoint < 128) {
+            return (highBits & (1L << (codePoint - 64))) != 0;
+        }
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (codePoint < ranges[mid * 2]) {
+                high = mid - 1;
+            } else if (codePoint > ranges[mid * 2 + 1]) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the single code point contained in this set.
+     *
+     * @return the code point, or -1 if this set has no or multiple code points.
+     */
+    int getSingleCodePoint() {
+        int found = -1;
+        long bits = lowBits;
+        if (bits != 0) {
+            if (Long.bitCount(bits) > 1) {
+                return -1;
+            }
+            found = Long.numberOfTrailingZeros(bits);
+        }
+        bits = highBits;
+        if (bits != 0) {
+            if (found >= 0 || Long.bitCount(bits) > 1) {
+                return -1;
+            }
+            found = 64 + Long.numberOfTrailingZeros(bits);
+        }
+        if (ranges.length > 0) {
+            if (found >= 0 || ranges.length > 2 || ranges[0] != ranges[1]) {
+                return -1;
+            }
+            found = ranges[0];
+        }
+        return found;
+    }
+
+    /**
+     * A builder of {@link CharSet}.
+     *
+     * @author leadpony
+     */
+    static final class Builder {
+
+        private long lowBits;
+        private long highBits;
+        private int[] ranges = new int[8];
+        private int size;
+
+        Builder add(int codePoint) {
+            return add(codePoint, codePoint);
+        }
+
+        Builder add(int first, int last) {
+            while (first <= last && first < 128) {
+                if (first < 64) {
+                    lowBits |= 1L << first;
+                } else {
+                    highBits |= 1L << (first - 64);
+                }
+                first++;
+            }
+            if (first <= last) {
+                if (size == ranges.length) {
+                    ranges = Arrays.copyOf(ranges, size * 2);
+                }
+                ranges[size++] = first;
+                ranges[size++] = last;
+            }
+            return this;
+        }
+
+        Builder addAll(CharSet set) {
+            lowBits |= set.lowBits;
+            highBits |= set.highBits;
+            for (int i = 0; i < set.ranges.length; i += 2) {
+                add(set.ranges[i], set.ranges[i + 1]);
+            }
+            return this;
+        }
+
+        Builder addComplement(CharSet set) {
+            return addAll(new Builder().addAll(set).complement().build());
+        }
+
+        Builder remove(int codePoint) {
+            int[] normalized = normalize();
+            if (codePoint < 64) {
+                lowBits &= ~(1L << codePoint);
+            } else if (codePoint < 128) {
+                highBits &= ~(1L << (codePoint - 64));
+            }
+            ranges = new int[normalized.length + 2];
+            size = 0;
+            for (int i = 0; i < normalized.length; i += 2) {
+                int first = normalized[i];
+                int last = normalized[i + 1];
+                if (first <= codePoint && codePoint <= last) {
+                    if (first < codePoint) {
+                        add(first, codePoint - 1);
+                    }
+                    if (codePoint < last) {
+                        add(codePoint + 1, last);
+                    }
+                } else {
+                    add(first, last);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Replaces the content of this builder with its complement.
+         *
+         * @return this builder.
+         */
+        Builder complement() {
+            int[] normalized = normalize();
+            lowBits = ~lowBits;
+            highBits = ~highBits;
+            ranges = new int[normalized.length + 2];
+            size = 0;
+            int next = 128;
+            for (int i = 0; i < normalized.length; i += 2) {
+                if (next < normalized[i]) {
+                    add(next, normalized[i] - 1);
+                }
+                next = normalized[i + 1] + 1;
+            }
+            if (next <= MAX_CODE_POINT) {
+                add(next, MAX_CODE_POINT);
+            }
+            return this;
+        }
+
+        CharSet build() {
+            return new CharSet(lowBits, highBits, normalize());
+        }
+
+        /**
+         * Sorts and merges the ranges.
+         *
+         * @return the normalized ranges.
+         */
+        private int[] normalize() {
+            int count = size / 2;
+            long[] packed = new long[count];
+            for (int i = 0; i < count; i++) {
+                packed[i] = ((long) ranges[i * 2] << 32) | ranges[i * 2 + 1];
+            }
+            Arrays.sort(packed);
+            int[] result = new int[size];
+            int length = 0;
+            for (long range : packed) {
+                int first = (int) (range >>> 32);
+                int last = (int) range;
+                if (length > 0 && first <= result[length - 1] + 1) {
+                    result[length - 1] = Math.max(result[length - 1], last);
+                } else {
+                    result[length++] = first;
+                    result[length++] = last;
+                }
+            }
+            return Arrays.copyOf(result, length);
+        }
+    }
+}
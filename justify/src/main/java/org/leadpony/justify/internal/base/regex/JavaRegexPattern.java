@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.regex.Pattern;
+
+/**
+ * A regular expression pattern backed by {@link Pattern}.
+ *
+ * @author leadpony
+ */
+final class JavaRegexPattern implements RegexPattern {
+
+    private final String regex;
+    private final Pattern pattern;
+
+    JavaRegexPattern(String regex, Pattern pattern) {
+        this.regex = regex;
+        this.pattern = pattern;
+    }
+
+    @Override
+    public boolean find(String input) {
+        return pattern.matcher(input).find();
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+}
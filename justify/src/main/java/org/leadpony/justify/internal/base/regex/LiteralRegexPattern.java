@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.List;
+
+import org.leadpony.justify.internal.base.regex.RegexNode.Assertion;
+import org.leadpony.justify.internal.base.regex.RegexNode.AssertionNode;
+import org.leadpony.justify.internal.base.regex.RegexNode.CharNode;
+
+/**
+ * A regular expression pattern consisting only of literal characters, which
+ * may be anchored at the beginning and/or the end of the input.
+ *
+ * @author leadpony
+ */
+final class LiteralRegexPattern implements RegexPattern {
+
+    private final String regex;
+    private final String literal;
+    private final boolean begin;
+    private final boolean end;
+
+    /**
+     * Creates a pattern if the terms are all literal characters.
+     *
+     * @param regex the original regular expression.
+     * @param terms the top-level terms of the expression.
+     * @return the created pattern, or {@code null} if the terms are not literal.
+     */
+    static RegexPattern of(String regex, List<RegexNode> terms) {
+        int first = 0;
+        int last = terms.size();
+        boolean begin = hasAssertion(terms, first, Assertion.BEGIN);
+        if (begin) {
+            first++;
+        }
+        boolean end = last > first && hasAssertion(terms, last - 1, Assertion.END_OF_INPUT);
+        if (end) {
+            last--;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (RegexNode term : terms.subList(first, last)) {
+            if (!(term instanceof CharNode)) {
+                return null;
+            }
+            int codePoint = ((CharNode) term).set.getSingleCodePoint();
+            if (codePoint < 0) {
+                return null;
+            }
+            builder.appendCodePoint(codePoint);
+        }
+        return new LiteralRegexPattern(regex, builder.toString(), begin, end);
+    }
+
+    private LiteralRegexPattern(String regex, String literal, boolean begin, boolean end) {
+        this.regex = regex;
+        this.literal = literal;
+        this.begin = begin;
+        this.end = end;
+    }
+
+    @Override
+    public boolean find(String input) {
+        if (begin) {
+            return end ? input.equals(literal) : input.startsWith(literal);
+        } else {
+            return end ? input.endsWith(literal) : input.contains(literal);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+
+    static boolean hasAssertion(List<RegexNode> terms, int index, Assertion assertion) {
+        if (index >= terms.size()) {
+            return false;
+        }
+        RegexNode term = terms.get(index);
+        return term instanceof AssertionNode && ((AssertionNode) term).assertion == assertion;
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.leadpony.justify.internal.base.regex.RegexNode.AlternationNode;
+import org.leadpony.justify.internal.base.regex.RegexNode.Assertion;
+import org.leadpony.justify.internal.base.regex.RegexNode.AssertionNode;
+import org.leadpony.justify.internal.base.regex.RegexNode.CharNode;
+import org.leadpony.justify.internal.base.regex.RegexNode.ConcatNode;
+import org.leadpony.justify.internal.base.regex.RegexNode.RepeatNode;
+
+/**
+ * A program of the nondeterministic finite automaton which matches one or more
+ * regular expressions at once.
+ *
+ * <p>
+ * Each expression is compiled into a sequence of instructions ending with its
+ * own match instruction. All the threads running the program advance together
+ * by each character of the input, so the input is scanned only once whatever
+ * the number of the expressions is. The time to run is proportional to the
+ * product of the length of the input and the size of the program, and never
+ * grows exponentially as backtracking engines do.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class NfaProgram {
+
+    /**
+     * The maximum number of instructions, which may be exceeded by large counted
+     * repetitions.
+     */
+    static final int MAX_PROGRAM_SIZE = 10000;
+
+    private static final byte CHAR = 0;
+    private static final byte SPLIT = 1;
+    private static final byte JUMP = 2;
+    private static final byte ASSERT = 3;
+    private static final byte MATCH = 4;
+
+    private final byte[] opcodes;
+    // The targets of jumps, or the indices of the expressions for matches.
+    private final int[] targets;
+    private final int[] alternateTargets;
+    private final CharSet[] sets;
+    private final Assertion[] assertions;
+    // The index of the expression owning each instruction.
+    private final int[] owners;
+    // The first instruction of each expression.
+    private final int[] starts;
+    // The expressions whose matches may start anywhere in the input.
+    private final int[] unanchored;
+
+    /**
+     * Compiles the syntax trees into a program.
+     *
+     * @param roots the root nodes of the syntax trees.
+     * @return the compiled program, or {@code null} if the program is too large.
+     */
+    static NfaProgram compile(List<RegexNode> roots) {
+        ProgramBuilder builder = new ProgramBuilder();
+        int[] starts = new int[roots.size()];
+        int[] unanchored = new int[roots.size()];
+        int unanchoredCount = 0;
+        for (int i = 0; i < starts.length; i++) {
+            RegexNode root = roots.get(i);
+            builder.owner = i;
+            starts[i] = builder.size;
+            if (!builder.emit(root)) {
+                return null;
+            }
+            int pc = builder.emit(MATCH);
+            builder.targets[pc] = i;
+            if (!isAnchored(root)) {
+                unanchored[unanchoredCount++] = i;
+            }
+        }
+        return new NfaProgram(builder, starts, Arrays.copyOf(unanchored, unanchoredCount));
+    }
+
+    private NfaProgram(ProgramBuilder builder, int[] starts, int[] unanchored) {
+        int size = builder.size;
+        this.opcodes = Arrays.copyOf(builder.opcodes, size);
+        this.targets = Arrays.copyOf(builder.targets, size);
+        this.alternateTargets = Arrays.copyOf(builder.alternateTargets, size);
+        this.sets = Arrays.copyOf(builder.sets, size);
+        this.assertions = Arrays.copyOf(builder.assertions, size);
+        this.owners = Arrays.copyOf(builder.owners, size);
+        this.starts = starts;
+        this.unanchored = unanchored;
+    }
+
+    /**
+     * Returns the number of the expressions in this program.
+     *
+     * @return the number of the expressions.
+     */
+    int getExpressionCount() {
+        return starts.length;
+    }
+
+    /**
+     * Runs this program against the specified input.
+     *
+     * @param input   the input to search.
+     * @param matched the array to receive the flags of the expressions matched.
+     * @return the number of the expressions matched.
+     */
+    int run(String input, boolean[] matched) {
+        return new Simulation(input, matched).run();
+    }
+
+    private static boolean isAnchored(RegexNode root) {
+        if (root instanceof ConcatNode) {
+            List<RegexNode> nodes = ((ConcatNode) root).nodes;
+            return LiteralRegexPattern.hasAssertion(nodes, 0, Assertion.BEGIN);
+        }
+        return root instanceof AssertionNode && ((AssertionNode) root).assertion == Assertion.BEGIN;
+    }
+
+    /**
+     * A single run of the program against an input.
+     *
+     * @author leadpony
+     */
+    private final class Simulation {
+
+        private final String input;
+        private final int length;
+        private final boolean[] matched;
+        private int matchedCount;
+        private int unanchoredMatchedCount;
+        // The generation in which each instruction was added last.
+        private final int[] marks;
+        private final int[] stack;
+        private int generation;
+
+        Simulation(String input, boolean[] matched) {
+            this.input = input;
+            this.length = input.length();
+            this.matched = matched;
+            this.marks = new int[opcodes.length];
+            this.stack = new int[opcodes.length * 2 + 1];
+        }
+
+        int run() {
+            final int expressions = starts.length;
+            int[] current = new int[opcodes.length];
+            int[] next = new int[opcodes.length];
+            generation = 1;
+            int count = 0;
+            for (int start : starts) {
+                count = addThread(current, count, start, 0);
+            }
+            int index = 0;
+            while (matchedCount < expressions && index < length) {
+                if (count == 0 && unanchoredMatchedCount == unanchored.length) {
+                    break;
+                }
+                int c = input.codePointAt(index);
+                index += Character.charCount(c);
+                generation++;
+                int nextCount = 0;
+                for (int i = 0; i < count; i++) {
+                    int pc = current[i];
+                    if (!matched[owners[pc]] && sets[pc].contains(c)) {
+                        nextCount = addThread(next, nextCount, pc + 1, index);
+                    }
+                }
+                for (int expression : unanchored) {
+                    if (!matched[expression]) {
+                        nextCount = addThread(next, nextCount, starts[expression], index);
+                    }
+                }
+                int[] swapped = current;
+                current = next;
+                next = swapped;
+                count = nextCount;
+            }
+            return matchedCount;
+        }
+
+        /**
+         * Adds a thread and the threads reachable without consuming any
+         * character.
+         *
+         * @param list  the list of the threads waiting for the next character.
+         * @param count the number of the threads in the list.
+         * @param start the instruction to start with.
+         * @param index the current index in the input.
+         * @return the new number of the threads in the list.
+         */
+        private int addThread(int[] list, int count, int start, int index) {
+            int top = 0;
+            stack[top++] = start;
+            while (top > 0) {
+                int pc = stack[--top];
+                if (marks[pc] == generation) {
+                    continue;
+                }
+                marks[pc] = generation;
+                switch (opcodes[pc]) {
+                case CHAR:
+                    list[count++] = pc;
+                    break;
+                case SPLIT:
+                    stack[top++] = alternateTargets[pc];
+                    stack[top++] = targets[pc];
+                    break;
+                case JUMP:
+                    stack[top++] = targets[pc];
+                    break;
+                case ASSERT:
+                    if (testAssertion(assertions[pc], index)) {
+                        stack[top++] = pc + 1;
+                    }
+                    break;
+                default:
+                    addMatch(targets[pc]);
+                    break;
+                }
+            }
+            return count;
+        }
+
+        private void addMatch(int expression) {
+            if (!matched[expression]) {
+                matched[expression] = true;
+                matchedCount++;
+                if (Arrays.binarySearch(unanchored, expression) >= 0) {
+                    unanchoredMatchedCount++;
+                }
+            }
+        }
+
+        private boolean testAssertion(Assertion assertion, int index) {
+            switch (assertion) {
+            case BEGIN:
+                return index == 0;
+            case END_OF_INPUT:
+                return index == length;
+            default:
+                return isEndOfLine(index);
+            }
+        }
+
+        /**
+         * Checks if the index is at the end of the input or followed only by the
+         * final line terminator, in the same way as {@link java.util.regex.Pattern}.
+         *
+         * @param index the current index in the input.
+         * @return {@code true} if the index matches "$".
+         */
+        private boolean isEndOfLine(int index) {
+            int remaining = length - index;
+            if (remaining == 0) {
+                return true;
+            } else if (remaining == 2) {
+                return input.charAt(index) == '\r' && input.charAt(index + 1) == '\n';
+            } else if (remaining == 1) {
+                char c = input.charAt(index);
+                if (c == '\n') {
+                    return index == 0 || input.charAt(index - 1) != '\r';
+                }
+                return c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A builder of the program.
+     *
+     * @author leadpony
+     */
+    private static final class ProgramBuilder {
+
+        private byte[] opcodes = new byte[16];
+        private int[] targets = new int[16];
+        private int[] alternateTargets = new int[16];
+        private CharSet[] sets = new CharSet[16];
+        private Assertion[] assertions = new Assertion[16];
+        private int[] owners = new int[16];
+        private int size;
+        private int owner;
+
+        /**
+         * Emits the instructions for the specified node.
+         *
+         * @param node the node of the syntax tree.
+         * @return {@code true} if the program is not too large.
+         */
+        boolean emit(RegexNode node) {
+            if (node instanceof CharNode) {
+                int pc = emit(CHAR);
+                sets[pc] = ((CharNode) node).set;
+            } else if (node instanceof AssertionNode) {
+                int pc = emit(ASSERT);
+                assertions[pc] = ((AssertionNode) node).assertion;
+            } else if (node instanceof ConcatNode) {
+                for (RegexNode child : ((ConcatNode) node).nodes) {
+                    if (!emit(child)) {
+                        return false;
+                    }
+                }
+            } else if (node instanceof AlternationNode) {
+                return emitAlternation(((AlternationNode) node).nodes);
+            } else if (node instanceof RepeatNode) {
+                return emitRepeat((RepeatNode) node);
+            }
+            return size <= MAX_PROGRAM_SIZE;
+        }
+
+        private boolean emitAlternation(List<RegexNode> nodes) {
+            int[] jumps = new int[nodes.size() - 1];
+            for (int i = 0; i < jumps.length; i++) {
+                int split = emit(SPLIT);
+                targets[split] = size;
+                if (!emit(nodes.get(i))) {
+                    return false;
+                }
+                jumps[i] = emit(JUMP);
+                alternateTargets[split] = size;
+            }
+            if (!emit(nodes.get(jumps.length))) {
+                return false;
+            }
+            for (int jump : jumps) {
+                targets[jump] = size;
+            }
+            return true;
+        }
+
+        private boolean emitRepeat(RepeatNode node) {
+            for (int i = 0; i < node.min; i++) {
+                if (!emit(node.node)) {
+                    return false;
+                }
+            }
+            if (node.max == RepeatNode.UNBOUNDED) {
+                int split = emit(SPLIT);
+                targets[split] = size;
+                if (!emit(node.node)) {
+                    return false;
+                }
+                int jump = emit(JUMP);
+                targets[jump] = split;
+                alternateTargets[split] = size;
+                return true;
+            }
+            int optionals = node.max - node.min;
+            if (optionals > MAX_PROGRAM_SIZE) {
+                return false;
+            }
+            int[] splits = new int[optionals];
+            for (int i = 0; i < optionals; i++) {
+                splits[i] = emit(SPLIT);
+                targets[splits[i]] = size;
+                if (!emit(node.node)) {
+                    return false;
+                }
+            }
+            for (int split : splits) {
+                alternateTargets[split] = size;
+            }
+            return true;
+        }
+
+        int emit(byte opcode) {
+            if (size == opcodes.length) {
+                int capacity = size * 2;
+                opcodes = Arrays.copyOf(opcodes, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                alternateTargets = Arrays.copyOf(alternateTargets, capacity);
+                sets = Arrays.copyOf(sets, capacity);
+                assertions = Arrays.copyOf(assertions, capacity);
+                owners = Arrays.copyOf(owners, capacity);
+            }
+            opcodes[size] = opcode;
+            owners[size] = owner;
+            return size++;
+        }
+    }
+}
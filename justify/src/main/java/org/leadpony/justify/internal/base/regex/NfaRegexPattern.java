@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.Collections;
+
+/**
+ * A regular expression pattern matched by simulating the nondeterministic
+ * finite automaton.
+ *
+ * @author leadpony
+ * @see NfaProgram
+ */
+final class NfaRegexPattern implements RegexPattern {
+
+    private final String regex;
+    private final NfaProgram program;
+
+    /**
+     * Compiles the syntax tree into a pattern.
+     *
+     * @param regex the original regular expression.
+     * @param root  the root node of the syntax tree.
+     * @return the compiled pattern, or {@code null} if the program is too large.
+     */
+    static RegexPattern compile(String regex, RegexNode root) {
+        NfaProgram program = NfaProgram.compile(Collections.singletonList(root));
+        if (program == null) {
+            return null;
+        }
+        return new NfaRegexPattern(regex, program);
+    }
+
+    private NfaRegexPattern(String regex, NfaProgram program) {
+        this.regex = regex;
+        this.program = program;
+    }
+
+    @Override
+    public boolean find(String input) {
+        return program.run(input, new boolean[1]) > 0;
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.leadpony.justify.internal.base.regex.RegexNode.ConcatNode;
+
+/**
+ * Engines which compile ECMA 262 regular expressions.
+ *
+ * <p>
+ * Both engines analyze the expression first and compile the trivial ones, such
+ * as literals and anchored sequences of character classes, into specialized
+ * patterns which do not need any regular expression engine.
+ * </p>
+ *
+ * @author leadpony
+ */
+public enum RegexEngine {
+    /**
+     * The engine which uses {@link Pattern} for the expressions not specialized.
+     */
+    BACKTRACKING,
+
+    /**
+     * The engine which simulates the finite automaton for the expressions not
+     * specialized, in time linear to the length of the input. The expressions
+     * which cannot be simulated, such as the ones containing back references or
+     * lookarounds, fall back to {@link Pattern}.
+     */
+    LINEAR_TIME {
+        @Override
+        RegexPattern compileGeneral(String regex, RegexNode root) {
+            return NfaRegexPattern.compile(regex, root);
+        }
+
+        @Override
+        NfaProgram compileProgram(List<RegexNode> roots) {
+            return NfaProgram.compile(roots);
+        }
+    };
+
+    /**
+     * Compiles the specified regular expression.
+     *
+     * @param regex the regular expression to compile.
+     * @return the compiled pattern.
+     * @throws PatternSyntaxException if the syntax of the expression is invalid.
+     */
+    public RegexPattern compile(String regex) {
+        Pattern pattern = Ecma262Pattern.compile(regex);
+        RegexNode root = RegexParser.parse(regex);
+        if (root != null) {
+            RegexPattern compiled = specialize(regex, root);
+            if (compiled == null) {
+                compiled = compileGeneral(regex, root);
+            }
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+        return new JavaRegexPattern(regex, pattern);
+    }
+
+    /**
+     * Compiles the specified regular expressions into a set.
+     *
+     * <p>
+     * The linear time engine combines the expressions not specialized into a
+     * single program of the finite automaton, when the automaton supports all of
+     * them. Otherwise each of the expressions is compiled individually by this
+     * engine.
+     * </p>
+     *
+     * @param regexes the regular expressions to compile.
+     * @return the compiled set of the expressions, in the same order.
+     * @throws PatternSyntaxException if the syntax of any expression is invalid.
+     */
+    public RegexPatternSet compileSet(List<String> regexes) {
+        RegexPattern[] patterns = new RegexPattern[regexes.size()];
+        List<RegexNode> roots = new ArrayList<>();
+        List<Pattern> generalPatterns = new ArrayList<>();
+        int[] programIndices = new int[regexes.size()];
+        for (int i = 0; i < patterns.length; i++) {
+            String regex = regexes.get(i);
+            Pattern pattern = Ecma262Pattern.compile(regex);
+            RegexNode root = RegexParser.parse(regex);
+            if (root == null) {
+                patterns[i] = new JavaRegexPattern(regex, pattern);
+            } else {
+                patterns[i] = specialize(regex, root);
+                if (patterns[i] == null) {
+                    programIndices[roots.size()] = i;
+                    roots.add(root);
+                    generalPatterns.add(pattern);
+                }
+            }
+        }
+        NfaProgram program = null;
+        if (!roots.isEmpty()) {
+            program = compileProgram(roots);
+            if (program == null) {
+                for (int i = 0; i < roots.size(); i++) {
+                    int index = programIndices[i];
+                    String regex = regexes.get(index);
+                    RegexPattern compiled = compileGeneral(regex, roots.get(i));
+                    if (compiled == null) {
+                        compiled = new JavaRegexPattern(regex, generalPatterns.get(i));
+                    }
+                    patterns[index] = compiled;
+                }
+            }
+        }
+        int programSize = (program != null) ? roots.size() : 0;
+        return new RegexPatternSet(patterns, program, Arrays.copyOf(programIndices, programSize));
+    }
+
+    private static RegexPattern specialize(String regex, RegexNode root) {
+        List<RegexNode> terms = (root instanceof ConcatNode)
+                ? ((ConcatNode) root).nodes
+                : Collections.singletonList(root);
+        RegexPattern compiled = LiteralRegexPattern.of(regex, terms);
+        if (compiled == null) {
+            compiled = AnchoredRegexPattern.of(regex, terms);
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiles the expression which is not specialized.
+     *
+     * @param regex the original regular expression.
+     * @param root  the root node of the syntax tree.
+     * @return the compiled pattern, or {@code null} if {@link Pattern} should be
+     *         used.
+     */
+    RegexPattern compileGeneral(String regex, RegexNode root) {
+        return null;
+    }
+
+    /**
+     * Combines the expressions which are not specialized into a single program.
+     *
+     * @param roots the root nodes of the syntax trees.
+     * @return the combined program, or {@code null} if the expressions should be
+     *         compiled individually.
+     */
+    NfaProgram compileProgram(List<RegexNode> roots) {
+        return null;
+    }
+}
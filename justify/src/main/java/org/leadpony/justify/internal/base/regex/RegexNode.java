@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.List;
+
+/**
+ * A node of the syntax tree of a regular expression.
+ *
+ * @author leadpony
+ */
+abstract class RegexNode {
+
+    /**
+     * The kinds of zero-width assertions.
+     *
+     * @author leadpony
+     */
+    enum Assertion {
+        /**
+         * "^", the beginning of the input.
+         */
+        BEGIN,
+        /**
+         * "$" which is not at the end of the expression. This also matches before
+         * the final line terminator, as {@link java.util.regex.Pattern} does.
+         */
+        END,
+        /**
+         * "$" at the end of the expression, which matches only the end of the
+         * input.
+         */
+        END_OF_INPUT
+    }
+
+    /**
+     * A node matching a single character.
+     *
+     * @author leadpony
+     */
+    static final class CharNode extends RegexNode {
+
+        final CharSet set;
+
+        CharNode(CharSet set) {
+            this.set = set;
+        }
+    }
+
+    /**
+     * A node of a zero-width assertion.
+     *
+     * @author leadpony
+     */
+    static final class AssertionNode extends RegexNode {
+
+        final Assertion assertion;
+
+        AssertionNode(Assertion assertion) {
+            this.assertion = assertion;
+        }
+    }
+
+    /**
+     * A node matching a sequence of nodes.
+     *
+     * @author leadpony
+     */
+    static final class ConcatNode extends RegexNode {
+
+        final List<RegexNode> nodes;
+
+        ConcatNode(List<RegexNode> nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    /**
+     * A node matching any of the alternatives.
+     *
+     * @author leadpony
+     */
+    static final class AlternationNode extends RegexNode {
+
+        final List<RegexNode> nodes;
+
+        AlternationNode(List<RegexNode> nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    /**
+     * A node matching the repetition of a node.
+     *
+     * @author leadpony
+     */
+    static final class RepeatNode extends RegexNode {
+
+        static final int UNBOUNDED = -1;
+
+        final RegexNode node;
+        final int min;
+        final int max;
+
+        RepeatNode(RegexNode node, int min, int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+    }
+}
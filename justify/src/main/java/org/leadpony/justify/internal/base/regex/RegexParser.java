@@ -0,0 +1,385 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.leadpony.justify.internal.base.regex.RegexNode.AlternationNode;
+import org.leadpony.justify.internal.base.regex.RegexNode.Assertion;
+import org.leadpony.justify.internal.base.regex.RegexNode.AssertionNode;
+import org.leadpony.justify.internal.base.regex.RegexNode.CharNode;
+import org.leadpony.justify.internal.base.regex.RegexNode.ConcatNode;
+import org.leadpony.justify.internal.base.regex.RegexNode.RepeatNode;
+
+/**
+ * A parser of the subset of ECMA 262 regular expressions, which produces a
+ * syntax tree.
+ *
+ * <p>
+ * The subset covers characters, character classes, groups, alternations,
+ * quantifiers, and the input assertions. Back references, lookarounds, word
+ * boundaries, and the constructs interpreted differently by
+ * {@link java.util.regex.Pattern} are not supported. The expression is
+ * expected to be validated in advance.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class RegexParser {
+
+    private final String regex;
+    private int index;
+
+    /**
+     * Parses the specified regular expression.
+     *
+     * @param regex the regular expression, which must be valid.
+     * @return the root node of the syntax tree, or {@code null} if the
+     *         expression is not supported.
+     */
+    static RegexNode parse(String regex) {
+        try {
+            RegexParser parser = new RegexParser(regex);
+            RegexNode node = parser.parseDisjunction();
+            if (parser.hasNext()) {
+                return null;
+            }
+            return node;
+        } catch (UnsupportedSyntaxException e) {
+            return null;
+        }
+    }
+
+    private RegexParser(String regex) {
+        this.regex = regex;
+    }
+
+    private RegexNode parseDisjunction() {
+        RegexNode first = parseAlternative();
+        if (!hasNext() || peek() != '|') {
+            return first;
+        }
+        List<RegexNode> nodes = new ArrayList<>();
+        nodes.add(first);
+        while (hasNext() && peek() == '|') {
+            index++;
+            nodes.add(parseAlternative());
+        }
+        return new AlternationNode(nodes);
+    }
+
+    private RegexNode parseAlternative() {
+        List<RegexNode> nodes = new ArrayList<>();
+        while (hasNext() && peek() != '|' && peek() != ')') {
+            RegexNode node = parseTerm();
+            if (node instanceof ConcatNode) {
+                nodes.addAll(((ConcatNode) node).nodes);
+            } else {
+                nodes.add(node);
+            }
+        }
+        if (nodes.size() == 1) {
+            return nodes.get(0);
+        }
+        return new ConcatNode(nodes);
+    }
+
+    private RegexNode parseTerm() {
+        int c = peek();
+        if (c == '^') {
+            index++;
+            return new AssertionNode(Assertion.BEGIN);
+        } else if (c == '$') {
+            index++;
+            return new AssertionNode(hasNext() ? Assertion.END : Assertion.END_OF_INPUT);
+        }
+        RegexNode atom = parseAtom();
+        return hasNext() ? parseQuantifier(atom) : atom;
+    }
+
+    private RegexNode parseAtom() {
+        int c = next();
+        switch (c) {
+        case '.':
+            return new CharNode(CharSet.DOT);
+        case '(':
+            return parseGroup();
+        case '[':
+            return new CharNode(parseClass());
+        case '\\':
+            return new CharNode(parseAtomEscape());
+        case '*':
+        case '+':
+        case '?':
+        case '{':
+            throw new UnsupportedSyntaxException();
+        default:
+            return new CharNode(new CharSet.Builder().add(c).build());
+        }
+    }
+
+    private RegexNode parseGroup() {
+        if (hasNext() && peek() == '?') {
+            index++;
+            if (!hasNext() || next() != ':') {
+                throw new UnsupportedSyntaxException();
+            }
+        }
+        RegexNode node = parseDisjunction();
+        if (!hasNext() || next() != ')') {
+            throw new UnsupportedSyntaxException();
+        }
+        return node;
+    }
+
+    private RegexNode parseQuantifier(RegexNode atom) {
+        int min;
+        int max;
+        switch (peek()) {
+        case '*':
+            min = 0;
+            max = RepeatNode.UNBOUNDED;
+            break;
+        case '+':
+            min = 1;
+            max = RepeatNode.UNBOUNDED;
+            break;
+        case '?':
+            min = 0;
+            max = 1;
+            break;
+        case '{':
+            return parseBraceQuantifier(atom);
+        default:
+            return atom;
+        }
+        index++;
+        return createRepeat(atom, min, max);
+    }
+
+    private RegexNode parseBraceQuantifier(RegexNode atom) {
+        index++;
+        int min = parseDecimal();
+        int max = min;
+        if (hasNext() && peek() == ',') {
+            index++;
+            max = (hasNext() && peek() == '}') ? RepeatNode.UNBOUNDED : parseDecimal();
+        }
+        if (!hasNext() || next() != '}') {
+            throw new UnsupportedSyntaxException();
+        }
+        return createRepeat(atom, min, max);
+    }
+
+    private RegexNode createRepeat(RegexNode atom, int min, int max) {
+        if (max != RepeatNode.UNBOUNDED && max < min) {
+            throw new UnsupportedSyntaxException();
+        }
+        if (hasNext()) {
+            int c = peek();
+            if (c == '?') {
+                // Lazy quantifiers find the same inputs as greedy ones.
+                index++;
+            } else if (c == '+') {
+                // Possessive quantifiers of java.util.regex.
+                throw new UnsupportedSyntaxException();
+            }
+        }
+        return new RepeatNode(atom, min, max);
+    }
+
+    private int parseDecimal() {
+        int start = index;
+        long value = 0;
+        while (hasNext() && '0' <= peek() && peek() <= '9') {
+            value = value * 10 + (next() - '0');
+            if (value > Integer.MAX_VALUE) {
+                throw new UnsupportedSyntaxException();
+            }
+        }
+        if (index == start) {
+            throw new UnsupportedSyntaxException();
+        }
+        return (int) value;
+    }
+
+    private CharSet parseClass() {
+        CharSet.Builder builder = new CharSet.Builder();
+        boolean negated = false;
+        if (hasNext() && peek() == '^') {
+            index++;
+            negated = true;
+        }
+        if (hasNext() && peek() == ']') {
+            // An empty class in ECMA 262, which is a literal in java.util.regex.
+            throw new UnsupportedSyntaxException();
+        }
+        for (;;) {
+            int c = next();
+            if (c == ']') {
+                break;
+            }
+            int first = parseClassAtom(c, builder);
+            if (first < 0) {
+                continue;
+            } else if (!hasNext() || peek() != '-') {
+                builder.add(first);
+                continue;
+            }
+            index++;
+            if (hasNext() && peek() == ']') {
+                builder.add(first).add('-');
+                continue;
+            }
+            int last = parseClassAtom(next(), builder);
+            if (last < first) {
+                throw new UnsupportedSyntaxException();
+            }
+            builder.add(first, last);
+        }
+        if (negated) {
+            builder.complement();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses a single atom in a character class.
+     *
+     * @param c       the first character of the atom.
+     * @param builder the builder of the class.
+     * @return the code point of the atom, or -1 if the atom is a class escape and
+     *         was added to the builder.
+     */
+    private int parseClassAtom(int c, CharSet.Builder builder) {
+        if (c == '[' || (c == '&' && hasNext() && peek() == '&')) {
+            // Nested classes and intersections of java.util.regex.
+            throw new UnsupportedSyntaxException();
+        } else if (c != '\\') {
+            return c;
+        }
+        c = next();
+        CharSet set = parseClassEscape(c);
+        if (set == null) {
+            return parseCharacterEscape(c);
+        }
+        if (hasNext() && peek() == '-') {
+            throw new UnsupportedSyntaxException();
+        }
+        builder.addAll(set);
+        return -1;
+    }
+
+    private CharSet parseAtomEscape() {
+        int c = next();
+        CharSet set = parseClassEscape(c);
+        if (set != null) {
+            return set;
+        }
+        return new CharSet.Builder().add(parseCharacterEscape(c)).build();
+    }
+
+    private static CharSet parseClassEscape(int c) {
+        switch (c) {
+        case 'd':
+            return CharSet.DIGIT;
+        case 'D':
+            return new CharSet.Builder().addComplement(CharSet.DIGIT).build();
+        case 'w':
+            return CharSet.WORD;
+        case 'W':
+            return new CharSet.Builder().addComplement(CharSet.WORD).build();
+        case 's':
+            return CharSet.SPACE;
+        case 'S':
+            return new CharSet.Builder().addComplement(CharSet.SPACE).build();
+        default:
+            return null;
+        }
+    }
+
+    private int parseCharacterEscape(int c) {
+        switch (c) {
+        case 't':
+            return '\t';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 'f':
+            return '\f';
+        case 'x':
+            return parseHex(2);
+        case 'u':
+            return parseHex(4);
+        case 'c':
+            c = next();
+            if (('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z')) {
+                return c % 32;
+            }
+            throw new UnsupportedSyntaxException();
+        default:
+            if (c < 128 && !Character.isLetterOrDigit(c)) {
+                return c;
+            }
+            throw new UnsupportedSyntaxException();
+        }
+    }
+
+    private int parseHex(int digits) {
+        int value = 0;
+        for (int i = 0; i < digits; i++) {
+            int digit = Character.digit(next(), 16);
+            if (digit < 0) {
+                throw new UnsupportedSyntaxException();
+            }
+            value = value * 16 + digit;
+        }
+        return value;
+    }
+
+    private boolean hasNext() {
+        return index < regex.length();
+    }
+
+    private int peek() {
+        return regex.codePointAt(index);
+    }
+
+    private int next() {
+        if (!hasNext()) {
+            throw new UnsupportedSyntaxException();
+        }
+        int c = regex.codePointAt(index);
+        index += Character.charCount(c);
+        return c;
+    }
+
+    /**
+     * Thrown when the parser found an unsupported construct.
+     *
+     * @author leadpony
+     */
+    @SuppressWarnings("serial")
+    private static final class UnsupportedSyntaxException extends RuntimeException {
+
+        UnsupportedSyntaxException() {
+            super(null, null, false, false);
+        }
+    }
+}
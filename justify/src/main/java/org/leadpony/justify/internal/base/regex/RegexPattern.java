@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+/**
+ * A compiled regular expression which can be shared between threads.
+ *
+ * <p>
+ * {@link #toString()} returns the original expression.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface RegexPattern {
+
+    /**
+     * Checks if any part of the specified input matches this pattern.
+     *
+     * @param input the input to search.
+     * @return {@code true} if a match is found in the input.
+     */
+    boolean find(String input);
+}
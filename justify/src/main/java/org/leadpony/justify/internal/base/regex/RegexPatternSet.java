@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+/**
+ * A set of compiled regular expressions which finds all the expressions
+ * matching an input at once.
+ *
+ * <p>
+ * When the expressions are compiled by the linear time engine, the ones which
+ * can be simulated by the finite automaton are combined into a single program,
+ * and the input is scanned once for all of them. The specialized expressions
+ * and all the other ones are tested individually.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class RegexPatternSet {
+
+    private static final int[] NO_INDICES = {};
+
+    // The patterns tested individually, or null for the ones in the program.
+    private final RegexPattern[] patterns;
+    private final NfaProgram program;
+    // The indices in this set of the expressions in the program.
+    private final int[] programIndices;
+
+    RegexPatternSet(RegexPattern[] patterns, NfaProgram program, int[] programIndices) {
+        this.patterns = patterns;
+        this.program = program;
+        this.programIndices = programIndices;
+    }
+
+    /**
+     * Returns the number of the expressions in this set.
+     *
+     * @return the number of the expressions.
+     */
+    public int size() {
+        return patterns.length;
+    }
+
+    /**
+     * Checks if the expression at the specified index is combined into the
+     * program of the finite automaton.
+     *
+     * @param index the index of the expression in this set.
+     * @return {@code true} if the expression is in the program.
+     */
+    boolean isCombined(int index) {
+        return patterns[index] == null;
+    }
+
+    /**
+     * Finds all the expressions matching any part of the specified input.
+     *
+     * @param input the input to search.
+     * @return the indices of the matching expressions in ascending order.
+     */
+    public int[] findAll(String input) {
+        boolean[] matched = new boolean[patterns.length];
+        int count = 0;
+        if (program != null) {
+            boolean[] programMatched = new boolean[programIndices.length];
+            if (program.run(input, programMatched) > 0) {
+                for (int i = 0; i < programIndices.length; i++) {
+                    if (programMatched[i]) {
+                        matched[programIndices[i]] = true;
+                        count++;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < patterns.length; i++) {
+            if (patterns[i] != null && patterns[i].find(input)) {
+                matched[i] = true;
+                count++;
+            }
+        }
+        if (count == 0) {
+            return NO_INDICES;
+        }
+        int[] indices = new int[count];
+        int next = 0;
+        for (int i = 0; i < matched.length; i++) {
+            if (matched[i]) {
+                indices[next++] = i;
+            }
+        }
+        return indices;
+    }
+}
@@ -30,11 +30,13 @@ import org.leadpony.justify.api.ProblemDispatcher;
  */
 public abstract class AbstractConjunctiveItemsEvaluator extends AbstractLogicalEvaluator implements ChildrenEvaluator {
 
+    private final boolean failFast;
     private Result finalResult = Result.TRUE;
     private Evaluator childEvaluator;
 
     protected AbstractConjunctiveItemsEvaluator(EvaluatorContext context) {
         super(context);
+        this.failFast = context.isFailFast();
     }
 
     @Override
@@ -50,10 +52,13 @@ public abstract class AbstractConjunctiveItemsEvaluator extends AbstractLogicalE
         if (childEvaluator != null) {
             Result result = childEvaluator.evaluate(event, depth - 1, dispatcher);
             if (result != Result.PENDING) {
+                childEvaluator = null;
                 if (result == Result.FALSE) {
+                    if (failFast) {
+                        return Result.FALSE;
+                    }
                     finalResult = Result.FALSE;
                 }
-                childEvaluator = null;
             }
         }
 
@@ -35,12 +35,14 @@ import org.leadpony.justify.api.ProblemDispatcher;
 public abstract class AbstractConjunctivePropertiesEvaluator extends AbstractLogicalEvaluator
         implements ChildrenEvaluator {
 
+    private final boolean failFast;
     private Result finalResult = Result.TRUE;
     private Evaluator firstChildEvaluator;
     private List<Evaluator> additionalChildEvaluators;
 
     protected AbstractConjunctivePropertiesEvaluator(EvaluatorContext context) {
         super(context);
+        this.failFast = context.isFailFast();
     }
 
     @Override
@@ -58,6 +60,9 @@ public abstract class AbstractConjunctivePropertiesEvaluator extends AbstractLog
 
             if (!invokeChildEvaluator(firstChildEvaluator, event, childDepth, dispatcher)) {
                 firstChildEvaluator = null;
+                if (failFast && finalResult == Result.FALSE) {
+                    return Result.FALSE;
+                }
             }
 
             if (additionalChildEvaluators != null) {
@@ -65,6 +70,9 @@ public abstract class AbstractConjunctivePropertiesEvaluator extends AbstractLog
                 while (it.hasNext()) {
                     if (!invokeChildEvaluator(it.next(), event, childDepth, dispatcher)) {
                         it.remove();
+                        if (failFast && finalResult == Result.FALSE) {
+                            return Result.FALSE;
+                        }
                     }
                 }
                 if (firstChildEvaluator == null && !additionalChildEvaluators.isEmpty()) {
@@ -45,8 +45,8 @@ public class ConditionalEvaluator extends AbstractEvaluator {
         assert thenEvaluator != null;
         assert elseEvaluator != null;
         this.ifEvaluator = ifEvaluator;
-        this.thenEvaluator = new DeferredEvaluator(thenEvaluator);
-        this.elseEvaluator = new DeferredEvaluator(elseEvaluator);
+        this.thenEvaluator = new DeferredEvaluator(thenEvaluator, context);
+        this.elseEvaluator = new DeferredEvaluator(elseEvaluator, context);
         this.ifResult = Result.PENDING;
         this.thenResult = Result.PENDING;
         this.elseResult = Result.PENDING;
@@ -16,47 +16,156 @@
 
 package org.leadpony.justify.internal.evaluator;
 
-import java.util.Iterator;
-
 import javax.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.ProblemDispatcher;
 
 /**
+ * Evaluator for "allOf" boolean logic applied to arrays and objects.
+ *
+ * <p>
+ * The events deeper than the children of the instance are routed only to the
+ * operands which observe them. Operands of {@link ShallowEvaluator} are skipped
+ * for such events.
+ * </p>
+ *
  * @author leadpony
  */
 class ConjunctiveEvaluator extends SimpleConjunctiveEvaluator {
 
-    private static final long serialVersionUID = 1L;
-
     private final Event closingEvent;
     private Result finalResult = Result.TRUE;
+    // the operands observing deep events, or null if not prepared yet.
+    private Evaluator[] deepOperands;
+    private int deepSize;
 
-    ConjunctiveEvaluator(Event closingEvent) {
+    ConjunctiveEvaluator(EvaluatorContext context, Event closingEvent) {
+        super(context);
+        this.closingEvent = closingEvent;
+    }
+
+    ConjunctiveEvaluator(EvaluatorContext context, Event closingEvent, int capacity) {
+        super(context, capacity);
         this.closingEvent = closingEvent;
     }
 
     @Override
     public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
-        invokeOperandEvaluators(event, depth, dispatcher);
+        if (depth > 1) {
+            return invokeDeepOperandEvaluators(event, depth, dispatcher);
+        }
+        if (invokeOperandEvaluators(event, depth, dispatcher) == Result.FALSE) {
+            return Result.FALSE;
+        }
         if (depth == 0 && event == closingEvent) {
             return finalResult;
         }
         return Result.PENDING;
     }
 
+    @Override
+    public void append(Evaluator evaluator) {
+        super.append(evaluator);
+        this.deepOperands = null;
+    }
+
+    /**
+     * Invokes the operand evaluators which are still pending.
+     *
+     * @param event      the event triggered by the JSON parser.
+     * @param depth      the depth where the event occurred.
+     * @param dispatcher the dispatcher of the found problems.
+     * @return {@link Result#FALSE} if the evaluation can stop in fail-fast mode,
+     *         {@link Result#PENDING} otherwise.
+     */
     protected Result invokeOperandEvaluators(Event event, int depth, ProblemDispatcher dispatcher) {
-        Iterator<Evaluator> it = iterator();
-        while (it.hasNext()) {
-            Result result = it.next().evaluate(event, depth, dispatcher);
+        final Evaluator[] operands = this.operands;
+        final int size = this.size;
+        int remaining = 0;
+        for (int i = 0; i < size; i++) {
+            Evaluator operand = operands[i];
+            Result result = operand.evaluate(event, depth, dispatcher);
+            if (result == Result.PENDING) {
+                operands[remaining++] = operand;
+            } else if (result == Result.FALSE) {
+                if (failFast) {
+                    return Result.FALSE;
+                }
+                finalResult = Result.FALSE;
+            }
+        }
+        if (remaining < size) {
+            for (int i = remaining; i < size; i++) {
+                operands[i] = null;
+            }
+            this.size = remaining;
+            this.deepOperands = null;
+        }
+        return Result.PENDING;
+    }
+
+    /**
+     * Invokes the operand evaluators which observe the events deeper than the
+     * children of the instance.
+     *
+     * @param event      the event triggered by the JSON parser.
+     * @param depth      the depth where the event occurred, greater than 1.
+     * @param dispatcher the dispatcher of the found problems.
+     * @return {@link Result#FALSE} if the evaluation can stop in fail-fast mode,
+     *         {@link Result#PENDING} otherwise.
+     */
+    private Result invokeDeepOperandEvaluators(Event event, int depth, ProblemDispatcher dispatcher) {
+        if (this.deepOperands == null) {
+            prepareDeepOperands();
+        }
+        final Evaluator[] deepOperands = this.deepOperands;
+        final int deepSize = this.deepSize;
+        for (int i = 0; i < deepSize; i++) {
+            Evaluator operand = deepOperands[i];
+            if (operand == null) {
+                continue;
+            }
+            Result result = operand.evaluate(event, depth, dispatcher);
             if (result != Result.PENDING) {
+                deepOperands[i] = null;
+                removeOperand(operand);
                 if (result == Result.FALSE) {
+                    if (failFast) {
+                        return Result.FALSE;
+                    }
                     finalResult = Result.FALSE;
                 }
-                it.remove();
             }
         }
         return Result.PENDING;
     }
+
+    private void prepareDeepOperands() {
+        final Evaluator[] operands = this.operands;
+        final int size = this.size;
+        Evaluator[] deepOperands = new Evaluator[size];
+        int deepSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (!(operands[i] instanceof ShallowEvaluator)) {
+                deepOperands[deepSize++] = operands[i];
+            }
+        }
+        this.deepOperands = deepOperands;
+        this.deepSize = deepSize;
+    }
+
+    private void removeOperand(Evaluator operand) {
+        final Evaluator[] operands = this.operands;
+        final int size = this.size;
+        for (int i = 0; i < size; i++) {
+            if (operands[i] == operand) {
+                System.arraycopy(operands, i + 1, operands, i, size - i - 1);
+                operands[size - 1] = null;
+                this.size = size - 1;
+                return;
+            }
+        }
+    }
 }
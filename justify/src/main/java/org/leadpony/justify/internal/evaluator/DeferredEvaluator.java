@@ -21,6 +21,7 @@ import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 import javax.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.problem.DefaultProblemDispatcher;
@@ -34,15 +35,18 @@ import org.leadpony.justify.internal.problem.ProblemList;
 class DeferredEvaluator implements Evaluator, DefaultProblemDispatcher {
 
     private final Evaluator evaluator;
+    private final boolean retainsProblems;
     private ProblemList problems;
 
     /**
      * Constructs this evaluator.
      *
      * @param evaluator the actual evaluator, cannot be {@code null}.
+     * @param context   the context of the evaluator, cannot be {@code null}.
      */
-    DeferredEvaluator(Evaluator evaluator) {
+    DeferredEvaluator(Evaluator evaluator, EvaluatorContext context) {
         this.evaluator = evaluator;
+        this.retainsProblems = !context.isValidityOnly();
     }
 
     @Override
@@ -53,6 +57,9 @@ class DeferredEvaluator implements Evaluator, DefaultProblemDispatcher {
     @Override
     public void dispatchProblem(Problem problem) {
         requireNonNull(problem, "problem");
+        if (!retainsProblems) {
+            return;
+        }
         if (this.problems == null) {
             this.problems = ProblemList.newList();
         }
@@ -71,9 +78,13 @@ class DeferredEvaluator implements Evaluator, DefaultProblemDispatcher {
     /**
      * Returns the problems found by this evaluator.
      *
-     * @return the problems found by this evaluator.
+     * @return the problems found by this evaluator. This is always empty if the
+     *         problems are not retained.
      */
     ProblemList problems() {
+        if (!retainsProblems) {
+            return ProblemList.empty();
+        }
         return this.problems;
     }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.base.json.JsonEventBuffer;
+
+/**
+ * Evaluator which selects the subschemas to evaluate by the value of a
+ * discriminating property of the object.
+ *
+ * <p>
+ * The events are buffered until the first property of the object is found.
+ * If the property is the discriminating one and has a string value, only the
+ * subschemas selected by the value are evaluated. Otherwise all of the
+ * subschemas are evaluated. In both cases the actual evaluator receives the
+ * buffered events first and then the remaining events of the object.
+ * </p>
+ *
+ * @author leadpony
+ */
+class DiscriminatingEvaluator extends AbstractEvaluator {
+
+    private final String propertyName;
+    private final Function<String, List<JsonSchema>> selector;
+    private final List<JsonSchema> subschemas;
+    private final BiFunction<EvaluatorContext, List<JsonSchema>, Evaluator> factory;
+    private JsonEventBuffer buffer;
+    private String basePointer;
+    private Evaluator delegate;
+
+    /**
+     * Constructs this evaluator.
+     *
+     * @param context      the context of this evaluator.
+     * @param propertyName the name of the discriminating property.
+     * @param selector     the function which selects the subschemas by the value
+     *                     of the property, or returns {@code null} if nothing is
+     *                     selected.
+     * @param subschemas   all of the subschemas.
+     * @param factory      the factory of the actual evaluator.
+     */
+    DiscriminatingEvaluator(EvaluatorContext context,
+            String propertyName,
+            Function<String, List<JsonSchema>> selector,
+            List<JsonSchema> subschemas,
+            BiFunction<EvaluatorContext, List<JsonSchema>, Evaluator> factory) {
+        super(context);
+        this.propertyName = propertyName;
+        this.selector = selector;
+        this.subschemas = subschemas;
+        this.factory = factory;
+        this.buffer = new JsonEventBuffer();
+    }
+
+    @Override
+    public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+        if (delegate != null) {
+            return delegate.evaluate(event, depth, dispatcher);
+        }
+        EvaluatorContext context = getContext();
+        JsonParser parser = context.getParser();
+        if (buffer.size() == 0) {
+            // The pointer is required only for the problems.
+            basePointer = context.isValidityOnly() ? "" : context.getPointer();
+            buffer.add(event, parser);
+            return Result.PENDING;
+        }
+        buffer.add(event, parser);
+        if (buffer.size() == 2) {
+            if (event == Event.KEY_NAME && propertyName.equals(context.getStringValue())) {
+                return Result.PENDING;
+            }
+            return start(subschemas, dispatcher);
+        }
+        List<JsonSchema> selected = null;
+        if (event == Event.VALUE_STRING) {
+            selected = selector.apply(context.getStringValue());
+        }
+        return start(selected != null ? selected : subschemas, dispatcher);
+    }
+
+    private Result start(List<JsonSchema> subschemas, ProblemDispatcher dispatcher) {
+        ReplayingEvaluatorContext context = new ReplayingEvaluatorContext(getContext(), basePointer, buffer, true);
+        context.start();
+        Evaluator evaluator = factory.apply(context, subschemas);
+        Result result = context.replay(evaluator, dispatcher);
+        context.resume();
+        if (result == Result.PENDING) {
+            delegate = evaluator;
+        }
+        buffer = null;
+        return result;
+    }
+}
@@ -17,35 +17,139 @@
 package org.leadpony.justify.internal.evaluator;
 
 import java.util.Iterator;
+import java.util.List;
 
 import javax.json.stream.JsonParser.Event;
 
+import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.base.json.JsonEventBuffer;
 
 /**
+ * Evaluator for "anyOf" boolean logic applied to arrays and objects.
+ *
+ * <p>
+ * If this evaluator is created for the subschemas, the events of the instance
+ * are buffered until any of the subschemas is satisfied. The buffered events
+ * are replayed to find the problems only when all the subschemas turned out to
+ * be unsatisfied.
+ * </p>
+ * <p>
+ * Nothing is buffered in fail-fast mode, where the evaluators retain their
+ * problems from the beginning. If the buffered events exceed
+ * {@link ReplayingEvaluatorContext#MAX_BUFFERED_EVENTS}, they are replayed at
+ * once against the evaluators retaining their problems, which then receive the
+ * remaining events directly.
+ * </p>
+ *
  * @author leadpony
  */
 class DisjunctiveEvaluator extends SimpleDisjunctiveEvaluator {
 
     private final Event closingEvent;
+    private final InstanceType type;
+    private final List<JsonSchema> subschemas;
+    private JsonEventBuffer buffer;
+    private String basePointer;
+    private Evaluator delegate;
 
     DisjunctiveEvaluator(EvaluatorContext context, Event closingEvent) {
         super(context);
         this.closingEvent = closingEvent;
+        this.type = null;
+        this.subschemas = null;
+    }
+
+    DisjunctiveEvaluator(EvaluatorContext context, InstanceType type, Event closingEvent,
+            List<JsonSchema> subschemas) {
+        this(context, type, closingEvent, subschemas, !context.isFailFast());
+    }
+
+    private DisjunctiveEvaluator(EvaluatorContext context, InstanceType type, Event closingEvent,
+            List<JsonSchema> subschemas, boolean buffers) {
+        super(context, type, subschemas, buffers);
+        this.closingEvent = closingEvent;
+        this.type = type;
+        this.subschemas = subschemas;
+        if (defersProblems()) {
+            this.buffer = new JsonEventBuffer();
+        }
     }
 
     @Override
     public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+        if (delegate != null) {
+            return delegate.evaluate(event, depth, dispatcher);
+        }
+        if (buffer != null) {
+            record(event);
+            if (buffer.size() > ReplayingEvaluatorContext.MAX_BUFFERED_EVENTS) {
+                return evaluateEagerly(dispatcher);
+            }
+        }
         if (invokeOperandEvaluators(event, depth, dispatcher) == Result.TRUE) {
             return Result.TRUE;
         }
         if (depth == 0 && event == closingEvent) {
+            if (buffer != null) {
+                replayOperandEvaluators();
+            }
             return dispatchProblems(dispatcher);
         }
         return Result.PENDING;
     }
 
+    private void record(Event event) {
+        if (basePointer == null) {
+            basePointer = getContext().getPointer();
+        }
+        buffer.add(event, getContext().getParser());
+    }
+
+    /**
+     * Replays the buffered events against a new evaluator whose operands retain
+     * their problems, and delegates the remaining events to it.
+     *
+     * @param dispatcher the dispatcher of the problems found.
+     * @return the result of the new evaluator.
+     */
+    private Result evaluateEagerly(ProblemDispatcher dispatcher) {
+        ReplayingEvaluatorContext context = new ReplayingEvaluatorContext(getContext(), basePointer, buffer, true);
+        context.start();
+        Evaluator evaluator = new DisjunctiveEvaluator(context, type, closingEvent, subschemas, false);
+        Result result = context.replay(evaluator, dispatcher);
+        context.resume();
+        if (result == Result.PENDING) {
+            delegate = evaluator;
+        }
+        Iterator<DeferredEvaluator> it = iterator();
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        buffer = null;
+        return result;
+    }
+
+    /**
+     * Replays the buffered events against the evaluators which retain the
+     * problems found.
+     */
+    private void replayOperandEvaluators() {
+        ReplayingEvaluatorContext context = new ReplayingEvaluatorContext(getContext(), basePointer, buffer, false);
+        context.start();
+        clearBadEvaluators();
+        context.replay(createOperands(context), (evaluator, result) -> {
+            if (result == Result.FALSE) {
+                addBadEvaluator(evaluator);
+            }
+        });
+        buffer = null;
+    }
+
     protected Result invokeOperandEvaluators(Event event, int depth, ProblemDispatcher dispatcher) {
         Iterator<DeferredEvaluator> it = iterator();
         while (it.hasNext()) {
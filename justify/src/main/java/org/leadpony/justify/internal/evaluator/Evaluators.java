@@ -16,7 +16,9 @@
 
 package org.leadpony.justify.internal.evaluator;
 
-import java.util.stream.Stream;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import javax.json.stream.JsonParser.Event;
 
@@ -58,14 +60,34 @@ public final class Evaluators {
         };
     }
 
-    public static LogicalEvaluator conjunctive(InstanceType type) {
+    public static LogicalEvaluator conjunctive(EvaluatorContext context, InstanceType type) {
         switch (type) {
         case ARRAY:
-            return new ConjunctiveEvaluator(Event.END_ARRAY);
+            return new ConjunctiveEvaluator(context, Event.END_ARRAY);
         case OBJECT:
-            return new ConjunctiveEvaluator(Event.END_OBJECT);
+            return new ConjunctiveEvaluator(context, Event.END_OBJECT);
         default:
-            return new SimpleConjunctiveEvaluator();
+            return new SimpleConjunctiveEvaluator(context);
+        }
+    }
+
+    /**
+     * Creates a conjunctive evaluator which is expected to receive the specified
+     * number of operands.
+     *
+     * @param context  the context of the evaluator to be created.
+     * @param type     the type of the instance to evaluate.
+     * @param capacity the expected number of operands.
+     * @return newly created evaluator.
+     */
+    public static LogicalEvaluator conjunctive(EvaluatorContext context, InstanceType type, int capacity) {
+        switch (type) {
+        case ARRAY:
+            return new ConjunctiveEvaluator(context, Event.END_ARRAY, capacity);
+        case OBJECT:
+            return new ConjunctiveEvaluator(context, Event.END_OBJECT, capacity);
+        default:
+            return new SimpleConjunctiveEvaluator(context, capacity);
         }
     }
 
@@ -80,18 +102,72 @@ public final class Evaluators {
         }
     }
 
-    public static LogicalEvaluator exclusive(EvaluatorContext context, InstanceType type, Stream<Evaluator> operands,
-            Stream<Evaluator> negated) {
+    /**
+     * Creates a disjunctive evaluator for the specified subschemas. The
+     * subschemas are evaluated only for their validity, and the problems are
+     * found by the returned evaluator only when none of them is satisfied.
+     *
+     * @param context    the context of the evaluator to be created.
+     * @param type       the type of the instance to evaluate.
+     * @param subschemas the subschemas to evaluate.
+     * @return newly created evaluator.
+     */
+    public static LogicalEvaluator disjunctive(EvaluatorContext context, InstanceType type,
+            List<JsonSchema> subschemas) {
+        switch (type) {
+        case ARRAY:
+            return new DisjunctiveEvaluator(context, type, Event.END_ARRAY, subschemas);
+        case OBJECT:
+            return new DisjunctiveEvaluator(context, type, Event.END_OBJECT, subschemas);
+        default:
+            return new SimpleDisjunctiveEvaluator(context, type, subschemas);
+        }
+    }
+
+    /**
+     * Creates an exclusive evaluator for the specified subschemas. The negated
+     * evaluators of the subschemas are created by the returned evaluator only
+     * when they are needed.
+     *
+     * @param context    the context of the evaluator to be created.
+     * @param type       the type of the instance to evaluate.
+     * @param subschemas the subschemas to evaluate.
+     * @return newly created evaluator.
+     */
+    public static LogicalEvaluator exclusive(EvaluatorContext context, InstanceType type,
+            List<JsonSchema> subschemas) {
         switch (type) {
         case ARRAY:
-            return new ExclusiveEvaluator(context, Event.END_ARRAY, operands, negated);
+            return new ExclusiveEvaluator(context, type, Event.END_ARRAY, subschemas);
         case OBJECT:
-            return new ExclusiveEvaluator(context, Event.END_OBJECT, operands, negated);
+            return new ExclusiveEvaluator(context, type, Event.END_OBJECT, subschemas);
         default:
-            return new SimpleExclusiveEvaluator(context, operands, negated);
+            return new SimpleExclusiveEvaluator(context, type, subschemas);
         }
     }
 
+    /**
+     * Creates an evaluator which selects the subschemas to evaluate by the value
+     * of a discriminating property of an object.
+     *
+     * @param context      the context of the evaluator to be created.
+     * @param propertyName the name of the discriminating property.
+     * @param selector     the function which selects the subschemas by the value
+     *                     of the property, or returns {@code null} if nothing is
+     *                     selected.
+     * @param subschemas   all of the subschemas.
+     * @param factory      the factory of the evaluator for the selected
+     *                     subschemas.
+     * @return newly created evaluator.
+     */
+    public static Evaluator discriminating(EvaluatorContext context,
+            String propertyName,
+            Function<String, List<JsonSchema>> selector,
+            List<JsonSchema> subschemas,
+            BiFunction<EvaluatorContext, List<JsonSchema>, Evaluator> factory) {
+        return new DiscriminatingEvaluator(context, propertyName, selector, subschemas, factory);
+    }
+
     public static LogicalEvaluator notExclusive(EvaluatorContext context, InstanceType type) {
         switch (type) {
         case ARRAY:
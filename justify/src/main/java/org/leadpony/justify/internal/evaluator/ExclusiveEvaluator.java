@@ -17,52 +17,123 @@
 package org.leadpony.justify.internal.evaluator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.json.stream.JsonParser.Event;
 
-import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.base.json.JsonEventBuffer;
 import org.leadpony.justify.internal.problem.ProblemList;
 
 /**
  * Evaluator for "oneOf" boolean logic.
  *
+ * <p>
+ * Only the positive evaluators of the subschemas are run while the instance is
+ * streamed, and they are run only for their validity. The events of the
+ * instance are buffered until exactly one subschema is known to be satisfied.
+ * The buffered events are replayed against the positive evaluators retaining
+ * their problems when no subschema is satisfied, or against the negated
+ * evaluators of all the satisfied subschemas when multiple subschemas are
+ * satisfied.
+ * </p>
+ * <p>
+ * Nothing is buffered in fail-fast mode, where the positive evaluators retain
+ * their problems from the beginning. If the buffered events exceed
+ * {@link ReplayingEvaluatorContext#MAX_BUFFERED_EVENTS}, they are replayed at
+ * once against the evaluators retaining their problems and the negated
+ * evaluators, which then receive the remaining events directly.
+ * </p>
+ *
  * @author leadpony
  */
 class ExclusiveEvaluator extends AbstractExclusiveEvaluator {
 
-    private final List<DeferredEvaluator> operands;
-    private final List<DeferredEvaluator> negated;
+    private final List<JsonSchema> subschemas;
+    private final InstanceType type;
+    private final Event closingEvent;
+    private final DeferredEvaluator[] operands;
+    private int pendingEvaluators;
+    private final int[] satisfied;
+    private int evaluationsAsTrue;
+    private final boolean defersProblems;
     private List<ProblemList> problemLists;
+    private List<DeferredEvaluator> negated;
     private List<ProblemList> negatedProblemLists;
-    private long evaluationsAsTrue;
-    private final Event closingEvent;
+    private JsonEventBuffer buffer;
+    private String basePointer;
+    private Evaluator delegate;
 
-    ExclusiveEvaluator(EvaluatorContext context, Event closingEvent, Stream<Evaluator> operands,
-            Stream<Evaluator> negated) {
+    ExclusiveEvaluator(EvaluatorContext context, InstanceType type, Event closingEvent,
+            List<JsonSchema> subschemas) {
+        this(context, type, closingEvent, subschemas, true);
+    }
+
+    private ExclusiveEvaluator(EvaluatorContext context, InstanceType type, Event closingEvent,
+            List<JsonSchema> subschemas, boolean buffers) {
         super(context);
-        this.operands = createEvaluators(operands);
-        this.negated = createEvaluators(negated);
+        this.subschemas = subschemas;
+        this.type = type;
         this.closingEvent = closingEvent;
+        final int size = subschemas.size();
+        // The problems of the only subschema will be reported whenever it fails.
+        boolean needsBranches = size > 1 && !context.isValidityOnly() && !context.isFailFast();
+        this.defersProblems = needsBranches && buffers;
+        EvaluatorContext operandContext = defersProblems ? ValidityOnlyEvaluatorContext.of(context) : context;
+        this.operands = new DeferredEvaluator[size];
+        for (int i = 0; i < size; i++) {
+            this.operands[i] = new DeferredEvaluator(
+                    subschemas.get(i).createEvaluator(operandContext, type), operandContext);
+        }
+        this.pendingEvaluators = size;
+        this.satisfied = new int[size];
+        if (defersProblems) {
+            this.buffer = new JsonEventBuffer();
+        } else if (needsBranches) {
+            this.negated = new ArrayList<>(size);
+            for (JsonSchema subschema : subschemas) {
+                this.negated.add(new DeferredEvaluator(subschema.createNegatedEvaluator(context, type), context));
+            }
+        }
     }
 
     @Override
     public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
-        if (evaluationsAsTrue <= 1) {
+        if (delegate != null) {
+            return delegate.evaluate(event, depth, dispatcher);
+        }
+        if (buffer != null) {
+            record(event);
+            if (buffer.size() > ReplayingEvaluatorContext.MAX_BUFFERED_EVENTS) {
+                return evaluateEagerly(dispatcher);
+            }
+        }
+        // The pending subschemas are evaluated until the end of the instance
+        // unless the result is already known and the problems are not needed,
+        // so that all the satisfied subschemas will be reported.
+        if (pendingEvaluators > 0 && (evaluationsAsTrue <= 1 || buffer != null)) {
             evaluateAll(event, depth, dispatcher);
+            if (buffer != null && evaluationsAsTrue == 1 && pendingEvaluators == 0) {
+                // The instance is known to be valid.
+                buffer = null;
+            }
+        }
+        if (negated != null) {
+            evaluateAllNegated(event, depth, dispatcher);
         }
-        evaluateAllNegated(event, depth, dispatcher);
         if (depth == 0 && event == closingEvent) {
             if (evaluationsAsTrue == 0) {
-                dispatchProblems(dispatcher, problemLists);
+                dispatchProblems(dispatcher, defersProblems ? evaluateAllAgain() : problemLists);
                 return Result.FALSE;
             } else if (evaluationsAsTrue > 1) {
-                dispatchNegatedProblems(dispatcher, negatedProblemLists);
+                dispatchNegatedProblems(dispatcher, defersProblems ? replayAllNegated() : negatedProblemLists());
                 return Result.FALSE;
             }
             return Result.TRUE;
@@ -70,20 +141,102 @@ class ExclusiveEvaluator extends AbstractExclusiveEvaluator {
         return Result.PENDING;
     }
 
+    private void record(Event event) {
+        if (basePointer == null) {
+            basePointer = getContext().getPointer();
+        }
+        buffer.add(event, getContext().getParser());
+    }
+
+    /**
+     * Replays the buffered events against a new evaluator which evaluates all
+     * the subschemas eagerly, and delegates the remaining events to it.
+     *
+     * @param dispatcher the dispatcher of the problems found.
+     * @return the result of the new evaluator.
+     */
+    private Result evaluateEagerly(ProblemDispatcher dispatcher) {
+        ReplayingEvaluatorContext context = new ReplayingEvaluatorContext(getContext(), basePointer, buffer, true);
+        context.start();
+        Evaluator evaluator = new ExclusiveEvaluator(context, type, closingEvent, subschemas, false);
+        Result result = context.replay(evaluator, dispatcher);
+        context.resume();
+        if (result == Result.PENDING) {
+            delegate = evaluator;
+        }
+        Arrays.fill(operands, null);
+        buffer = null;
+        return result;
+    }
+
     private void evaluateAll(Event event, int depth, ProblemDispatcher dispatcher) {
-        Iterator<DeferredEvaluator> it = operands.iterator();
-        while (it.hasNext()) {
-            DeferredEvaluator current = it.next();
+        final DeferredEvaluator[] operands = this.operands;
+        for (int i = 0; i < operands.length; i++) {
+            DeferredEvaluator current = operands[i];
+            if (current == null) {
+                continue;
+            }
             Result result = current.evaluate(event, depth, dispatcher);
             if (result != Result.PENDING) {
                 if (result == Result.TRUE) {
-                    evaluationsAsTrue++;
-                } else if (result == Result.FALSE) {
+                    satisfied[evaluationsAsTrue++] = i;
+                } else if (result == Result.FALSE && !defersProblems) {
                     addBadEvaluator(current);
                 }
-                it.remove();
+                operands[i] = null;
+                --pendingEvaluators;
+            }
+        }
+    }
+
+    /**
+     * Replays the buffered events against the evaluators of all the subschemas
+     * which retain the problems found.
+     *
+     * @return the problems found by the evaluators.
+     */
+    private List<ProblemList> evaluateAllAgain() {
+        List<ProblemList> problemLists = new ArrayList<>();
+        ReplayingEvaluatorContext context = new ReplayingEvaluatorContext(getContext(), basePointer, buffer, false);
+        context.start();
+        List<DeferredEvaluator> evaluators = new ArrayList<>(subschemas.size());
+        for (JsonSchema subschema : subschemas) {
+            evaluators.add(new DeferredEvaluator(subschema.createEvaluator(context, type), context));
+        }
+        context.replay(evaluators, (evaluator, result) -> {
+            if (result == Result.FALSE) {
+                problemLists.add(evaluator.problems());
             }
+        });
+        buffer = null;
+        return problemLists;
+    }
+
+    /**
+     * Replays the buffered events against the negated evaluators of the
+     * satisfied subschemas.
+     *
+     * @return the problems found by the negated evaluators.
+     */
+    private List<ProblemList> replayAllNegated() {
+        if (buffer == null) {
+            return Collections.emptyList();
+        }
+        ReplayingEvaluatorContext context = new ReplayingEvaluatorContext(getContext(), basePointer, buffer, false);
+        context.start();
+        List<DeferredEvaluator> negated = new ArrayList<>(evaluationsAsTrue);
+        for (int i = 0; i < evaluationsAsTrue; i++) {
+            JsonSchema subschema = subschemas.get(satisfied[i]);
+            negated.add(new DeferredEvaluator(subschema.createNegatedEvaluator(context, type), context));
         }
+        List<ProblemList> negatedProblemLists = new ArrayList<>();
+        context.replay(negated, (evaluator, result) -> {
+            if (result == Result.FALSE) {
+                negatedProblemLists.add(evaluator.problems());
+            }
+        });
+        buffer = null;
+        return negatedProblemLists;
     }
 
     private void evaluateAllNegated(Event event, int depth, ProblemDispatcher dispatcher) {
@@ -93,28 +246,25 @@ class ExclusiveEvaluator extends AbstractExclusiveEvaluator {
             Result result = current.evaluate(event, depth, dispatcher);
             if (result != Result.PENDING) {
                 if (result == Result.FALSE) {
-                    addBadNegatedEvaluator(current);
+                    if (negatedProblemLists == null) {
+                        negatedProblemLists = new ArrayList<>();
+                    }
+                    negatedProblemLists.add(current.problems());
                 }
                 it.remove();
             }
         }
     }
 
+    private List<ProblemList> negatedProblemLists() {
+        // The negated evaluators are not run in fail-fast mode.
+        return negatedProblemLists != null ? negatedProblemLists : Collections.emptyList();
+    }
+
     private void addBadEvaluator(DeferredEvaluator evaluator) {
         if (this.problemLists == null) {
             this.problemLists = new ArrayList<>();
         }
         this.problemLists.add(evaluator.problems());
     }
-
-    private void addBadNegatedEvaluator(DeferredEvaluator evaluator) {
-        if (this.negatedProblemLists == null) {
-            this.negatedProblemLists = new ArrayList<>();
-        }
-        this.negatedProblemLists.add(evaluator.problems());
-    }
-
-    private List<DeferredEvaluator> createEvaluators(Stream<Evaluator> stream) {
-        return stream.map(DeferredEvaluator::new).collect(Collectors.toList());
-    }
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.Evaluator.Result;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.base.json.DefaultPointerAwareJsonParser;
+import org.leadpony.justify.internal.base.json.JsonEventBuffer;
+import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.base.json.ParserValueCache;
+
+/**
+ * Evaluator context which replays the events recorded in a
+ * {@link JsonEventBuffer}.
+ *
+ * <p>
+ * The JSON pointers are resolved relative to the instance where the recording
+ * started. A resumable context can be switched back to the original context
+ * after the replay, so that the evaluators created with it continue to receive
+ * the remaining events of the instance. Default values are supplied only by
+ * the evaluators of a resumable context.
+ * </p>
+ *
+ * @author leadpony
+ */
+class ReplayingEvaluatorContext implements EvaluatorContext {
+
+    /**
+     * The maximum number of events which an evaluator may buffer to replay
+     * later. An evaluator which would exceed this limit should replay the
+     * buffered events at once and evaluate the rest eagerly.
+     */
+    static final int MAX_BUFFERED_EVENTS = 1024;
+
+    private final EvaluatorContext context;
+    private final String basePointer;
+    private final DefaultPointerAwareJsonParser parser;
+    private final ParserValueCache valueCache = new ParserValueCache();
+    private final boolean resumable;
+    private boolean resumed;
+
+    /**
+     * Constructs this context.
+     *
+     * @param context     the original context of the evaluators.
+     * @param basePointer the JSON pointer to the instance recorded.
+     * @param buffer      the recorded events.
+     * @param resumable   {@code true} if this context will be resumed after the
+     *                    replay.
+     */
+    ReplayingEvaluatorContext(EvaluatorContext context, String basePointer, JsonEventBuffer buffer,
+            boolean resumable) {
+        JsonProvider jsonProvider = context.getJsonProvider();
+        this.context = context;
+        this.basePointer = basePointer;
+        this.parser = new DefaultPointerAwareJsonParser(buffer.createParser(jsonProvider), jsonProvider);
+        this.resumable = resumable;
+    }
+
+    /**
+     * Moves to the first recorded event.
+     *
+     * @return the first recorded event.
+     */
+    Event start() {
+        return parser.next();
+    }
+
+    /**
+     * Replays all the recorded events against the specified evaluators. The
+     * first event must have been consumed by {@link #start()}.
+     *
+     * @param evaluators the evaluators to receive the events. Evaluators which
+     *                   completed are removed from the list.
+     * @param listener   the listener to be notified of the completed evaluators.
+     */
+    void replay(List<DeferredEvaluator> evaluators, CompletionListener listener) {
+        Event event = parser.getCurrentEvent();
+        int depth = 0;
+        for (;;) {
+            valueCache.clear(parser);
+            if (ParserEvents.isEndOfContainer(event)) {
+                --depth;
+            }
+            Iterator<DeferredEvaluator> it = evaluators.iterator();
+            while (it.hasNext()) {
+                DeferredEvaluator evaluator = it.next();
+                Result result = evaluator.evaluate(event, depth, evaluator);
+                if (result != Result.PENDING) {
+                    listener.onCompletion(evaluator, result);
+                    it.remove();
+                }
+            }
+            if (ParserEvents.isStartOfContainer(event)) {
+                ++depth;
+            }
+            if (evaluators.isEmpty() || !parser.hasNext()) {
+                break;
+            }
+            event = parser.next();
+        }
+    }
+
+    /**
+     * Replays all the recorded events against the specified evaluator. The
+     * first event must have been consumed by {@link #start()}.
+     *
+     * @param evaluator  the evaluator to receive the events.
+     * @param dispatcher the dispatcher of the problems found.
+     * @return the result of the last evaluation.
+     */
+    Result replay(Evaluator evaluator, ProblemDispatcher dispatcher) {
+        Event event = parser.getCurrentEvent();
+        int depth = 0;
+        for (;;) {
+            valueCache.clear(parser);
+            if (ParserEvents.isEndOfContainer(event)) {
+                --depth;
+            }
+            Result result = evaluator.evaluate(event, depth, dispatcher);
+            if (ParserEvents.isStartOfContainer(event)) {
+                ++depth;
+            }
+            if (result != Result.PENDING || !parser.hasNext()) {
+                return result;
+            }
+            event = parser.next();
+        }
+    }
+
+    /**
+     * Switches this context back to the original context.
+     */
+    void resume() {
+        assert resumable;
+        this.resumed = true;
+    }
+
+    @Override
+    public JsonParser getParser() {
+        return resumed ? context.getParser() : parser;
+    }
+
+    @Override
+    public String getPointer() {
+        return resumed ? context.getPointer() : basePointer + parser.getPointer();
+    }
+
+    @Override
+    public JsonProvider getJsonProvider() {
+        return context.getJsonProvider();
+    }
+
+    @Override
+    public JsonBuilderFactory getJsonBuilderFactory() {
+        return context.getJsonBuilderFactory();
+    }
+
+    @Override
+    public String getStringValue() {
+        return resumed ? context.getStringValue() : valueCache.getString();
+    }
+
+    @Override
+    public int getStringLength() {
+        return resumed ? context.getStringLength() : valueCache.getStringLength();
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() {
+        return resumed ? context.getDecimalValue() : valueCache.getBigDecimal();
+    }
+
+    @Override
+    public boolean isLongValue() {
+        return resumed ? context.isLongValue() : valueCache.isLong();
+    }
+
+    @Override
+    public long getLongValue() {
+        return resumed ? context.getLongValue() : valueCache.getLong();
+    }
+
+    @Override
+    public JsonValue getScalarValue() {
+        return resumed ? context.getScalarValue() : valueCache.getValue();
+    }
+
+    @Override
+    public boolean isFailFast() {
+        return context.isFailFast();
+    }
+
+    @Override
+    public boolean isValidityOnly() {
+        return context.isValidityOnly();
+    }
+
+    @Override
+    public boolean acceptsDefaultValues() {
+        return resumable && context.acceptsDefaultValues();
+    }
+
+    @Override
+    public void putDefaultProperties(Map<String, JsonValue> properties) {
+        if (resumable) {
+            context.putDefaultProperties(properties);
+        }
+    }
+
+    @Override
+    public void putDefaultItems(List<JsonValue> items) {
+        if (resumable) {
+            context.putDefaultItems(items);
+        }
+    }
+
+    /**
+     * Listener of evaluators completed during the replay.
+     *
+     * @author leadpony
+     */
+    @FunctionalInterface
+    interface CompletionListener {
+
+        void onCompletion(DeferredEvaluator evaluator, Result result);
+    }
+}
@@ -16,30 +16,50 @@
 
 package org.leadpony.justify.internal.evaluator;
 
-import java.util.ArrayList;
-
 import javax.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.ProblemDispatcher;
 
 /**
  * Evaluator for "allOf" boolean logic.
  *
+ * <p>
+ * The operands are kept in a plain array sized by the caller so that no
+ * collection or iterator is allocated while evaluating. In fail-fast mode the
+ * evaluation stops at the first operand evaluated as false.
+ * </p>
+ *
  * @author leadpony
  */
-class SimpleConjunctiveEvaluator extends ArrayList<Evaluator> implements LogicalEvaluator {
+class SimpleConjunctiveEvaluator implements LogicalEvaluator {
+
+    private static final int DEFAULT_CAPACITY = 4;
 
-    private static final long serialVersionUID = 1L;
+    protected final boolean failFast;
+    protected Evaluator[] operands;
+    protected int size;
 
-    SimpleConjunctiveEvaluator() {
+    SimpleConjunctiveEvaluator(EvaluatorContext context) {
+        this(context, DEFAULT_CAPACITY);
+    }
+
+    SimpleConjunctiveEvaluator(EvaluatorContext context, int capacity) {
+        this.failFast = context.isFailFast();
+        this.operands = new Evaluator[Math.max(capacity, 1)];
     }
 
     @Override
     public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
         Result finalResult = Result.TRUE;
-        for (Evaluator operand : this) {
-            if (operand.evaluate(event, depth, dispatcher) == Result.FALSE) {
+        final Evaluator[] operands = this.operands;
+        final int size = this.size;
+        for (int i = 0; i < size; i++) {
+            if (operands[i].evaluate(event, depth, dispatcher) == Result.FALSE) {
+                if (failFast) {
+                    return Result.FALSE;
+                }
                 finalResult = Result.FALSE;
             }
         }
@@ -51,6 +71,11 @@ class SimpleConjunctiveEvaluator extends ArrayList<Evaluator> implements Logical
         if (evaluator == Evaluator.ALWAYS_TRUE) {
             return;
         }
-        add(evaluator);
+        if (size == operands.length) {
+            Evaluator[] extended = new Evaluator[size * 2];
+            System.arraycopy(operands, 0, extended, 0, size);
+            operands = extended;
+        }
+        operands[size++] = evaluator;
     }
 }
@@ -25,6 +25,8 @@ import javax.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
@@ -33,16 +35,52 @@ import org.leadpony.justify.internal.problem.ProblemList;
 /**
  * Evaluator for "anyOf" boolean logic.
  *
+ * <p>
+ * If this evaluator is created for the subschemas, the subschemas are first
+ * evaluated only for their validity, and evaluated again to find the detailed
+ * problems only when none of them is satisfied.
+ * </p>
+ *
  * @author leadpony
  */
 class SimpleDisjunctiveEvaluator extends AbstractLogicalEvaluator
     implements Iterable<DeferredEvaluator> {
 
     private final List<DeferredEvaluator> operands = new ArrayList<>();
+    private final InstanceType type;
+    private final List<JsonSchema> subschemas;
     private List<ProblemList> problemLists;
 
     SimpleDisjunctiveEvaluator(EvaluatorContext context) {
         super(context);
+        this.type = null;
+        this.subschemas = null;
+    }
+
+    SimpleDisjunctiveEvaluator(EvaluatorContext context, InstanceType type, List<JsonSchema> subschemas) {
+        this(context, type, subschemas, true);
+    }
+
+    /**
+     * Constructs this evaluator.
+     *
+     * @param context    the context of this evaluator.
+     * @param type       the type of the instance.
+     * @param subschemas the subschemas to evaluate.
+     * @param defers     {@code true} if the subschemas are first evaluated only
+     *                   for their validity, {@code false} if they retain their
+     *                   problems from the beginning.
+     */
+    protected SimpleDisjunctiveEvaluator(EvaluatorContext context, InstanceType type, List<JsonSchema> subschemas,
+            boolean defers) {
+        super(context);
+        this.type = type;
+        // The problems of the only subschema will be reported whenever it fails.
+        this.subschemas = defers && subschemas.size() > 1 ? subschemas : null;
+        EvaluatorContext operandContext = this.subschemas != null ? ValidityOnlyEvaluatorContext.of(context) : context;
+        for (JsonSchema subschema : subschemas) {
+            this.operands.add(new DeferredEvaluator(subschema.createEvaluator(operandContext, type), operandContext));
+        }
     }
 
     @Override
@@ -55,12 +93,20 @@ class SimpleDisjunctiveEvaluator extends AbstractLogicalEvaluator
                 addBadEvaluator(operand);
             }
         }
+        if (defersProblems()) {
+            clearBadEvaluators();
+            for (DeferredEvaluator operand : createOperands(getContext())) {
+                if (operand.evaluate(event, depth, operand) == Result.FALSE) {
+                    addBadEvaluator(operand);
+                }
+            }
+        }
         return dispatchProblems(dispatcher);
     }
 
     @Override
     public void append(Evaluator evaluator) {
-        this.operands.add(new DeferredEvaluator(evaluator));
+        this.operands.add(new DeferredEvaluator(evaluator, getContext()));
     }
 
     @Override
@@ -68,6 +114,37 @@ class SimpleDisjunctiveEvaluator extends AbstractLogicalEvaluator
         return operands.iterator();
     }
 
+    /**
+     * Checks if the problems of the subschemas are found only after all of them
+     * turned out to be unsatisfied.
+     *
+     * @return {@code true} if the problems are found later.
+     */
+    protected final boolean defersProblems() {
+        return subschemas != null && !getContext().isValidityOnly();
+    }
+
+    /**
+     * Creates the evaluators of the subschemas which retain their problems.
+     *
+     * @param context the context of the evaluators.
+     * @return newly created evaluators.
+     */
+    protected final List<DeferredEvaluator> createOperands(EvaluatorContext context) {
+        List<DeferredEvaluator> operands = new ArrayList<>(subschemas.size());
+        for (JsonSchema subschema : subschemas) {
+            operands.add(new DeferredEvaluator(subschema.createEvaluator(context, type), context));
+        }
+        return operands;
+    }
+
+    /**
+     * Discards the problems found by the evaluators so far.
+     */
+    protected final void clearBadEvaluators() {
+        this.problemLists = null;
+    }
+
     protected void addBadEvaluator(DeferredEvaluator evaluator) {
         if (this.problemLists == null) {
             this.problemLists = new ArrayList<>();
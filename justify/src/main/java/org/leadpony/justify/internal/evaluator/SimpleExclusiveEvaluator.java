@@ -17,29 +17,40 @@
 package org.leadpony.justify.internal.evaluator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.function.Function;
 
 import javax.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.problem.ProblemList;
 
 /**
+ * Evaluator for "oneOf" boolean logic applied to scalar values.
+ *
+ * <p>
+ * The subschemas are first evaluated only for their validity. The evaluators
+ * retaining the problems are created only when the value turns out to be
+ * invalid.
+ * </p>
+ *
  * @author leadpony
  */
 class SimpleExclusiveEvaluator extends AbstractExclusiveEvaluator {
 
-    private final Stream<Evaluator> operands;
-    private final Stream<Evaluator> negated;
+    private final List<JsonSchema> subschemas;
+    private final InstanceType type;
 
-    SimpleExclusiveEvaluator(EvaluatorContext context, Stream<Evaluator> operands, Stream<Evaluator> negated) {
+    SimpleExclusiveEvaluator(EvaluatorContext context, InstanceType type, List<JsonSchema> subschemas) {
         super(context);
-        this.operands = operands;
-        this.negated = negated;
+        this.subschemas = subschemas;
+        this.type = type;
     }
 
     @Override
@@ -48,39 +59,60 @@ class SimpleExclusiveEvaluator extends AbstractExclusiveEvaluator {
         if (evaluationsAsTrue == 1) {
             return Result.TRUE;
         } else if (evaluationsAsTrue > 1) {
-            evaluateAllNegated(event, depth, dispatcher);
+            if (getContext().isValidityOnly()) {
+                dispatchNegatedProblems(dispatcher, Collections.emptyList());
+            } else {
+                evaluateAllNegated(event, depth, dispatcher);
+            }
         }
         return Result.FALSE;
     }
 
-    private static Iterator<DeferredEvaluator> iterator(Stream<Evaluator> stream) {
-        return stream.map(DeferredEvaluator::new).iterator();
+    private Iterator<DeferredEvaluator> iterator(EvaluatorContext context, Function<JsonSchema, Evaluator> mapper) {
+        return subschemas.stream().map(mapper).map(evaluator -> new DeferredEvaluator(evaluator, context)).iterator();
     }
 
     private int evaluateAll(Event event, int depth, ProblemDispatcher dispatcher) {
-        List<ProblemList> problemLists = new ArrayList<>();
-        Iterator<DeferredEvaluator> it = iterator(operands);
+        EvaluatorContext context = ValidityOnlyEvaluatorContext.of(getContext());
+        Iterator<DeferredEvaluator> it = iterator(context, s -> s.createEvaluator(context, type));
         int evaluationsAsTrue = 0;
         while (it.hasNext()) {
             DeferredEvaluator current = it.next();
             Result result = current.evaluate(event, depth, dispatcher);
             if (result == Result.TRUE) {
                 ++evaluationsAsTrue;
-            } else if (result == Result.FALSE) {
-                problemLists.add(current.problems());
             } else {
-                assert false;
+                assert result == Result.FALSE;
             }
         }
         if (evaluationsAsTrue == 0) {
-            dispatchProblems(dispatcher, problemLists);
+            if (getContext().isValidityOnly()) {
+                dispatchProblems(dispatcher, Collections.emptyList());
+            } else {
+                evaluateAllAgain(event, depth, dispatcher);
+            }
         }
         return evaluationsAsTrue;
     }
 
+    private void evaluateAllAgain(Event event, int depth, ProblemDispatcher dispatcher) {
+        List<ProblemList> problemLists = new ArrayList<>();
+        EvaluatorContext context = getContext();
+        Iterator<DeferredEvaluator> it = iterator(context, s -> s.createEvaluator(context, type));
+        while (it.hasNext()) {
+            DeferredEvaluator current = it.next();
+            Result result = current.evaluate(event, depth, dispatcher);
+            if (result == Result.FALSE) {
+                problemLists.add(current.problems());
+            }
+        }
+        dispatchProblems(dispatcher, problemLists);
+    }
+
     private void evaluateAllNegated(Event event, int depth, ProblemDispatcher dispatcher) {
         List<ProblemList> problemLists = new ArrayList<>();
-        Iterator<DeferredEvaluator> it = iterator(negated);
+        EvaluatorContext context = getContext();
+        Iterator<DeferredEvaluator> it = iterator(context, s -> s.createNegatedEvaluator(context, type));
         while (it.hasNext()) {
             DeferredEvaluator current = it.next();
             Result result = current.evaluate(event, depth, dispatcher);
@@ -58,7 +58,7 @@ class SimpleNotExclusiveEvaluator extends AbstractLogicalEvaluator
         if (evaluator == Evaluator.ALWAYS_TRUE) {
             return;
         }
-        operands.add(new DeferredEvaluator(evaluator));
+        operands.add(new DeferredEvaluator(evaluator, getContext()));
     }
 
     @Override
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+
+import org.leadpony.justify.api.EvaluatorContext;
+
+/**
+ * Evaluator context which needs only the validity of the instance. All other
+ * requests are delegated to the original context.
+ *
+ * <p>
+ * The evaluators created with this context stop at the first problem and never
+ * build any problems. This context is used to evaluate the branches of boolean
+ * logic whose problems will be discarded in the common case.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class ValidityOnlyEvaluatorContext implements EvaluatorContext {
+
+    private final EvaluatorContext context;
+
+    /**
+     * Returns the context which needs only the validity of the instance.
+     *
+     * @param context the original context.
+     * @return the specified context itself if it needs only the validity of the
+     *         instance, otherwise newly created context.
+     */
+    static EvaluatorContext of(EvaluatorContext context) {
+        if (context.isValidityOnly()) {
+            return context;
+        }
+        return new ValidityOnlyEvaluatorContext(context);
+    }
+
+    private ValidityOnlyEvaluatorContext(EvaluatorContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public JsonParser getParser() {
+        return context.getParser();
+    }
+
+    @Override
+    public String getPointer() {
+        return context.getPointer();
+    }
+
+    @Override
+    public JsonProvider getJsonProvider() {
+        return context.getJsonProvider();
+    }
+
+    @Override
+    public JsonBuilderFactory getJsonBuilderFactory() {
+        return context.getJsonBuilderFactory();
+    }
+
+    @Override
+    public String getStringValue() {
+        return context.getStringValue();
+    }
+
+    @Override
+    public int getStringLength() {
+        return context.getStringLength();
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() {
+        return context.getDecimalValue();
+    }
+
+    @Override
+    public boolean isLongValue() {
+        return context.isLongValue();
+    }
+
+    @Override
+    public long getLongValue() {
+        return context.getLongValue();
+    }
+
+    @Override
+    public JsonValue getScalarValue() {
+        return context.getScalarValue();
+    }
+
+    @Override
+    public boolean isFailFast() {
+        return true;
+    }
+
+    @Override
+    public boolean isValidityOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean acceptsDefaultValues() {
+        return context.acceptsDefaultValues();
+    }
+
+    @Override
+    public void putDefaultProperties(Map<String, JsonValue> properties) {
+        context.putDefaultProperties(properties);
+    }
+
+    @Override
+    public void putDefaultItems(List<JsonValue> items) {
+        context.putDefaultItems(items);
+    }
+}
@@ -18,6 +18,7 @@ package org.leadpony.justify.internal.keyword;
 import javax.json.JsonValue;
 
 import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.internal.base.regex.RegexEngine;
 import org.leadpony.justify.spi.ContentEncodingScheme;
 import org.leadpony.justify.spi.ContentMimeType;
 import org.leadpony.justify.spi.FormatAttribute;
@@ -78,5 +79,21 @@ public interface KeywordFactory {
          * @return the MIME type.
          */
         ContentMimeType getMimeType(String value);
+
+        /**
+         * Returns the engine which compiles the regular expressions.
+         *
+         * @return the engine of the regular expressions.
+         */
+        RegexEngine getRegexEngine();
+
+        /**
+         * Returns the maximum size of the content to be examined by the content
+         * keywords.
+         *
+         * @return the maximum number of the bytes decoded from the content, or the
+         *         characters of the content not encoded.
+         */
+        long getMaxContentSize();
     }
 }
@@ -37,4 +37,22 @@ public interface ObjectKeyword extends SchemaKeyword {
     default Set<InstanceType> getSupportedTypes() {
         return EnumSet.of(InstanceType.OBJECT);
     }
+
+    /**
+     * Adds the property names this keyword refers to into the symbol table
+     * shared by the keywords of the same schema.
+     *
+     * @param builder the builder of the symbol table.
+     */
+    default void addPropertyNames(PropertySymbols.Builder builder) {
+    }
+
+    /**
+     * Binds the symbol table shared by the keywords of the same schema. The table
+     * contains all the names added by {@link #addPropertyNames}.
+     *
+     * @param symbols the symbol table of the property names.
+     */
+    default void bindPropertySymbols(PropertySymbols symbols) {
+    }
 }
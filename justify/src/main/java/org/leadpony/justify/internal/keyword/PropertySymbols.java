@@ -0,0 +1,186 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A symbol table which assigns an integer identifier to each property name
+ * appearing in the object keywords of a schema.
+ *
+ * <p>
+ * The identifiers start from zero and are dense, so that the keywords can
+ * track the presence of the properties with bit sets instead of collections of
+ * the names. The table is immutable and shared by all validations.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class PropertySymbols {
+
+    /**
+     * The identifier returned for the names not in the table.
+     */
+    public static final int UNKNOWN = -1;
+
+    private final String[] names;
+    // open-addressing hash table of the names.
+    private final String[] keys;
+    private final int[] ids;
+    private final int mask;
+
+    /**
+     * Creates a new builder of the table.
+     *
+     * @return newly created builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private PropertySymbols(List<String> names) {
+        this.names = names.toArray(new String[0]);
+        int capacity = Integer.highestOneBit(Math.max(names.size(), 1) * 2 - 1) << 1;
+        this.keys = new String[capacity];
+        this.ids = new int[capacity];
+        this.mask = capacity - 1;
+        for (int id = 0; id < this.names.length; id++) {
+            String name = this.names[id];
+            int slot = spread(name.hashCode()) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = name;
+            ids[slot] = id;
+        }
+    }
+
+    /**
+     * Returns the number of the names in this table.
+     *
+     * @return the number of the names.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the identifier of the specified property name.
+     *
+     * @param name the name of the property.
+     * @return the identifier of the name, or {@link #UNKNOWN} if the name is not
+     *         in this table.
+     */
+    public int idOf(String name) {
+        int slot = spread(name.hashCode()) & mask;
+        String key;
+        while ((key = keys[slot]) != null) {
+            if (key.equals(name)) {
+                return ids[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Returns the property name of the specified identifier.
+     *
+     * @param id the identifier of the name.
+     * @return the name of the property.
+     */
+    public String nameOf(int id) {
+        return names[id];
+    }
+
+    /**
+     * Returns the identifiers of the specified property names.
+     *
+     * @param names the names of the properties, all of which must be in this
+     *              table.
+     * @return the identifiers in the same order as the names.
+     */
+    public int[] idsOf(Iterable<String> names) {
+        List<Integer> found = new ArrayList<>();
+        for (String name : names) {
+            found.add(idOf(name));
+        }
+        return found.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A builder of {@link PropertySymbols}.
+     *
+     * @author leadpony
+     */
+    public static final class Builder {
+
+        private final Set<String> names = new LinkedHashSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a property name to the table.
+         *
+         * @param name the name of the property.
+         * @return this builder.
+         */
+        public Builder add(String name) {
+            names.add(name);
+            return this;
+        }
+
+        /**
+         * Adds property names to the table.
+         *
+         * @param names the names of the properties.
+         * @return this builder.
+         */
+        public Builder addAll(Iterable<String> names) {
+            for (String name : names) {
+                add(name);
+            }
+            return this;
+        }
+
+        /**
+         * Checks if no names are added to this builder.
+         *
+         * @return {@code true} if no names are added.
+         */
+        public boolean isEmpty() {
+            return names.isEmpty();
+        }
+
+        /**
+         * Builds the table.
+         *
+         * @return newly built table.
+         */
+        public PropertySymbols build() {
+            return new PropertySymbols(new ArrayList<>(names));
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.leadpony.justify.internal.evaluator.AbstractDisjunctivePropertiesEval
 import org.leadpony.justify.internal.keyword.Evaluatable;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
 import org.leadpony.justify.internal.keyword.ObjectKeyword;
+import org.leadpony.justify.internal.keyword.PropertySymbols;
 
 /**
  * A skeletal implementation for "properties" and "patternProperties" keywords.
@@ -84,6 +85,48 @@ public abstract class AbstractProperties<K> extends Applicator implements Object
 
     protected abstract boolean findSubschemas(String keyName, Consumer<JsonSchema> consumer);
 
+    /**
+     * Finds the subschemas for the property whose key name is already resolved
+     * with the symbol table shared by the keywords of the schema.
+     *
+     * @param id       the identifier of the key name, may be
+     *                 {@link PropertySymbols#UNKNOWN}.
+     * @param keyName  the key name of the property.
+     * @param consumer the consumer of the subschemas found.
+     * @return {@code true} if any subschema was found.
+     */
+    boolean findSubschemas(int id, String keyName, Consumer<JsonSchema> consumer) {
+        return findSubschemas(keyName, consumer);
+    }
+
+    /**
+     * Returns the subschema for the properties which match no subschemas of this
+     * keyword.
+     *
+     * @return the subschema given by "additionalProperties" keyword.
+     */
+    JsonSchema getDefaultSchema() {
+        return defaultSchema;
+    }
+
+    /**
+     * Creates an evaluator of a property value.
+     *
+     * @param context   the context of the evaluator.
+     * @param keyName   the key name of the property.
+     * @param subschema the subschema to evaluate.
+     * @param type      the type of the property value.
+     * @return newly created evaluator.
+     */
+    static Evaluator createPropertyEvaluator(EvaluatorContext context, String keyName, JsonSchema subschema,
+            InstanceType type) {
+        if (subschema == JsonSchema.FALSE) {
+            return new RedundantPropertyEvaluator(context, keyName, JsonSchema.FALSE);
+        } else {
+            return subschema.createEvaluator(context, type);
+        }
+    }
+
     /**
      * An evaluator of this keyword.
      *
@@ -103,7 +146,7 @@ public abstract class AbstractProperties<K> extends Applicator implements Object
         @Override
         public void updateChildren(Event event, JsonParser parser) {
             if (event == Event.KEY_NAME) {
-                currentKeyName = parser.getString();
+                currentKeyName = getContext().getStringValue();
             } else if (ParserEvents.isValue(event)) {
                 currentType = ParserEvents.toBroadInstanceType(event);
                 if (!findSubschemas(currentKeyName, this)) {
@@ -116,11 +159,7 @@ public abstract class AbstractProperties<K> extends Applicator implements Object
 
         @Override
         public void accept(JsonSchema subschema) {
-            if (subschema == JsonSchema.FALSE) {
-                append(new RedundantPropertyEvaluator(getContext(), currentKeyName, JsonSchema.FALSE));
-            } else {
-                append(subschema.createEvaluator(getContext(), currentType));
-            }
+            append(createPropertyEvaluator(getContext(), currentKeyName, subschema, currentType));
         }
     }
 
@@ -144,7 +183,7 @@ public abstract class AbstractProperties<K> extends Applicator implements Object
         @Override
         public void updateChildren(Event event, JsonParser parser) {
             if (event == Event.KEY_NAME) {
-                currentKeyName = parser.getString();
+                currentKeyName = getContext().getStringValue();
             } else if (ParserEvents.isValue(event)) {
                 currentType = ParserEvents.toBroadInstanceType(event);
                 if (!findSubschemas(currentKeyName, this)) {
@@ -17,6 +17,7 @@
 package org.leadpony.justify.internal.keyword.applicator;
 
 import java.util.Collection;
+import java.util.List;
 
 import javax.json.JsonValue;
 
@@ -57,9 +58,10 @@ public class AllOf extends NaryBooleanLogic {
     }
 
     @Override
-    protected LogicalEvaluator createLogicalEvaluator(EvaluatorContext context, InstanceType type) {
-        LogicalEvaluator evaluator = Evaluators.conjunctive(type);
-        getSubschemas().distinct()
+    protected LogicalEvaluator createLogicalEvaluator(EvaluatorContext context, InstanceType type,
+            List<JsonSchema> subschemas) {
+        LogicalEvaluator evaluator = Evaluators.conjunctive(context, type);
+        subschemas.stream().distinct()
                 .map(s -> s.createEvaluator(context, type))
                 .forEach(evaluator::append);
         return evaluator;
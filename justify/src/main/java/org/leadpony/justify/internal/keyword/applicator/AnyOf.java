@@ -17,6 +17,8 @@
 package org.leadpony.justify.internal.keyword.applicator;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.json.JsonValue;
 
@@ -57,17 +59,20 @@ public class AnyOf extends NaryBooleanLogic {
     }
 
     @Override
-    protected LogicalEvaluator createLogicalEvaluator(EvaluatorContext context, InstanceType type) {
-        LogicalEvaluator evaluator = Evaluators.disjunctive(context, type);
-        getSubschemas().distinct()
-                .map(s -> s.createEvaluator(context, type))
-                .forEach(evaluator::append);
-        return evaluator;
+    protected boolean isDiscriminable() {
+        return true;
+    }
+
+    @Override
+    protected LogicalEvaluator createLogicalEvaluator(EvaluatorContext context, InstanceType type,
+            List<JsonSchema> subschemas) {
+        return Evaluators.disjunctive(context, type,
+                subschemas.stream().distinct().collect(Collectors.toList()));
     }
 
     @Override
     protected LogicalEvaluator createNegatedLogicalEvaluator(EvaluatorContext context, InstanceType type) {
-        LogicalEvaluator evaluator = Evaluators.conjunctive(type);
+        LogicalEvaluator evaluator = Evaluators.conjunctive(context, type);
         getSubschemas().distinct()
                 .map(s -> s.createNegatedEvaluator(context, type))
                 .forEach(evaluator::append);
@@ -17,6 +17,7 @@
 package org.leadpony.justify.internal.keyword.applicator;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -46,10 +47,12 @@ import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.AbstractEvaluator;
+import org.leadpony.justify.internal.evaluator.EvaluatorDecorator;
 import org.leadpony.justify.internal.evaluator.Evaluators;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 import org.leadpony.justify.internal.keyword.ObjectKeyword;
+import org.leadpony.justify.internal.keyword.PropertySymbols;
 import org.leadpony.justify.internal.problem.DefaultProblemDispatcher;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
@@ -66,6 +69,7 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
 public class Dependencies extends Applicator implements ObjectKeyword {
 
     private final Map<String, Dependency> dependencyMap;
+    private PropertySymbols symbols;
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -111,24 +115,39 @@ public class Dependencies extends Applicator implements ObjectKeyword {
                 addDependency(property, requiredProperties);
             }
         });
+        PropertySymbols.Builder builder = PropertySymbols.builder();
+        collectPropertyNames(builder);
+        bind(builder.build());
+    }
+
+    @Override
+    public void addPropertyNames(PropertySymbols.Builder builder) {
+        collectPropertyNames(builder);
+    }
+
+    @Override
+    public void bindPropertySymbols(PropertySymbols symbols) {
+        bind(symbols);
     }
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        LogicalEvaluator evaluator = Evaluators.conjunctive(type);
+        PropertyTracker tracker = new PropertyTracker();
+        LogicalEvaluator evaluator = Evaluators.conjunctive(context, type);
         dependencyMap.values().stream()
-                .map(d -> d.createEvaluator(context))
+                .map(d -> d.createEvaluator(context, tracker))
                 .forEach(evaluator::append);
-        return evaluator;
+        return tracker.track(evaluator, context);
     }
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
+        PropertyTracker tracker = new PropertyTracker();
         LogicalEvaluator evaluator = Evaluators.disjunctive(context, type).withProblemBuilderFactory(this);
         dependencyMap.values().stream()
-                .map(d -> d.createNegatedEvaluator(context))
+                .map(d -> d.createNegatedEvaluator(context, tracker))
                 .forEach(evaluator::append);
-        return evaluator;
+        return tracker.track(evaluator, context);
     }
 
     @Override
@@ -155,7 +174,7 @@ public class Dependencies extends Applicator implements ObjectKeyword {
      * @param property  the key of the dependency.
      * @param subschema the value of the dependency.
      */
-    public void addDependency(String property, JsonSchema subschema) {
+    private void addDependency(String property, JsonSchema subschema) {
         dependencyMap.put(property, newDependency(property, subschema));
     }
 
@@ -165,10 +184,23 @@ public class Dependencies extends Applicator implements ObjectKeyword {
      * @param property           the key of the dependency.
      * @param requiredProperties the names of the required properties.
      */
-    public void addDependency(String property, Set<String> requiredProperties) {
+    private void addDependency(String property, Set<String> requiredProperties) {
         dependencyMap.put(property, newDependency(property, requiredProperties));
     }
 
+    private void collectPropertyNames(PropertySymbols.Builder builder) {
+        for (Dependency dependency : dependencyMap.values()) {
+            dependency.addPropertyNames(builder);
+        }
+    }
+
+    private void bind(PropertySymbols symbols) {
+        this.symbols = symbols;
+        for (Dependency dependency : dependencyMap.values()) {
+            dependency.bind(symbols);
+        }
+    }
+
     private Dependency newDependency(String property, JsonSchema subschema) {
         if (subschema == JsonSchema.TRUE || subschema == JsonSchema.EMPTY) {
             return new TrueSchemaDependency(property, subschema);
@@ -187,6 +219,60 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         }
     }
 
+    /**
+     * Tracker of the properties found in an object, which resolves each key name
+     * once for all the dependencies.
+     *
+     * @author leadpony
+     */
+    private final class PropertyTracker {
+
+        private final BitSet found = new BitSet(symbols.size());
+        private int currentId = PropertySymbols.UNKNOWN;
+
+        /**
+         * Decorates the evaluator of the dependencies with this tracker.
+         *
+         * @param evaluator the evaluator of all the dependencies.
+         * @param context   the context of the evaluator.
+         * @return the decorated evaluator.
+         */
+        Evaluator track(Evaluator evaluator, EvaluatorContext context) {
+            return new EvaluatorDecorator(evaluator, context) {
+                @Override
+                public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+                    if (depth == 1 && event == Event.KEY_NAME) {
+                        currentId = symbols.idOf(getContext().getStringValue());
+                        if (currentId != PropertySymbols.UNKNOWN) {
+                            found.set(currentId);
+                        }
+                    }
+                    return super.evaluate(event, depth, dispatcher);
+                }
+            };
+        }
+
+        /**
+         * Checks if the current key name is the specified property.
+         *
+         * @param id the identifier of the property.
+         * @return {@code true} if the current key name is the property.
+         */
+        boolean isCurrent(int id) {
+            return currentId == id;
+        }
+
+        /**
+         * Checks if the specified property was found in the object.
+         *
+         * @param id the identifier of the property.
+         * @return {@code true} if the property was found.
+         */
+        boolean contains(int id) {
+            return found.get(id);
+        }
+    }
+
     /**
      * Base evaluator for dependency.
      *
@@ -195,11 +281,15 @@ public class Dependencies extends Applicator implements ObjectKeyword {
     private abstract class DependencyEvaluator extends AbstractEvaluator {
 
         protected final String property;
+        protected final int id;
+        protected final PropertyTracker tracker;
         protected boolean active;
 
-        protected DependencyEvaluator(EvaluatorContext context, String property) {
+        protected DependencyEvaluator(EvaluatorContext context, Dependency dependency, PropertyTracker tracker) {
             super(context);
-            this.property = property;
+            this.property = dependency.getProperty();
+            this.id = dependency.getId();
+            this.tracker = tracker;
             this.active = false;
         }
 
@@ -225,6 +315,7 @@ public class Dependencies extends Applicator implements ObjectKeyword {
     private abstract static class Dependency {
 
         private final String property;
+        private int id;
 
         protected Dependency(String property) {
             this.property = property;
@@ -234,6 +325,18 @@ public class Dependencies extends Applicator implements ObjectKeyword {
             return property;
         }
 
+        int getId() {
+            return id;
+        }
+
+        void addPropertyNames(PropertySymbols.Builder builder) {
+            builder.add(property);
+        }
+
+        void bind(PropertySymbols symbols) {
+            this.id = symbols.idOf(property);
+        }
+
         boolean hasSubschema() {
             return false;
         }
@@ -241,16 +344,20 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         /**
          * Creates a new evaluator for this dependency.
          *
+         * @param context the context of the evaluator.
+         * @param tracker the tracker of the properties in the object.
          * @return newly created evaluator.
          */
-        abstract Evaluator createEvaluator(EvaluatorContext context);
+        abstract Evaluator createEvaluator(EvaluatorContext context, PropertyTracker tracker);
 
         /**
          * Creates a new evaluator for the negation of this dependency.
          *
+         * @param context the context of the evaluator.
+         * @param tracker the tracker of the properties in the object.
          * @return newly created evaluator.
          */
-        abstract Evaluator createNegatedEvaluator(EvaluatorContext context);
+        abstract Evaluator createNegatedEvaluator(EvaluatorContext context, PropertyTracker tracker);
 
         abstract JsonValue getValue(JsonProvider jsonProvider);
 
@@ -275,15 +382,15 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         }
 
         @Override
-        Evaluator createEvaluator(EvaluatorContext context) {
+        Evaluator createEvaluator(EvaluatorContext context, PropertyTracker tracker) {
             Evaluator subschemaEvaluator = subschema.createEvaluator(context, InstanceType.OBJECT);
-            return new SchemaDependencyEvaluator(context, getProperty(), subschemaEvaluator);
+            return new SchemaDependencyEvaluator(context, this, tracker, subschemaEvaluator);
         }
 
         @Override
-        Evaluator createNegatedEvaluator(EvaluatorContext context) {
+        Evaluator createNegatedEvaluator(EvaluatorContext context, PropertyTracker tracker) {
             Evaluator subschemaEvaluator = subschema.createNegatedEvaluator(context, InstanceType.OBJECT);
-            return new NegatedSchemaDependencyEvaluator(context, getProperty(), subschemaEvaluator);
+            return new NegatedSchemaDependencyEvaluator(context, this, tracker, subschemaEvaluator);
         }
 
         @Override
@@ -315,12 +422,12 @@ public class Dependencies extends Applicator implements ObjectKeyword {
             super(property, subschema);
         }
 
-        Evaluator createEvaluator(EvaluatorContext context) {
+        Evaluator createEvaluator(EvaluatorContext context, PropertyTracker tracker) {
             return Evaluator.ALWAYS_TRUE;
         }
 
         @Override
-        Evaluator createNegatedEvaluator(EvaluatorContext context) {
+        Evaluator createNegatedEvaluator(EvaluatorContext context, PropertyTracker tracker) {
             return Evaluators.alwaysFalse(getSubschema(), context);
         }
     }
@@ -335,8 +442,8 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         }
 
         @Override
-        Evaluator createEvaluator(EvaluatorContext context) {
-            return new ForbiddenDependantEvaluator(context, getProperty());
+        Evaluator createEvaluator(EvaluatorContext context, PropertyTracker tracker) {
+            return new ForbiddenDependantEvaluator(context, this, tracker);
         }
     }
 
@@ -349,20 +456,18 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         private Result result;
         private List<Problem> problems;
 
-        SchemaDependencyEvaluator(EvaluatorContext context, String property, Evaluator subschemaEvaluator) {
-            super(context, property);
+        SchemaDependencyEvaluator(EvaluatorContext context, Dependency dependency, PropertyTracker tracker,
+                Evaluator subschemaEvaluator) {
+            super(context, dependency, tracker);
             this.subschemaEvaluator = subschemaEvaluator;
         }
 
         @Override
         public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
             if (!active) {
-                if (depth == 1 && event == Event.KEY_NAME) {
-                    String keyName = getParser().getString();
-                    if (keyName.equals(property)) {
-                        active = true;
-                        dispatchAllProblems(dispatcher);
-                    }
+                if (depth == 1 && event == Event.KEY_NAME && tracker.isCurrent(id)) {
+                    active = true;
+                    dispatchAllProblems(dispatcher);
                 }
             }
             if (this.result == null) {
@@ -411,8 +516,9 @@ public class Dependencies extends Applicator implements ObjectKeyword {
      */
     private final class NegatedSchemaDependencyEvaluator extends SchemaDependencyEvaluator {
 
-        NegatedSchemaDependencyEvaluator(EvaluatorContext context, String property, Evaluator subschemaEvaluator) {
-            super(context, property, subschemaEvaluator);
+        NegatedSchemaDependencyEvaluator(EvaluatorContext context, Dependency dependency, PropertyTracker tracker,
+                Evaluator subschemaEvaluator) {
+            super(context, dependency, tracker, subschemaEvaluator);
         }
 
         @Override
@@ -429,6 +535,7 @@ public class Dependencies extends Applicator implements ObjectKeyword {
     private class PropertyDependency extends Dependency {
 
         private final Set<String> requiredProperties;
+        private int[] requiredIds;
 
         PropertyDependency(String property, Set<String> requiredProperties) {
             super(property);
@@ -436,13 +543,25 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         }
 
         @Override
-        Evaluator createEvaluator(EvaluatorContext context) {
-            return new PropertyDependencyEvaluator(context, getProperty(), requiredProperties);
+        void addPropertyNames(PropertySymbols.Builder builder) {
+            super.addPropertyNames(builder);
+            builder.addAll(requiredProperties);
+        }
+
+        @Override
+        void bind(PropertySymbols symbols) {
+            super.bind(symbols);
+            this.requiredIds = symbols.idsOf(requiredProperties);
+        }
+
+        @Override
+        Evaluator createEvaluator(EvaluatorContext context, PropertyTracker tracker) {
+            return new PropertyDependencyEvaluator(context, this, tracker);
         }
 
         @Override
-        Evaluator createNegatedEvaluator(EvaluatorContext context) {
-            return new NegatedPropertyDependencyEvaluator(context, getProperty(), requiredProperties);
+        Evaluator createNegatedEvaluator(EvaluatorContext context, PropertyTracker tracker) {
+            return new NegatedPropertyDependencyEvaluator(context, this, tracker);
         }
 
         @Override
@@ -470,13 +589,13 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         }
 
         @Override
-        Evaluator createEvaluator(EvaluatorContext context) {
+        Evaluator createEvaluator(EvaluatorContext context, PropertyTracker tracker) {
             return Evaluator.ALWAYS_TRUE;
         }
 
         @Override
-        Evaluator createNegatedEvaluator(EvaluatorContext context) {
-            return new NegatedForbiddenDependantEvaluator(context, getProperty());
+        Evaluator createNegatedEvaluator(EvaluatorContext context, PropertyTracker tracker) {
+            return new NegatedForbiddenDependantEvaluator(context, this, tracker);
         }
     }
 
@@ -488,24 +607,20 @@ public class Dependencies extends Applicator implements ObjectKeyword {
     private class PropertyDependencyEvaluator extends DependencyEvaluator {
 
         protected final Set<String> required;
-        protected final Set<String> missing;
+        private final int[] requiredIds;
 
-        PropertyDependencyEvaluator(EvaluatorContext context, String property, Set<String> required) {
-            super(context, property);
-            this.required = required;
-            this.missing = new LinkedHashSet<>(required);
+        PropertyDependencyEvaluator(EvaluatorContext context, PropertyDependency dependency,
+                PropertyTracker tracker) {
+            super(context, dependency, tracker);
+            this.required = dependency.requiredProperties;
+            this.requiredIds = dependency.requiredIds;
         }
 
         @Override
         public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
-            if (depth == 1 && event == Event.KEY_NAME) {
-                String keyName = getParser().getString();
-                if (keyName.equals(property)) {
+            if (depth == 0 && event == Event.END_OBJECT) {
+                if (tracker.contains(id)) {
                     active = true;
-                }
-                missing.remove(keyName);
-            } else if (depth == 0 && event == Event.END_OBJECT) {
-                if (active) {
                     return test(dispatcher);
                 } else {
                     return getResultWithoutDependant(dispatcher);
@@ -515,19 +630,34 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         }
 
         protected Result test(ProblemDispatcher dispatcher) {
-            if (missing.isEmpty()) {
-                return Result.TRUE;
-            } else {
-                for (String entry : missing) {
-                    Problem p = createProblemBuilder(getContext())
-                            .withMessage(Message.INSTANCE_PROBLEM_DEPENDENCIES)
-                            .withParameter("required", entry)
-                            .withParameter("dependant", property)
-                            .build();
-                    dispatcher.dispatchProblem(p);
+            Result result = Result.TRUE;
+            for (int requiredId : requiredIds) {
+                if (tracker.contains(requiredId)) {
+                    continue;
                 }
-                return Result.FALSE;
+                Problem p = createProblemBuilder(getContext())
+                        .withMessage(Message.INSTANCE_PROBLEM_DEPENDENCIES)
+                        .withParameter("required", symbols.nameOf(requiredId))
+                        .withParameter("dependant", property)
+                        .build();
+                dispatcher.dispatchProblem(p);
+                result = Result.FALSE;
             }
+            return result;
+        }
+
+        /**
+         * Checks if all the required properties were found.
+         *
+         * @return {@code true} if no required properties are missing.
+         */
+        protected boolean containsAllRequired() {
+            for (int requiredId : requiredIds) {
+                if (!tracker.contains(requiredId)) {
+                    return false;
+                }
+            }
+            return true;
         }
     }
 
@@ -536,8 +666,9 @@ public class Dependencies extends Applicator implements ObjectKeyword {
      */
     private class NegatedPropertyDependencyEvaluator extends PropertyDependencyEvaluator {
 
-        NegatedPropertyDependencyEvaluator(EvaluatorContext context, String property, Set<String> required) {
-            super(context, property, required);
+        NegatedPropertyDependencyEvaluator(EvaluatorContext context, PropertyDependency dependency,
+                PropertyTracker tracker) {
+            super(context, dependency, tracker);
         }
 
         @Override
@@ -554,7 +685,7 @@ public class Dependencies extends Applicator implements ObjectKeyword {
                         .build();
                 dispatcher.dispatchProblem(p);
                 return Result.FALSE;
-            } else if (missing.isEmpty()) {
+            } else if (containsAllRequired()) {
                 ProblemBuilder b = createProblemBuilder(getContext())
                         .withParameter("dependant", property);
                 if (required.size() == 1) {
@@ -579,14 +710,14 @@ public class Dependencies extends Applicator implements ObjectKeyword {
      */
     private class ForbiddenDependantEvaluator extends DependencyEvaluator {
 
-        ForbiddenDependantEvaluator(EvaluatorContext context, String property) {
-            super(context, property);
+        ForbiddenDependantEvaluator(EvaluatorContext context, Dependency dependency, PropertyTracker tracker) {
+            super(context, dependency, tracker);
         }
 
         @Override
         public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
             if (depth == 1 && event == Event.KEY_NAME) {
-                if (getParser().getString().equals(property)) {
+                if (tracker.isCurrent(id)) {
                     return dispatchProblem(dispatcher);
                 }
             } else if (depth == 0 && event == Event.END_OBJECT) {
@@ -610,8 +741,9 @@ public class Dependencies extends Applicator implements ObjectKeyword {
      */
     private class NegatedForbiddenDependantEvaluator extends ForbiddenDependantEvaluator {
 
-        NegatedForbiddenDependantEvaluator(EvaluatorContext context, String property) {
-            super(context, property);
+        NegatedForbiddenDependantEvaluator(EvaluatorContext context, Dependency dependency,
+                PropertyTracker tracker) {
+            super(context, dependency, tracker);
         }
 
         @Override
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.applicator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.Keyword;
+import org.leadpony.justify.internal.keyword.assertion.Const;
+import org.leadpony.justify.internal.keyword.assertion.Enum;
+import org.leadpony.justify.internal.keyword.assertion.Required;
+import org.leadpony.justify.internal.schema.SchemaReference;
+
+/**
+ * A property which discriminates the subschemas of a boolean logic.
+ *
+ * <p>
+ * A property discriminates the subschemas when every subschema requires the
+ * property with "required" keyword and restricts its value to strings with
+ * "const" or "enum" keyword in "properties" keyword. Any object whose
+ * property has a value not allowed by a subschema is invalid against the
+ * subschema.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class Discriminator {
+
+    /**
+     * The discriminator representing that no property discriminates the
+     * subschemas.
+     */
+    static final Discriminator NONE = new Discriminator(null, Collections.emptyMap());
+
+    /**
+     * The maximum number of references to follow.
+     */
+    private static final int MAX_REFERENCES = 16;
+
+    private final String propertyName;
+    private final Map<String, List<JsonSchema>> subschemaMap;
+
+    private Discriminator(String propertyName, Map<String, List<JsonSchema>> subschemaMap) {
+        this.propertyName = propertyName;
+        this.subschemaMap = subschemaMap;
+    }
+
+    /**
+     * Finds the discriminating property of the specified subschemas.
+     *
+     * @param subschemas the subschemas to analyze.
+     * @return the discriminator found, or {@link #NONE} if not found.
+     */
+    static Discriminator find(List<JsonSchema> subschemas) {
+        if (subschemas.size() < 2) {
+            return NONE;
+        }
+        Keyword required = getKeyword(subschemas.get(0), "required");
+        if (!(required instanceof Required)) {
+            return NONE;
+        }
+        for (String name : ((Required) required).getNames()) {
+            Map<String, List<JsonSchema>> subschemaMap = mapSubschemas(subschemas, name);
+            if (subschemaMap != null) {
+                return new Discriminator(name, subschemaMap);
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Checks if this discriminator has a discriminating property.
+     *
+     * @return {@code true} if this discriminator has a property.
+     */
+    boolean exists() {
+        return propertyName != null;
+    }
+
+    /**
+     * Returns the name of the discriminating property.
+     *
+     * @return the name of the property.
+     */
+    String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * Selects the subschemas which allow the specified value of the property.
+     *
+     * @param value the value of the property.
+     * @return the subschemas selected, or {@code null} if no subschema allows the
+     *         value.
+     */
+    List<JsonSchema> select(String value) {
+        return subschemaMap.get(value);
+    }
+
+    private static Map<String, List<JsonSchema>> mapSubschemas(List<JsonSchema> subschemas, String name) {
+        Map<String, List<JsonSchema>> subschemaMap = new HashMap<>();
+        for (JsonSchema subschema : subschemas) {
+            Set<String> values = findAllowedValues(subschema, name);
+            if (values == null) {
+                return null;
+            }
+            // The same subschema given more than once is selected as many times.
+            for (String value : values) {
+                subschemaMap.computeIfAbsent(value, k -> new ArrayList<>()).add(subschema);
+            }
+        }
+        return subschemaMap;
+    }
+
+    private static Set<String> findAllowedValues(JsonSchema subschema, String name) {
+        Keyword required = getKeyword(subschema, "required");
+        if (!(required instanceof Required)
+                || !((Required) required).getNames().contains(name)) {
+            return null;
+        }
+        Keyword properties = getKeyword(subschema, "properties");
+        if (!(properties instanceof Properties)) {
+            return null;
+        }
+        JsonSchema property = ((Properties) properties).getPropertySchema(name);
+        if (property == null) {
+            return null;
+        }
+        Keyword keyword = getKeyword(property, "const");
+        if (keyword instanceof Const) {
+            return toStrings(Collections.singletonList(keyword.getValueAsJson()));
+        }
+        keyword = getKeyword(property, "enum");
+        if (keyword instanceof Enum) {
+            return toStrings(keyword.getValueAsJson().asJsonArray());
+        }
+        return null;
+    }
+
+    private static Set<String> toStrings(List<JsonValue> values) {
+        Set<String> strings = new LinkedHashSet<>();
+        for (JsonValue value : values) {
+            if (value.getValueType() != JsonValue.ValueType.STRING) {
+                return null;
+            }
+            strings.add(((JsonString) value).getString());
+        }
+        return strings;
+    }
+
+    private static Keyword getKeyword(JsonSchema schema, String name) {
+        schema = resolve(schema);
+        if (schema == null || schema.isBoolean()) {
+            return null;
+        }
+        return schema.asObjectJsonSchema().get(name);
+    }
+
+    private static JsonSchema resolve(JsonSchema schema) {
+        for (int i = 0; schema instanceof SchemaReference; i++) {
+            SchemaReference reference = (SchemaReference) schema;
+            if (i >= MAX_REFERENCES || !reference.hasReferencedSchema()) {
+                return null;
+            }
+            schema = reference.getReferencedSchema();
+        }
+        return schema;
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.applicator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.evaluator.AbstractEvaluator;
+import org.leadpony.justify.internal.evaluator.Evaluators;
+import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
+import org.leadpony.justify.internal.keyword.Evaluatable;
+import org.leadpony.justify.internal.keyword.SchemaKeyword;
+import org.leadpony.justify.internal.keyword.assertion.MaxItems;
+import org.leadpony.justify.internal.keyword.assertion.MinItems;
+import org.leadpony.justify.internal.keyword.assertion.UniqueItems;
+import org.leadpony.justify.internal.problem.DefaultProblemDispatcher;
+import org.leadpony.justify.internal.problem.ProblemBuilder;
+import org.leadpony.justify.internal.problem.ProblemList;
+
+/**
+ * The array keywords of a schema fused into a single evaluatable.
+ *
+ * <p>
+ * When the keywords of a schema applicable to arrays are only the ones
+ * observing the items, such as "items", "contains", "minItems", "maxItems" and
+ * "uniqueItems", these keywords are evaluated by a single evaluator. The
+ * evaluator counts the items once and dispatches each item to the subschemas
+ * of "items" and "contains", and stops evaluating the items against the
+ * subschema of "contains" as soon as one of them matches. The evaluator
+ * reports the same problems as the separate evaluators of the keywords would
+ * report.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class FusedArrayKeywords implements Evaluatable {
+
+    private final Evaluatable[] keywords;
+
+    private final Items items;
+    private final Contains contains;
+    private final MinItems minItems;
+    private final MaxItems maxItems;
+    private final UniqueItems uniqueItems;
+    // the assertions evaluated at the end of the array, in the order of the keywords.
+    private final SchemaKeyword[] assertions;
+
+    /**
+     * Fuses the array keywords in the evaluatables if possible.
+     *
+     * @param evaluatables the evaluatables applicable to arrays.
+     * @return the evaluatables with the array keywords fused, or the original
+     *         evaluatables if they cannot be fused.
+     */
+    public static Evaluatable[] fuse(Evaluatable[] evaluatables) {
+        List<Evaluatable> fused = new ArrayList<>();
+        List<Evaluatable> others = new ArrayList<>();
+        int position = -1;
+        for (Evaluatable evaluatable : evaluatables) {
+            if (isFusible(evaluatable)) {
+                if (position < 0) {
+                    position = others.size();
+                }
+                fused.add(evaluatable);
+            } else if (isIndependent(evaluatable)) {
+                others.add(evaluatable);
+            } else {
+                return evaluatables;
+            }
+        }
+        if (fused.size() < 2) {
+            return evaluatables;
+        }
+        others.add(position, new FusedArrayKeywords(fused.toArray(new Evaluatable[fused.size()])));
+        return others.toArray(new Evaluatable[others.size()]);
+    }
+
+    private static boolean isFusible(Evaluatable evaluatable) {
+        return evaluatable instanceof Items
+                || evaluatable instanceof Contains
+                || evaluatable instanceof MinItems
+                || evaluatable instanceof MaxItems
+                || evaluatable instanceof UniqueItems;
+    }
+
+    /**
+     * Checks if the evaluatable can be evaluated in parallel with the fused
+     * keywords without changing the order of the problems. The "type" keyword
+     * reports its problem only at the beginning of the array.
+     */
+    private static boolean isIndependent(Evaluatable evaluatable) {
+        return evaluatable instanceof SchemaKeyword
+                && "type".equals(((SchemaKeyword) evaluatable).name());
+    }
+
+    private FusedArrayKeywords(Evaluatable[] keywords) {
+        this.keywords = keywords;
+
+        Items items = null;
+        Contains contains = null;
+        MinItems minItems = null;
+        MaxItems maxItems = null;
+        UniqueItems uniqueItems = null;
+        List<SchemaKeyword> assertions = new ArrayList<>();
+        for (Evaluatable keyword : keywords) {
+            if (keyword instanceof Items) {
+                items = (Items) keyword;
+            } else {
+                if (keyword instanceof Contains) {
+                    contains = (Contains) keyword;
+                } else if (keyword instanceof MinItems) {
+                    minItems = (MinItems) keyword;
+                } else if (keyword instanceof MaxItems) {
+                    maxItems = (MaxItems) keyword;
+                } else if (keyword instanceof UniqueItems) {
+                    uniqueItems = (UniqueItems) keyword;
+                }
+                assertions.add((SchemaKeyword) keyword);
+            }
+        }
+
+        this.items = items;
+        this.contains = contains;
+        this.minItems = minItems;
+        this.maxItems = maxItems;
+        this.uniqueItems = uniqueItems;
+        this.assertions = assertions.toArray(new SchemaKeyword[assertions.size()]);
+    }
+
+    @Override
+    public Evaluator createEvaluator(EvaluatorContext context, InstanceType type) {
+        if (context.acceptsDefaultValues()) {
+            // The separate evaluators supply the default values.
+            LogicalEvaluator evaluator = Evaluators.conjunctive(context, type, keywords.length);
+            for (Evaluatable keyword : keywords) {
+                evaluator.append(keyword.createEvaluator(context, type));
+            }
+            return evaluator;
+        }
+        return new FusedEvaluator(context, type);
+    }
+
+    @Override
+    public Evaluator createNegatedEvaluator(EvaluatorContext context, InstanceType type) {
+        LogicalEvaluator evaluator = Evaluators.disjunctive(context, type);
+        for (Evaluatable keyword : keywords) {
+            evaluator.append(keyword.createNegatedEvaluator(context, type));
+        }
+        return evaluator;
+    }
+
+    /**
+     * The evaluator of the fused keywords.
+     *
+     * @author leadpony
+     */
+    private final class FusedEvaluator extends AbstractEvaluator implements DefaultProblemDispatcher {
+
+        private final boolean failFast;
+        private final boolean retainsProblems;
+        private Result finalResult = Result.TRUE;
+        private int count;
+
+        // the evaluator of the current item against "items".
+        private Evaluator itemEvaluator;
+
+        // the evaluator of the current item against "contains".
+        private Evaluator containsEvaluator;
+        private ProblemList containsProblems;
+        private List<ProblemList> containsBranches;
+        private boolean containsMatched;
+
+        // the evaluator of "uniqueItems" observing all events.
+        private Evaluator uniqueItemsEvaluator;
+        private Result uniqueItemsResult = Result.PENDING;
+
+        FusedEvaluator(EvaluatorContext context, InstanceType type) {
+            super(context);
+            this.failFast = context.isFailFast();
+            this.retainsProblems = !context.isValidityOnly();
+            this.containsMatched = (contains == null);
+            if (uniqueItems != null) {
+                this.uniqueItemsEvaluator = uniqueItems.createEvaluator(context, type);
+            }
+        }
+
+        @Override
+        public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+            if (depth == 0 && event == Event.END_ARRAY) {
+                return evaluateAssertions(dispatcher);
+            }
+
+            if (uniqueItemsEvaluator != null) {
+                evaluateUniqueItems(event, depth, dispatcher);
+            }
+
+            if (depth == 0) {
+                return Result.PENDING;
+            }
+
+            if (depth == 1 && ParserEvents.isValue(event)) {
+                InstanceType type = ParserEvents.toBroadInstanceType(event);
+                if (items != null) {
+                    itemEvaluator = items.createItemEvaluator(getContext(), count, type);
+                }
+                if (!containsMatched) {
+                    containsEvaluator = contains.getSubschema().createEvaluator(getContext(), type);
+                }
+                ++count;
+            }
+
+            if (itemEvaluator != null) {
+                Result result = itemEvaluator.evaluate(event, depth - 1, dispatcher);
+                if (result != Result.PENDING) {
+                    itemEvaluator = null;
+                    if (result == Result.FALSE) {
+                        if (failFast) {
+                            return Result.FALSE;
+                        }
+                        finalResult = Result.FALSE;
+                    }
+                }
+            }
+
+            if (containsEvaluator != null) {
+                Result result = containsEvaluator.evaluate(event, depth - 1, this);
+                if (result != Result.PENDING) {
+                    containsEvaluator = null;
+                    if (result == Result.TRUE) {
+                        containsMatched = true;
+                        containsBranches = null;
+                    } else if (result == Result.FALSE && retainsProblems) {
+                        // The branches are not needed when the problems are discarded.
+                        addContainsBranch();
+                    }
+                    containsProblems = null;
+                }
+            }
+
+            return Result.PENDING;
+        }
+
+        /* DefaultProblemDispatcher */
+
+        @Override
+        public void dispatchProblem(Problem problem) {
+            if (!retainsProblems) {
+                return;
+            }
+            if (containsProblems == null) {
+                containsProblems = ProblemList.newList();
+            }
+            containsProblems.add(problem);
+        }
+
+        private void addContainsBranch() {
+            if (containsBranches == null) {
+                containsBranches = new ArrayList<>();
+            }
+            // The evaluator may fail without dispatching any problem.
+            containsBranches.add(containsProblems != null ? containsProblems : ProblemList.empty());
+        }
+
+        private Result evaluateAssertions(ProblemDispatcher dispatcher) {
+            Result result = finalResult;
+            for (SchemaKeyword assertion : assertions) {
+                if (!testAssertion(assertion, dispatcher)) {
+                    if (failFast) {
+                        return Result.FALSE;
+                    }
+                    result = Result.FALSE;
+                }
+            }
+            return result;
+        }
+
+        private boolean testAssertion(SchemaKeyword assertion, ProblemDispatcher dispatcher) {
+            if (assertion == contains) {
+                return testContains(dispatcher);
+            } else if (assertion == minItems) {
+                return testMinItems(dispatcher);
+            } else if (assertion == maxItems) {
+                return testMaxItems(dispatcher);
+            } else if (assertion == uniqueItems) {
+                if (uniqueItemsEvaluator != null) {
+                    evaluateUniqueItems(Event.END_ARRAY, 0, dispatcher);
+                }
+                return uniqueItemsResult != Result.FALSE;
+            }
+            return true;
+        }
+
+        private void evaluateUniqueItems(Event event, int depth, ProblemDispatcher dispatcher) {
+            uniqueItemsResult = uniqueItemsEvaluator.evaluate(event, depth, dispatcher);
+            if (uniqueItemsResult != Result.PENDING) {
+                uniqueItemsEvaluator = null;
+            }
+        }
+
+        private boolean testContains(ProblemDispatcher dispatcher) {
+            if (containsMatched) {
+                return true;
+            }
+            if (containsBranches == null) {
+                Problem p = contains.createProblemBuilder(getContext())
+                        .withMessage(Message.INSTANCE_PROBLEM_ARRAY_EMPTY)
+                        .build();
+                dispatcher.dispatchProblem(p);
+            } else {
+                List<ProblemList> branches = containsBranches.stream()
+                        .filter(ProblemList::isResolvable)
+                        .collect(Collectors.toList());
+                if (branches.isEmpty()) {
+                    branches = containsBranches;
+                }
+                ProblemBuilder builder = contains.createProblemBuilder(getContext())
+                        .withMessage(Message.INSTANCE_PROBLEM_CONTAINS)
+                        .withBranches(branches);
+                dispatcher.dispatchProblem(builder.build());
+            }
+            return false;
+        }
+
+        private boolean testMinItems(ProblemDispatcher dispatcher) {
+            int limit = minItems.getLimit();
+            if (count >= limit) {
+                return true;
+            }
+            Problem p = minItems.createProblemBuilder(getContext())
+                    .withMessage(Message.INSTANCE_PROBLEM_MINITEMS)
+                    .withParameter("actual", count)
+                    .withParameter("limit", limit)
+                    .build();
+            dispatcher.dispatchProblem(p);
+            return false;
+        }
+
+        private boolean testMaxItems(ProblemDispatcher dispatcher) {
+            int limit = maxItems.getLimit();
+            if (count <= limit) {
+                return true;
+            }
+            Problem p = maxItems.createProblemBuilder(getContext())
+                    .withMessage(Message.INSTANCE_PROBLEM_MAXITEMS)
+                    .withParameter("actual", count)
+                    .withParameter("limit", limit)
+                    .build();
+            dispatcher.dispatchProblem(p);
+            return false;
+        }
+    }
+}
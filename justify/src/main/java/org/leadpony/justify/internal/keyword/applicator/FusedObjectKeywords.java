@@ -0,0 +1,335 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.applicator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.evaluator.AbstractConjunctivePropertiesEvaluator;
+import org.leadpony.justify.internal.evaluator.Evaluators;
+import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
+import org.leadpony.justify.internal.keyword.Evaluatable;
+import org.leadpony.justify.internal.keyword.PropertySymbols;
+import org.leadpony.justify.internal.keyword.SchemaKeyword;
+import org.leadpony.justify.internal.keyword.assertion.MaxProperties;
+import org.leadpony.justify.internal.keyword.assertion.MinProperties;
+import org.leadpony.justify.internal.keyword.assertion.Required;
+
+/**
+ * The object keywords of a schema fused into a single evaluatable.
+ *
+ * <p>
+ * When the keywords of a schema applicable to objects are only the ones
+ * observing the properties, such as "properties", "required",
+ * "minProperties", "maxProperties" and "propertyNames", these keywords are
+ * evaluated by a single evaluator. The evaluator reads and resolves each key
+ * name once, and reports the same problems as the separate evaluators of the
+ * keywords would report.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class FusedObjectKeywords implements Evaluatable {
+
+    private final Evaluatable[] keywords;
+    private final PropertySymbols symbols;
+
+    private final AbstractProperties<?> properties;
+    private final JsonSchema additionalSchema;
+    private final PropertyNames propertyNames;
+    private final Required required;
+    private final int[] requiredIds;
+    private final BitSet requiredIdSet;
+    private final MinProperties minProperties;
+    private final MaxProperties maxProperties;
+    // the assertions evaluated at the end of the object, in the order of the keywords.
+    private final SchemaKeyword[] assertions;
+    private final boolean needsKeyName;
+
+    /**
+     * Fuses the object keywords in the evaluatables if possible.
+     *
+     * @param evaluatables the evaluatables applicable to objects.
+     * @param symbols      the symbol table shared by the keywords, may be
+     *                     {@code null}.
+     * @return the evaluatables with the object keywords fused, or the original
+     *         evaluatables if they cannot be fused.
+     */
+    public static Evaluatable[] fuse(Evaluatable[] evaluatables, PropertySymbols symbols) {
+        List<Evaluatable> fused = new ArrayList<>();
+        List<Evaluatable> others = new ArrayList<>();
+        int position = -1;
+        for (Evaluatable evaluatable : evaluatables) {
+            if (isFusible(evaluatable)) {
+                if (position < 0) {
+                    position = others.size();
+                }
+                fused.add(evaluatable);
+            } else if (isIndependent(evaluatable)) {
+                others.add(evaluatable);
+            } else {
+                return evaluatables;
+            }
+        }
+        if (fused.size() < 2) {
+            return evaluatables;
+        }
+        others.add(position, new FusedObjectKeywords(fused.toArray(new Evaluatable[fused.size()]), symbols));
+        return others.toArray(new Evaluatable[others.size()]);
+    }
+
+    private static boolean isFusible(Evaluatable evaluatable) {
+        return evaluatable instanceof AbstractProperties
+                || evaluatable instanceof AdditionalProperties
+                || evaluatable instanceof PropertyNames
+                || evaluatable instanceof Required
+                || evaluatable instanceof MinProperties
+                || evaluatable instanceof MaxProperties;
+    }
+
+    /**
+     * Checks if the evaluatable can be evaluated in parallel with the fused
+     * keywords without changing the order of the problems. The "type" keyword
+     * reports its problem only at the beginning of the object.
+     */
+    private static boolean isIndependent(Evaluatable evaluatable) {
+        return evaluatable instanceof SchemaKeyword
+                && "type".equals(((SchemaKeyword) evaluatable).name());
+    }
+
+    private FusedObjectKeywords(Evaluatable[] keywords, PropertySymbols symbols) {
+        this.keywords = keywords;
+        this.symbols = symbols;
+
+        AbstractProperties<?> properties = null;
+        JsonSchema additionalSchema = null;
+        PropertyNames propertyNames = null;
+        Required required = null;
+        MinProperties minProperties = null;
+        MaxProperties maxProperties = null;
+        List<SchemaKeyword> assertions = new ArrayList<>();
+        for (Evaluatable keyword : keywords) {
+            if (keyword instanceof AbstractProperties) {
+                properties = (AbstractProperties<?>) keyword;
+                additionalSchema = properties.getDefaultSchema();
+            } else if (keyword instanceof AdditionalProperties) {
+                additionalSchema = ((AdditionalProperties) keyword).getSubschema();
+            } else if (keyword instanceof PropertyNames) {
+                propertyNames = (PropertyNames) keyword;
+            } else {
+                if (keyword instanceof Required) {
+                    required = (Required) keyword;
+                } else if (keyword instanceof MinProperties) {
+                    minProperties = (MinProperties) keyword;
+                } else if (keyword instanceof MaxProperties) {
+                    maxProperties = (MaxProperties) keyword;
+                }
+                assertions.add((SchemaKeyword) keyword);
+            }
+        }
+
+        this.properties = properties;
+        this.additionalSchema = additionalSchema;
+        this.propertyNames = propertyNames;
+        this.required = required;
+        this.minProperties = minProperties;
+        this.maxProperties = maxProperties;
+        this.assertions = assertions.toArray(new SchemaKeyword[assertions.size()]);
+        this.needsKeyName = properties != null || additionalSchema != null || required != null;
+
+        if (required != null && !required.getNames().isEmpty()) {
+            this.requiredIds = symbols.idsOf(required.getNames());
+            this.requiredIdSet = new BitSet(symbols.size());
+            for (int id : requiredIds) {
+                requiredIdSet.set(id);
+            }
+        } else {
+            this.requiredIds = new int[0];
+            this.requiredIdSet = null;
+        }
+    }
+
+    @Override
+    public Evaluator createEvaluator(EvaluatorContext context, InstanceType type) {
+        if (context.acceptsDefaultValues()) {
+            // The separate evaluators supply the default values.
+            LogicalEvaluator evaluator = Evaluators.conjunctive(context, type, keywords.length);
+            for (Evaluatable keyword : keywords) {
+                evaluator.append(keyword.createEvaluator(context, type));
+            }
+            return evaluator;
+        }
+        return new FusedEvaluator(context);
+    }
+
+    @Override
+    public Evaluator createNegatedEvaluator(EvaluatorContext context, InstanceType type) {
+        LogicalEvaluator evaluator = Evaluators.disjunctive(context, type);
+        for (Evaluatable keyword : keywords) {
+            evaluator.append(keyword.createNegatedEvaluator(context, type));
+        }
+        return evaluator;
+    }
+
+    /**
+     * The evaluator of the fused keywords.
+     *
+     * @author leadpony
+     */
+    private final class FusedEvaluator extends AbstractConjunctivePropertiesEvaluator
+            implements Consumer<JsonSchema> {
+
+        private final boolean failFast;
+        private final BitSet found;
+        private int remaining;
+        private int count;
+
+        private String keyName;
+        private int keyId = PropertySymbols.UNKNOWN;
+        private InstanceType valueType;
+
+        FusedEvaluator(EvaluatorContext context) {
+            super(context);
+            this.failFast = context.isFailFast();
+            this.remaining = requiredIds.length;
+            this.found = (remaining > 0) ? new BitSet(symbols.size()) : null;
+        }
+
+        @Override
+        public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+            Result result = super.evaluate(event, depth, dispatcher);
+            if (depth == 0 && event == Event.END_OBJECT) {
+                if (result == Result.FALSE && failFast) {
+                    return result;
+                }
+                for (SchemaKeyword assertion : assertions) {
+                    if (!testAssertion(assertion, dispatcher)) {
+                        if (failFast) {
+                            return Result.FALSE;
+                        }
+                        result = Result.FALSE;
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void updateChildren(Event event, JsonParser parser) {
+            if (event == Event.KEY_NAME) {
+                ++count;
+                if (needsKeyName) {
+                    resolveKeyName(getContext().getStringValue());
+                }
+                if (propertyNames != null) {
+                    append(propertyNames.createKeyNameEvaluator(getContext()));
+                }
+            } else if (ParserEvents.isValue(event) && additionalSchema != null) {
+                valueType = ParserEvents.toBroadInstanceType(event);
+                if (properties == null || !properties.findSubschemas(keyId, keyName, this)) {
+                    accept(additionalSchema);
+                }
+            }
+        }
+
+        /* Consumer */
+
+        @Override
+        public void accept(JsonSchema subschema) {
+            append(AbstractProperties.createPropertyEvaluator(getContext(), keyName, subschema, valueType));
+        }
+
+        private void resolveKeyName(String keyName) {
+            this.keyName = keyName;
+            this.keyId = (symbols != null) ? symbols.idOf(keyName) : PropertySymbols.UNKNOWN;
+            if (found != null && keyId != PropertySymbols.UNKNOWN
+                    && requiredIdSet.get(keyId) && !found.get(keyId)) {
+                found.set(keyId);
+                --remaining;
+            }
+        }
+
+        private boolean testAssertion(SchemaKeyword assertion, ProblemDispatcher dispatcher) {
+            if (assertion == required) {
+                return testRequired(dispatcher);
+            } else if (assertion == minProperties) {
+                return testMinProperties(dispatcher);
+            } else if (assertion == maxProperties) {
+                return testMaxProperties(dispatcher);
+            }
+            return true;
+        }
+
+        private boolean testRequired(ProblemDispatcher dispatcher) {
+            if (remaining == 0) {
+                return true;
+            }
+            for (int id : requiredIds) {
+                if (found.get(id)) {
+                    continue;
+                }
+                Problem p = required.createProblemBuilder(getContext())
+                        .withMessage(Message.INSTANCE_PROBLEM_REQUIRED)
+                        .withParameter("required", symbols.nameOf(id))
+                        .build();
+                dispatcher.dispatchProblem(p);
+            }
+            return false;
+        }
+
+        private boolean testMinProperties(ProblemDispatcher dispatcher) {
+            int limit = minProperties.getLimit();
+            if (count >= limit) {
+                return true;
+            }
+            Problem p = minProperties.createProblemBuilder(getContext())
+                    .withMessage(Message.INSTANCE_PROBLEM_MINPROPERTIES)
+                    .withParameter("actual", count)
+                    .withParameter("limit", limit)
+                    .build();
+            dispatcher.dispatchProblem(p);
+            return false;
+        }
+
+        private boolean testMaxProperties(ProblemDispatcher dispatcher) {
+            int limit = maxProperties.getLimit();
+            if (count <= limit) {
+                return true;
+            }
+            Problem p = maxProperties.createProblemBuilder(getContext())
+                    .withMessage(Message.INSTANCE_PROBLEM_MAXPROPERTIES)
+                    .withParameter("actual", count)
+                    .withParameter("limit", limit)
+                    .build();
+            dispatcher.dispatchProblem(p);
+            return false;
+        }
+    }
+}
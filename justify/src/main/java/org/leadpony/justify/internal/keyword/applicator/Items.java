@@ -91,6 +91,16 @@ public abstract class Items extends Applicator implements ArrayKeyword {
         super(json);
     }
 
+    /**
+     * Creates an evaluator of the item at the specified index.
+     *
+     * @param context   the context of the evaluator to create.
+     * @param itemIndex the index of the item.
+     * @param type      the type of the item.
+     * @return newly created evaluator.
+     */
+    abstract Evaluator createItemEvaluator(EvaluatorContext context, int itemIndex, InstanceType type);
+
     /**
      * "items" keyword with single schema.
      *
@@ -123,6 +133,15 @@ public abstract class Items extends Applicator implements ArrayKeyword {
             }
         }
 
+        @Override
+        Evaluator createItemEvaluator(EvaluatorContext context, int itemIndex, InstanceType type) {
+            if (subschema == JsonSchema.FALSE) {
+                return new RedundantItemEvaluator(context, itemIndex, subschema);
+            } else {
+                return subschema.createEvaluator(context, type);
+            }
+        }
+
         @Override
         public boolean hasSubschemas() {
             return true;
@@ -227,6 +246,11 @@ public abstract class Items extends Applicator implements ArrayKeyword {
             evaluatables.add(this);
         }
 
+        @Override
+        Evaluator createItemEvaluator(EvaluatorContext context, int itemIndex, InstanceType type) {
+            return createSubschemaEvaluator(context, itemIndex, findSubschemaAt(itemIndex), type);
+        }
+
         @Override
         public boolean hasSubschemas() {
             return !subschemas.isEmpty();
@@ -285,9 +309,7 @@ public abstract class Items extends Applicator implements ArrayKeyword {
                 public void updateChildren(Event event, JsonParser parser) {
                     if (ParserEvents.isValue(event)) {
                         InstanceType type = ParserEvents.toBroadInstanceType(event);
-                        JsonSchema subschema = findSubschemaAt(itemIndex);
-                        append(createSubschemaEvaluator(context, itemIndex, subschema, type));
-                        ++itemIndex;
+                        append(createItemEvaluator(context, itemIndex++, type));
                     }
                 }
             };
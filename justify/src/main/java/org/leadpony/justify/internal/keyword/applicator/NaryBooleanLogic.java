@@ -27,6 +27,7 @@ import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.internal.evaluator.Evaluators;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
 
 /**
@@ -38,6 +39,7 @@ import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
 abstract class NaryBooleanLogic extends Applicator {
 
     private final List<JsonSchema> subschemas;
+    private Discriminator discriminator;
 
     protected NaryBooleanLogic(JsonValue json, Collection<JsonSchema> subschemas) {
         super(json);
@@ -46,7 +48,17 @@ abstract class NaryBooleanLogic extends Applicator {
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        return createLogicalEvaluator(context, type).withProblemBuilderFactory(this);
+        if (type == InstanceType.OBJECT && isDiscriminable()) {
+            Discriminator discriminator = getDiscriminator();
+            if (discriminator.exists()) {
+                return Evaluators.discriminating(context,
+                        discriminator.getPropertyName(),
+                        discriminator::select,
+                        subschemas,
+                        (c, s) -> createLogicalEvaluator(c, type, s).withProblemBuilderFactory(this));
+            }
+        }
+        return createLogicalEvaluator(context, type, subschemas).withProblemBuilderFactory(this);
     }
 
     @Override
@@ -84,13 +96,43 @@ abstract class NaryBooleanLogic extends Applicator {
     }
 
     /**
-     * Creates a new evaluator for this boolean logic.
+     * Returns the discriminator of the subschemas. The subschemas are analyzed
+     * on the first call, after all the references have been resolved.
      *
-     * @param context the context of the evaluator to be created.
-     * @param type    the type of the instance to validate.
+     * @return the discriminator of the subschemas.
+     */
+    private Discriminator getDiscriminator() {
+        Discriminator discriminator = this.discriminator;
+        if (discriminator == null) {
+            discriminator = Discriminator.find(subschemas);
+            this.discriminator = discriminator;
+        }
+        return discriminator;
+    }
+
+    /**
+     * Checks if this boolean logic can evaluate only the subschemas selected by
+     * a discriminating property of the object.
+     *
+     * @return {@code true} if this boolean logic can be discriminated.
+     */
+    protected boolean isDiscriminable() {
+        return false;
+    }
+
+    /**
+     * Creates a new evaluator for this boolean logic which evaluates the
+     * specified subschemas. The subschemas are all the subschemas of this
+     * boolean logic, or the ones selected by the discriminating property if
+     * {@link #isDiscriminable()} returns {@code true}.
+     *
+     * @param context    the context of the evaluator to be created.
+     * @param type       the type of the instance to validate.
+     * @param subschemas the subschemas to evaluate.
      * @return newly created evaluator.
      */
-    protected abstract LogicalEvaluator createLogicalEvaluator(EvaluatorContext context, InstanceType type);
+    protected abstract LogicalEvaluator createLogicalEvaluator(EvaluatorContext context, InstanceType type,
+            List<JsonSchema> subschemas);
 
     /**
      * Creates a new evaluator for the negated version of this boolean logic.
@@ -17,6 +17,7 @@
 package org.leadpony.justify.internal.keyword.applicator;
 
 import java.util.Collection;
+import java.util.List;
 
 import javax.json.JsonValue;
 
@@ -57,10 +58,14 @@ public class OneOf extends NaryBooleanLogic {
     }
 
     @Override
-    protected LogicalEvaluator createLogicalEvaluator(EvaluatorContext context, InstanceType type) {
-        return Evaluators.exclusive(context, type,
-                getSubschemas().map(s -> s.createEvaluator(context, type)),
-                getSubschemas().map(s -> s.createNegatedEvaluator(context, type)));
+    protected boolean isDiscriminable() {
+        return true;
+    }
+
+    @Override
+    protected LogicalEvaluator createLogicalEvaluator(EvaluatorContext context, InstanceType type,
+            List<JsonSchema> subschemas) {
+        return Evaluators.exclusive(context, type, subschemas);
     }
 
     @Override
@@ -16,13 +16,12 @@
 
 package org.leadpony.justify.internal.keyword.applicator;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import javax.json.JsonValue;
@@ -32,11 +31,22 @@ import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.base.regex.RegexEngine;
+import org.leadpony.justify.internal.base.regex.RegexPatternSet;
 import org.leadpony.justify.internal.keyword.Evaluatable;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
 
 /**
+ * "patternProperties" keyword.
+ *
+ * <p>
+ * All the patterns are compiled into a single set which finds the matching
+ * patterns in one pass over a key name. The subschemas found for recent key
+ * names are cached, since the same key names tend to appear repeatedly in
+ * the instances.
+ * </p>
+ *
  * @author leadpony
  */
 @KeywordType("patternProperties")
@@ -44,7 +54,15 @@ import org.leadpony.justify.internal.keyword.SchemaKeyword;
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
 @Spec(SpecVersion.AJV_EXTENSION_PROPOSAL)
-public class PatternProperties extends AbstractProperties<Pattern> {
+public class PatternProperties extends AbstractProperties<String> {
+
+    private static final int CACHE_SIZE = 256;
+    // Key names longer than this are not cached.
+    private static final int MAX_CACHED_KEY_LENGTH = 256;
+
+    private final RegexPatternSet patterns;
+    private final JsonSchema[] subschemas;
+    private final CacheEntry[] cache = new CacheEntry[CACHE_SIZE];
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -54,13 +72,12 @@ public class PatternProperties extends AbstractProperties<Pattern> {
     public static KeywordMapper mapper() {
         return (value, context) -> {
             if (value.getValueType() == ValueType.OBJECT) {
-                Map<Pattern, JsonSchema> schemas = new LinkedHashMap<>();
+                Map<String, JsonSchema> schemas = new LinkedHashMap<>();
+                for (Map.Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
+                    schemas.put(entry.getKey(), context.asJsonSchema(entry.getValue()));
+                }
                 try {
-                    for (Map.Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
-                        Pattern pattern = Pattern.compile(entry.getKey());
-                        schemas.put(pattern, context.asJsonSchema(entry.getValue()));
-                    }
-                    return new PatternProperties(value, schemas);
+                    return new PatternProperties(value, schemas, context.getRegexEngine());
                 } catch (PatternSyntaxException e) {
                 }
             }
@@ -68,8 +85,20 @@ public class PatternProperties extends AbstractProperties<Pattern> {
         };
     }
 
-    public PatternProperties(JsonValue json, Map<Pattern, JsonSchema> properties) {
+    /**
+     * Constructs this keyword.
+     *
+     * @param json       the original JSON value.
+     * @param properties the subschemas keyed by the regular expressions.
+     * @param engine     the engine to compile the regular expressions.
+     * @throws PatternSyntaxException if any of the regular expressions is
+     *                                invalid.
+     */
+    public PatternProperties(JsonValue json, Map<String, JsonSchema> properties, RegexEngine engine) {
         super(json, properties);
+        List<String> regexes = new ArrayList<>(properties.keySet());
+        this.patterns = engine.compileSet(regexes);
+        this.subschemas = properties.values().toArray(new JsonSchema[0]);
     }
 
     @Override
@@ -83,26 +112,57 @@ public class PatternProperties extends AbstractProperties<Pattern> {
     @Override
     public JsonSchema getSubschema(Iterator<String> jsonPointer) {
         if (jsonPointer.hasNext()) {
-            String token = jsonPointer.next();
-            for (Pattern key : propertyMap.keySet()) {
-                if (key.pattern().equals(token)) {
-                    return propertyMap.get(key);
-                }
-            }
+            return propertyMap.get(jsonPointer.next());
         }
         return null;
     }
 
     @Override
     protected boolean findSubschemas(String keyName, Consumer<JsonSchema> consumer) {
-        boolean found = false;
-        for (Pattern pattern : propertyMap.keySet()) {
-            Matcher m = pattern.matcher(keyName);
-            if (m.find()) {
-                consumer.accept(propertyMap.get(pattern));
-                found = true;
-            }
+        JsonSchema[] found = findMatchingSubschemas(keyName);
+        for (JsonSchema subschema : found) {
+            consumer.accept(subschema);
+        }
+        return found.length > 0;
+    }
+
+    private JsonSchema[] findMatchingSubschemas(String keyName) {
+        if (keyName.length() > MAX_CACHED_KEY_LENGTH) {
+            return toSubschemas(patterns.findAll(keyName));
         }
+        int hash = keyName.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+        CacheEntry entry = cache[slot];
+        if (entry != null && entry.keyName.equals(keyName)) {
+            return entry.subschemas;
+        }
+        JsonSchema[] found = toSubschemas(patterns.findAll(keyName));
+        // Entries are immutable, so racing writers only lose their entries.
+        cache[slot] = new CacheEntry(keyName, found);
         return found;
     }
+
+    private JsonSchema[] toSubschemas(int[] indices) {
+        JsonSchema[] found = new JsonSchema[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            found[i] = subschemas[indices[i]];
+        }
+        return found;
+    }
+
+    /**
+     * An entry of the cache, which maps a key name to the matching subschemas.
+     *
+     * @author leadpony
+     */
+    private static final class CacheEntry {
+
+        final String keyName;
+        final JsonSchema[] subschemas;
+
+        CacheEntry(String keyName, JsonSchema[] subschemas) {
+            this.keyName = keyName;
+            this.subschemas = subschemas;
+        }
+    }
 }
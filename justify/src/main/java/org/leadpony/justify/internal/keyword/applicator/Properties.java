@@ -36,6 +36,7 @@ import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.evaluator.EvaluatorDecorator;
 import org.leadpony.justify.internal.keyword.Evaluatable;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
+import org.leadpony.justify.internal.keyword.PropertySymbols;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
 
 /**
@@ -52,6 +53,9 @@ public class Properties extends AbstractProperties<String> {
 
     private PatternProperties patternProperties;
     private Map<String, JsonValue> defaultValues;
+    private PropertySymbols symbols;
+    // the subschemas indexed by the identifiers of the property names.
+    private JsonSchema[] subschemasById;
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -71,6 +75,17 @@ public class Properties extends AbstractProperties<String> {
                 addDefaultValue(entry.getKey(), subschema.defaultValue());
             }
         }
+        bind(PropertySymbols.builder().addAll(subschemas.keySet()).build());
+    }
+
+    @Override
+    public void addPropertyNames(PropertySymbols.Builder builder) {
+        builder.addAll(propertyMap.keySet());
+    }
+
+    @Override
+    public void bindPropertySymbols(PropertySymbols symbols) {
+        bind(symbols);
     }
 
     @Override
@@ -82,6 +97,16 @@ public class Properties extends AbstractProperties<String> {
         evaluatables.add(this);
     }
 
+    /**
+     * Returns the subschema for the specified property.
+     *
+     * @param name the name of the property.
+     * @return the subschema for the property, or {@code null} if not exists.
+     */
+    public JsonSchema getPropertySchema(String name) {
+        return propertyMap.get(name);
+    }
+
     @Override
     public JsonSchema getSubschema(Iterator<String> jsonPointer) {
         if (jsonPointer.hasNext()) {
@@ -103,9 +128,14 @@ public class Properties extends AbstractProperties<String> {
 
     @Override
     protected boolean findSubschemas(String keyName, Consumer<JsonSchema> consumer) {
+        return findSubschemas(symbols.idOf(keyName), keyName, consumer);
+    }
+
+    @Override
+    boolean findSubschemas(int id, String keyName, Consumer<JsonSchema> consumer) {
         boolean found = false;
-        if (propertyMap.containsKey(keyName)) {
-            consumer.accept(propertyMap.get(keyName));
+        if (id != PropertySymbols.UNKNOWN && subschemasById[id] != null) {
+            consumer.accept(subschemasById[id]);
             found = true;
         }
         if (patternProperties != null) {
@@ -116,6 +146,14 @@ public class Properties extends AbstractProperties<String> {
         return found;
     }
 
+    private void bind(PropertySymbols symbols) {
+        this.symbols = symbols;
+        this.subschemasById = new JsonSchema[symbols.size()];
+        for (Map.Entry<String, JsonSchema> entry : propertyMap.entrySet()) {
+            this.subschemasById[symbols.idOf(entry.getKey())] = entry.getValue();
+        }
+    }
+
     private void addDefaultValue(String key, JsonValue defaultValue) {
         if (defaultValues == null) {
             defaultValues = new LinkedHashMap<>();
@@ -75,12 +75,14 @@ public class PropertyNames extends UnaryCombiner {
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        final JsonSchema subschema = getSubschema();
-        if (subschema == JsonSchema.FALSE) {
-            return createForbiddenPropertiesEvaluator(context, subschema);
-        } else {
-            return createPropertiesEvaluator(context, subschema);
-        }
+        return new AbstractConjunctivePropertiesEvaluator(context) {
+            @Override
+            public void updateChildren(Event event, JsonParser parser) {
+                if (event == Event.KEY_NAME) {
+                    append(createKeyNameEvaluator(context));
+                }
+            }
+        };
     }
 
     @Override
@@ -93,7 +95,22 @@ public class PropertyNames extends UnaryCombiner {
         }
     }
 
-    private Evaluator createForbiddenPropertyEvaluator(EvaluatorContext context, JsonSchema subschema) {
+    /**
+     * Creates an evaluator of the current key name of the object.
+     *
+     * @param context the context of the evaluator.
+     * @return newly created evaluator.
+     */
+    Evaluator createKeyNameEvaluator(EvaluatorContext context) {
+        final JsonSchema subschema = getSubschema();
+        if (subschema == JsonSchema.FALSE) {
+            return createForbiddenPropertyEvaluator(context);
+        } else {
+            return subschema.createEvaluator(context, InstanceType.STRING);
+        }
+    }
+
+    private Evaluator createForbiddenPropertyEvaluator(EvaluatorContext context) {
         return (event, depth, dispatcher) -> {
             ProblemBuilder b = createProblemBuilder(context)
                 .withMessage(Message.INSTANCE_PROBLEM_OBJECT_NONEMPTY);
@@ -102,28 +119,6 @@ public class PropertyNames extends UnaryCombiner {
         };
     }
 
-    private Evaluator createForbiddenPropertiesEvaluator(EvaluatorContext context, JsonSchema subschema) {
-        return new AbstractConjunctivePropertiesEvaluator(context) {
-            @Override
-            public void updateChildren(Event event, JsonParser parser) {
-                if (event == Event.KEY_NAME) {
-                    append(createForbiddenPropertyEvaluator(context, subschema));
-                }
-            }
-        };
-    }
-
-    private Evaluator createPropertiesEvaluator(EvaluatorContext context, JsonSchema subschema) {
-        return new AbstractConjunctivePropertiesEvaluator(context) {
-            @Override
-            public void updateChildren(Event event, JsonParser parser) {
-                if (event == Event.KEY_NAME) {
-                    append(subschema.createEvaluator(context, InstanceType.STRING));
-                }
-            }
-        };
-    }
-
     private Evaluator createNegatedPropertiesEvaluator(EvaluatorContext context, JsonSchema subschema) {
         return new AbstractDisjunctivePropertiesEvaluator(context, this) {
             @Override
@@ -16,69 +16,155 @@
 
 package org.leadpony.justify.internal.keyword.assertion;
 
-import javax.json.JsonBuilderFactory;
+import java.util.Collection;
+import java.util.List;
+
 import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.api.Evaluator.Result;
 import org.leadpony.justify.internal.base.json.JsonInstanceBuilder;
+import org.leadpony.justify.internal.base.json.JsonValueMatcher;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
 /**
  * The base class of {@link Const} and {@link Enum}.
  *
+ * <p>
+ * Scalar values are tested directly from the parser without being built.
+ * Arrays and objects are matched in step with the parser events against the
+ * expected values of the same type, and never built.
+ * </p>
+ *
  * @author leadpony
  */
 abstract class AbstractEqualityAssertion extends AbstractAssertion {
 
-    protected AbstractEqualityAssertion(JsonValue json) {
+    private final JsonValueSet expectedValues;
+
+    protected AbstractEqualityAssertion(JsonValue json, Collection<JsonValue> expectedValues) {
         super(json);
+        this.expectedValues = new JsonValueSet(expectedValues);
     }
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        JsonBuilderFactory jsonBuilderFactory = context.getJsonBuilderFactory();
-        JsonInstanceBuilder builder = new JsonInstanceBuilder(jsonBuilderFactory);
-        return (event, depth, dispatcher) -> {
-            if (builder.append(event, context.getParser())) {
-                return Result.PENDING;
-            }
-            JsonValue value = builder.build();
-            if (testValue(value)) {
-                return Result.TRUE;
-            }
-            ProblemBuilder problemBuilder = createProblemBuilder(context)
-                    .withParameter("actual", value);
-            dispatcher.dispatchProblem(createProblem(problemBuilder));
-            return Result.FALSE;
-        };
+        if (!type.isContainer()) {
+            return (event, depth, dispatcher) -> {
+                if (expectedValues.containsScalar(event, context)) {
+                    return Result.TRUE;
+                }
+                ProblemBuilder problemBuilder = createProblemBuilder(context)
+                        .withParameter("actual", buildValue(event, context));
+                dispatcher.dispatchProblem(createProblem(problemBuilder));
+                return Result.FALSE;
+            };
+        } else if (!expectedValues.containsAny(type)) {
+            return (event, depth, dispatcher) -> {
+                dispatcher.dispatchProblem(createProblem(createProblemBuilder(context)));
+                return Result.FALSE;
+            };
+        }
+        return new ContainerEvaluator(context, type, false);
     }
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-        JsonBuilderFactory jsonBuilderFactory = context.getJsonBuilderFactory();
-        JsonInstanceBuilder builder = new JsonInstanceBuilder(jsonBuilderFactory);
-        return (event, depth, dispatcher) -> {
-            if (builder.append(event, context.getParser())) {
-                return Result.PENDING;
-            }
-            JsonValue value = builder.build();
-            if (!testValue(value)) {
-                return Result.TRUE;
-            }
-            ProblemBuilder problemBuilder = createProblemBuilder(context)
-                    .withParameter("actual", value);
-            dispatcher.dispatchProblem(createNegatedProblem(problemBuilder));
-            return Result.FALSE;
-        };
+        if (!type.isContainer()) {
+            return (event, depth, dispatcher) -> {
+                if (!expectedValues.containsScalar(event, context)) {
+                    return Result.TRUE;
+                }
+                ProblemBuilder problemBuilder = createProblemBuilder(context)
+                        .withParameter("actual", buildValue(event, context));
+                dispatcher.dispatchProblem(createNegatedProblem(problemBuilder));
+                return Result.FALSE;
+            };
+        } else if (!expectedValues.containsAny(type)) {
+            return Evaluator.ALWAYS_TRUE;
+        }
+        return new ContainerEvaluator(context, type, true);
     }
 
-    protected abstract boolean testValue(JsonValue value);
-
     protected abstract Problem createProblem(ProblemBuilder builder);
 
     protected abstract Problem createNegatedProblem(ProblemBuilder builder);
+
+    /**
+     * Builds the scalar value at the current event, which is used only for
+     * reporting the problem.
+     *
+     * @param event   the current event.
+     * @param context the context of the evaluator.
+     * @return the built value.
+     */
+    private static JsonValue buildValue(Event event, EvaluatorContext context) {
+        JsonInstanceBuilder builder = new JsonInstanceBuilder(context.getJsonBuilderFactory());
+        builder.append(event, context.getParser());
+        return builder.build();
+    }
+
+    /**
+     * Evaluator which matches an array or an object with the expected values.
+     * The evaluation completes as soon as the instance diverges from all the
+     * expected values. The problems are located at the start of the instance.
+     *
+     * @author leadpony
+     */
+    private class ContainerEvaluator implements Evaluator {
+
+        private final EvaluatorContext context;
+        private final boolean negated;
+        private final JsonValueMatcher[] matchers;
+        private int remaining;
+        private ProblemBuilder problemBuilder;
+
+        ContainerEvaluator(EvaluatorContext context, InstanceType type, boolean negated) {
+            this.context = context;
+            this.negated = negated;
+            List<JsonValue> values = expectedValues.getContainers(type);
+            this.matchers = new JsonValueMatcher[values.size()];
+            for (int i = 0; i < matchers.length; i++) {
+                matchers[i] = new JsonValueMatcher(values.get(i));
+            }
+            this.remaining = matchers.length;
+        }
+
+        @Override
+        public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+            if (problemBuilder == null) {
+                problemBuilder = createProblemBuilder(context);
+            }
+            JsonParser parser = context.getParser();
+            for (int i = 0; i < matchers.length; i++) {
+                JsonValueMatcher matcher = matchers[i];
+                if (matcher == null || matcher.append(event, parser)) {
+                    continue;
+                }
+                if (matcher.matches()) {
+                    return negated ? dispatchProblem(dispatcher) : Result.TRUE;
+                }
+                matchers[i] = null;
+                --remaining;
+            }
+            if (remaining == 0) {
+                return negated ? Result.TRUE : dispatchProblem(dispatcher);
+            }
+            return Result.PENDING;
+        }
+
+        private Result dispatchProblem(ProblemDispatcher dispatcher) {
+            Problem problem = negated
+                    ? createNegatedProblem(problemBuilder)
+                    : createProblem(problemBuilder);
+            dispatcher.dispatchProblem(problem);
+            return Result.FALSE;
+        }
+    }
 }
@@ -32,6 +32,12 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
 /**
  * An assertion on a value of numeric type.
  *
+ * <p>
+ * The integral numbers within the range of {@code long} are tested as primitive
+ * values, without creating any {@link BigDecimal}. The other numbers are tested
+ * exactly as {@link BigDecimal}.
+ * </p>
+ *
  * @author leadpony
  */
 abstract class AbstractNumericAssertion extends AbstractAssertion implements NumericKeyword {
@@ -42,10 +48,10 @@ abstract class AbstractNumericAssertion extends AbstractAssertion implements Num
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        BigDecimal value = context.getParser().getBigDecimal();
-        if (testValue(value)) {
+        if (testNumber(context)) {
             return Evaluator.ALWAYS_TRUE;
         }
+        BigDecimal value = context.getDecimalValue();
         return new Evaluator() {
             @Override
             public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
@@ -59,10 +65,10 @@ abstract class AbstractNumericAssertion extends AbstractAssertion implements Num
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-        BigDecimal value = context.getParser().getBigDecimal();
-        if (!testValue(value)) {
+        if (!testNumber(context)) {
             return Evaluator.ALWAYS_TRUE;
         }
+        BigDecimal value = context.getDecimalValue();
         return new Evaluator() {
             @Override
             public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
@@ -74,6 +80,30 @@ abstract class AbstractNumericAssertion extends AbstractAssertion implements Num
         };
     }
 
+    /**
+     * Tests the number at the current event. The number is tested as
+     * {@code long} if it is integral and fits in {@code long}.
+     *
+     * @param context the context of the evaluator.
+     * @return {@code true} if the number is valid, {@code false} otherwise.
+     */
+    private boolean testNumber(EvaluatorContext context) {
+        if (context.isLongValue()) {
+            return testValue(context.getLongValue());
+        }
+        return testValue(context.getDecimalValue());
+    }
+
+    /**
+     * Tests an integral value within the range of {@code long}.
+     *
+     * @param value the value to test.
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     */
+    protected boolean testValue(long value) {
+        return testValue(BigDecimal.valueOf(value));
+    }
+
     protected abstract boolean testValue(BigDecimal value);
 
     protected abstract Problem createProblem(ProblemBuilder builder);
@@ -17,6 +17,7 @@
 package org.leadpony.justify.internal.keyword.assertion;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 import javax.json.JsonValue;
 import org.leadpony.justify.api.Problem;
@@ -28,7 +29,15 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
  */
 abstract class AbstractNumericBoundAssertion extends AbstractNumericAssertion {
 
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
     private final BigDecimal limit;
+    // the limit rounded toward each direction and clamped to the range of long.
+    private final long floorOfLimit;
+    private final long ceilingOfLimit;
+    // the sign to return when a long value is equal to both of the rounded limits.
+    private final int sign;
 
     /**
      * Constructs this assertion.
@@ -38,11 +47,25 @@ abstract class AbstractNumericBoundAssertion extends AbstractNumericAssertion {
     protected AbstractNumericBoundAssertion(JsonValue json, BigDecimal limit) {
         super(json);
         this.limit = limit;
+        this.floorOfLimit = clamp(limit.setScale(0, RoundingMode.FLOOR));
+        this.ceilingOfLimit = clamp(limit.setScale(0, RoundingMode.CEILING));
+        if (limit.compareTo(LONG_MAX) > 0) {
+            this.sign = -1;
+        } else if (limit.compareTo(LONG_MIN) < 0) {
+            this.sign = 1;
+        } else {
+            this.sign = 0;
+        }
+    }
+
+    @Override
+    protected boolean testValue(long value) {
+        return testComparison(compareToLimit(value));
     }
 
     @Override
     protected boolean testValue(BigDecimal value) {
-        return testValue(value, this.limit);
+        return testComparison(value.compareTo(this.limit));
     }
 
     @Override
@@ -62,13 +85,40 @@ abstract class AbstractNumericBoundAssertion extends AbstractNumericAssertion {
     /**
      * Tests a value against the boundary.
      *
-     * @param actual the value to test.
-     * @param limit the limit of the boundary.
+     * @param comparison the result of comparing the value with the limit, which
+     *                   is negative, zero, or positive as the value is less
+     *                   than, equal to, or greater than the limit.
      * @return {@code true} if the value valid, {@code false} otherwise.
      */
-    protected abstract boolean testValue(BigDecimal actual, BigDecimal limit);
+    protected abstract boolean testComparison(int comparison);
 
     protected abstract Message getMessageForTest();
 
     protected abstract Message getMessageForNegatedTest();
+
+    /**
+     * Compares a long value with the limit exactly.
+     *
+     * @param value the value to compare.
+     * @return negative, zero, or positive as the value is less than, equal to,
+     *         or greater than the limit.
+     */
+    private int compareToLimit(long value) {
+        if (value > floorOfLimit) {
+            return 1;
+        } else if (value < ceilingOfLimit) {
+            return -1;
+        }
+        // The limit is an integer equal to the value, or out of the range of long.
+        return sign;
+    }
+
+    private static long clamp(BigDecimal value) {
+        if (value.compareTo(LONG_MAX) > 0) {
+            return Long.MAX_VALUE;
+        } else if (value.compareTo(LONG_MIN) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return value.longValueExact();
+    }
 }
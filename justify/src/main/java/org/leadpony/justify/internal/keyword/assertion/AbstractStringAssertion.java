@@ -41,10 +41,10 @@ abstract class AbstractStringAssertion extends AbstractAssertion implements Stri
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        String value = context.getParser().getString();
-        if (testValue(value)) {
+        if (test(context)) {
             return Evaluator.ALWAYS_TRUE;
         }
+        String value = context.getStringValue();
         return new Evaluator() {
             @Override
             public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
@@ -57,10 +57,10 @@ abstract class AbstractStringAssertion extends AbstractAssertion implements Stri
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-        String value = context.getParser().getString();
-        if (!testValue(value)) {
+        if (!test(context)) {
             return Evaluator.ALWAYS_TRUE;
         }
+        String value = context.getStringValue();
         return new Evaluator() {
             @Override
             public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
@@ -85,6 +85,16 @@ abstract class AbstractStringAssertion extends AbstractAssertion implements Stri
         return builder;
     }
 
+    /**
+     * Tests the string at the current event.
+     *
+     * @param context the context of the evaluator.
+     * @return {@code true} if the string is valid, {@code false} otherwise.
+     */
+    protected boolean test(EvaluatorContext context) {
+        return testValue(context.getStringValue());
+    }
+
     protected abstract boolean testValue(String value);
 
     protected Object toActualValue(String value) {
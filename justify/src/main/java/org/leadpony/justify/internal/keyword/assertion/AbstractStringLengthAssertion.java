@@ -17,6 +17,8 @@
 package org.leadpony.justify.internal.keyword.assertion;
 
 import javax.json.JsonValue;
+
+import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
@@ -38,6 +40,11 @@ abstract class AbstractStringLengthAssertion extends AbstractStringAssertion {
         this.negatedMessage = negatedMessage;
     }
 
+    @Override
+    protected boolean test(EvaluatorContext context) {
+        return testLength(context.getStringLength(), this.limit);
+    }
+
     @Override
     protected boolean testValue(String value) {
         return testLength(countCharsIn(value), this.limit);
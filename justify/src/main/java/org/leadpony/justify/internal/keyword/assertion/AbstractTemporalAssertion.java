@@ -1,12 +1,5 @@
 package org.leadpony.justify.internal.keyword.assertion;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import javax.json.JsonValue;
 
 /**
@@ -16,44 +9,54 @@ import javax.json.JsonValue;
  */
 public abstract class AbstractTemporalAssertion extends AbstractStringAssertion {
     protected final String date;
+    private final long bound;
+    private final int boundNanos;
 
     protected AbstractTemporalAssertion(JsonValue json, final String date) {
         super(json);
         this.date = date;
+        this.bound = IsoTemporalParser.parse(date);
+        this.boundNanos = (bound != IsoTemporalParser.INVALID) ? IsoTemporalParser.parseNanos(date) : 0;
     }
 
     /**
-     * By convention, when no Time is specified, we assume the start of the day.
-     * By convention, when no timezone is specified, we assume the system default.
-     * @param date being parsed.
-     * @return the date parsed.
-     * @throws {@link DateTimeParseException}
+     * Compares the value with the bound parsed when this keyword was created.
+     * The value which is not a valid date or time never satisfies the keyword.
+     * When only one of the value and the bound is a time without any date, only
+     * the times of the day are compared.
+     *
+     * @param value the value to test.
+     * @return {@code true} if the value is valid, {@code false} otherwise.
      */
-    protected static ZonedDateTime parseDate(String date) {
-        try {
-            LocalDate parse = LocalDate.parse(date);
-            LocalDateTime localDateTime = parse.atStartOfDay();
-            return localDateTime.atZone(ZoneId.systemDefault());
-        } catch (DateTimeParseException e) {
-            try {
-                LocalDateTime parse = LocalDateTime.parse(date);
-                return parse.atZone(ZoneId.systemDefault());
-            } catch (DateTimeParseException e1) {
-                try {
-                    return ZonedDateTime.parse(date);
-                } catch (DateTimeParseException e2) {
-                    try {
-                        LocalTime localTime = LocalTime.parse(date);
-                        LocalDateTime localDateTime = localTime.atDate(LocalDate.now());
-                        return localDateTime.atZone(ZoneId.systemDefault());
-                    } catch (DateTimeParseException e3) {
-                        LocalTime localTime = LocalTime.parse(date, DateTimeFormatter.ISO_OFFSET_TIME);
-                        LocalDateTime localDateTime = localTime.atDate(LocalDate.now());
-                        return localDateTime.atZone(ZoneId.systemDefault());
-                    }
-                }
-            }
+    @Override
+    protected boolean testValue(String value) {
+        long parsed = IsoTemporalParser.parse(value);
+        if (parsed == IsoTemporalParser.INVALID || bound == IsoTemporalParser.INVALID) {
+            return false;
         }
+        long seconds;
+        long boundSeconds;
+        if ((IsoTemporalParser.kindOf(parsed) == IsoTemporalParser.TIME)
+                == (IsoTemporalParser.kindOf(bound) == IsoTemporalParser.TIME)) {
+            seconds = IsoTemporalParser.secondsOf(parsed);
+            boundSeconds = IsoTemporalParser.secondsOf(bound);
+        } else {
+            seconds = IsoTemporalParser.secondOfDayOf(parsed);
+            boundSeconds = IsoTemporalParser.secondOfDayOf(bound);
+        }
+        int comparison = Long.compare(seconds, boundSeconds);
+        if (comparison == 0) {
+            comparison = Integer.compare(IsoTemporalParser.parseNanos(value), boundNanos);
+        }
+        return testComparison(comparison);
     }
-}
 
+    /**
+     * Tests the result of comparing the value with the bound.
+     *
+     * @param comparison negative, zero, or positive if the value is before, equal
+     *                   to, or after the bound respectively.
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     */
+    protected abstract boolean testComparison(int comparison);
+}
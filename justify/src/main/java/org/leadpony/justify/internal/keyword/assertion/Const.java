@@ -16,7 +16,10 @@
 
 package org.leadpony.justify.internal.keyword.assertion;
 
+import java.util.Collections;
+
 import javax.json.JsonValue;
+
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.SpecVersion;
@@ -47,12 +50,7 @@ public class Const extends AbstractEqualityAssertion {
     }
 
     public Const(JsonValue expected) {
-        super(expected);
-    }
-
-    @Override
-    protected boolean testValue(JsonValue value) {
-        return value.equals(getValueAsJson());
+        super(expected, Collections.singleton(expected));
     }
 
     @Override
@@ -1,6 +1,5 @@
 package org.leadpony.justify.internal.keyword.assertion;
 
-import java.time.ZonedDateTime;
 import javax.json.JsonValue;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.SpecVersion;
@@ -35,15 +34,8 @@ public class FormatMaximum extends AbstractTemporalAssertion {
     }
 
     @Override
-    public boolean testValue(String value) {
-        try {
-            ZonedDateTime contextDateTime = parseDate(value);
-            ZonedDateTime schemaDateTime = parseDate(this.date);
-
-            return contextDateTime.isBefore(schemaDateTime) || contextDateTime.isEqual(schemaDateTime);
-        } catch (Exception e) {
-            return false;
-        }
+    protected boolean testComparison(int comparison) {
+        return comparison <= 0;
     }
 
     @Override
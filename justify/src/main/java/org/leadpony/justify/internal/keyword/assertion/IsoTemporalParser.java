@@ -0,0 +1,338 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.assertion;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parser of ISO 8601 dates, times and date-times used by the temporal
+ * assertions.
+ *
+ * <p>
+ * The text is classified and parsed in one pass without creating any objects.
+ * The result is packed into a single {@code long}, which holds the seconds
+ * elapsed since the epoch in UTC and the kind of the text. The fraction of the
+ * second is parsed separately by {@link #parseNanos(CharSequence)}, because it
+ * is needed only when the seconds are equal.
+ * </p>
+ *
+ * <p>
+ * The accepted forms are {@code yyyy-MM-dd}, {@code HH:mm[:ss[.fraction]]}
+ * optionally followed by an offset, and the date and the time joined by
+ * {@code T}. The year has four digits, or up to nine digits with a sign as
+ * {@code +10000} or {@code -2019}, where the plus sign is required only for
+ * more than four digits. The offset is either {@code Z} or
+ * {@code +HH[:mm[:ss]]}, and a date-time with an offset may be followed by a
+ * region ID such as {@code [Europe/Paris]}. The values without any offset are
+ * regarded as UTC.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class IsoTemporalParser {
+
+    /**
+     * The result returned for invalid texts.
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    static final int DATE = 1;
+    static final int TIME = 2;
+    static final int DATE_TIME = 3;
+
+    private static final int KIND_BITS = 2;
+    private static final int KIND_MASK = (1 << KIND_BITS) - 1;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 60 * SECONDS_PER_MINUTE;
+    private static final long SECONDS_PER_DAY = 24 * SECONDS_PER_HOUR;
+    private static final int MAX_OFFSET_SECONDS = 18 * SECONDS_PER_HOUR;
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final int MAX_YEAR_DIGITS = 9;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private IsoTemporalParser() {
+    }
+
+    /**
+     * Parses the specified text.
+     *
+     * @param text the text to parse.
+     * @return the packed result, or {@link #INVALID} if the text is invalid.
+     */
+    static long parse(CharSequence text) {
+        final int length = text.length();
+        int kind = TIME;
+        long seconds = 0;
+        int i = 0;
+        final char first = (length > 0) ? text.charAt(0) : 0;
+        final boolean signed = first == '+' || first == '-';
+        int yearEnd = signed ? 1 : 0;
+        while (yearEnd < length && isDigit(text.charAt(yearEnd))) {
+            yearEnd++;
+        }
+        if (signed || (yearEnd < length && text.charAt(yearEnd) == '-')) {
+            int yearDigits = signed ? yearEnd - 1 : yearEnd;
+            // The plus sign is required for more than four digits.
+            if (yearDigits < 4 || yearDigits > MAX_YEAR_DIGITS
+                    || (first != '-' && (yearDigits > 4) != signed)) {
+                return INVALID;
+            }
+            int dateEnd = yearEnd + 6;
+            if (length < dateEnd) {
+                return INVALID;
+            }
+            int year = parseDigits(text, yearEnd - yearDigits, yearDigits);
+            int month = parseDigits(text, yearEnd + 1, 2);
+            int day = parseDigits(text, yearEnd + 4, 2);
+            if (first == '-') {
+                if (year == 0) {
+                    return INVALID;
+                }
+                year = -year;
+            }
+            if (text.charAt(yearEnd) != '-' || text.charAt(yearEnd + 3) != '-'
+                    || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+                return INVALID;
+            }
+            seconds = toEpochDay(year, month, day) * SECONDS_PER_DAY;
+            if (length == dateEnd) {
+                return pack(seconds, DATE);
+            }
+            char c = text.charAt(dateEnd);
+            if (c != 'T' && c != 't') {
+                return INVALID;
+            }
+            kind = DATE_TIME;
+            i = dateEnd + 1;
+        }
+
+        if (length < i + 5 || text.charAt(i + 2) != ':') {
+            return INVALID;
+        }
+        int hour = parseDigits(text, i, 2);
+        int minute = parseDigits(text, i + 3, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return INVALID;
+        }
+        seconds += hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE;
+        i += 5;
+        if (i < length && text.charAt(i) == ':') {
+            int second = (length < i + 3) ? -1 : parseDigits(text, i + 1, 2);
+            if (second < 0 || second > 59) {
+                return INVALID;
+            }
+            seconds += second;
+            i += 3;
+            if (i < length && text.charAt(i) == '.') {
+                int start = ++i;
+                while (i < length && isDigit(text.charAt(i))) {
+                    i++;
+                }
+                if (i - start > MAX_FRACTION_DIGITS) {
+                    return INVALID;
+                }
+            }
+        }
+        if (i == length) {
+            return pack(seconds, kind);
+        }
+
+        char c = text.charAt(i);
+        int offset;
+        if (c == 'Z' || c == 'z') {
+            offset = 0;
+            i++;
+        } else if (c == '+' || c == '-') {
+            if (length < i + 3) {
+                return INVALID;
+            }
+            int offsetHour = parseDigits(text, i + 1, 2);
+            int offsetMinute = 0;
+            int offsetSecond = 0;
+            i += 3;
+            if (i < length && text.charAt(i) == ':') {
+                offsetMinute = (length < i + 3) ? -1 : parseDigits(text, i + 1, 2);
+                i += 3;
+                if (i < length && text.charAt(i) == ':') {
+                    offsetSecond = (length < i + 3) ? -1 : parseDigits(text, i + 1, 2);
+                    i += 3;
+                }
+            }
+            if (offsetHour < 0 || offsetMinute < 0 || offsetMinute > 59
+                    || offsetSecond < 0 || offsetSecond > 59) {
+                return INVALID;
+            }
+            offset = offsetHour * SECONDS_PER_HOUR + offsetMinute * SECONDS_PER_MINUTE + offsetSecond;
+            if (offset > MAX_OFFSET_SECONDS) {
+                return INVALID;
+            }
+            if (c == '-') {
+                offset = -offset;
+            }
+        } else {
+            return INVALID;
+        }
+
+        if (i == length) {
+            return pack(seconds - offset, kind);
+        } else if (kind == DATE_TIME && text.charAt(i) == '[') {
+            return parseWithRegion(text);
+        }
+        return INVALID;
+    }
+
+    /**
+     * Parses the fraction of the second in the text already parsed
+     * successfully.
+     *
+     * @param text the text to parse.
+     * @return the nano of the second.
+     */
+    static int parseNanos(CharSequence text) {
+        final int length = text.length();
+        int i = 0;
+        while (i < length && text.charAt(i) != '.') {
+            i++;
+        }
+        int nanos = 0;
+        int digits = 0;
+        while (++i < length && isDigit(text.charAt(i))) {
+            nanos = nanos * 10 + (text.charAt(i) - '0');
+            digits++;
+        }
+        for (; digits < MAX_FRACTION_DIGITS; digits++) {
+            nanos *= 10;
+        }
+        return nanos;
+    }
+
+    /**
+     * Returns the kind of the parsed result.
+     *
+     * @param result the packed result.
+     * @return the kind of the result.
+     */
+    static int kindOf(long result) {
+        return (int) result & KIND_MASK;
+    }
+
+    /**
+     * Returns the seconds since the epoch of the parsed result. The seconds of
+     * times are counted from the start of the day.
+     *
+     * @param result the packed result.
+     * @return the seconds of the result.
+     */
+    static long secondsOf(long result) {
+        return result >> KIND_BITS;
+    }
+
+    /**
+     * Returns the seconds of the parsed result within the day.
+     *
+     * @param result the packed result.
+     * @return the seconds within the day.
+     */
+    static long secondOfDayOf(long result) {
+        return Math.floorMod(secondsOf(result), SECONDS_PER_DAY);
+    }
+
+    private static long pack(long seconds, int kind) {
+        return (seconds << KIND_BITS) | kind;
+    }
+
+    /**
+     * Parses the date-time with the region ID, whose offset depends on the rules
+     * of the region.
+     *
+     * @param text the text to parse.
+     * @return the packed result, or {@link #INVALID} if the text is invalid.
+     */
+    private static long parseWithRegion(CharSequence text) {
+        try {
+            return pack(ZonedDateTime.parse(text).toEpochSecond(), DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return INVALID;
+        }
+    }
+
+    /**
+     * Parses the decimal digits.
+     *
+     * @param text   the text to parse.
+     * @param start  the index of the first digit.
+     * @param digits the number of the digits.
+     * @return the parsed value, or -1 if any of the characters is not a digit.
+     */
+    private static int parseDigits(CharSequence text, int start, int digits) {
+        int value = 0;
+        for (int i = start; i < start + digits; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return isLeapYear(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Converts the date to the days since the epoch, in the same way as
+     * {@link java.time.LocalDate#toEpochDay()}.
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        long total = 365L * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.assertion;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.json.JsonNumber;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+
+/**
+ * A set of the JSON values expected by {@link Const} or {@link Enum}.
+ *
+ * <p>
+ * The values are partitioned by their types when the keyword is read. The
+ * scalar values are looked up by their hashes directly from the context, and
+ * arrays and objects are matched only with the values of the same type.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class JsonValueSet {
+
+    private final Set<String> strings = new HashSet<>();
+    private final Set<BigDecimal> numbers = new HashSet<>();
+    private boolean containsTrue;
+    private boolean containsFalse;
+    private boolean containsNull;
+    private final List<JsonValue> arrays = new ArrayList<>();
+    private final List<JsonValue> objects = new ArrayList<>();
+
+    /**
+     * Constructs this set.
+     *
+     * @param values the values in this set.
+     */
+    JsonValueSet(Collection<JsonValue> values) {
+        for (JsonValue value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Checks if this set contains the scalar value at the current event of the
+     * parser. A property name is tested as a string.
+     *
+     * @param event   the current event of the parser.
+     * @param context the context supplying the value at the event.
+     * @return {@code true} if this set contains the value.
+     */
+    boolean containsScalar(Event event, EvaluatorContext context) {
+        switch (event) {
+        case KEY_NAME:
+        case VALUE_STRING:
+            return !strings.isEmpty() && strings.contains(context.getStringValue());
+        case VALUE_NUMBER:
+            return !numbers.isEmpty() && numbers.contains(normalize(context.getDecimalValue()));
+        case VALUE_TRUE:
+            return containsTrue;
+        case VALUE_FALSE:
+            return containsFalse;
+        case VALUE_NULL:
+            return containsNull;
+        default:
+            assert false;
+            return false;
+        }
+    }
+
+    /**
+     * Checks if this set contains any values of the specified container type.
+     *
+     * @param type the type of the container, either array or object.
+     * @return {@code true} if this set contains any values of the type.
+     */
+    boolean containsAny(InstanceType type) {
+        return !getContainers(type).isEmpty();
+    }
+
+    /**
+     * Returns the values of the specified container type.
+     *
+     * @param type the type of the container, either array or object.
+     * @return the values of the type, which must not be modified.
+     */
+    List<JsonValue> getContainers(InstanceType type) {
+        return (type == InstanceType.ARRAY) ? arrays : objects;
+    }
+
+    private void add(JsonValue value) {
+        switch (value.getValueType()) {
+        case STRING:
+            strings.add(((JsonString) value).getString());
+            break;
+        case NUMBER:
+            numbers.add(normalize(((JsonNumber) value).bigDecimalValue()));
+            break;
+        case TRUE:
+            containsTrue = true;
+            break;
+        case FALSE:
+            containsFalse = true;
+            break;
+        case NULL:
+            containsNull = true;
+            break;
+        case ARRAY:
+            arrays.add(value);
+            break;
+        case OBJECT:
+            objects.add(value);
+            break;
+        default:
+            assert false;
+            break;
+        }
+    }
+
+    /**
+     * Normalizes the number so that the numbers with the same value are equal.
+     *
+     * @param value the number to normalize.
+     * @return the normalized number.
+     */
+    private static BigDecimal normalize(BigDecimal value) {
+        if (value.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return value.stripTrailingZeros();
+    }
+}
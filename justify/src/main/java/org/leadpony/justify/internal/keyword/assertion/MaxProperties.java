@@ -62,6 +62,15 @@ public class MaxProperties extends AbstractAssertion implements ObjectKeyword {
         this.limit = limit;
     }
 
+    /**
+     * Returns the limit of the number of the properties.
+     *
+     * @return the limit of the number of the properties.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
         return new AssertionEvaluator(context, limit, this);
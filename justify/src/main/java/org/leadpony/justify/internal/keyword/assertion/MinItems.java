@@ -63,6 +63,15 @@ public class MinItems extends AbstractAssertion implements ArrayKeyword {
         this.limit = limit;
     }
 
+    /**
+     * Returns the limit of the number of the items.
+     *
+     * @return the limit of the number of the items.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
         return new AssertionEvaluator(context, limit, this);
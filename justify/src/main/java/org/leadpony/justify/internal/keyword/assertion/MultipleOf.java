@@ -40,6 +40,10 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
 public class MultipleOf extends AbstractNumericAssertion {
 
     private final BigDecimal factor;
+    // the factor as long, or zero if the integers are not tested as long.
+    private final long longFactor;
+    // true if every integer is a multiple of the factor.
+    private final boolean dividesOne;
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -54,6 +58,23 @@ public class MultipleOf extends AbstractNumericAssertion {
     public MultipleOf(JsonValue json, BigDecimal factor) {
         super(json);
         this.factor = factor;
+        if (factor.signum() != 0) {
+            this.dividesOne = BigDecimal.ONE.remainder(factor).signum() == 0;
+            this.longFactor = toLongFactor(factor);
+        } else {
+            this.dividesOne = false;
+            this.longFactor = 0;
+        }
+    }
+
+    @Override
+    protected boolean testValue(long value) {
+        if (dividesOne) {
+            return true;
+        } else if (longFactor != 0) {
+            return value % longFactor == 0;
+        }
+        return super.testValue(value);
     }
 
     @Override
@@ -75,4 +96,12 @@ public class MultipleOf extends AbstractNumericAssertion {
             .withParameter("factor", factor)
             .build();
     }
+
+    private static long toLongFactor(BigDecimal factor) {
+        BigDecimal stripped = factor.stripTrailingZeros();
+        if (stripped.scale() <= 0 && stripped.precision() - stripped.scale() < 19) {
+            return stripped.longValueExact();
+        }
+        return 0;
+    }
 }
@@ -26,7 +26,7 @@ import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
-import org.leadpony.justify.internal.base.regex.Ecma262Pattern;
+import org.leadpony.justify.internal.base.regex.RegexPattern;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
@@ -42,7 +42,7 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
 @Spec(SpecVersion.AJV_EXTENSION_PROPOSAL)
 public class Pattern extends AbstractStringAssertion {
 
-    private final java.util.regex.Pattern pattern;
+    private final RegexPattern pattern;
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -54,7 +54,7 @@ public class Pattern extends AbstractStringAssertion {
             if (value.getValueType() == ValueType.STRING) {
                 String string = ((JsonString) value).getString();
                 try {
-                    return new Pattern(value, Ecma262Pattern.compile(string));
+                    return new Pattern(value, context.getRegexEngine().compile(string));
                 } catch (PatternSyntaxException e) {
                     throw new IllegalArgumentException(e);
                 }
@@ -63,14 +63,14 @@ public class Pattern extends AbstractStringAssertion {
         };
     }
 
-    public Pattern(JsonValue json, java.util.regex.Pattern pattern) {
+    public Pattern(JsonValue json, RegexPattern pattern) {
         super(json);
         this.pattern = pattern;
     }
 
     @Override
     protected boolean testValue(String value) {
-        return pattern.matcher(value).find();
+        return pattern.find(value);
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package org.leadpony.justify.internal.keyword.assertion;
 
+import java.util.BitSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -36,6 +37,7 @@ import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.ShallowEvaluator;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 import org.leadpony.justify.internal.keyword.ObjectKeyword;
+import org.leadpony.justify.internal.keyword.PropertySymbols;
 
 /**
  * Assertion specified with "required" validation keyword.
@@ -50,6 +52,10 @@ import org.leadpony.justify.internal.keyword.ObjectKeyword;
 public class Required extends AbstractAssertion implements ObjectKeyword {
 
     private final Set<String> names;
+    private PropertySymbols symbols;
+    // the identifiers of the names in the order of declaration.
+    private int[] ids;
+    private BitSet idSet;
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -76,6 +82,35 @@ public class Required extends AbstractAssertion implements ObjectKeyword {
     public Required(JsonValue json, Set<String> names) {
         super(json);
         this.names = new LinkedHashSet<>(names);
+        bind(PropertySymbols.builder().addAll(this.names).build());
+    }
+
+    /**
+     * Returns the names of the required properties.
+     *
+     * @return the set of the property names, which must not be modified.
+     */
+    public Set<String> getNames() {
+        return names;
+    }
+
+    @Override
+    public void addPropertyNames(PropertySymbols.Builder builder) {
+        builder.addAll(names);
+    }
+
+    @Override
+    public void bindPropertySymbols(PropertySymbols symbols) {
+        bind(symbols);
+    }
+
+    private void bind(PropertySymbols symbols) {
+        this.symbols = symbols;
+        this.ids = symbols.idsOf(names);
+        this.idSet = new BitSet(symbols.size());
+        for (int id : ids) {
+            idSet.set(id);
+        }
     }
 
     @Override
@@ -83,7 +118,7 @@ public class Required extends AbstractAssertion implements ObjectKeyword {
         if (names.isEmpty()) {
             return Evaluator.ALWAYS_TRUE;
         } else {
-            return new AssertionEvaluator(context, names);
+            return new AssertionEvaluator(context);
         }
     }
 
@@ -92,46 +127,73 @@ public class Required extends AbstractAssertion implements ObjectKeyword {
         if (names.isEmpty()) {
             return createAlwaysFalseEvaluator(context);
         } else {
-            return new NegatedAssertionEvaluator(context, names);
+            return new NegatedAssertionEvaluator(context);
         }
     }
 
     /**
-     * An evaluator of this keyword.
+     * A skeletal evaluator which tracks the required properties found in the
+     * object.
      *
      * @author leadpony
      */
-    private final class AssertionEvaluator extends ShallowEvaluator {
+    private abstract class RequiredPropertyEvaluator extends ShallowEvaluator {
 
-        private final Set<String> missing;
+        protected final BitSet found;
+        private int remaining;
 
-        private AssertionEvaluator(EvaluatorContext context, Set<String> required) {
+        protected RequiredPropertyEvaluator(EvaluatorContext context) {
+            super(context);
+            this.found = new BitSet(symbols.size());
+            this.remaining = ids.length;
+        }
+
+        /**
+         * Marks the property at the current key name as found.
+         *
+         * @return {@code true} if all the required properties are found.
+         */
+        protected boolean foundAll() {
+            int id = symbols.idOf(getContext().getStringValue());
+            if (id != PropertySymbols.UNKNOWN && idSet.get(id) && !found.get(id)) {
+                found.set(id);
+                --remaining;
+            }
+            return remaining == 0;
+        }
+    }
+
+    /**
+     * An evaluator of this keyword.
+     *
+     * @author leadpony
+     */
+    private final class AssertionEvaluator extends RequiredPropertyEvaluator {
+
+        private AssertionEvaluator(EvaluatorContext context) {
             super(context);
-            this.missing = new LinkedHashSet<>(required);
         }
 
         @Override
         public Result evaluateShallow(Event event, int depth, ProblemDispatcher dispatcher) {
             if (event == Event.KEY_NAME) {
-                missing.remove(getParser().getString());
-                if (missing.isEmpty()) {
+                if (foundAll()) {
                     return Result.TRUE;
                 }
             } else if (depth == 0 && event == Event.END_OBJECT) {
-                if (missing.isEmpty()) {
-                    return Result.TRUE;
-                } else {
-                    return dispatchProblems(dispatcher);
-                }
+                return dispatchProblems(dispatcher);
             }
             return Result.PENDING;
         }
 
         private Result dispatchProblems(ProblemDispatcher dispatcher) {
-            for (String property : missing) {
+            for (int id : ids) {
+                if (found.get(id)) {
+                    continue;
+                }
                 Problem p = createProblemBuilder(getContext())
                         .withMessage(Message.INSTANCE_PROBLEM_REQUIRED)
-                        .withParameter("required", property)
+                        .withParameter("required", symbols.nameOf(id))
                         .build();
                 dispatcher.dispatchProblem(p);
             }
@@ -144,28 +206,20 @@ public class Required extends AbstractAssertion implements ObjectKeyword {
      *
      * @author leadpony
      */
-    private final class NegatedAssertionEvaluator extends ShallowEvaluator {
+    private final class NegatedAssertionEvaluator extends RequiredPropertyEvaluator {
 
-        private final Set<String> missing;
-
-        private NegatedAssertionEvaluator(EvaluatorContext context, Set<String> names) {
+        private NegatedAssertionEvaluator(EvaluatorContext context) {
             super(context);
-            this.missing = new LinkedHashSet<>(names);
         }
 
         @Override
         public Result evaluateShallow(Event event, int depth, ProblemDispatcher dispatcher) {
             if (event == Event.KEY_NAME) {
-                missing.remove(getParser().getString());
-                if (missing.isEmpty()) {
+                if (foundAll()) {
                     return dispatchProblem(dispatcher);
                 }
             } else if (depth == 0 && event == Event.END_OBJECT) {
-                if (missing.isEmpty()) {
-                    return dispatchProblem(dispatcher);
-                } else {
-                    return Result.TRUE;
-                }
+                return Result.TRUE;
             }
             return Result.PENDING;
         }
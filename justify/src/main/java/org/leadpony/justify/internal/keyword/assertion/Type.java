@@ -23,7 +23,6 @@ import java.util.Set;
 import javax.json.JsonString;
 import javax.json.JsonValue;
 import javax.json.JsonValue.ValueType;
-import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.EvaluatorContext;
@@ -102,11 +101,10 @@ public abstract class Type extends AbstractAssertion {
         if (type != InstanceType.NUMBER) {
             return type;
         }
-        JsonParser parser = context.getParser();
-        if (parser.isIntegralNumber()) {
+        if (context.getParser().isIntegralNumber()) {
             return InstanceType.INTEGER;
         } else {
-            BigDecimal value = parser.getBigDecimal().stripTrailingZeros();
+            BigDecimal value = context.getDecimalValue().stripTrailingZeros();
             if (value.scale() == 0) {
                 return InstanceType.INTEGER;
             }
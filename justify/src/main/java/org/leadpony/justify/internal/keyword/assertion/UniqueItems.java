@@ -16,10 +16,6 @@
 
 package org.leadpony.justify.internal.keyword.assertion;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import javax.json.JsonBuilderFactory;
 import javax.json.JsonValue;
 import javax.json.stream.JsonParser.Event;
 
@@ -32,7 +28,7 @@ import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
-import org.leadpony.justify.internal.base.json.JsonInstanceBuilder;
+import org.leadpony.justify.internal.base.json.JsonItemSet;
 import org.leadpony.justify.internal.evaluator.AbstractEvaluator;
 import org.leadpony.justify.internal.keyword.ArrayKeyword;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
@@ -83,20 +79,23 @@ public class UniqueItems extends AbstractAssertion implements ArrayKeyword {
     /**
      * An evaluator which evaluates the uniqueItems assertion.
      *
+     * <p>
+     * The items are not built as they are found. Each item is digested and
+     * recorded by {@link JsonItemSet}, which builds the items only when their
+     * digests match, in order to confirm that they are equal.
+     * </p>
+     *
      * @author leadpony
      */
     private class AssertionEvaluator extends AbstractEvaluator {
 
-        private final JsonBuilderFactory builderFactory;
-        private final Map<JsonValue, Integer> values = new HashMap<>();
+        private JsonItemSet items;
         private boolean duplicated;
         private int firstOccurrenceAt, secondOccurrenceAt;
         private int index;
-        private JsonInstanceBuilder builder;
 
         protected AssertionEvaluator(EvaluatorContext context) {
             super(context);
-            this.builderFactory = context.getJsonBuilderFactory();
         }
 
         @Override
@@ -111,26 +110,21 @@ public class UniqueItems extends AbstractAssertion implements ArrayKeyword {
             if (hasDuplicatedItems()) {
                 return Result.PENDING;
             }
-            if (builder == null) {
-                builder = new JsonInstanceBuilder(builderFactory);
+            if (items == null) {
+                items = new JsonItemSet(getContext().getJsonProvider());
             }
-            if (builder.append(event, getParser())) {
-                return Result.PENDING;
-            } else {
-                JsonValue value = builder.build();
-                builder = null;
-                testItemValue(value, index++);
-                return Result.PENDING;
+            if (!items.append(event, getParser())) {
+                testItem(index++);
             }
+            return Result.PENDING;
         }
 
-        private void testItemValue(JsonValue value, int index) {
-            if (values.containsKey(value)) {
+        private void testItem(int index) {
+            int found = items.add();
+            if (found >= 0) {
                 duplicated = true;
-                firstOccurrenceAt = values.get(value);
+                firstOccurrenceAt = found;
                 secondOccurrenceAt = index;
-            } else {
-                values.put(value, index);
             }
         }
 
@@ -17,6 +17,7 @@ package org.leadpony.justify.internal.keyword.assertion.content;
 
 import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 
+import java.io.InputStream;
 import java.util.Base64.Decoder;
 
 import org.leadpony.justify.internal.base.AsciiCode;
@@ -48,7 +49,7 @@ class Base64 implements ContentEncodingScheme {
                 int pads = 1;
                 while (i < length) {
                     c = src.charAt(i++);
-                    if (c != '=' || ++pads > 3) {
+                    if (c != '=' || ++pads > 2) {
                         return false;
                     }
                 }
@@ -70,6 +71,15 @@ class Base64 implements ContentEncodingScheme {
         return getDecoder().decode(src);
     }
 
+    @Override
+    public InputStream openDecodingStream(String src) {
+        requireNonNull(src, "src");
+        if ((src.length() % 4) != 0) {
+            throw new IllegalArgumentException();
+        }
+        return new Base64InputStream(src);
+    }
+
     private static Decoder getDecoder() {
         return java.util.Base64.getDecoder();
     }
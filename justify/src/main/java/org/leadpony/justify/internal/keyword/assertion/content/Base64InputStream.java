@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.assertion.content;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * An input stream which decodes a string encoded in base64 incrementally.
+ *
+ * <p>
+ * Each group of four characters is decoded only when its bytes are read, so
+ * the decoded content is never held as a whole. The string is decoded in the
+ * same way as the basic decoder of {@link java.util.Base64}, and the group which
+ * cannot be decoded is reported by throwing {@link IOException}.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class Base64InputStream extends InputStream {
+
+    private static final int PAD = -2;
+    private static final int[] DECODE_TABLE = new int[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = i;
+        }
+        DECODE_TABLE['='] = PAD;
+    }
+
+    private final String src;
+    private final int length;
+    private int index;
+
+    // The 24 bits decoded from the current group.
+    private int bits;
+    // The number of the bytes decoded from the current group.
+    private int count;
+    // The index of the next byte to read in the current group.
+    private int next;
+
+    /**
+     * Constructs this stream.
+     *
+     * @param src the string encoded in base64.
+     */
+    Base64InputStream(String src) {
+        this.src = src;
+        this.length = src.length();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (next == count && !decodeGroup()) {
+            return -1;
+        }
+        return (bits >>> (16 - 8 * next++)) & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int i = 0;
+        while (i < len) {
+            if (next == count && !decodeGroup()) {
+                break;
+            }
+            b[off + i++] = (byte) (bits >>> (16 - 8 * next++));
+        }
+        return (i > 0) ? i : -1;
+    }
+
+    @Override
+    public int available() {
+        return count - next;
+    }
+
+    /**
+     * Decodes the next group of four characters.
+     *
+     * @return {@code true} if the group was decoded, {@code false} if the string
+     *         is exhausted.
+     * @throws IOException if the group cannot be decoded.
+     */
+    private boolean decodeGroup() throws IOException {
+        if (index >= length) {
+            return false;
+        }
+        if (length - index < 4) {
+            throw malformed();
+        }
+        int c0 = decodeChar(src.charAt(index));
+        int c1 = decodeChar(src.charAt(index + 1));
+        int c2 = decodeChar(src.charAt(index + 2));
+        int c3 = decodeChar(src.charAt(index + 3));
+        index += 4;
+        if (c0 < 0 || c1 < 0) {
+            throw malformed();
+        }
+        int bytes = 3;
+        if (c3 == PAD) {
+            if (index != length) {
+                throw malformed();
+            }
+            if (c2 == PAD) {
+                bytes = 1;
+                c2 = 0;
+            } else if (c2 >= 0) {
+                bytes = 2;
+            } else {
+                throw malformed();
+            }
+            c3 = 0;
+        } else if (c2 < 0 || c3 < 0) {
+            throw malformed();
+        }
+        this.bits = (c0 << 18) | (c1 << 12) | (c2 << 6) | c3;
+        this.count = bytes;
+        this.next = 0;
+        return true;
+    }
+
+    private static int decodeChar(char c) {
+        return (c < DECODE_TABLE.length) ? DECODE_TABLE[c] : -1;
+    }
+
+    private IOException malformed() {
+        return new IOException("Illegal base64 character sequence at index " + index);
+    }
+}
@@ -15,11 +15,16 @@
  */
 package org.leadpony.justify.internal.keyword.assertion.content;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
+import javax.json.JsonException;
 import javax.json.JsonString;
 import javax.json.JsonValue;
 import javax.json.JsonValue.ValueType;
@@ -28,6 +33,7 @@ import javax.json.stream.JsonParser.Event;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.api.SpecVersion;
@@ -39,12 +45,20 @@ import org.leadpony.justify.internal.keyword.Evaluatable;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
 import org.leadpony.justify.internal.keyword.assertion.AbstractAssertion;
+import org.leadpony.justify.internal.problem.ProblemBuilder;
+import org.leadpony.justify.internal.validator.JsonValidator;
 import org.leadpony.justify.spi.ContentEncodingScheme;
 import org.leadpony.justify.spi.ContentMimeType;
 
 /**
  * A content keyword representing "contentMediaType".
  *
+ * <p>
+ * The content encoded by "contentEncoding" keyword is decoded incrementally
+ * while it is tested, and the JSON content is validated against the schema
+ * given by "contentSchema" keyword while it is parsed.
+ * </p>
+ *
  * @author leadpony
  */
 @KeywordType("contentMediaType")
@@ -52,9 +66,24 @@ import org.leadpony.justify.spi.ContentMimeType;
 @Spec(SpecVersion.AJV_EXTENSION_PROPOSAL)
 public class ContentMediaType extends AbstractAssertion {
 
+    /**
+     * The outcomes of examining the content.
+     *
+     * @author leadpony
+     */
+    private enum Outcome {
+        MATCHED,
+        NOT_MEDIA_TYPE,
+        NOT_VALID,
+        TOO_LARGE,
+        NOT_DECODABLE
+    }
+
     private final ContentMimeType mimeType;
     private final Map<String, String> parameters;
+    private final long maxContentSize;
     private ContentEncodingScheme encodingScheme;
+    private JsonSchema contentSchema;
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -69,7 +98,8 @@ public class ContentMediaType extends AbstractAssertion {
                     MediaType mediaType = MediaType.valueOf(name);
                     ContentMimeType mimeType = context.getMimeType(mediaType.mimeType());
                     if (mimeType != null) {
-                        return new ContentMediaType(value, mimeType, mediaType.parameters());
+                        return new ContentMediaType(value, mimeType, mediaType.parameters(),
+                                context.getMaxContentSize());
                     } else {
                         return new UnknownContentMediaType(value, name);
                     }
@@ -90,9 +120,23 @@ public class ContentMediaType extends AbstractAssertion {
      * @param parameters additional parameters of this media type.
      */
     public ContentMediaType(JsonValue json, ContentMimeType mimeType, Map<String, String> parameters) {
+        this(json, mimeType, parameters, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructs this media type.
+     *
+     * @param json the original JSON value.
+     * @param mimeType the type/subtype part of this media type.
+     * @param parameters additional parameters of this media type.
+     * @param maxContentSize the maximum size of the content to be examined.
+     */
+    public ContentMediaType(JsonValue json, ContentMimeType mimeType, Map<String, String> parameters,
+            long maxContentSize) {
         super(json);
         this.mimeType = mimeType;
         this.parameters = parameters;
+        this.maxContentSize = maxContentSize;
     }
 
     @Override
@@ -107,15 +151,25 @@ public class ContentMediaType extends AbstractAssertion {
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        String value = context.getParser().getString();
-        if (testValue(value, true)) {
+        final Message message;
+        switch (examine(context.getStringValue())) {
+        case NOT_MEDIA_TYPE:
+            message = Message.INSTANCE_PROBLEM_CONTENTMEDIATYPE;
+            break;
+        case NOT_VALID:
+            message = Message.INSTANCE_PROBLEM_CONTENTSCHEMA;
+            break;
+        case TOO_LARGE:
+            message = Message.INSTANCE_PROBLEM_MAXCONTENTSIZE;
+            break;
+        default:
+            // The content which cannot be decoded is reported by "contentEncoding".
             return Evaluator.ALWAYS_TRUE;
         }
         return new Evaluator() {
             @Override
             public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
-                dispatcher.dispatchProblem(
-                        buildProblem(context, Message.INSTANCE_PROBLEM_CONTENTMEDIATYPE));
+                dispatcher.dispatchProblem(buildProblem(context, message));
                 return Result.FALSE;
             }
         };
@@ -123,15 +177,23 @@ public class ContentMediaType extends AbstractAssertion {
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-        String value = context.getParser().getString();
-        if (!testValue(value, false)) {
+        final Message message;
+        switch (examine(context.getStringValue())) {
+        case MATCHED:
+            message = (contentSchema != null)
+                    ? Message.INSTANCE_PROBLEM_NOT_CONTENTSCHEMA
+                    : Message.INSTANCE_PROBLEM_NOT_CONTENTMEDIATYPE;
+            break;
+        case TOO_LARGE:
+            message = Message.INSTANCE_PROBLEM_MAXCONTENTSIZE;
+            break;
+        default:
             return Evaluator.ALWAYS_TRUE;
         }
         return new Evaluator() {
             @Override
             public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
-                dispatcher.dispatchProblem(
-                        buildProblem(context, Message.INSTANCE_PROBLEM_NOT_CONTENTMEDIATYPE));
+                dispatcher.dispatchProblem(buildProblem(context, message));
                 return Result.FALSE;
             }
         };
@@ -148,19 +210,110 @@ public class ContentMediaType extends AbstractAssertion {
                 return;
             }
         }
+        SchemaKeyword keyword = keywords.get("contentSchema");
+        if (keyword instanceof ContentSchema && mimeType instanceof JsonMimeType) {
+            this.contentSchema = ((ContentSchema) keyword).subschema();
+        }
         evaluatables.add(this);
     }
 
-    private boolean testValue(String value, boolean defaultResult) {
+    private Outcome examine(String value) {
         if (encodingScheme != null) {
-            if (encodingScheme.canDecode(value)) {
-                byte[] decoded = encodingScheme.decode(value);
-                return mimeType.test(decoded, parameters);
+            return examineEncoded(value);
+        }
+        if (exceedsMaxContentSize(value)) {
+            return Outcome.TOO_LARGE;
+        }
+        if (contentSchema != null) {
+            return validateContent(() -> ((JsonMimeType) mimeType).createValidator(value, contentSchema));
+        }
+        return mimeType.test(value) ? Outcome.MATCHED : Outcome.NOT_MEDIA_TYPE;
+    }
+
+    /**
+     * Checks if the content not encoded exceeds the maximum size, which is
+     * measured in the bytes of the content encoded in UTF-8 as the decoded
+     * content is.
+     *
+     * @param value the content not encoded.
+     * @return {@code true} if the content exceeds the maximum size.
+     */
+    private boolean exceedsMaxContentSize(String value) {
+        final int length = value.length();
+        // Each character takes from one to three bytes.
+        if (length > maxContentSize) {
+            return true;
+        } else if (length * 3L <= maxContentSize) {
+            return false;
+        }
+        long size = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                size++;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                // Either half of a surrogate pair takes two of the four bytes.
+                size += 2;
             } else {
-                return defaultResult;
+                size += 3;
+            }
+            if (size > maxContentSize) {
+                return true;
             }
+        }
+        return false;
+    }
+
+    /**
+     * Examines the encoded content while decoding it.
+     *
+     * @param value the encoded content.
+     * @return the outcome of the examination.
+     */
+    private Outcome examineEncoded(String value) {
+        DecodingStream stream;
+        try {
+            stream = new DecodingStream(encodingScheme.openDecodingStream(value), maxContentSize);
+        } catch (IllegalArgumentException e) {
+            return Outcome.NOT_DECODABLE;
+        }
+        Outcome outcome;
+        if (contentSchema != null) {
+            outcome = validateContent(() -> ((JsonMimeType) mimeType).createValidator(stream, contentSchema));
         } else {
-            return mimeType.test(value);
+            try {
+                outcome = mimeType.test(stream, parameters) ? Outcome.MATCHED : Outcome.NOT_MEDIA_TYPE;
+            } catch (IOException e) {
+                outcome = Outcome.NOT_MEDIA_TYPE;
+            }
+        }
+        if (stream.exceeded) {
+            return Outcome.TOO_LARGE;
+        } else if (stream.malformed) {
+            return Outcome.NOT_DECODABLE;
+        } else if (outcome != Outcome.MATCHED && !encodingScheme.canDecode(value)) {
+            // The remaining part which was not read may not be decodable.
+            return Outcome.NOT_DECODABLE;
+        }
+        return outcome;
+    }
+
+    /**
+     * Validates the JSON content against the content schema, and then parses the
+     * rest of the content.
+     *
+     * @param supplier the supplier of the validator.
+     * @return the outcome of the validation.
+     */
+    private static Outcome validateContent(Supplier<JsonValidator> supplier) {
+        try (JsonValidator validator = supplier.get()) {
+            boolean valid = validator.readValidity();
+            while (validator.hasNext()) {
+                validator.next();
+            }
+            return valid ? Outcome.MATCHED : Outcome.NOT_VALID;
+        } catch (JsonException e) {
+            return Outcome.NOT_MEDIA_TYPE;
         }
     }
 
@@ -178,6 +331,66 @@ public class ContentMediaType extends AbstractAssertion {
     }
 
     private Problem buildProblem(EvaluatorContext context, Message message) {
-        return createProblemBuilder(context).withMessage(message).withParameter("type", value()).build();
+        ProblemBuilder builder = createProblemBuilder(context).withMessage(message).withParameter("type", value());
+        if (message == Message.INSTANCE_PROBLEM_MAXCONTENTSIZE) {
+            builder.withParameter("limit", maxContentSize);
+        }
+        return builder.build();
+    }
+
+    /**
+     * A stream of the decoded content, which records why the reading failed.
+     *
+     * @author leadpony
+     */
+    private static final class DecodingStream extends FilterInputStream {
+
+        private final long limit;
+        private long size;
+        private boolean malformed;
+        private boolean exceeded;
+
+        DecodingStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b;
+            try {
+                b = super.read();
+            } catch (IOException e) {
+                malformed = true;
+                throw e;
+            }
+            if (b >= 0) {
+                addSize(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int length;
+            try {
+                length = super.read(b, off, len);
+            } catch (IOException e) {
+                malformed = true;
+                throw e;
+            }
+            if (length > 0) {
+                addSize(length);
+            }
+            return length;
+        }
+
+        private void addSize(int length) throws IOException {
+            size += length;
+            if (size > limit) {
+                exceeded = true;
+                throw new IOException("The content exceeds the limit of " + limit + " bytes.");
+            }
+        }
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.assertion.content;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.json.JsonValue;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.SpecVersion;
+import org.leadpony.justify.internal.annotation.KeywordType;
+import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.keyword.Evaluatable;
+import org.leadpony.justify.internal.keyword.KeywordMapper;
+import org.leadpony.justify.internal.keyword.SchemaKeyword;
+import org.leadpony.justify.internal.keyword.applicator.Applicator;
+
+/**
+ * A content keyword representing "contentSchema".
+ *
+ * <p>
+ * This keyword is adopted from the later drafts of the specification, and is
+ * not part of Draft-07. The subschema is applied to the JSON document embedded
+ * in the string instance, which is given by "contentMediaType" keyword.
+ * </p>
+ *
+ * @author leadpony
+ */
+@KeywordType("contentSchema")
+@Spec(SpecVersion.AJV_EXTENSION_PROPOSAL)
+public class ContentSchema extends Applicator {
+
+    private final JsonSchema subschema;
+
+    /**
+     * Returns the mapper which maps a JSON value to this keyword.
+     *
+     * @return the mapper for this keyword.
+     */
+    public static KeywordMapper mapper() {
+        KeywordMapper.FromSchema mapper = ContentSchema::new;
+        return mapper;
+    }
+
+    /**
+     * Constructs this keyword.
+     *
+     * @param json      the original JSON value.
+     * @param subschema the schema of the embedded document.
+     */
+    public ContentSchema(JsonValue json, JsonSchema subschema) {
+        super(json);
+        this.subschema = subschema;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Evaluation will be done by "contentMediaType" keyword.
+     */
+    @Override
+    public void addToEvaluatables(List<Evaluatable> evaluatables, Map<String, SchemaKeyword> keywords) {
+    }
+
+    @Override
+    public boolean hasSubschemas() {
+        return true;
+    }
+
+    @Override
+    public Stream<JsonSchema> getSubschemas() {
+        return Stream.of(subschema);
+    }
+
+    @Override
+    public JsonSchema getSubschema(Iterator<String> jsonPointer) {
+        return subschema;
+    }
+
+    /**
+     * Returns the schema of the embedded document.
+     *
+     * @return the schema of the embedded document.
+     */
+    JsonSchema subschema() {
+        return subschema;
+    }
+}
@@ -16,6 +16,7 @@
 package org.leadpony.justify.internal.keyword.assertion.content;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.util.Map;
 
@@ -23,6 +24,8 @@ import javax.json.JsonException;
 import javax.json.spi.JsonProvider;
 import javax.json.stream.JsonParser;
 
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.internal.validator.JsonValidator;
 import org.leadpony.justify.spi.ContentMimeType;
 
 /**
@@ -61,6 +64,46 @@ class JsonMimeType implements ContentMimeType {
         }
     }
 
+    @Override
+    public boolean test(InputStream decodedContent, Map<String, String> parameters) {
+        try (JsonParser parser = jsonProvider.createParser(decodedContent)) {
+            return parseAllWith(parser);
+        } catch (JsonException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a validator which validates the content against the schema.
+     *
+     * @param content the content to validate.
+     * @param schema  the schema of the content.
+     * @return newly created validator.
+     * @throws JsonException if the content cannot be read.
+     */
+    JsonValidator createValidator(String content, JsonSchema schema) {
+        return createValidator(jsonProvider.createParser(new StringReader(content)), schema);
+    }
+
+    /**
+     * Creates a validator which validates the decoded content against the
+     * schema.
+     *
+     * @param decodedContent the stream of the content to validate.
+     * @param schema         the schema of the content.
+     * @return newly created validator.
+     * @throws JsonException if the content cannot be read.
+     */
+    JsonValidator createValidator(InputStream decodedContent, JsonSchema schema) {
+        return createValidator(jsonProvider.createParser(decodedContent), schema);
+    }
+
+    private JsonValidator createValidator(JsonParser parser, JsonSchema schema) {
+        return new JsonValidator(parser, schema, jsonProvider)
+                .withFailFast(true)
+                .withValidityOnly(true);
+    }
+
     private static boolean parseAllWith(JsonParser parser) {
         while (parser.hasNext()) {
             parser.next();
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.assertion.format;
+
+import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import org.leadpony.justify.api.FormatCache;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.Localizable;
+import org.leadpony.justify.spi.FormatAttribute;
+
+/**
+ * The default implementation of {@link FormatCache}.
+ *
+ * <p>
+ * The cache has a region for each instance of the format attributes, so that
+ * the custom attributes overriding the builtin ones never share the results
+ * with them. The regions are held in a {@link WeakHashMap} guarded by its own
+ * lock, and a region is dropped once its attribute is no longer referenced by
+ * any schema. Each region is divided into segments selected by the hash of the
+ * value, unless the region is too small to be divided, and each segment is a
+ * {@link LinkedHashMap} guarded by its own lock. The map is ordered by access
+ * for {@link Eviction#LEAST_RECENTLY_USED} and by insertion for
+ * {@link Eviction#FIRST_IN_FIRST_OUT}. The attribute is tested outside of the
+ * lock, so the same value may be tested concurrently by multiple threads on a
+ * miss.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class DefaultFormatCache implements FormatCache {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final int maximumSize;
+    private final Eviction eviction;
+    // guarded by itself
+    private final Map<FormatAttribute, Region> regions = new WeakHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs this cache.
+     *
+     * @param maximumSize the maximum number of the values for each attribute.
+     * @param eviction    the eviction policy.
+     */
+    public DefaultFormatCache(int maximumSize, Eviction eviction) {
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+    }
+
+    /**
+     * Returns the format attribute which tests the values with this cache.
+     *
+     * @param attribute the original format attribute.
+     * @return the format attribute using this cache, or the original attribute if
+     *         the attribute is not cacheable.
+     */
+    public FormatAttribute decorate(FormatAttribute attribute) {
+        if (!attribute.isCacheable()) {
+            return attribute;
+        }
+        Region region;
+        synchronized (regions) {
+            region = regions.computeIfAbsent(attribute, key -> new Region());
+        }
+        return new CachingFormatAttribute(attribute, region);
+    }
+
+    @Override
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public Eviction getEviction() {
+        return eviction;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getHitCount(String attribute) {
+        requireNonNull(attribute, "attribute");
+        long total = 0;
+        synchronized (regions) {
+            for (Map.Entry<FormatAttribute, Region> entry : regions.entrySet()) {
+                if (entry.getKey().name().equals(attribute)) {
+                    total += entry.getValue().hits.sum();
+                }
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public long getMissCount(String attribute) {
+        requireNonNull(attribute, "attribute");
+        long total = 0;
+        synchronized (regions) {
+            for (Map.Entry<FormatAttribute, Region> entry : regions.entrySet()) {
+                if (entry.getKey().name().equals(attribute)) {
+                    total += entry.getValue().misses.sum();
+                }
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public void clear() {
+        synchronized (regions) {
+            for (Region region : regions.values()) {
+                region.clear();
+            }
+        }
+    }
+
+    /**
+     * A region of the cache for a format attribute.
+     *
+     * @author leadpony
+     */
+    private final class Region {
+
+        private final Segment[] segments;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        Region() {
+            int count = Math.min(MAX_SEGMENTS,
+                    Integer.highestOneBit(Math.max(1, maximumSize / MIN_SEGMENT_SIZE)));
+            this.segments = new Segment[count];
+            for (int i = 0; i < count; i++) {
+                int capacity = maximumSize / count + ((i < maximumSize % count) ? 1 : 0);
+                this.segments[i] = new Segment(capacity, eviction == Eviction.LEAST_RECENTLY_USED);
+            }
+        }
+
+        boolean test(JsonValue value, FormatAttribute attribute) {
+            Object key = toKey(value);
+            int hash = key.hashCode();
+            Segment segment = segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+            Boolean result;
+            synchronized (segment) {
+                result = segment.get(key);
+            }
+            if (result != null) {
+                hits.increment();
+                DefaultFormatCache.this.hits.increment();
+                return result;
+            }
+            misses.increment();
+            DefaultFormatCache.this.misses.increment();
+            result = attribute.test(value);
+            synchronized (segment) {
+                segment.put(key, result);
+            }
+            return result;
+        }
+
+        void clear() {
+            for (Segment segment : segments) {
+                synchronized (segment) {
+                    segment.clear();
+                }
+            }
+        }
+
+        private Object toKey(JsonValue value) {
+            if (value.getValueType() == JsonValue.ValueType.STRING) {
+                return ((JsonString) value).getString();
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A segment of a region, which discards its eldest entry when it is full.
+     *
+     * @author leadpony
+     */
+    @SuppressWarnings("serial")
+    private static final class Segment extends LinkedHashMap<Object, Boolean> {
+
+        private final int capacity;
+
+        Segment(int capacity, boolean accessOrder) {
+            super(16, 0.75f, accessOrder);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    /**
+     * A format attribute which tests the values with the cache.
+     *
+     * @author leadpony
+     */
+    private static final class CachingFormatAttribute implements FormatAttribute {
+
+        private final FormatAttribute attribute;
+        private final Region region;
+
+        CachingFormatAttribute(FormatAttribute attribute, Region region) {
+            this.attribute = attribute;
+            this.region = region;
+        }
+
+        @Override
+        public String name() {
+            return attribute.name();
+        }
+
+        @Override
+        public Localizable localizedName() {
+            return attribute.localizedName();
+        }
+
+        @Override
+        public InstanceType valueType() {
+            return attribute.valueType();
+        }
+
+        @Override
+        public boolean test(JsonValue value) {
+            return region.test(value, attribute);
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+    }
+}
@@ -46,8 +46,16 @@ class Email extends AbstractFormatAttribute {
         return Message.FORMAT_EMAIL;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public boolean test(String value) {
+        if (EmailMatcher.matchesSimple(value)) {
+            return true;
+        }
         return new EmailMatcher(value).matches();
     }
 }
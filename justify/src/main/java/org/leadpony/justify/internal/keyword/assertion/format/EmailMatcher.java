@@ -43,6 +43,41 @@ class EmailMatcher extends FormatMatcher {
         super(input);
     }
 
+    /**
+     * Tests the simple address without creating any matcher. The address is
+     * simple if its local part is a dot-atom and its domain part is a hostname,
+     * both of which consist only of ASCII characters. This method returns
+     * {@code false} for the addresses which are not simple, which should be
+     * tested by the matcher.
+     *
+     * @param input the input character sequence.
+     * @return {@code true} if the input is a valid simple address.
+     */
+    static boolean matchesSimple(CharSequence input) {
+        final int length = input.length();
+        int atomLength = 0;
+        int i = 0;
+        for (; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == '@') {
+                break;
+            } else if (c == '.') {
+                if (atomLength == 0) {
+                    return false;
+                }
+                atomLength = 0;
+            } else if (isAlphanumeric(c) || (c < 128 && ATOM_TEXT_CHARSET.get(c))) {
+                atomLength++;
+            } else {
+                return false;
+            }
+        }
+        if (i == length || atomLength == 0 || i > MAX_LOCAL_PART_CHARS) {
+            return false;
+        }
+        return HostnameMatcher.matchesAscii(input, i + 1, length);
+    }
+
     @Override
     public boolean all() {
         localPart();
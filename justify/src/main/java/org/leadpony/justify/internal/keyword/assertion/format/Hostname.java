@@ -44,8 +44,13 @@ class Hostname extends AbstractFormatAttribute {
         return Message.FORMAT_HOSTNAME;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public boolean test(String value) {
-        return new HostnameMatcher(value).matches();
+        return HostnameMatcher.matchesAscii(value, 0, value.length());
     }
 }
@@ -37,6 +37,40 @@ class HostnameMatcher extends FormatMatcher {
         super(input, start, end);
     }
 
+    /**
+     * Tests the hostname in the specified range of the input without creating
+     * any matcher. Only ASCII characters are allowed in the hostname, which is
+     * tested in the same way as {@link #all()} of this class.
+     *
+     * @param input the input character sequence.
+     * @param start the start index, inclusive.
+     * @param end   the end index, exclusive.
+     * @return {@code true} if the input is a valid hostname.
+     */
+    static boolean matchesAscii(CharSequence input, int start, int end) {
+        if (end - start > MAX_DOMAIN_CHARS) {
+            return false;
+        }
+        int labelStart = start;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == '.') {
+                if (!checkLabelEnd(input, labelStart, i)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            } else if (!isAlphanumeric(c) && (c != '-' || i == labelStart)) {
+                return false;
+            }
+        }
+        return checkLabelEnd(input, labelStart, end);
+    }
+
+    private static boolean checkLabelEnd(CharSequence input, int start, int end) {
+        int length = end - start;
+        return length > 0 && length <= MAX_LABEL_CHARS && input.charAt(end - 1) != '-';
+    }
+
     @Override
     public boolean all() {
         final int start = pos();
@@ -42,8 +42,16 @@ class IdnEmail extends Email {
         return Message.FORMAT_IDN_EMAIL;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public boolean test(String value) {
+        if (EmailMatcher.matchesSimple(value)) {
+            return true;
+        }
         return new IdnEmailMatcher(value).matches();
     }
 }
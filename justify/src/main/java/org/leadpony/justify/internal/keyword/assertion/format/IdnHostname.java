@@ -43,8 +43,25 @@ class IdnHostname extends AbstractFormatAttribute {
         return Message.FORMAT_IDN_HOSTNAME;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public boolean test(String value) {
-        return new IdnHostnameMatcher(value).matches();
+        if (HostnameMatcher.matchesAscii(value, 0, value.length())) {
+            return true;
+        }
+        return !isAscii(value) && new IdnHostnameMatcher(value).matches();
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -54,6 +54,15 @@ enum IdnProperty {
      */
     UNASSIGNED;
 
+    /*
+     * The properties of the code points in the BMP calculated so far. Each
+     * element is the ordinal of the property plus one, or zero if not
+     * calculated yet.
+     */
+    private static final int CACHED_CODE_POINTS = 0x10000;
+    private static final byte[] CACHE = new byte[CACHED_CODE_POINTS];
+    private static final IdnProperty[] VALUES = values();
+
     /**
      * Calculates the property of the specified character.
      *
@@ -61,6 +70,27 @@ enum IdnProperty {
      * @return the IDN property calculated.
      */
     public static IdnProperty of(int codePoint) {
+        if (codePoint >= CACHED_CODE_POINTS) {
+            return calculate(codePoint);
+        }
+        int cached = CACHE[codePoint];
+        if (cached != 0) {
+            return VALUES[cached - 1];
+        }
+        IdnProperty property = calculate(codePoint);
+        CACHE[codePoint] = (byte) (property.ordinal() + 1);
+        return property;
+    }
+
+    /**
+     * Calculates the property of the specified character. The stability under
+     * the normalization, which requires ICU, is checked only for the letters and
+     * digits not disallowed by any other rules.
+     *
+     * @param codePoint the code point of the character.
+     * @return the IDN property calculated.
+     */
+    private static IdnProperty calculate(int codePoint) {
         IdnProperty property = asExceptional(codePoint);
         if (property != null) {
             return property;
@@ -70,7 +100,7 @@ enum IdnProperty {
             return PVALID;
         } else if (isJoinControl(codePoint)) {
             return CONTEXTJ;
-        } else if (isUnstable(codePoint)) {
+        } else if (!isLetterDigit(codePoint)) {
             return DISALLOWED;
         } else if (isIgnorableProperties(codePoint)) {
             return DISALLOWED;
@@ -78,10 +108,10 @@ enum IdnProperty {
             return DISALLOWED;
         } else if (isOldHangulJamo(codePoint)) {
             return DISALLOWED;
-        } else if (isLetterDigit(codePoint)) {
-            return PVALID;
-        } else {
+        } else if (Stability.isUnstable(codePoint)) {
             return DISALLOWED;
+        } else {
+            return PVALID;
         }
     }
 
@@ -163,15 +193,6 @@ enum IdnProperty {
         return codePoint == 0x200c || codePoint == 0x200d;
     }
 
-    private static boolean isUnstable(int codePoint) {
-        String original = String.valueOf(Character.toChars(codePoint));
-        Normalizer2 normalizer = Normalizer2.getNFKCInstance();
-        String normalized = normalizer.normalize(original);
-        String folded = UCharacter.foldCase(normalized, UCharacter.FOLD_CASE_DEFAULT);
-        String result = normalizer.normalize(folded);
-        return !original.equals(result);
-    }
-
     private static boolean isIgnorableProperties(int codePoint) {
         return isDefaultIgnorable(codePoint)
                 || Character.isWhitespace(codePoint)
@@ -238,4 +259,26 @@ enum IdnProperty {
         int lower = codePoint & 0x0ffff;
         return (lower == 0xfffe || lower == 0xffff);
     }
+
+    /**
+     * Checker of the stability under the normalization. ICU is loaded only when
+     * this class is used for the first time.
+     *
+     * @author leadpony
+     */
+    private static final class Stability {
+
+        private static final Normalizer2 NFKC = Normalizer2.getNFKCInstance();
+
+        private Stability() {
+        }
+
+        static boolean isUnstable(int codePoint) {
+            String original = String.valueOf(Character.toChars(codePoint));
+            String normalized = NFKC.normalize(original);
+            String folded = UCharacter.foldCase(normalized, UCharacter.FOLD_CASE_DEFAULT);
+            String result = NFKC.normalize(folded);
+            return !original.equals(result);
+        }
+    }
 }
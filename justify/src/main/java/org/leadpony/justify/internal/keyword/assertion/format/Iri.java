@@ -43,6 +43,11 @@ class Iri extends AbstractFormatAttribute {
         return Message.FORMAT_IRI;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public boolean test(String value) {
         return new IriMatcher(value).matches();
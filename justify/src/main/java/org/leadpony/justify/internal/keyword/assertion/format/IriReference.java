@@ -43,6 +43,11 @@ class IriReference extends AbstractFormatAttribute {
         return Message.FORMAT_IRI_REFERENCE;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public boolean test(String value) {
         return new IriReferenceMatcher(value).matches();
@@ -19,6 +19,8 @@ package org.leadpony.justify.internal.keyword.assertion.format;
 import com.ibm.icu.lang.UCharacter;
 import com.ibm.icu.lang.UProperty;
 
+import org.leadpony.justify.internal.base.AsciiCode;
+
 /**
  * {@link RegExpMatcher} for non unicode mode.
  * <p>
@@ -58,6 +60,9 @@ class NonUnicodeRegExpMatcher extends RegExpMatcher {
     }
 
     private static boolean isUnicodeIDContinue(int ch) {
+        if (ch < 128) {
+            return AsciiCode.isAlphanumeric(ch) || ch == '_';
+        }
         return UCharacter.hasBinaryProperty(ch, UProperty.ID_CONTINUE);
     }
 }
@@ -51,6 +51,11 @@ class Regex extends AbstractFormatAttribute {
         return Message.FORMAT_REGEX;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public boolean test(String value) {
         return testWithoutUnicodeFlag(value);
@@ -56,6 +56,11 @@ class Uri extends AbstractFormatAttribute {
         return Message.FORMAT_URI;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public boolean test(String value) {
         UriMatcher m = verbose ? new VerboseUriMatcher(value) : new UriMatcher(value);
@@ -55,6 +55,11 @@ class UriReference extends AbstractFormatAttribute {
         return Message.FORMAT_URI_REFERENCE;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public boolean test(String value) {
         UriReferenceMatcher m = verbose ? new VerboseUriReferenceMatcher(value) : new UriReferenceMatcher(value);
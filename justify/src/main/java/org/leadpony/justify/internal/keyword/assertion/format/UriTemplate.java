@@ -41,6 +41,11 @@ class UriTemplate extends AbstractFormatAttribute {
         return Message.FORMAT_URI_TEMPLATE;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public boolean test(String value) {
         return new UriTemplateMatcher(value).matches();
@@ -158,6 +158,17 @@ public class ProblemBuilder {
         }
     }
 
+    /**
+     * Returns the builder which builds nothing. This builder is used when only
+     * the validity of the instance is needed.
+     *
+     * @return the shared instance of the silent builder.
+     * @see org.leadpony.justify.api.EvaluatorContext#isValidityOnly()
+     */
+    static ProblemBuilder silent() {
+        return SilentProblemBuilder.SINGLETON;
+    }
+
     /**
      * A problem without any child problems.
      *
@@ -315,4 +326,63 @@ public class ProblemBuilder {
             return branches.get(index);
         }
     }
+
+    /**
+     * A problem builder which ignores all the properties and returns the same
+     * placeholder problem.
+     *
+     * @author leadpony
+     */
+    private static final class SilentProblemBuilder extends ProblemBuilder {
+
+        private static final SilentProblemBuilder SINGLETON = new SilentProblemBuilder();
+
+        private final Problem placeholder;
+
+        private SilentProblemBuilder() {
+            super(null, null);
+            super.withMessage(Message.INSTANCE_PROBLEM_UNKNOWN);
+            this.placeholder = super.build();
+        }
+
+        @Override
+        public ProblemBuilder withKeyword(String keyword) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withSchema(JsonSchema schema) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withResolvability(boolean resolvable) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withMessage(Message message) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withParameter(String name, Object value) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withBranch(ProblemList branch) {
+            return this;
+        }
+
+        @Override
+        public ProblemBuilder withBranches(List<ProblemList> branches) {
+            return this;
+        }
+
+        @Override
+        public Problem build() {
+            return placeholder;
+        }
+    }
 }
@@ -35,12 +35,16 @@ public interface ProblemBuilderFactory {
     };
 
     /**
-     * Creates new instance of this builder.
+     * Creates new instance of this builder. If the context needs only the validity
+     * of the instance, a shared builder which builds nothing is returned instead.
      *
      * @param context the evaluator context, cannot be {@code null}.
      * @return newly created instance of {@link ProblemBuilder}.
      */
     default ProblemBuilder createProblemBuilder(EvaluatorContext context) {
+        if (context.isValidityOnly()) {
+            return ProblemBuilder.silent();
+        }
         JsonLocation location = context.getParser().getLocation();
         String pointer = context.getPointer();
         return createProblemBuilder(location, pointer);
@@ -16,6 +16,7 @@
 
 package org.leadpony.justify.internal.problem;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -37,6 +38,15 @@ public interface ProblemList extends List<Problem> {
         return true;
     }
 
+    /**
+     * Returns the empty list which cannot be modified.
+     *
+     * @return the shared empty list.
+     */
+    static ProblemList empty() {
+        return EmptyProblemList.SINGLETON;
+    }
+
     /**
      * Creates a new instance of this type.
      *
@@ -53,4 +63,27 @@ public interface ProblemList extends List<Problem> {
         }
         return new ArrayProblemList();
     }
+
+    /**
+     * An empty list of problems.
+     *
+     * @author leadpony
+     */
+    final class EmptyProblemList extends AbstractList<Problem> implements ProblemList {
+
+        private static final EmptyProblemList SINGLETON = new EmptyProblemList();
+
+        private EmptyProblemList() {
+        }
+
+        @Override
+        public Problem get(int index) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    }
 }
@@ -17,6 +17,7 @@
 package org.leadpony.justify.internal.provider;
 
 import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
+import static org.leadpony.justify.internal.base.Arguments.requirePositive;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -34,10 +35,12 @@ import java.util.function.Consumer;
 import javax.json.JsonException;
 import javax.json.JsonReader;
 import javax.json.JsonReaderFactory;
+import javax.json.JsonValue;
 import javax.json.spi.JsonProvider;
 import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParserFactory;
 
+import org.leadpony.justify.api.FormatCache;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaBuilderFactory;
 import org.leadpony.justify.api.JsonSchemaReader;
@@ -47,17 +50,25 @@ import org.leadpony.justify.api.JsonValidationService;
 import org.leadpony.justify.api.ProblemHandler;
 import org.leadpony.justify.api.ProblemHandlerFactory;
 import org.leadpony.justify.api.ProblemPrinterBuilder;
+import org.leadpony.justify.api.SchemaCache;
+import org.leadpony.justify.api.SchemaValidator;
+import org.leadpony.justify.api.SchemaValidatorPool;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.api.ValidationConfig;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.base.json.JsonProviderDecorator;
 import org.leadpony.justify.internal.base.json.JsonService;
+import org.leadpony.justify.internal.base.json.JsonValueParser;
 import org.leadpony.justify.internal.base.json.DefaultJsonReader;
 import org.leadpony.justify.internal.base.json.DefaultJsonReaderFactory;
+import org.leadpony.justify.internal.keyword.assertion.format.DefaultFormatCache;
 import org.leadpony.justify.internal.problem.DefaultProblemPrinterBuilder;
 import org.leadpony.justify.internal.schema.DefaultJsonSchemaBuilderFactory;
 import org.leadpony.justify.internal.schema.SchemaSpecRegistry;
+import org.leadpony.justify.internal.schema.io.DefaultSchemaCache;
 import org.leadpony.justify.internal.schema.io.JsonSchemaReaderFactoryImpl;
+import org.leadpony.justify.internal.validator.DefaultSchemaValidatorPool;
+import org.leadpony.justify.internal.validator.DefaultizingJsonValidator;
 import org.leadpony.justify.internal.validator.DefaultValidationConfig;
 import org.leadpony.justify.internal.validator.JsonValidator;
 import org.leadpony.justify.internal.validator.JsonValidatorFactory;
@@ -150,6 +161,26 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         return new DefaultValidationConfig();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FormatCache createFormatCache(int maximumSize, FormatCache.Eviction eviction) {
+        requirePositive(maximumSize, "maximumSize");
+        requireNonNull(eviction, "eviction");
+        return new DefaultFormatCache(maximumSize, eviction);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SchemaCache createSchemaCache(long maximumWeight, SchemaCache.Weigher weigher, boolean softReferences) {
+        requirePositive(maximumWeight, "maximumWeight");
+        requireNonNull(weigher, "weigher");
+        return new DefaultSchemaCache(maximumWeight, weigher, softReferences);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -236,6 +267,134 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonParser createParser(InputStream in, JsonSchema schema, ProblemHandler handler,
+            Map<String, ?> config) {
+        requireNonNull(in, "in");
+        requireNonNull(schema, "schema");
+        requireNonNull(handler, "handler");
+        JsonParser parser = getJsonParserFactory().createParser(in);
+        return createValidator(parser, schema, handler, config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonParser createParser(Reader reader, JsonSchema schema, ProblemHandler handler,
+            Map<String, ?> config) {
+        requireNonNull(reader, "reader");
+        requireNonNull(schema, "schema");
+        requireNonNull(handler, "handler");
+        JsonParser parser = getJsonParserFactory().createParser(reader);
+        return createValidator(parser, schema, handler, config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("resource")
+    @Override
+    public boolean isValid(JsonSchema schema, JsonParser parser) {
+        requireNonNull(schema, "schema");
+        requireNonNull(parser, "parser");
+        return isValid(schema, parser, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("resource")
+    @Override
+    public boolean isValid(JsonSchema schema, JsonParser parser, Map<String, ?> config) {
+        requireNonNull(schema, "schema");
+        requireNonNull(parser, "parser");
+        if (config == null) {
+            config = Collections.emptyMap();
+        }
+        return new JsonValidator(parser, schema, getJsonProvider())
+                .withMaxDepth(JsonValidator.getMaxDepth(config))
+                .withFailFast(true)
+                .withValidityOnly(true)
+                .readValidity();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isValid(JsonSchema schema, JsonValue value) {
+        requireNonNull(schema, "schema");
+        requireNonNull(value, "value");
+        return isValid(schema, value, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isValid(JsonSchema schema, JsonValue value, Map<String, ?> config) {
+        requireNonNull(schema, "schema");
+        requireNonNull(value, "value");
+        return isValid(schema, new JsonValueParser(Collections.singletonList(value)), config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SchemaValidator createSchemaValidator(JsonSchema schema, ProblemHandler handler) {
+        requireNonNull(schema, "schema");
+        requireNonNull(handler, "handler");
+        return createSchemaValidator(schema, handler, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("resource")
+    @Override
+    public SchemaValidator createSchemaValidator(JsonSchema schema, ProblemHandler handler,
+            Map<String, ?> config) {
+        requireNonNull(schema, "schema");
+        requireNonNull(handler, "handler");
+        if (config == null) {
+            config = Collections.emptyMap();
+        }
+        return new JsonValidator(null, schema, getJsonProvider())
+                .withHandler(handler)
+                .withConfig(config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SchemaValidatorPool createSchemaValidatorPool(JsonSchema schema, int capacity,
+            ProblemHandlerFactory handlerFactory) {
+        requireNonNull(schema, "schema");
+        requireNonNull(handlerFactory, "handlerFactory");
+        return createSchemaValidatorPool(schema, capacity, handlerFactory, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SchemaValidatorPool createSchemaValidatorPool(JsonSchema schema, int capacity,
+            ProblemHandlerFactory handlerFactory, Map<String, ?> config) {
+        requireNonNull(schema, "schema");
+        requireNonNull(handlerFactory, "handlerFactory");
+        requirePositive(capacity, "capacity");
+        if (config == null) {
+            config = Collections.emptyMap();
+        }
+        return new DefaultSchemaValidatorPool(schema, getJsonProvider(), handlerFactory, capacity, config);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -368,6 +527,31 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
                 .withHandler(handler);
     }
 
+    /**
+     * Creates a configured validator.
+     *
+     * @param parser  the real parser.
+     * @param schema  the schema.
+     * @param handler the handler of found problems.
+     * @param config  the configuration properties, may be {@code null}.
+     * @return newly created validator.
+     */
+    @SuppressWarnings("resource")
+    private JsonParser createValidator(JsonParser parser, JsonSchema schema, ProblemHandler handler,
+            Map<String, ?> config) {
+        if (config == null) {
+            config = Collections.emptyMap();
+        }
+        JsonValidator validator;
+        if (config.get(ValidationConfig.DEFAULT_VALUES) == Boolean.TRUE) {
+            validator = new DefaultizingJsonValidator(parser, schema, getJsonProvider());
+        } else {
+            validator = new JsonValidator(parser, schema, getJsonProvider());
+        }
+        return validator.withHandler(handler)
+                .withConfig(config);
+    }
+
     private JsonReader createReader(JsonParser parser) {
         return new DefaultJsonReader(parser);
     }
@@ -72,6 +72,7 @@ import org.leadpony.justify.internal.keyword.assertion.Type;
 import org.leadpony.justify.internal.keyword.assertion.UniqueItems;
 import org.leadpony.justify.internal.keyword.assertion.content.ContentEncoding;
 import org.leadpony.justify.internal.keyword.assertion.content.ContentMediaType;
+import org.leadpony.justify.internal.keyword.assertion.content.ContentSchema;
 import org.leadpony.justify.internal.keyword.assertion.format.Format;
 import org.leadpony.justify.internal.keyword.core.Comment;
 import org.leadpony.justify.internal.keyword.core.Id;
@@ -100,6 +101,7 @@ class StandardKeywordFactory implements KeywordFactory {
             Contains.class,
             ContentEncoding.class,
             ContentMediaType.class,
+            ContentSchema.class,
             Default.class,
             Definitions.class,
             Dependencies.class,
@@ -30,8 +30,9 @@ import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.internal.evaluator.Evaluators;
-import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
 import org.leadpony.justify.internal.keyword.Evaluatable;
+import org.leadpony.justify.internal.keyword.ObjectKeyword;
+import org.leadpony.justify.internal.keyword.PropertySymbols;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
 import org.leadpony.justify.internal.keyword.annotation.Description;
 import org.leadpony.justify.internal.keyword.annotation.Title;
@@ -46,13 +47,14 @@ import org.leadpony.justify.internal.problem.ProblemBuilderFactory;
 public abstract class BasicJsonSchema extends AbstractJsonSchema implements ProblemBuilderFactory {
 
     public static JsonSchema of(URI id, JsonObject json, Map<String, SchemaKeyword> keywords) {
-        List<Evaluatable> evaluatables = collectEvaluatables(keywords);
-        if (evaluatables.isEmpty()) {
+        PropertySymbols symbols = bindPropertySymbols(keywords);
+        EvaluationPlan plan = EvaluationPlan.compile(collectEvaluatables(keywords), symbols);
+        if (plan.size() == 0) {
             return new None(id, json, keywords);
-        } else if (evaluatables.size() == 1) {
-            return new One(id, json, keywords, evaluatables.get(0));
+        } else if (plan.size() == 1) {
+            return new One(id, json, keywords, plan.get(0));
         } else {
-            return new Many(id, json, keywords, evaluatables);
+            return new Many(id, json, keywords, plan);
         }
     }
 
@@ -91,6 +93,33 @@ public abstract class BasicJsonSchema extends AbstractJsonSchema implements Prob
                 .withSchema(this);
     }
 
+    /**
+     * Compiles the property names referred by the object keywords into a symbol
+     * table, and shares the table between the keywords.
+     *
+     * @param keywords all keywords of the schema.
+     * @return the symbol table shared, or {@code null} if no property names are
+     *         referred.
+     */
+    private static PropertySymbols bindPropertySymbols(Map<String, SchemaKeyword> keywords) {
+        PropertySymbols.Builder builder = PropertySymbols.builder();
+        for (SchemaKeyword keyword : keywords.values()) {
+            if (keyword instanceof ObjectKeyword) {
+                ((ObjectKeyword) keyword).addPropertyNames(builder);
+            }
+        }
+        if (builder.isEmpty()) {
+            return null;
+        }
+        PropertySymbols symbols = builder.build();
+        for (SchemaKeyword keyword : keywords.values()) {
+            if (keyword instanceof ObjectKeyword) {
+                ((ObjectKeyword) keyword).bindPropertySymbols(symbols);
+            }
+        }
+        return symbols;
+    }
+
     private static List<Evaluatable> collectEvaluatables(Map<String, SchemaKeyword> keywords) {
         List<Evaluatable> evaluatables = new ArrayList<>();
         for (SchemaKeyword keyword : keywords.values()) {
@@ -152,43 +181,24 @@ public abstract class BasicJsonSchema extends AbstractJsonSchema implements Prob
      */
     private static final class Many extends BasicJsonSchema {
 
-        private final List<Evaluatable> evaluatables;
+        private final EvaluationPlan plan;
 
         private Many(URI id, JsonObject json, Map<String, SchemaKeyword> keywords,
-                List<Evaluatable> evaluatables) {
+                EvaluationPlan plan) {
             super(id, json, keywords);
-            this.evaluatables = evaluatables;
+            this.plan = plan;
         }
 
         @Override
         public Evaluator createEvaluator(EvaluatorContext context, InstanceType type) {
             requireNonNull(type, "type");
-            return createCombinedEvaluator(context, type);
+            return plan.createEvaluator(context, type);
         }
 
         @Override
         public Evaluator createNegatedEvaluator(EvaluatorContext context, InstanceType type) {
             requireNonNull(type, "type");
-            return createCombinedNegatedEvaluator(context, type);
-        }
-
-        private Evaluator createCombinedEvaluator(EvaluatorContext context, InstanceType type) {
-            LogicalEvaluator evaluator = Evaluators.conjunctive(type);
-            for (Evaluatable evaluatable : this.evaluatables) {
-                Evaluator child = evaluatable.createEvaluator(context, type);
-                evaluator.append(child);
-            }
-            return evaluator;
-        }
-
-        private Evaluator createCombinedNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-            LogicalEvaluator evaluator = Evaluators.disjunctive(context, type);
-            evaluator.withProblemBuilderFactory(this);
-            for (Evaluatable evaluatable : this.evaluatables) {
-                Evaluator child = evaluatable.createNegatedEvaluator(context, type);
-                evaluator.append(child);
-            }
-            return evaluator;
+            return plan.createNegatedEvaluator(context, type, this);
         }
     }
 }
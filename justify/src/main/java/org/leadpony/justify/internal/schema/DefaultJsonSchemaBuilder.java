@@ -32,7 +32,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonBuilderFactory;
@@ -46,6 +45,9 @@ import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaBuilder;
 import org.leadpony.justify.internal.base.MediaType;
 import org.leadpony.justify.internal.base.json.JsonService;
+import org.leadpony.justify.internal.base.regex.Ecma262Pattern;
+import org.leadpony.justify.internal.base.regex.RegexEngine;
+import org.leadpony.justify.internal.base.regex.RegexPattern;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
 import org.leadpony.justify.internal.keyword.annotation.Default;
 import org.leadpony.justify.internal.keyword.annotation.Description;
@@ -86,6 +88,7 @@ import org.leadpony.justify.internal.keyword.assertion.Type;
 import org.leadpony.justify.internal.keyword.assertion.UniqueItems;
 import org.leadpony.justify.internal.keyword.assertion.content.ContentEncoding;
 import org.leadpony.justify.internal.keyword.assertion.content.ContentMediaType;
+import org.leadpony.justify.internal.keyword.assertion.content.ContentSchema;
 import org.leadpony.justify.internal.keyword.assertion.content.UnknownContentEncoding;
 import org.leadpony.justify.internal.keyword.assertion.content.UnknownContentMediaType;
 import org.leadpony.justify.internal.keyword.assertion.format.EvaluatableFormat;
@@ -274,7 +277,7 @@ class DefaultJsonSchemaBuilder implements JsonSchemaBuilder {
     @Override
     public JsonSchemaBuilder withPattern(String pattern) {
         requireNonNull(pattern, "pattern");
-        Pattern compiled = Pattern.compile(pattern);
+        RegexPattern compiled = RegexEngine.BACKTRACKING.compile(pattern);
         addKeyword(
                 new org.leadpony.justify.internal.keyword.assertion.Pattern(
                         toJson(pattern), compiled));
@@ -403,21 +406,18 @@ class DefaultJsonSchemaBuilder implements JsonSchemaBuilder {
     public JsonSchemaBuilder withPatternProperty(String pattern, JsonSchema subschema) {
         requireNonNull(pattern, "pattern");
         requireNonNull(subschema, "subschema");
-        Pattern compiled = Pattern.compile(pattern);
+        Ecma262Pattern.compile(pattern);
         getBuilder("patternProperties", PatternPropertiesBuilder::new)
-                .append(compiled, subschema);
+                .append(pattern, subschema);
         return this;
     }
 
     @Override
     public JsonSchemaBuilder withPatternProperties(Map<String, JsonSchema> subschemas) {
         requireNonNull(subschemas, "subschemas");
-        Map<Pattern, JsonSchema> compiledMap = new HashMap<>();
-        subschemas.forEach((pattern, subschema) -> {
-            compiledMap.put(Pattern.compile(pattern), subschema);
-        });
+        subschemas.keySet().forEach(Ecma262Pattern::compile);
         getBuilder("patternProperties", PatternPropertiesBuilder::new)
-                .append(compiledMap);
+                .append(subschemas);
         return this;
     }
 
@@ -605,6 +605,13 @@ class DefaultJsonSchemaBuilder implements JsonSchemaBuilder {
         return this;
     }
 
+    @Override
+    public JsonSchemaBuilder withContentSchema(JsonSchema subschema) {
+        requireNonNull(subschema, "subschema");
+        addKeyword(new ContentSchema(toJson(subschema), subschema));
+        return this;
+    }
+
     @Override
     public JsonSchemaBuilder withDefinition(String name, JsonSchema schema) {
         requireNonNull(name, "name");
@@ -813,21 +820,21 @@ class DefaultJsonSchemaBuilder implements JsonSchemaBuilder {
      *
      * @author leadpony
      */
-    static class PatternPropertiesBuilder extends AbstractKeywordBuilder<Pattern, JsonSchema> {
+    static class PatternPropertiesBuilder extends AbstractKeywordBuilder<String, JsonSchema> {
 
         PatternPropertiesBuilder(JsonBuilderFactory factory) {
             super(factory);
         }
 
         @Override
-        void append(Pattern key, JsonSchema value) {
+        void append(String key, JsonSchema value) {
             super.append(key, value);
-            this.objectBuilder.add(key.toString(), value.toJson());
+            this.objectBuilder.add(key, value.toJson());
         }
 
         @Override
         public SchemaKeyword build() {
-            return new PatternProperties(toJson(), this.map);
+            return new PatternProperties(toJson(), this.map, RegexEngine.BACKTRACKING);
         }
     }
 
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.internal.evaluator.Evaluators;
+import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
+import org.leadpony.justify.internal.keyword.applicator.FusedArrayKeywords;
+import org.leadpony.justify.internal.keyword.applicator.FusedObjectKeywords;
+import org.leadpony.justify.internal.keyword.Evaluatable;
+import org.leadpony.justify.internal.keyword.PropertySymbols;
+import org.leadpony.justify.internal.keyword.SchemaKeyword;
+import org.leadpony.justify.internal.problem.ProblemBuilderFactory;
+
+/**
+ * An immutable evaluation plan compiled from the evaluatable keywords of a
+ * schema.
+ *
+ * <p>
+ * The plan is compiled once when the schema is built and is shared by all
+ * validations, so that validating an instance only creates the evaluators
+ * which actually have something to evaluate. The evaluatables are partitioned
+ * by the instance types they support in advance, and the keywords which do not
+ * support the type of the instance are never visited. The keywords observing
+ * the properties of objects or the items of arrays are fused into one
+ * evaluatable if possible.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class EvaluationPlan {
+
+    private static final InstanceType[] TYPES = InstanceType.values();
+
+    private final Evaluatable[] evaluatables;
+    // the evaluatables supporting each type, indexed by the ordinal of the type.
+    private final Evaluatable[][] typedEvaluatables;
+
+    /**
+     * Compiles the evaluatables into a plan.
+     *
+     * @param evaluatables the evaluatables collected from the keywords of the
+     *                     schema.
+     * @param symbols      the symbol table of the property names shared by the
+     *                     keywords, may be {@code null}.
+     * @return newly compiled plan.
+     */
+    static EvaluationPlan compile(List<Evaluatable> evaluatables, PropertySymbols symbols) {
+        return new EvaluationPlan(evaluatables.toArray(new Evaluatable[evaluatables.size()]), symbols);
+    }
+
+    private EvaluationPlan(Evaluatable[] evaluatables, PropertySymbols symbols) {
+        this.evaluatables = evaluatables;
+        this.typedEvaluatables = new Evaluatable[TYPES.length][];
+        for (InstanceType type : TYPES) {
+            this.typedEvaluatables[type.ordinal()] = filterByType(evaluatables, type);
+        }
+        final int object = InstanceType.OBJECT.ordinal();
+        this.typedEvaluatables[object] = FusedObjectKeywords.fuse(this.typedEvaluatables[object], symbols);
+        final int array = InstanceType.ARRAY.ordinal();
+        this.typedEvaluatables[array] = FusedArrayKeywords.fuse(this.typedEvaluatables[array]);
+    }
+
+    /**
+     * Returns the number of the evaluatables in this plan.
+     *
+     * @return the number of the evaluatables.
+     */
+    int size() {
+        return evaluatables.length;
+    }
+
+    /**
+     * Returns the evaluatable at the specified position.
+     *
+     * @param index the position of the evaluatable.
+     * @return the evaluatable found.
+     */
+    Evaluatable get(int index) {
+        return evaluatables[index];
+    }
+
+    /**
+     * Creates an evaluator combining all evaluatables in this plan.
+     *
+     * <p>
+     * Only the evaluatables supporting the type of the instance are visited. The
+     * evaluators which will evaluate the instance as true without any further
+     * events are dropped, and the combining evaluator is allocated only when two
+     * or more evaluators remain.
+     * </p>
+     *
+     * @param context the context of the evaluator to create.
+     * @param type    the type of the instance, cannot be {@code null}.
+     * @return newly created evaluator.
+     */
+    Evaluator createEvaluator(EvaluatorContext context, InstanceType type) {
+        final Evaluatable[] evaluatables = this.typedEvaluatables[type.ordinal()];
+        if (evaluatables.length == 0) {
+            return Evaluator.ALWAYS_TRUE;
+        }
+        Evaluator first = null;
+        LogicalEvaluator combined = null;
+        for (int i = 0; i < evaluatables.length; i++) {
+            Evaluator child = evaluatables[i].createEvaluator(context, type);
+            if (child == Evaluator.ALWAYS_TRUE) {
+                continue;
+            }
+            if (first == null) {
+                first = child;
+            } else {
+                if (combined == null) {
+                    combined = Evaluators.conjunctive(context, type, evaluatables.length - i + 1);
+                    combined.append(first);
+                }
+                combined.append(child);
+            }
+        }
+        if (combined != null) {
+            return combined;
+        }
+        return (first != null) ? first : Evaluator.ALWAYS_TRUE;
+    }
+
+    /**
+     * Creates an evaluator combining the negated versions of all evaluatables in
+     * this plan.
+     *
+     * @param context  the context of the evaluator to create.
+     * @param type     the type of the instance, cannot be {@code null}.
+     * @param factory  the factory of the problem builders.
+     * @return newly created evaluator.
+     */
+    Evaluator createNegatedEvaluator(EvaluatorContext context, InstanceType type, ProblemBuilderFactory factory) {
+        LogicalEvaluator evaluator = Evaluators.disjunctive(context, type);
+        evaluator.withProblemBuilderFactory(factory);
+        for (Evaluatable evaluatable : this.evaluatables) {
+            evaluator.append(evaluatable.createNegatedEvaluator(context, type));
+        }
+        return evaluator;
+    }
+
+    private static Evaluatable[] filterByType(Evaluatable[] evaluatables, InstanceType type) {
+        List<Evaluatable> filtered = new ArrayList<>(evaluatables.length);
+        for (Evaluatable evaluatable : evaluatables) {
+            if (evaluatable instanceof SchemaKeyword && !((SchemaKeyword) evaluatable).supportsType(type)) {
+                continue;
+            }
+            filtered.add(evaluatable);
+        }
+        return filtered.toArray(new Evaluatable[filtered.size()]);
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.schema.io;
+
+import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayReader;
+import java.io.CharArrayWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.json.JsonException;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaReaderFactory;
+
+/**
+ * A schema reader factory which looks up the schemas in the cache before
+ * reading them.
+ *
+ * <p>
+ * The readers created by this factory read the whole input source and compute
+ * its SHA-256 digest. The schema compiled from the same source is returned from
+ * the cache if found; otherwise the source is read again by the readers of the
+ * underlying factory, and the compiled schema is added to the cache.
+ * </p>
+ *
+ * @author leadpony
+ */
+class CachingJsonSchemaReaderFactory implements JsonSchemaReaderFactory {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final JsonSchemaReaderFactory factory;
+    private final DefaultSchemaCache cache;
+    private final Object scope;
+
+    /**
+     * Constructs this factory.
+     *
+     * @param factory the underlying factory which reads the schemas.
+     * @param cache   the cache of the schemas.
+     * @param scope   the scope of the schemas read by this factory.
+     */
+    CachingJsonSchemaReaderFactory(JsonSchemaReaderFactory factory, DefaultSchemaCache cache, Object scope) {
+        this.factory = factory;
+        this.cache = cache;
+        this.scope = scope;
+    }
+
+    @Override
+    public JsonSchemaReader createSchemaReader(InputStream in) {
+        requireNonNull(in, "in");
+        return new ByteSourceReader(in, null);
+    }
+
+    @Override
+    public JsonSchemaReader createSchemaReader(InputStream in, Charset charset) {
+        requireNonNull(in, "in");
+        requireNonNull(charset, "charset");
+        return new ByteSourceReader(in, charset);
+    }
+
+    @Override
+    public JsonSchemaReader createSchemaReader(Reader reader) {
+        requireNonNull(reader, "reader");
+        return new CharSourceReader(reader);
+    }
+
+    @Override
+    public JsonSchemaReader createSchemaReader(Path path) {
+        requireNonNull(path, "path");
+        return createSchemaReader(JsonSchemaReaderFactoryImpl.openInputStream(path));
+    }
+
+    private static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every implementation of the Java platform supports SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A skeletal schema reader which reads the whole source before compiling it.
+     *
+     * @author leadpony
+     */
+    private abstract class AbstractCachingReader implements JsonSchemaReader {
+
+        private final Closeable source;
+        private boolean alreadyRead;
+        private boolean alreadyClosed;
+
+        AbstractCachingReader(Closeable source) {
+            this.source = source;
+        }
+
+        @Override
+        public JsonSchema read() {
+            if (alreadyClosed) {
+                throw new IllegalStateException("already closed.");
+            } else if (alreadyRead) {
+                throw new IllegalStateException("already read.");
+            }
+            alreadyRead = true;
+            try {
+                readSource();
+            } catch (IOException e) {
+                throw new JsonException(e.getMessage(), e);
+            }
+            Object digest = ByteBuffer.wrap(digestSource());
+            JsonSchema schema = cache.getByDigest(scope, digest);
+            if (schema == null) {
+                long startTime = System.nanoTime();
+                try (JsonSchemaReader reader = createReader()) {
+                    schema = reader.read();
+                }
+                cache.putByDigest(scope, digest, schema, getSourceLength(), System.nanoTime() - startTime);
+            }
+            return schema;
+        }
+
+        @Override
+        public void close() {
+            if (!alreadyClosed) {
+                alreadyClosed = true;
+                try {
+                    source.close();
+                } catch (IOException e) {
+                    throw new JsonException(e.getMessage(), e);
+                }
+            }
+        }
+
+        /**
+         * Reads the whole source.
+         *
+         * @throws IOException if an I/O error occurs while reading.
+         */
+        protected abstract void readSource() throws IOException;
+
+        /**
+         * Computes the digest of the source.
+         *
+         * @return the digest of the source.
+         */
+        protected abstract byte[] digestSource();
+
+        /**
+         * Returns the length of the source.
+         *
+         * @return the length of the source.
+         */
+        protected abstract long getSourceLength();
+
+        /**
+         * Creates a reader of the underlying factory which reads the source
+         * already read.
+         *
+         * @return newly created reader.
+         */
+        protected abstract JsonSchemaReader createReader();
+    }
+
+    /**
+     * A schema reader which reads the schema from a byte stream.
+     *
+     * @author leadpony
+     */
+    private final class ByteSourceReader extends AbstractCachingReader {
+
+        private final InputStream in;
+        private final Charset charset;
+        private byte[] bytes;
+
+        ByteSourceReader(InputStream in, Charset charset) {
+            super(in);
+            this.in = in;
+            this.charset = charset;
+        }
+
+        @Override
+        protected void readSource() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, length);
+            }
+            this.bytes = out.toByteArray();
+        }
+
+        @Override
+        protected byte[] digestSource() {
+            MessageDigest digest = createMessageDigest();
+            if (charset != null) {
+                digest.update(charset.name().getBytes(StandardCharsets.US_ASCII));
+            }
+            return digest.digest(bytes);
+        }
+
+        @Override
+        protected long getSourceLength() {
+            return bytes.length;
+        }
+
+        @Override
+        protected JsonSchemaReader createReader() {
+            InputStream source = new ByteArrayInputStream(bytes);
+            return (charset != null)
+                    ? factory.createSchemaReader(source, charset)
+                    : factory.createSchemaReader(source);
+        }
+    }
+
+    /**
+     * A schema reader which reads the schema from a character stream.
+     *
+     * @author leadpony
+     */
+    private final class CharSourceReader extends AbstractCachingReader {
+
+        private final Reader reader;
+        private char[] chars;
+
+        CharSourceReader(Reader reader) {
+            super(reader);
+            this.reader = reader;
+        }
+
+        @Override
+        protected void readSource() throws IOException {
+            CharArrayWriter writer = new CharArrayWriter();
+            char[] buffer = new char[BUFFER_SIZE];
+            int length;
+            while ((length = reader.read(buffer)) >= 0) {
+                writer.write(buffer, 0, length);
+            }
+            this.chars = writer.toCharArray();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * The characters are digested as they are, two bytes for each, so that
+         * the unpaired surrogates are distinguished from each other.
+         * </p>
+         */
+        @Override
+        protected byte[] digestSource() {
+            MessageDigest digest = createMessageDigest();
+            ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE * 2);
+            CharBuffer view = bytes.asCharBuffer();
+            for (int offset = 0; offset < chars.length; offset += BUFFER_SIZE) {
+                int length = Math.min(BUFFER_SIZE, chars.length - offset);
+                view.clear();
+                view.put(chars, offset, length);
+                bytes.clear();
+                bytes.limit(length * 2);
+                digest.update(bytes);
+            }
+            return digest.digest();
+        }
+
+        @Override
+        protected long getSourceLength() {
+            return chars.length;
+        }
+
+        @Override
+        protected JsonSchemaReader createReader() {
+            return factory.createSchemaReader(new CharArrayReader(chars));
+        }
+    }
+}
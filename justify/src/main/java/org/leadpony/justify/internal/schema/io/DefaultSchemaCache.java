@@ -0,0 +1,480 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.schema.io;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.SchemaCache;
+import org.leadpony.justify.internal.base.URIs;
+
+/**
+ * The default implementation of {@link SchemaCache}.
+ *
+ * <p>
+ * The schemas are held in a single {@link LinkedHashMap} ordered by access,
+ * which is guarded by the lock of this cache. Each key consists of the scope,
+ * which is made of the settings of the schema readers affecting the compiled
+ * schemas, and either the digest of the source or the identifier of the
+ * schema. The schema read from a source is
+ * held by the digest, and its identifier is registered as an alias of the
+ * digest, so the schema is weighed only once. The schemas are loaded outside
+ * of the lock, so the same schema may be loaded concurrently by multiple
+ * threads on a miss.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class DefaultSchemaCache implements SchemaCache {
+
+    // The settings of the readers affecting the schemas, compared by their values.
+    private static final String[] SETTINGS = {
+        JsonSchemaReader.STRICT_KEYWORDS,
+        JsonSchemaReader.STRICT_FORMATS,
+        JsonSchemaReader.CUSTOM_FORMATS,
+        JsonSchemaReader.DEFAULT_SPEC_VERSION,
+        JsonSchemaReader.SCHEMA_VALIDATION,
+        JsonSchemaReader.SPEC_VERSION_DETECTION,
+        JsonSchemaReader.LINEAR_TIME_REGEX,
+        JsonSchemaReader.MAX_CONTENT_SIZE,
+    };
+
+    private final long maximumWeight;
+    private final Weigher weigher;
+    private final boolean softReferences;
+
+    // guarded by this
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // guarded by this
+    private final Map<Key, Key> aliases = new HashMap<>();
+    // guarded by this
+    private long weight;
+
+    private final ReferenceQueue<JsonSchema> queue = new ReferenceQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs this cache.
+     *
+     * @param maximumWeight  the maximum total weight of the schemas.
+     * @param weigher        the way to weigh the schemas.
+     * @param softReferences {@code true} to hold the schemas by soft references.
+     */
+    public DefaultSchemaCache(long maximumWeight, Weigher weigher, boolean softReferences) {
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.softReferences = softReferences;
+    }
+
+    @Override
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public Weigher getWeigher() {
+        return weigher;
+    }
+
+    @Override
+    public boolean usesSoftReferences() {
+        return softReferences;
+    }
+
+    @Override
+    public synchronized int size() {
+        purge();
+        return entries.size();
+    }
+
+    @Override
+    public synchronized long getWeight() {
+        purge();
+        return weight;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    @Override
+    public long getTotalLoadTime() {
+        return loadTime.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        aliases.clear();
+        weight = 0;
+        while (queue.poll() != null) {
+            // Drains the cleared references.
+        }
+    }
+
+    /**
+     * Returns the scope of the schemas for the configuration of the schema
+     * readers. The scope is made of the settings affecting the compiled
+     * schemas, where the metaschema, the format cache and the resolvers are
+     * compared by identity.
+     *
+     * @param config the configuration of the schema readers.
+     * @return the scope of the schemas.
+     */
+    static Object scopeOf(Map<String, Object> config) {
+        Object[] settings = new Object[SETTINGS.length];
+        for (int i = 0; i < SETTINGS.length; i++) {
+            settings[i] = config.get(SETTINGS[i]);
+        }
+        List<Object> components = new ArrayList<>();
+        components.add(config.get(JsonSchemaReader.METASCHEMA));
+        components.add(config.get(JsonSchemaReader.FORMAT_CACHE));
+        List<?> resolvers = (List<?>) config.get(JsonSchemaReader.RESOLVERS);
+        if (resolvers != null) {
+            components.addAll(resolvers);
+        }
+        return new Scope(settings, components.toArray());
+    }
+
+    /**
+     * Returns the schema read from the source of the specified digest.
+     *
+     * @param scope  the scope of the schema.
+     * @param digest the digest of the source.
+     * @return the schema if found, {@code null} otherwise.
+     */
+    JsonSchema getByDigest(Object scope, Object digest) {
+        return get(new Key(scope, digest), false);
+    }
+
+    /**
+     * Returns the schema of the specified identifier.
+     *
+     * @param scope the scope of the schema.
+     * @param id    the identifier of the schema.
+     * @return the schema if found, {@code null} otherwise.
+     */
+    JsonSchema getById(Object scope, URI id) {
+        return get(new Key(scope, URIs.withFragment(id)), true);
+    }
+
+    /**
+     * Adds the schema read from the source of the specified digest.
+     *
+     * @param scope    the scope of the schema.
+     * @param digest   the digest of the source.
+     * @param schema   the schema read.
+     * @param length   the length of the source.
+     * @param loadTime the time spent for loading the schema in nanoseconds.
+     */
+    void putByDigest(Object scope, Object digest, JsonSchema schema, long length, long loadTime) {
+        Key alias = schema.hasId() ? new Key(scope, URIs.withFragment(schema.id())) : null;
+        put(new Key(scope, digest), alias, schema, length, loadTime);
+    }
+
+    /**
+     * Adds the schema of the specified identifier. The source of the schema
+     * found by the resolvers is unknown, so the schema is weighed as one.
+     *
+     * @param scope    the scope of the schema.
+     * @param id       the identifier of the schema.
+     * @param schema   the schema found.
+     * @param loadTime the time spent for loading the schema in nanoseconds.
+     */
+    void putById(Object scope, URI id, JsonSchema schema, long loadTime) {
+        put(new Key(scope, URIs.withFragment(id)), null, schema, 1, loadTime);
+    }
+
+    private JsonSchema get(Key key, boolean aliased) {
+        JsonSchema schema = null;
+        synchronized (this) {
+            purge();
+            Key actualKey = aliased ? aliases.getOrDefault(key, key) : key;
+            Entry entry = entries.get(actualKey);
+            if (entry != null) {
+                schema = entry.getSchema();
+                if (schema == null) {
+                    remove(entry);
+                }
+            }
+        }
+        if (schema != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return schema;
+    }
+
+    private void put(Key key, Key alias, JsonSchema schema, long length, long time) {
+        loads.increment();
+        loadTime.add(time);
+        long entryWeight = (weigher == Weigher.COUNT) ? 1 : length;
+        if (entryWeight > maximumWeight) {
+            return;
+        }
+        Entry entry = softReferences
+                ? new SoftEntry(key, alias, entryWeight, schema, queue)
+                : new StrongEntry(key, alias, entryWeight, schema);
+        synchronized (this) {
+            purge();
+            Entry old = entries.get(key);
+            if (old != null) {
+                remove(old);
+            }
+            entries.put(key, entry);
+            if (alias != null) {
+                aliases.put(alias, key);
+            }
+            weight += entryWeight;
+            evict();
+        }
+    }
+
+    /**
+     * Discards the least recently used schemas until the total weight is within
+     * the limit.
+     */
+    private void evict() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (weight > maximumWeight && it.hasNext()) {
+            Entry entry = it.next();
+            it.remove();
+            forget(entry);
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Removes the entries whose schemas were cleared by the garbage collector.
+     */
+    private void purge() {
+        Object ref;
+        while ((ref = queue.poll()) != null) {
+            Entry entry = ((SoftSchema) ref).entry();
+            if (entries.get(entry.key) == entry) {
+                remove(entry);
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.key);
+        forget(entry);
+    }
+
+    private void forget(Entry entry) {
+        weight -= entry.weight;
+        if (entry.alias != null && entry.key.equals(aliases.get(entry.alias))) {
+            aliases.remove(entry.alias);
+        }
+    }
+
+    /**
+     * The scope of the schemas, which is made of the settings of the readers.
+     *
+     * @author leadpony
+     */
+    private static final class Scope {
+
+        private final Object[] settings;
+        private final Object[] components;
+        private final int hashCode;
+
+        Scope(Object[] settings, Object[] components) {
+            this.settings = settings;
+            this.components = components;
+            int hashCode = Arrays.hashCode(settings);
+            for (Object component : components) {
+                hashCode = hashCode * 31 + System.identityHashCode(component);
+            }
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof Scope)) {
+                return false;
+            }
+            Scope other = (Scope) obj;
+            return hashCode == other.hashCode
+                    && Arrays.equals(settings, other.settings)
+                    && sameComponents(other.components);
+        }
+
+        private boolean sameComponents(Object[] others) {
+            if (components.length != others.length) {
+                return false;
+            }
+            for (int i = 0; i < components.length; i++) {
+                if (components[i] != others[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A key of the schemas.
+     *
+     * @author leadpony
+     */
+    private static final class Key {
+
+        private final Object scope;
+        private final Object value;
+
+        Key(Object scope, Object value) {
+            this.scope = scope;
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return scope.hashCode() * 31 + value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return value.equals(other.value) && scope.equals(other.scope);
+        }
+    }
+
+    /**
+     * An entry of this cache.
+     *
+     * @author leadpony
+     */
+    private abstract static class Entry {
+
+        final Key key;
+        final Key alias;
+        final long weight;
+
+        Entry(Key key, Key alias, long weight) {
+            this.key = key;
+            this.alias = alias;
+            this.weight = weight;
+        }
+
+        abstract JsonSchema getSchema();
+    }
+
+    /**
+     * An entry holding the schema by a strong reference.
+     *
+     * @author leadpony
+     */
+    private static final class StrongEntry extends Entry {
+
+        private final JsonSchema schema;
+
+        StrongEntry(Key key, Key alias, long weight, JsonSchema schema) {
+            super(key, alias, weight);
+            this.schema = schema;
+        }
+
+        @Override
+        JsonSchema getSchema() {
+            return schema;
+        }
+    }
+
+    /**
+     * An entry holding the schema by a soft reference.
+     *
+     * @author leadpony
+     */
+    private static final class SoftEntry extends Entry {
+
+        private final SoftSchema reference;
+
+        SoftEntry(Key key, Key alias, long weight, JsonSchema schema, ReferenceQueue<JsonSchema> queue) {
+            super(key, alias, weight);
+            this.reference = new SoftSchema(schema, queue, this);
+        }
+
+        @Override
+        JsonSchema getSchema() {
+            return reference.get();
+        }
+    }
+
+    /**
+     * A soft reference to the schema, which knows its entry.
+     *
+     * @author leadpony
+     */
+    private static final class SoftSchema extends SoftReference<JsonSchema> {
+
+        private final SoftEntry entry;
+
+        SoftSchema(JsonSchema schema, ReferenceQueue<JsonSchema> queue, SoftEntry entry) {
+            super(schema, queue);
+            this.entry = entry;
+        }
+
+        SoftEntry entry() {
+            return entry;
+        }
+    }
+}
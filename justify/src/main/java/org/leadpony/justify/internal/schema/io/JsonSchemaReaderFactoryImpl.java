@@ -16,6 +16,7 @@
 package org.leadpony.justify.internal.schema.io;
 
 import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
+import static org.leadpony.justify.internal.base.Arguments.requirePositive;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -34,11 +35,13 @@ import javax.json.JsonException;
 import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParserFactory;
 
+import org.leadpony.justify.api.FormatCache;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.JsonSchemaReaderFactory;
 import org.leadpony.justify.api.JsonSchemaReaderFactoryBuilder;
 import org.leadpony.justify.api.JsonSchemaResolver;
+import org.leadpony.justify.api.SchemaCache;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.base.ResettableInputStream;
@@ -46,6 +49,7 @@ import org.leadpony.justify.internal.base.ResettableReader;
 import org.leadpony.justify.internal.base.json.DefaultPointerAwareJsonParser;
 import org.leadpony.justify.internal.base.json.JsonService;
 import org.leadpony.justify.internal.base.json.PointerAwareJsonParser;
+import org.leadpony.justify.internal.keyword.assertion.format.DefaultFormatCache;
 import org.leadpony.justify.internal.schema.SchemaSpec;
 import org.leadpony.justify.internal.schema.SchemaSpecRegistry;
 import org.leadpony.justify.internal.validator.JsonValidator;
@@ -108,9 +112,19 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
     @Override
     public JsonSchemaReader createSchemaReader(Path path) {
         requireNonNull(path, "path");
+        return createSchemaReader(openInputStream(path));
+    }
+
+    /**
+     * Opens the file at the specified path.
+     *
+     * @param path the path to the file.
+     * @return the input stream reading the file.
+     * @throws JsonException if the file is not found or cannot be opened.
+     */
+    static InputStream openInputStream(Path path) {
         try {
-            InputStream in = Files.newInputStream(path);
-            return createSchemaReader(in);
+            return Files.newInputStream(path);
         } catch (NoSuchFileException e) {
             throw newJsonException(e, Message.SCHEMA_PROBLEM_NOT_FOUND, path);
         } catch (IOException e) {
@@ -263,6 +277,11 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
             } else {
                 factory = new JsonSchemaReaderFactoryImpl(this);
             }
+            DefaultSchemaCache cache = (DefaultSchemaCache) props.get(JsonSchemaReader.SCHEMA_CACHE);
+            if (cache != null) {
+                factory = new CachingJsonSchemaReaderFactory(
+                        factory, cache, DefaultSchemaCache.scopeOf(getConfigAsMap()));
+            }
             this.properties = null;
             return factory;
         }
@@ -321,6 +340,39 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
             return this;
         }
 
+        @Override
+        public JsonSchemaReaderFactoryBuilder withLinearTimeRegex(boolean enabled) {
+            getProperties().put(JsonSchemaReader.LINEAR_TIME_REGEX, enabled);
+            return this;
+        }
+
+        @Override
+        public JsonSchemaReaderFactoryBuilder withFormatCache(FormatCache cache) {
+            requireNonNull(cache, "cache");
+            if (!(cache instanceof DefaultFormatCache)) {
+                throw new IllegalArgumentException("cache must be created by JsonValidationService.");
+            }
+            getProperties().put(JsonSchemaReader.FORMAT_CACHE, cache);
+            return this;
+        }
+
+        @Override
+        public JsonSchemaReaderFactoryBuilder withMaxContentSize(long size) {
+            requirePositive(size, "size");
+            getProperties().put(JsonSchemaReader.MAX_CONTENT_SIZE, size);
+            return this;
+        }
+
+        @Override
+        public JsonSchemaReaderFactoryBuilder withSchemaCache(SchemaCache cache) {
+            requireNonNull(cache, "cache");
+            if (!(cache instanceof DefaultSchemaCache)) {
+                throw new IllegalArgumentException("cache must be created by JsonValidationService.");
+            }
+            getProperties().put(JsonSchemaReader.SCHEMA_CACHE, cache);
+            return this;
+        }
+
         private Map<String, Object> getProperties() {
             if (this.properties == null) {
                 this.properties = createDefaultProperties();
@@ -338,6 +390,7 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
             props.put(JsonSchemaReader.DEFAULT_SPEC_VERSION, SpecVersion.current());
             props.put(JsonSchemaReader.SCHEMA_VALIDATION, true);
             props.put(JsonSchemaReader.SPEC_VERSION_DETECTION, true);
+            props.put(JsonSchemaReader.LINEAR_TIME_REGEX, false);
 
             List<JsonSchemaResolver> resolvers = new ArrayList<>();
             resolvers.add(specRegistry.getMetaschemaCatalog());
@@ -39,10 +39,12 @@ import org.leadpony.justify.internal.base.Sets;
 import org.leadpony.justify.internal.base.URIs;
 import org.leadpony.justify.internal.base.json.JsonService;
 import org.leadpony.justify.internal.base.json.PointerAwareJsonParser;
+import org.leadpony.justify.internal.base.regex.RegexEngine;
 import org.leadpony.justify.internal.keyword.KeywordFactory;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
 import org.leadpony.justify.internal.keyword.Unknown;
 import org.leadpony.justify.internal.keyword.applicator.Referenceable;
+import org.leadpony.justify.internal.keyword.assertion.format.DefaultFormatCache;
 import org.leadpony.justify.internal.keyword.core.Id;
 import org.leadpony.justify.internal.keyword.core.Ref;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
@@ -65,6 +67,11 @@ public class JsonSchemaReaderImpl extends AbstractJsonSchemaReader
     private final JsonService jsonService;
     private final SchemaSpec spec;
     private final KeywordFactory keywordFactory;
+    private final RegexEngine regexEngine;
+    private final DefaultFormatCache formatCache;
+    private final long maxContentSize;
+    private final DefaultSchemaCache schemaCache;
+    private final Object cacheScope;
 
     private final Map<JsonObject, Reference> referencingObjects = new IdentityHashMap<>();
     // schemas having $id keyword.
@@ -84,6 +91,18 @@ public class JsonSchemaReaderImpl extends AbstractJsonSchemaReader
         this.jsonService = jsonService;
         this.spec = spec;
         this.keywordFactory = spec.getKeywordFactory();
+        this.regexEngine = config.get(LINEAR_TIME_REGEX) == Boolean.TRUE
+                ? RegexEngine.LINEAR_TIME
+                : RegexEngine.BACKTRACKING;
+        // The builder accepts only the caches created by the service.
+        this.formatCache = (DefaultFormatCache) config.get(FORMAT_CACHE);
+        this.maxContentSize = (Long) config.getOrDefault(MAX_CONTENT_SIZE, Long.MAX_VALUE);
+        this.schemaCache = (DefaultSchemaCache) config.get(SCHEMA_CACHE);
+        if (schemaCache != null) {
+            this.cacheScope = DefaultSchemaCache.scopeOf(config);
+        } else {
+            this.cacheScope = null;
+        }
 
         if (parser instanceof JsonValidator) {
             ((JsonValidator) parser).withHandler(this);
@@ -137,6 +156,9 @@ public class JsonSchemaReaderImpl extends AbstractJsonSchemaReader
             addProblem(createProblemBuilder(Message.SCHEMA_PROBLEM_FORMAT_UNKNOWN)
                     .withParameter("attribute", name));
         }
+        if (attribute != null && formatCache != null) {
+            attribute = formatCache.decorate(attribute);
+        }
         return attribute;
     }
 
@@ -162,6 +184,16 @@ public class JsonSchemaReaderImpl extends AbstractJsonSchemaReader
         return spec.getMimeType(value);
     }
 
+    @Override
+    public RegexEngine getRegexEngine() {
+        return regexEngine;
+    }
+
+    @Override
+    public long getMaxContentSize() {
+        return maxContentSize;
+    }
+
     /* */
 
     /**
@@ -376,8 +408,23 @@ public class JsonSchemaReaderImpl extends AbstractJsonSchemaReader
         if (schema != null) {
             return schema;
         }
+        if (schemaCache == null) {
+            return resolveExternalSchema(id);
+        }
+        schema = schemaCache.getById(cacheScope, id);
+        if (schema == null) {
+            long startTime = System.nanoTime();
+            schema = resolveExternalSchema(id);
+            if (schema != null) {
+                schemaCache.putById(cacheScope, id, schema, System.nanoTime() - startTime);
+            }
+        }
+        return schema;
+    }
+
+    private JsonSchema resolveExternalSchema(URI id) {
         for (JsonSchemaResolver resolver : getResolvers()) {
-            schema = resolver.resolveSchema(id);
+            JsonSchema schema = resolver.resolveSchema(id);
             if (schema != null) {
                 return schema;
             }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.validator;
+
+import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.ProblemHandlerFactory;
+import org.leadpony.justify.api.SchemaValidator;
+import org.leadpony.justify.api.SchemaValidatorPool;
+
+/**
+ * The default implementation of {@link SchemaValidatorPool}.
+ *
+ * <p>
+ * Idle validators are kept in a bounded queue. This pool never blocks the
+ * callers: a new validator is created when the queue is empty, and a released
+ * validator is dropped when the queue is full.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class DefaultSchemaValidatorPool implements SchemaValidatorPool {
+
+    private final JsonSchema schema;
+    private final JsonProvider jsonProvider;
+    private final ProblemHandlerFactory handlerFactory;
+    private final BlockingQueue<JsonValidator> idleValidators;
+    private final Map<String, ?> config;
+
+    /**
+     * Constructs this pool.
+     *
+     * @param schema         the JSON schema to be evaluated by the validators.
+     * @param jsonProvider   the JSON provider.
+     * @param handlerFactory the factory of problem handlers.
+     * @param capacity       the maximum number of idle validators.
+     * @param config         the configuration properties of the validators.
+     * @throws IllegalArgumentException if any of the properties is invalid.
+     */
+    public DefaultSchemaValidatorPool(JsonSchema schema, JsonProvider jsonProvider,
+            ProblemHandlerFactory handlerFactory, int capacity, Map<String, ?> config) {
+        this.schema = schema;
+        this.jsonProvider = jsonProvider;
+        this.handlerFactory = handlerFactory;
+        this.idleValidators = new ArrayBlockingQueue<>(capacity);
+        this.config = new HashMap<>(config);
+        // Rejects the invalid limit before creating any validator.
+        JsonValidator.getMaxDepth(this.config);
+    }
+
+    @Override
+    public SchemaValidator acquire(JsonParser parser) {
+        requireNonNull(parser, "parser");
+        JsonValidator validator = idleValidators.poll();
+        if (validator == null) {
+            validator = createValidator();
+        }
+        return validator.reset(parser);
+    }
+
+    @Override
+    public void release(SchemaValidator validator) {
+        requireNonNull(validator, "validator");
+        if (!(validator instanceof JsonValidator) || validator.getSchema() != schema) {
+            throw new IllegalArgumentException("validator was not acquired from this pool.");
+        }
+        JsonValidator idle = (JsonValidator) validator;
+        idle.detach();
+        idleValidators.offer(idle);
+    }
+
+    @SuppressWarnings("resource")
+    private JsonValidator createValidator() {
+        JsonValidator validator = new JsonValidator(null, schema, jsonProvider);
+        return validator.withHandler(handlerFactory.createProblemHandler(validator))
+                .withConfig(config);
+    }
+}
@@ -86,4 +86,22 @@ public class DefaultValidationConfig extends HashMap<String, Object>
     public ValidationConfig withDefaultValues(boolean usingDefaultValues) {
         return setProperty(DEFAULT_VALUES, usingDefaultValues);
     }
+
+    @Override
+    public ValidationConfig withFailFast(boolean failFast) {
+        return setProperty(FAIL_FAST, failFast);
+    }
+
+    @Override
+    public ValidationConfig withMaxDepth(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("maxDepth must be positive");
+        }
+        return setProperty(MAX_DEPTH, maxDepth);
+    }
+
+    @Override
+    public ValidationConfig withValidityOnly(boolean validityOnly) {
+        return setProperty(VALIDITY_ONLY, validityOnly);
+    }
 }
@@ -34,7 +34,7 @@ import org.leadpony.justify.internal.base.json.JsonValueParser;
  */
 public class DefaultizingJsonValidator extends JsonValidator {
 
-    private final JsonParser realParser;
+    private JsonParser realParser;
     private final Map<String, JsonValue> defaultProperties = new LinkedHashMap<>();
     private final List<JsonValue> defaultItems = new ArrayList<>();
     private boolean defaultValuesInserted;
@@ -60,6 +60,16 @@ public class DefaultizingJsonValidator extends JsonValidator {
         return getCurrentParser() != realParser;
     }
 
+    @Override
+    public JsonValidator reset(JsonParser parser) {
+        super.reset(parser);
+        this.realParser = parser;
+        this.defaultProperties.clear();
+        this.defaultItems.clear();
+        this.defaultValuesInserted = false;
+        return this;
+    }
+
     @Override
     public boolean acceptsDefaultValues() {
         return true;
@@ -18,6 +18,7 @@ package org.leadpony.justify.internal.validator;
 
 import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -26,15 +27,21 @@ import javax.json.JsonValue;
 import javax.json.spi.JsonProvider;
 import javax.json.stream.JsonParser;
 
+import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.base.json.DefaultPointerAwareJsonParser;
 import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.base.json.ParserValueCache;
 import org.leadpony.justify.internal.problem.DefaultProblemDispatcher;
+import org.leadpony.justify.internal.problem.ProblemBuilder;
+import org.leadpony.justify.internal.problem.ProblemBuilderFactory;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemHandler;
+import org.leadpony.justify.api.SchemaValidator;
+import org.leadpony.justify.api.ValidationConfig;
 import org.leadpony.justify.api.Evaluator.Result;
 
 /**
@@ -43,20 +50,32 @@ import org.leadpony.justify.api.Evaluator.Result;
  * @author leadpony
  */
 public class JsonValidator extends DefaultPointerAwareJsonParser
-    implements EvaluatorContext, DefaultProblemDispatcher, ParserEventHandler {
+    implements SchemaValidator, EvaluatorContext, DefaultProblemDispatcher, ParserEventHandler {
+
+    /**
+     * The maximum depth of nesting allowed by default.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 1000;
 
     private final JsonSchema rootSchema;
+    private final ParserEventHandler firstEventHandler = this::handleFirstEvent;
     private ProblemHandler problemHandler;
+    private boolean failFast;
+    private boolean validityOnly;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
     private ParserEventHandler eventHandler;
     private Evaluator evaluator;
     private int depth;
+    private boolean invalid;
 
     private final List<Problem> currentProblems = new ArrayList<>();
+    private final ParserValueCache valueCache = new ParserValueCache();
 
     /**
      * Constructs this parser.
      *
-     * @param realParser   the underlying JSON parser.
+     * @param realParser   the underlying JSON parser, may be {@code null} if
+     *                     this parser will be attached later.
      * @param rootSchema   the root JSON schema to be evaluated during validation.
      * @param jsonProvider the JSON provider.
      */
@@ -64,7 +83,7 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         super(realParser, jsonProvider);
         this.rootSchema = rootSchema;
         this.problemHandler = ProblemHandler.throwing();
-        this.eventHandler = this::handleFirstEvent;
+        this.eventHandler = firstEventHandler;
     }
 
     /**
@@ -78,11 +97,129 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         return this;
     }
 
+    /**
+     * Specifies whether this parser stops validating at the first problem.
+     *
+     * @param failFast {@code true} to stop at the first problem.
+     * @return this parser.
+     */
+    public JsonValidator withFailFast(boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    /**
+     * Specifies whether this parser needs only the validity of the instance. If
+     * enabled, no problems will be built nor dispatched to the problem handler.
+     *
+     * @param validityOnly {@code true} to discard the problems.
+     * @return this parser.
+     */
+    public JsonValidator withValidityOnly(boolean validityOnly) {
+        this.validityOnly = validityOnly;
+        return this;
+    }
+
+    /**
+     * Specifies the maximum depth of nesting of arrays and objects to be
+     * validated. The validation stops with a problem when the instance is nested
+     * more deeply than this limit. By default, the limit is
+     * {@link #DEFAULT_MAX_DEPTH}.
+     *
+     * @param maxDepth the maximum depth of nesting, must be positive.
+     * @return this parser.
+     * @throws IllegalArgumentException if the specified {@code maxDepth} is not
+     *                                  positive.
+     */
+    public JsonValidator withMaxDepth(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("maxDepth must be positive.");
+        }
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Configures this parser with the specified configuration properties, which
+     * are {@link ValidationConfig#FAIL_FAST}, {@link ValidationConfig#MAX_DEPTH}
+     * and {@link ValidationConfig#VALIDITY_ONLY}.
+     *
+     * @param config the configuration properties.
+     * @return this parser.
+     * @throws IllegalArgumentException if any of the properties is invalid.
+     */
+    public JsonValidator withConfig(Map<String, ?> config) {
+        return withFailFast(config.get(ValidationConfig.FAIL_FAST) == Boolean.TRUE)
+                .withValidityOnly(config.get(ValidationConfig.VALIDITY_ONLY) == Boolean.TRUE)
+                .withMaxDepth(getMaxDepth(config));
+    }
+
+    /**
+     * Returns the maximum depth of nesting given by the configuration properties.
+     *
+     * @param config the configuration properties.
+     * @return the maximum depth of nesting, or {@link #DEFAULT_MAX_DEPTH} if not
+     *         specified.
+     * @throws IllegalArgumentException if the value of
+     *                                  {@link ValidationConfig#MAX_DEPTH} is not a
+     *                                  positive integer.
+     */
+    public static int getMaxDepth(Map<String, ?> config) {
+        Object value = config.get(ValidationConfig.MAX_DEPTH);
+        if (value == null) {
+            return DEFAULT_MAX_DEPTH;
+        }
+        if (!(value instanceof Integer) || (Integer) value < 1) {
+            throw new IllegalArgumentException(ValidationConfig.MAX_DEPTH + " must be a positive integer.");
+        }
+        return (Integer) value;
+    }
+
+    /* As a SchemaValidator */
+
+    @Override
+    public JsonSchema getSchema() {
+        return rootSchema;
+    }
+
+    @Override
+    public JsonValidator reset(JsonParser parser) {
+        requireNonNull(parser, "parser");
+        attach(parser);
+        this.eventHandler = firstEventHandler;
+        this.evaluator = null;
+        this.depth = 0;
+        this.invalid = false;
+        this.currentProblems.clear();
+        return this;
+    }
+
+    @Override
+    public boolean readValidity() {
+        while (eventHandler != ParserEventHandler.IDLE && hasNext()) {
+            next();
+        }
+        return !invalid;
+    }
+
+    /**
+     * Detaches this validator from the underlying parser so that the parser can
+     * be garbage collected while this validator is idle.
+     */
+    void detach() {
+        attach(null);
+        this.evaluator = null;
+        this.valueCache.clear(null);
+        this.currentProblems.clear();
+    }
+
     /* AbstractJsonParser */
 
     @Override
     protected Event process(Event event) {
-        eventHandler.handleParserEvent(event, getParser());
+        JsonParser parser = getParser();
+        valueCache.clear(parser);
+        eventHandler.handleParserEvent(event, parser);
         return event;
     }
 
@@ -100,6 +237,46 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         return getCurrentParser();
     }
 
+    @Override
+    public String getStringValue() {
+        return valueCache.getString();
+    }
+
+    @Override
+    public int getStringLength() {
+        return valueCache.getStringLength();
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() {
+        return valueCache.getBigDecimal();
+    }
+
+    @Override
+    public boolean isLongValue() {
+        return valueCache.isLong();
+    }
+
+    @Override
+    public long getLongValue() {
+        return valueCache.getLong();
+    }
+
+    @Override
+    public JsonValue getScalarValue() {
+        return valueCache.getValue();
+    }
+
+    @Override
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    @Override
+    public boolean isValidityOnly() {
+        return validityOnly;
+    }
+
     @Override
     public boolean acceptsDefaultValues() {
         return false;
@@ -120,7 +297,9 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
     @Override
     public void dispatchProblem(Problem problem) {
         requireNonNull(problem, "problem");
-        this.currentProblems.add(problem);
+        if (!validityOnly) {
+            this.currentProblems.add(problem);
+        }
     }
 
     private void handleFirstEvent(Event event, JsonParser parser) {
@@ -145,11 +324,21 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
                 this.eventHandler = ParserEventHandler.IDLE;
             }
         }
-        Result result = evaluator.evaluate(event, depth, this);
+        Result result;
         if (ParserEvents.isStartOfContainer(event)) {
+            if (depth >= maxDepth) {
+                result = exceedMaxDepth();
+            } else {
+                result = evaluator.evaluate(event, depth, this);
+            }
             ++depth;
+        } else {
+            result = evaluator.evaluate(event, depth, this);
         }
         if (result != Result.PENDING) {
+            if (result == Result.FALSE) {
+                invalid = true;
+            }
             evaluator = null;
             this.eventHandler = ParserEventHandler.IDLE;
         }
@@ -158,6 +347,22 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         }
     }
 
+    /**
+     * Gives up the validation of the instance nested too deeply. The evaluators
+     * are discarded without receiving the event so that they never recurse into
+     * the descendants.
+     *
+     * @return the result of the validation, always {@link Result#FALSE}.
+     */
+    private Result exceedMaxDepth() {
+        ProblemBuilder builder = ProblemBuilderFactory.DEFAULT.createProblemBuilder(this)
+                .withMessage(Message.INSTANCE_PROBLEM_MAXDEPTH)
+                .withParameter("limit", maxDepth)
+                .withSchema(rootSchema);
+        dispatchProblem(builder.build());
+        return Result.FALSE;
+    }
+
     protected final boolean hasProblems() {
         return !currentProblems.isEmpty();
     }
@@ -56,6 +56,7 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
      * @param jsonParserFactory the underlying JSON parser factory.
      * @param handlerFactory    the factory of problem handlers.
      * @param properties        the configuration properties.
+     * @throws IllegalArgumentException if any of the properties is invalid.
      */
     public JsonValidatorFactory(
             JsonSchema schema,
@@ -68,6 +69,8 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
         this.jsonProvider = jsonProvider;
         this.handlerFactory = handlerFactory;
         this.properties = properties;
+        // Rejects the invalid limit before creating any parser.
+        JsonValidator.getMaxDepth(properties);
     }
 
     /**
@@ -76,6 +79,7 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
      * @param jsonProvider      the JSON provider.
      * @param jsonParserFactory the underlying JSON parser factory.
      * @param properties        the configuration properties.
+     * @throws IllegalArgumentException if any of the properties is invalid.
      */
     public JsonValidatorFactory(
             JsonProvider jsonProvider,
@@ -90,6 +94,8 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
         ProblemHandlerFactory handlerFactory = (ProblemHandlerFactory) properties
                 .get(ValidationConfig.PROBLEM_HANDLER_FACTORY);
         this.handlerFactory = (handlerFactory != null) ? handlerFactory : DEFAULT_HANDLER_FACTORY;
+        // Rejects the invalid limit before creating any parser.
+        JsonValidator.getMaxDepth(properties);
 
         assert this.schema != null;
     }
@@ -131,7 +137,8 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
 
     private JsonValidator createValiator(JsonParser parser) {
         JsonValidator validator = newValidator(parser);
-        return validator.withHandler(this.handlerFactory.createProblemHandler(validator));
+        return validator.withHandler(this.handlerFactory.createProblemHandler(validator))
+                .withConfig(properties);
     }
 
     private JsonValidator newValidator(JsonParser parser) {
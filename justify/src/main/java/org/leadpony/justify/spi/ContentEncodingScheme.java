@@ -15,6 +15,9 @@
  */
 package org.leadpony.justify.spi;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
 /**
  * Encoding scheme of the content of the JSON string.
  *
@@ -57,4 +60,26 @@ public interface ContentEncodingScheme {
      *                                  decoded.
      */
     byte[] decode(String src);
+
+    /**
+     * Returns a stream which decodes the encoded string incrementally using this
+     * encoding scheme.
+     *
+     * <p>
+     * The stream reports the part of the string which cannot be decoded by
+     * throwing an {@link java.io.IOException} when the part is read. The default
+     * implementation decodes the whole string by {@link #decode(String)} and
+     * returns a stream reading the decoded bytes.
+     * </p>
+     *
+     * @param src the string to decode.
+     * @return the stream reading the decoded bytes.
+     * @throws NullPointerException     if the specified {@code src} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code src} is found not
+     *                                  to be decodable before reading.
+     */
+    default InputStream openDecodingStream(String src) {
+        return new ByteArrayInputStream(decode(src));
+    }
 }
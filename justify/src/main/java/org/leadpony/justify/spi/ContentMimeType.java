@@ -15,6 +15,9 @@
  */
 package org.leadpony.justify.spi;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 /**
@@ -61,4 +64,38 @@ public interface ContentMimeType {
      *                              {@code parameters} is {@code null}.
      */
     boolean test(byte[] decodedContent, Map<String, String> parameters);
+
+    /**
+     * Checks whether the content read from the specified stream is of this MIME
+     * type or not.
+     *
+     * <p>
+     * The stream gives the content decoded incrementally from the JSON string.
+     * The implementation should read the stream without copying the whole
+     * content, and may stop reading as soon as the content is found not to be of
+     * this MIME type. The default implementation reads all bytes from the
+     * stream and calls {@link #test(byte[], Map)}.
+     * </p>
+     *
+     * @param decodedContent the stream of the content to check, never be
+     *                       {@code null}.
+     * @param parameters     the parameters attached to this MIME type, never
+     *                       {@code null}.
+     * @return {@code true} if the content is of this MIME type, {@code false}
+     *         otherwise.
+     * @throws IOException          if an I/O error occurred while reading the
+     *                              stream, including the content which cannot be
+     *                              decoded.
+     * @throws NullPointerException if the specified {@code decodedContent} or
+     *                              {@code parameters} is {@code null}.
+     */
+    default boolean test(InputStream decodedContent, Map<String, String> parameters) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = decodedContent.read(buffer)) >= 0) {
+            out.write(buffer, 0, length);
+        }
+        return test(out.toByteArray(), parameters);
+    }
 }
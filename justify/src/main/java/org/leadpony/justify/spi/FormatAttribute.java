@@ -82,4 +82,22 @@ public interface FormatAttribute {
      * @throws NullPointerException if the specified {@code value} is {@code null}.
      */
     boolean test(JsonValue value);
+
+    /**
+     * Checks if the results of this attribute can be cached.
+     *
+     * <p>
+     * The attribute may return {@code true} only if the result of
+     * {@link #test(JsonValue)} depends on nothing but the value, and the test is
+     * costly enough to be worth caching. The results of such attributes are
+     * cached by {@link org.leadpony.justify.api.FormatCache} when the cache is
+     * attached to the schema reader. By default this method returns
+     * {@code false}.
+     * </p>
+     *
+     * @return {@code true} if the results can be cached, {@code false} otherwise.
+     */
+    default boolean isCacheable() {
+        return false;
+    }
 }
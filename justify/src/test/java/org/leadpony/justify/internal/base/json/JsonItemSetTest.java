@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongBinaryOperator;
+
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * A test class for {@link JsonItemSet}.
+ *
+ * @author leadpony
+ */
+public class JsonItemSetTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    /**
+     * A function which makes every instance have the same digest.
+     */
+    private static final LongBinaryOperator COLLIDING_MIXER = (value, seed) -> 42;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "[1,2,3]|-1",
+        "[1,2,1]|0",
+        "[1,1.0]|0",
+        "[\"Aa\",\"BB\"]|-1",
+        "[\"Aa\",\"BB\",\"Aa\"]|0",
+        "[{\"a\":1,\"b\":[true]},{\"b\":[true],\"a\":1.00}]|0",
+        "[{\"a\":1},{\"a\":2},{\"a\":[1]}]|-1",
+        "[[1,[2]],[1,[3]],[1,[2]]]|0",
+        "[null,false,true,{},[],\"\",0]|-1",
+    })
+    public void addShouldFindEqualItemDespiteOfCollidingDigests(String array, int expected) {
+        JsonItemSet set = new JsonItemSet(PROVIDER, new JsonInstanceDigester(COLLIDING_MIXER));
+        assertThat(findDuplicate(set, array)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "[1,2,3]|-1",
+        "[1,2,1]|0",
+        "[\"Aa\",\"BB\"]|-1",
+        "[{\"a\":1,\"b\":[true]},{\"b\":[true],\"a\":1.00}]|0",
+    })
+    public void addShouldFindEqualItem(String array, int expected) {
+        JsonItemSet set = new JsonItemSet(PROVIDER);
+        assertThat(findDuplicate(set, array)).isEqualTo(expected);
+    }
+
+    /**
+     * Adds the items of the array and returns the index of the first item which
+     * has the duplicate.
+     */
+    private static int findDuplicate(JsonItemSet set, String array) {
+        List<Integer> found = new ArrayList<>();
+        try (JsonParser parser = PROVIDER.createParser(new StringReader(array))) {
+            parser.next();
+            int depth = 0;
+            while (parser.hasNext()) {
+                Event event = parser.next();
+                if (depth == 0 && event == Event.END_ARRAY) {
+                    break;
+                }
+                if (event == Event.START_ARRAY || event == Event.START_OBJECT) {
+                    ++depth;
+                } else if (event == Event.END_ARRAY || event == Event.END_OBJECT) {
+                    --depth;
+                }
+                if (!set.append(event, parser)) {
+                    int index = set.add();
+                    if (index >= 0) {
+                        found.add(index);
+                    }
+                }
+            }
+        }
+        return found.isEmpty() ? -1 : found.get(0);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+
+import javax.json.Json;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * A test class for {@link JsonValueMatcher}.
+ *
+ * @author leadpony
+ */
+public class JsonValueMatcherTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{\"a\":1}|{\"a\":1}|true",
+        "{\"a\":1}|{\"a\":1.0}|true",
+        "{\"a\":1}|{\"a\":2}|false",
+        "{\"a\":1}|{\"a\":1,\"a\":1}|true",
+        "{\"a\":1}|{\"a\":2,\"a\":1}|true",
+        "{\"a\":1}|{\"a\":1,\"a\":2}|false",
+        "{\"a\":1}|{\"a\":[1,{}],\"a\":1}|true",
+        "{\"a\":1}|{\"a\":1,\"b\":1}|false",
+        "{\"a\":1,\"b\":2}|{\"a\":1,\"a\":1}|false",
+        "{\"a\":{\"b\":1}}|{\"a\":{\"b\":2},\"a\":{\"b\":1}}|true",
+        "{\"a\":{\"b\":1}}|{\"a\":{\"c\":1},\"a\":{\"b\":1}}|true",
+        "{\"a\":{\"b\":1}}|{\"a\":{\"b\":1},\"a\":{\"b\":[2]}}|false",
+        "{\"a\":[1,2]}|{\"a\":[1,3],\"a\":[1,2]}|true",
+        "[{\"a\":1}]|[{\"a\":2,\"a\":1}]|true",
+        "[{\"a\":1}]|[{\"a\":1},{\"a\":1}]|false",
+        "[1,2]|[1,2,3]|false",
+    })
+    public void appendShouldMatchAsBuiltValue(String expected, String instance, boolean matches) {
+        JsonValue value = Json.createReader(new StringReader(expected)).readValue();
+        JsonValueMatcher matcher = new JsonValueMatcher(value);
+        JsonParser parser = Json.createParser(new StringReader(instance));
+        while (parser.hasNext()) {
+            if (!matcher.append(parser.next(), parser)) {
+                break;
+            }
+        }
+        assertThat(matcher.matches()).isEqualTo(matches);
+        parser.close();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * A test class for {@link RegexEngine}.
+ *
+ * @author leadpony
+ */
+public class RegexEngineTest {
+
+    private static final int REPETITIONS = 10000;
+
+    public static Stream<Arguments> patterns() {
+        return Stream.of(RegexEngine.values()).flatMap(engine -> loadFixtures("patterns.json")
+                .map(object -> Arguments.of(
+                        engine,
+                        object.getString("pattern"),
+                        object.getString("input"),
+                        object.getBoolean("valid"))));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0} /{1}/")
+    @MethodSource("patterns")
+    public void findShouldReturnExpectedResult(RegexEngine engine, String pattern, String input,
+            boolean expected) {
+        RegexPattern compiled = engine.compile(pattern);
+        assertThat(compiled.find(input)).isEqualTo(expected);
+        assertThat(compiled.toString()).isEqualTo(pattern);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RegexEngine.class)
+    public void findAllShouldReturnIndicesOfMatchingPatterns(RegexEngine engine) {
+        List<String> regexes = loadFixtures("patterns.json")
+                .map(object -> object.getString("pattern"))
+                .distinct()
+                .collect(Collectors.toList());
+        List<String> inputs = loadFixtures("patterns.json")
+                .map(object -> object.getString("input"))
+                .distinct()
+                .collect(Collectors.toList());
+
+        RegexPatternSet set = engine.compileSet(regexes);
+        assertThat(set.size()).isEqualTo(regexes.size());
+
+        for (String input : inputs) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < regexes.size(); i++) {
+                if (engine.compile(regexes.get(i)).find(input)) {
+                    expected.add(i);
+                }
+            }
+            assertThat(set.findAll(input)).as(input).containsExactly(
+                    expected.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    @Test
+    public void compileSetShouldCombinePatternsOnlyForLinearTime() {
+        List<String> regexes = Arrays.asList("^abc$", "a+b", "(\\w)\\1", "[a-z]+\\d");
+
+        RegexPatternSet linear = RegexEngine.LINEAR_TIME.compileSet(regexes);
+        RegexPatternSet backtracking = RegexEngine.BACKTRACKING.compileSet(regexes);
+
+        assertThat(linear.isCombined(0)).isFalse();
+        assertThat(linear.isCombined(1)).isTrue();
+        assertThat(linear.isCombined(2)).isFalse();
+        assertThat(linear.isCombined(3)).isTrue();
+        for (int i = 0; i < regexes.size(); i++) {
+            assertThat(backtracking.isCombined(i)).isFalse();
+        }
+        assertThat(backtracking.findAll("xab1")).containsExactly(1, 3);
+    }
+
+    public static Stream<Arguments> specializedPatterns() {
+        return Stream.of(
+                Arguments.of("abc", LiteralRegexPattern.class),
+                Arguments.of("^abc$", LiteralRegexPattern.class),
+                Arguments.of("^a\\.b", LiteralRegexPattern.class),
+                Arguments.of("^[A-Z]{3}$", AnchoredRegexPattern.class),
+                Arguments.of("^\\d+$", AnchoredRegexPattern.class),
+                Arguments.of("^ID-\\d{4}$", AnchoredRegexPattern.class),
+                Arguments.of("^[A-Z]{2}\\d*$", AnchoredRegexPattern.class),
+                Arguments.of("^\\d*[A-Z]{2}$", JavaRegexPattern.class),
+                Arguments.of("(\\w)\\1", JavaRegexPattern.class));
+    }
+
+    @ParameterizedTest(name = "[{index}] /{0}/")
+    @MethodSource("specializedPatterns")
+    public void compileShouldSpecializeTrivialPatterns(String pattern, Class<?> expected) {
+        RegexPattern compiled = RegexEngine.BACKTRACKING.compile(pattern);
+        assertThat(compiled).isInstanceOf(expected);
+    }
+
+    public static Stream<Arguments> vulnerablePatterns() {
+        return loadFixtures("redos.json").map(object -> {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < REPETITIONS; i++) {
+                builder.append(object.getString("repeated"));
+            }
+            builder.append(object.getString("suffix"));
+            return Arguments.of(object.getString("pattern"), builder.toString());
+        });
+    }
+
+    @ParameterizedTest(name = "[{index}] /{0}/")
+    @MethodSource("vulnerablePatterns")
+    public void findShouldNotBacktrackCatastrophically(String pattern, String input) {
+        RegexPattern compiled = RegexEngine.LINEAR_TIME.compile(pattern);
+        assertThat(compiled).isInstanceOf(NfaRegexPattern.class);
+        boolean result = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> compiled.find(input));
+        assertThat(result).isFalse();
+    }
+
+    private static Stream<JsonObject> loadFixtures(String name) {
+        InputStream in = RegexEngineTest.class.getResourceAsStream(name);
+        try (JsonReader reader = Json.createReader(in)) {
+            return reader.readArray().stream().map(JsonValue::asJsonObject);
+        }
+    }
+}
@@ -18,6 +18,9 @@ package org.leadpony.justify.internal.keyword.assertion.content;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -45,6 +48,8 @@ public class Base64Test {
         F_SHORT("Zg", false, null),
         FO_SHORT("Zm8", false, null),
         FOOB_SHORT("Zm9vYg", false, null),
+        TOO_MANY_PADS("A===", false, null),
+        PADS_IN_MIDDLE("Zg==Zg==", false, null),
         INVALD_LETTERS("4rdHFh%2BHYoS8oLdVvbUzEVqB8Lvm7kSPnuwF0AAABYQ%3D", false, null);
 
         final String src;
@@ -83,4 +88,28 @@ public class Base64Test {
             assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
         }
     }
+
+    @ParameterizedTest
+    @EnumSource(Base64TestCase.class)
+    public void openDecodingStreamShouldDecodeString(Base64TestCase test) {
+        Base64 base64 = new Base64();
+        Throwable thrown = catchThrowable(() -> {
+            byte[] actual = readAll(base64.openDecodingStream(test.src));
+            assertThat(actual).isEqualTo(test.decoded);
+        });
+        if (test.valid) {
+            assertThat(thrown).isNull();
+        } else {
+            assertThat(thrown).isInstanceOfAny(IllegalArgumentException.class, IOException.class);
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) >= 0) {
+            out.write(b);
+        }
+        return out.toByteArray();
+    }
 }